@@ -67,6 +67,7 @@ class JooqGenerateTask extends DefaultTask {
         Flyway.configure()
             .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
             .locations(locations)
+            .configuration(['flyway.postgresql.transactional.lock': 'false'])
             .load()
             .migrate()
     }
@@ -0,0 +1,16 @@
+package org.opendatadiscovery.oddplatform.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows SELECT queries of a reactive method to be served by a read replica, if replicas are configured.
+ * Queries executed within a transaction and all other statements still go to the primary.
+ * Only for methods which can tolerate data lagging behind the primary for up to odd.read-replica.max-lag.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromReplica {
+}
@@ -0,0 +1,20 @@
+package org.opendatadiscovery.oddplatform.config;
+
+import java.util.Map;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfiguration {
+
+    /**
+     * Flyway holds its migration lock in an open transaction by default, which makes
+     * CREATE INDEX CONCURRENTLY wait for it forever. A session level lock lets
+     * non-transactional migrations complete.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer sessionLockFlywayCustomizer() {
+        return configuration -> configuration.configuration(Map.of("flyway.postgresql.transactional.lock", "false"));
+    }
+}
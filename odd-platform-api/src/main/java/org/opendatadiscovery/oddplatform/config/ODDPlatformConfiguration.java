@@ -1,6 +1,9 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import org.opendatadiscovery.oddplatform.config.properties.BulkWriteProperties;
 import org.opendatadiscovery.oddplatform.config.properties.MetricExporterProperties;
+import org.opendatadiscovery.oddplatform.config.properties.PrometheusRemoteWriteProperties;
+import org.opendatadiscovery.oddplatform.config.properties.ReadReplicaProperties;
 import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +15,10 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableAspectJAutoProxy
 @EnableConfigurationProperties({
     MetricExporterProperties.class,
-    HousekeepingTTLProperties.class
+    PrometheusRemoteWriteProperties.class,
+    HousekeepingTTLProperties.class,
+    BulkWriteProperties.class,
+    ReadReplicaProperties.class
 })
 public class ODDPlatformConfiguration {
 }
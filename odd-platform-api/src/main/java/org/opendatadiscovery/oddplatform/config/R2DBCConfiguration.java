@@ -1,29 +1,87 @@
 package org.opendatadiscovery.oddplatform.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendatadiscovery.oddplatform.config.properties.ReadReplicaProperties;
+import org.opendatadiscovery.oddplatform.repository.routing.ReadReplicaRoutingConnectionFactory;
+import org.opendatadiscovery.oddplatform.repository.routing.ReplicationLagMonitor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.transaction.ReactiveTransactionManager;
 
 @Configuration
 public class R2DBCConfiguration {
+    @Value("${odd.r2dbc.prepared-statement-cache-size:256}")
+    private int preparedStatementCacheSize;
 
     @Bean(destroyMethod = "dispose")
     public ConnectionPool connectionFactory(final DataSourceProperties dataSourceProperties,
                                             final R2dbcProperties properties) {
-        final String r2dbcUrl = dataSourceProperties.getUrl().replace("jdbc", "r2dbc");
+        return createPool(dataSourceProperties.getUrl(), dataSourceProperties.getUsername(),
+            dataSourceProperties.getPassword(), properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "odd.read-replica.enabled", havingValue = "true")
+    public ReadReplicaRoutingConnectionFactory readReplicaRoutingConnectionFactory(
+        final ConnectionPool connectionFactory,
+        final DataSourceProperties dataSourceProperties,
+        final R2dbcProperties properties,
+        final ReadReplicaProperties readReplicaProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        final List<ReadReplicaProperties.Replica> replicaList = readReplicaProperties.getReplicas();
+        if (replicaList.isEmpty()) {
+            throw new IllegalStateException("odd.read-replica.replicas must be set if read replicas are enabled");
+        }
+
+        final Map<String, ConnectionFactory> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaList.size(); i++) {
+            final ReadReplicaProperties.Replica replica = replicaList.get(i);
+            replicas.put("replica-" + i, createPool(
+                replica.getUrl(),
+                replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername(),
+                replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword(),
+                properties
+            ));
+        }
+
+        final ReplicationLagMonitor lagMonitor = new ReplicationLagMonitor(replicas,
+            readReplicaProperties.getMaxLag(), readReplicaProperties.getLagCheckInterval(), meterRegistry);
+        return new ReadReplicaRoutingConnectionFactory(connectionFactory, replicas, lagMonitor, meterRegistry);
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(final ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    private ConnectionPool createPool(final String jdbcUrl,
+                                      final String username,
+                                      final String password,
+                                      final R2dbcProperties properties) {
+        final String r2dbcUrl = jdbcUrl.replace("jdbc", "r2dbc");
         final ConnectionFactory factory = ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
             .option(ConnectionFactoryOptions.PROTOCOL, "postgresql")
-            .option(ConnectionFactoryOptions.USER, dataSourceProperties.getUsername())
-            .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.getPassword())
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, preparedStatementCacheSize)
             .build());
 
         final R2dbcProperties.Pool pool = properties.getPool();
@@ -41,9 +99,4 @@ public class R2DBCConfiguration {
         map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
         return new ConnectionPool(builder.build());
     }
-
-    @Bean
-    public ReactiveTransactionManager reactiveTransactionManager(final ConnectionFactory connectionFactory) {
-        return new R2dbcTransactionManager(connectionFactory);
-    }
 }
@@ -0,0 +1,31 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("odd.bulk-write")
+@Data
+public class BulkWriteProperties {
+    /**
+     * Batches with at least this number of rows are streamed into a staging table via COPY
+     * and merged with a single statement instead of multi-row INSERT or UPDATE ... FROM VALUES statements.
+     */
+    private int copyThreshold = 5_000;
+    /**
+     * Approximate size of a single multi-row statement. The number of rows in a statement is derived from it
+     * and the average row width, bounded by min-batch-size, max-batch-size
+     * and the number of bind parameters PostgreSQL allows in a single statement.
+     */
+    private int targetBatchBytes = 1_048_576;
+    private int minBatchSize = 50;
+    private int maxBatchSize = 5_000;
+    /**
+     * Maximum number of partitions of a single write executed at the same time.
+     * If not set, it's half of the R2DBC connection pool size.
+     */
+    private int maxInFlightPartitions = 0;
+    /**
+     * Size of the buffers rows are sent in during COPY.
+     */
+    private int copyChunkBytes = 65_536;
+}
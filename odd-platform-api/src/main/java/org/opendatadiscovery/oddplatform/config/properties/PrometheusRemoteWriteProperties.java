@@ -0,0 +1,18 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("metrics.remote-write")
+@Data
+public class PrometheusRemoteWriteProperties {
+    private int queueCapacity = 100_000;
+    private int shards = 4;
+    private int maxSeriesPerSend = 2_000;
+    private Duration batchSendDeadline = Duration.ofSeconds(5);
+    private Duration sendTimeout = Duration.ofSeconds(30);
+    private int maxRetries = 5;
+    private Duration minBackoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+}
@@ -0,0 +1,29 @@
+package org.opendatadiscovery.oddplatform.config.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("odd.read-replica")
+@Data
+public class ReadReplicaProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    /**
+     * Replicas lagging behind the primary more than this are not used until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        private String url;
+        /**
+         * If not set, credentials of the primary datasource are used.
+         */
+        private String username;
+        private String password;
+    }
+}
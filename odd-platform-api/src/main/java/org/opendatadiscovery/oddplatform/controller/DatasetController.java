@@ -2,6 +2,7 @@ package org.opendatadiscovery.oddplatform.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.opendatadiscovery.oddplatform.api.contract.api.DataSetApi;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructure;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetVersionDiffList;
 import org.opendatadiscovery.oddplatform.service.DatasetVersionService;
@@ -19,20 +20,39 @@ public class DatasetController implements DataSetApi {
     public Mono<ResponseEntity<DataSetStructure>> getDataSetStructureByVersionId(
         final Long dataEntityId,
         final Long versionId,
+        final Boolean includeStats,
         final ServerWebExchange exchange
     ) {
         return datasetVersionService
-            .getDatasetVersion(dataEntityId, versionId)
+            .getDatasetVersion(dataEntityId, versionId, !Boolean.FALSE.equals(includeStats))
             .map(ResponseEntity::ok);
     }
 
     @Override
     public Mono<ResponseEntity<DataSetStructure>> getDataSetStructureLatest(
         final Long dataEntityId,
+        final Boolean includeStats,
         final ServerWebExchange exchange
     ) {
         return datasetVersionService
-            .getLatestDatasetVersion(dataEntityId)
+            .getLatestDatasetVersion(dataEntityId, !Boolean.FALSE.equals(includeStats))
+            .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<DataSetFieldList>> getDataSetStructureFields(
+        final Long dataEntityId,
+        final Long versionId,
+        final Integer size,
+        final Long parentFieldId,
+        final String query,
+        final Long lastFieldId,
+        final Boolean includeStats,
+        final ServerWebExchange exchange
+    ) {
+        return datasetVersionService
+            .getDatasetVersionFields(dataEntityId, versionId, parentFieldId, query, lastFieldId, size,
+                !Boolean.FALSE.equals(includeStats))
             .map(ResponseEntity::ok);
     }
 
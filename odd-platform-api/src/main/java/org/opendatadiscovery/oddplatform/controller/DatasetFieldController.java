@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.opendatadiscovery.oddplatform.api.contract.api.DatasetFieldApi;
 import org.opendatadiscovery.oddplatform.api.contract.model.BulkEnumValueFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldDescription;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsList;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsQuery;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldDescriptionUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldLabelsUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldTermFormData;
@@ -50,6 +52,15 @@ public class DatasetFieldController implements DatasetFieldApi {
         return Mono.just(ResponseEntity.ok(labels));
     }
 
+    @Override
+    public Mono<ResponseEntity<DataSetFieldStatsList>> getDatasetFieldsStats(
+        final Mono<DataSetFieldStatsQuery> dataSetFieldStatsQuery,
+        final ServerWebExchange exchange) {
+        return dataSetFieldStatsQuery
+            .flatMap(datasetFieldService::getStatistics)
+            .map(ResponseEntity::ok);
+    }
+
     @Override
     public Mono<ResponseEntity<EnumValueList>> createEnumValue(final Long datasetFieldId,
                                                                final Mono<BulkEnumValueFormData> bulkEnumValueFormData,
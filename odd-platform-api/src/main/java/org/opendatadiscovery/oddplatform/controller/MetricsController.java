@@ -0,0 +1,25 @@
+package org.opendatadiscovery.oddplatform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.api.contract.api.MetricsApi;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatchQuery;
+import org.opendatadiscovery.oddplatform.service.MetricService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsController implements MetricsApi {
+    private final MetricService metricService;
+
+    @Override
+    public Mono<ResponseEntity<MetricBatch>> getLatestMetricsBatch(final Mono<MetricBatchQuery> metricBatchQuery,
+                                                                   final ServerWebExchange exchange) {
+        return metricBatchQuery
+            .flatMap(metricService::getLatestMetricsBatch)
+            .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.dto;
+
+import java.util.Map;
+
+public record DataEntityStatisticsDto(long totalCount,
+                                      Map<Integer, Map<Integer, Long>> classesTypesCount) {
+}
@@ -21,4 +21,5 @@ public class DatasetFieldDto {
     private Long parentFieldId;
     private Long referenceFieldId;
     private Integer enumValueCount;
+    private Long childrenCount;
 }
@@ -0,0 +1,59 @@
+package org.opendatadiscovery.oddplatform.dto.activity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Half-open [from, to) slice of an activity count range together with the storage it has to be counted from.
+ */
+public record ActivityCountInterval(LocalDateTime from, LocalDateTime to, ActivityRollupGranularity granularity) {
+    /**
+     * Splits an arbitrary date range into the smallest set of intervals which can be served from rollups:
+     * whole days come from daily rollups, whole hours around them from hourly rollups and only the partial
+     * hours on the edges (including the current open bucket) are counted over raw activities.
+     */
+    public static List<ActivityCountInterval> split(final LocalDateTime from, final LocalDateTime to) {
+        final List<ActivityCountInterval> intervals = new ArrayList<>();
+        if (from == null || to == null || !from.isBefore(to)) {
+            return intervals;
+        }
+
+        final LocalDateTime hourStart = ceil(from, ChronoUnit.HOURS);
+        final LocalDateTime hourEnd = to.truncatedTo(ChronoUnit.HOURS);
+        if (!hourStart.isBefore(hourEnd)) {
+            intervals.add(new ActivityCountInterval(from, to, ActivityRollupGranularity.RAW));
+            return intervals;
+        }
+
+        addIfNotEmpty(intervals, from, hourStart, ActivityRollupGranularity.RAW);
+
+        final LocalDateTime dayStart = ceil(hourStart, ChronoUnit.DAYS);
+        final LocalDateTime dayEnd = hourEnd.truncatedTo(ChronoUnit.DAYS);
+        if (dayStart.isBefore(dayEnd)) {
+            addIfNotEmpty(intervals, hourStart, dayStart, ActivityRollupGranularity.HOUR);
+            intervals.add(new ActivityCountInterval(dayStart, dayEnd, ActivityRollupGranularity.DAY));
+            addIfNotEmpty(intervals, dayEnd, hourEnd, ActivityRollupGranularity.HOUR);
+        } else {
+            intervals.add(new ActivityCountInterval(hourStart, hourEnd, ActivityRollupGranularity.HOUR));
+        }
+
+        addIfNotEmpty(intervals, hourEnd, to, ActivityRollupGranularity.RAW);
+        return intervals;
+    }
+
+    private static void addIfNotEmpty(final List<ActivityCountInterval> intervals,
+                                      final LocalDateTime from,
+                                      final LocalDateTime to,
+                                      final ActivityRollupGranularity granularity) {
+        if (from.isBefore(to)) {
+            intervals.add(new ActivityCountInterval(from, to, granularity));
+        }
+    }
+
+    private static LocalDateTime ceil(final LocalDateTime dateTime, final ChronoUnit unit) {
+        final LocalDateTime truncated = dateTime.truncatedTo(unit);
+        return truncated.equals(dateTime) ? truncated : truncated.plus(1, unit);
+    }
+}
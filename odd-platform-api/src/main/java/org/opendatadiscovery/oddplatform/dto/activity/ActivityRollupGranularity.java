@@ -0,0 +1,15 @@
+package org.opendatadiscovery.oddplatform.dto.activity;
+
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum ActivityRollupGranularity {
+    RAW(null),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+}
@@ -0,0 +1,93 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Results of lookups and writes shared by ingestion processors during a single ingestion request,
+ * so that processors working with the same dataset fields and versions don't query them again.
+ */
+public class IngestionContext {
+    private final Map<String, DatasetFieldPojo> lastVersionDatasetFields = new ConcurrentHashMap<>();
+    private final Set<String> resolvedDatasetFieldOddrns = ConcurrentHashMap.newKeySet();
+    private final Map<String, DatasetVersionPojo> latestDatasetVersions = new ConcurrentHashMap<>();
+    private final Map<String, DatasetVersionPojo> previousDatasetVersions = new ConcurrentHashMap<>();
+    private final Set<String> unchangedDatasetFieldOddrns = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Returns the last versions of dataset fields by their oddrns, loading only the ones
+     * which weren't loaded or written during this request.
+     */
+    public Mono<Map<String, DatasetFieldPojo>> getLastVersionDatasetFields(
+        final Collection<String> oddrns,
+        final Function<List<String>, Flux<DatasetFieldPojo>> loader
+    ) {
+        final List<String> unresolved = oddrns.stream()
+            .filter(oddrn -> !resolvedDatasetFieldOddrns.contains(oddrn))
+            .distinct()
+            .toList();
+
+        final Flux<DatasetFieldPojo> loaded = unresolved.isEmpty() ? Flux.empty() : loader.apply(unresolved);
+
+        return loaded
+            .doOnNext(field -> lastVersionDatasetFields.put(field.getOddrn(), field))
+            .then(Mono.fromCallable(() -> {
+                resolvedDatasetFieldOddrns.addAll(unresolved);
+                final Map<String, DatasetFieldPojo> result = new HashMap<>();
+                for (final String oddrn : oddrns) {
+                    final DatasetFieldPojo field = lastVersionDatasetFields.get(oddrn);
+                    if (field != null) {
+                        result.put(oddrn, field);
+                    }
+                }
+                return result;
+            }));
+    }
+
+    public void putLastVersionDatasetFields(final Collection<DatasetFieldPojo> fields) {
+        for (final DatasetFieldPojo field : fields) {
+            lastVersionDatasetFields.put(field.getOddrn(), field);
+            resolvedDatasetFieldOddrns.add(field.getOddrn());
+        }
+    }
+
+    /**
+     * Marks dataset fields whose ingested payload is the same as in the previous ingestion,
+     * so that their labels, metadata and enum values don't need to be ingested again.
+     */
+    public void markDatasetFieldsUnchanged(final Collection<String> oddrns) {
+        unchangedDatasetFieldOddrns.addAll(oddrns);
+    }
+
+    public boolean isDatasetFieldUnchanged(final String oddrn) {
+        return unchangedDatasetFieldOddrns.contains(oddrn);
+    }
+
+    public void putLatestDatasetVersions(final Collection<DatasetVersionPojo> versions) {
+        versions.forEach(v -> latestDatasetVersions.put(v.getDatasetOddrn(), v));
+    }
+
+    public void putPreviousDatasetVersion(final DatasetVersionPojo version) {
+        previousDatasetVersions.put(version.getDatasetOddrn(), version);
+    }
+
+    public DatasetVersionPojo getLatestDatasetVersion(final String datasetOddrn) {
+        return latestDatasetVersions.get(datasetOddrn);
+    }
+
+    /**
+     * Returns versions which were the latest ones before new versions of the datasets were created in this request.
+     */
+    public List<DatasetVersionPojo> getPreviousDatasetVersions() {
+        return List.copyOf(previousDatasetVersions.values());
+    }
+}
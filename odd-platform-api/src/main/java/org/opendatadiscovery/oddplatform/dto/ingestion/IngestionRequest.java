@@ -32,6 +32,8 @@ public class IngestionRequest {
     private final List<Long> newIds;
     private final List<Long> allIds;
 
+    private final IngestionContext context = new IngestionContext();
+
     @Builder
     public IngestionRequest(final List<EnrichedDataEntityIngestionDto> newEntities,
                             final List<EnrichedDataEntityIngestionDto> existingEntities,
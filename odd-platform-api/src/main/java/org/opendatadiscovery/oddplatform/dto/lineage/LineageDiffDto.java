@@ -0,0 +1,4 @@
+package org.opendatadiscovery.oddplatform.dto.lineage;
+
+public record LineageDiffDto(long addedEdges, long removedEdges) {
+}
@@ -0,0 +1,10 @@
+package org.opendatadiscovery.oddplatform.dto.metric;
+
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+
+public record MetricBatchPointDto(String oddrn,
+                                  MetricFamilyPojo family,
+                                  Integer valueType,
+                                  MetricPointPojo point) {
+}
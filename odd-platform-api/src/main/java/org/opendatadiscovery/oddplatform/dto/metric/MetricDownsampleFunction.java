@@ -0,0 +1,8 @@
+package org.opendatadiscovery.oddplatform.dto.metric;
+
+public enum MetricDownsampleFunction {
+    LAST,
+    AVG,
+    MIN,
+    MAX
+}
@@ -0,0 +1,7 @@
+package org.opendatadiscovery.oddplatform.dto.metric;
+
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+
+public record MetricSeriesChunkDto(MetricSeriesPojo series, MetricChunkPojo chunk) {
+}
@@ -0,0 +1,12 @@
+package org.opendatadiscovery.oddplatform.dto.metric;
+
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+
+/**
+ * Points of a single (series, label values) pair in columnar form. Timestamps are epoch seconds.
+ */
+public record MetricSeriesHistoryDto(MetricSeriesPojo series,
+                                     Integer[] labelValuesIds,
+                                     long[] timestamps,
+                                     double[] values) {
+}
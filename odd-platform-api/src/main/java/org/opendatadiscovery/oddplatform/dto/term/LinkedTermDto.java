@@ -1,4 +1,4 @@
 package org.opendatadiscovery.oddplatform.dto.term;
 
-public record LinkedTermDto(TermRefDto term, boolean isDescriptionLink) {
+public record LinkedTermDto(TermRefDto term, boolean isDescriptionLink, boolean isAutoLink) {
 }
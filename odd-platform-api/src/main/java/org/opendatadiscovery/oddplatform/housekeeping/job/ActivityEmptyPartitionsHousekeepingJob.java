@@ -1,18 +1,58 @@
 package org.opendatadiscovery.oddplatform.housekeeping.job;
 
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
 import org.springframework.stereotype.Component;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_DAILY_ROLLUP;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_HOURLY_ROLLUP;
 
 @Component
+@Slf4j
 public class ActivityEmptyPartitionsHousekeepingJob extends EmptyPartitionsHousekeepingJob {
+    private final PartitionService partitionService;
+
     public ActivityEmptyPartitionsHousekeepingJob(final PartitionService partitionService) {
         super(partitionService);
+        this.partitionService = partitionService;
     }
 
     @Override
     protected String getTargetTable() {
         return ACTIVITY.getName();
     }
-}
\ No newline at end of file
+
+    @Override
+    protected List<String> exclusions() {
+        return List.of(ACTIVITY_HOURLY_ROLLUP.getName(), ACTIVITY_DAILY_ROLLUP.getName());
+    }
+
+    /**
+     * Rollups are derived from the activity table, so they are retained exactly as long as the
+     * activity partition covering their buckets exists.
+     */
+    @Override
+    protected void onPartitionDropped(final Connection connection, final String partition) {
+        final LocalDateTime begin = partitionService.getFirstPartitionDate(partition).atStartOfDay();
+        final LocalDateTime end = partitionService.getLastPartitionDate(partition).atStartOfDay();
+        final DSLContext dslContext = DSL.using(connection);
+
+        final int deletedHourly = dslContext.deleteFrom(ACTIVITY_HOURLY_ROLLUP)
+            .where(ACTIVITY_HOURLY_ROLLUP.BUCKET_START.greaterOrEqual(begin))
+            .and(ACTIVITY_HOURLY_ROLLUP.BUCKET_START.lessThan(end))
+            .execute();
+        final int deletedDaily = dslContext.deleteFrom(ACTIVITY_DAILY_ROLLUP)
+            .where(ACTIVITY_DAILY_ROLLUP.BUCKET_START.greaterOrEqual(begin))
+            .and(ACTIVITY_DAILY_ROLLUP.BUCKET_START.lessThan(end))
+            .execute();
+
+        log.debug("Deleted {} hourly and {} daily activity rollups of the {} partition",
+            deletedHourly, deletedDaily, partition);
+    }
+}
@@ -24,6 +24,7 @@ public abstract class EmptyPartitionsHousekeepingJob implements HousekeepingJob
             for (final String partition : emptyPastPartitions) {
                 log.debug("Dropping {} partition", partition);
                 partitionService.dropPartition(connection, partition);
+                onPartitionDropped(connection, partition);
             }
 
             log.debug("Dropped {} partitions for table {}", emptyPastPartitions.size(), targetTable);
@@ -34,6 +35,9 @@ public abstract class EmptyPartitionsHousekeepingJob implements HousekeepingJob
 
     protected abstract String getTargetTable();
 
+    protected void onPartitionDropped(final Connection connection, final String partition) {
+    }
+
     protected List<String> exclusions() {
         return emptyList();
     }
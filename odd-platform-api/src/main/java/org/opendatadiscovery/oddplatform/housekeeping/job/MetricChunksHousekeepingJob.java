@@ -0,0 +1,31 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.housekeeping.config.HousekeepingTTLProperties;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_CHUNK;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MetricChunksHousekeepingJob implements HousekeepingJob {
+    private final HousekeepingTTLProperties housekeepingTTLProperties;
+
+    @Override
+    public void doHousekeeping(final Connection connection) {
+        final DSLContext dslContext = DSL.using(connection);
+
+        final int deletedChunks = dslContext
+            .deleteFrom(METRIC_CHUNK)
+            .where(METRIC_CHUNK.LAST_TIMESTAMP.lessOrEqual(
+                DSL.currentLocalDateTime().minus(housekeepingTTLProperties.getMetricChunksDays())))
+            .execute();
+
+        log.debug("Housekeeping job deleted {} outdated metric chunks", deletedChunks);
+    }
+}
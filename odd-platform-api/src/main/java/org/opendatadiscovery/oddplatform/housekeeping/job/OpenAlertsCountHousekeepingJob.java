@@ -0,0 +1,63 @@
+package org.opendatadiscovery.oddplatform.housekeeping.job;
+
+import java.sql.Connection;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Record2;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
+import org.springframework.stereotype.Component;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.ALERT;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
+
+/**
+ * Reconciles open alerts counters of data entity summaries with the alert table.
+ * Runs in a repeatable read transaction, so a counter changed concurrently fails the job
+ * instead of being overwritten with a stale value, and is picked up by the next run.
+ */
+@Component
+@Slf4j
+public class OpenAlertsCountHousekeepingJob implements HousekeepingJob {
+    @Override
+    public void doHousekeeping(final Connection connection) {
+        DSL.using(connection).transaction(ctx -> {
+            final DSLContext dslContext = ctx.dsl();
+            dslContext.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+            reconcile(dslContext);
+        });
+    }
+
+    private void reconcile(final DSLContext dslContext) {
+        final Select<Record2<Long, Integer>> openAlerts = DSL.select(DATA_ENTITY.ID, DSL.count())
+            .from(ALERT)
+            .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(ALERT.DATA_ENTITY_ODDRN))
+            .where(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))
+            .groupBy(DATA_ENTITY.ID);
+
+        final int fixedCounters = dslContext.insertInto(DATA_ENTITY_SUMMARY,
+                DATA_ENTITY_SUMMARY.DATA_ENTITY_ID,
+                DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)
+            .select(openAlerts)
+            .onConflict(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID)
+            .doUpdate()
+            .set(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT, DSL.excluded(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT))
+            .where(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT.ne(DSL.excluded(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)))
+            .execute();
+
+        final int resetCounters = dslContext.update(DATA_ENTITY_SUMMARY)
+            .set(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT, 0)
+            .where(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT.ne(0))
+            .and(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.notIn(DSL.select(DATA_ENTITY.ID)
+                .from(ALERT)
+                .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(ALERT.DATA_ENTITY_ODDRN))
+                .where(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))))
+            .execute();
+
+        if (fixedCounters + resetCounters > 0) {
+            log.warn("Housekeeping job reconciled {} open alerts counters", fixedCounters + resetCounters);
+        }
+    }
+}
@@ -16,9 +16,9 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatisticsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
-import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityStatisticsPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataQualityTestSeverityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.utils.Page;
@@ -55,7 +55,7 @@ public interface DataEntityMapper {
 
     DataEntityRef mapRef(final DataEntityPojo pojo);
 
-    DataEntityUsageInfo mapUsageInfo(final DataEntityStatisticsPojo pojo,
+    DataEntityUsageInfo mapUsageInfo(final DataEntityStatisticsDto statistics,
                                      final Long filledEntitiesCount);
 
     DataEntityGroupItem mapGroupItem(final DataEntityDimensionsDto dimensionsDto,
@@ -1,11 +1,9 @@
 package org.opendatadiscovery.oddplatform.mapper;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,15 +36,14 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDetailsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatisticsDto;
 import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.dto.DataSourceDto;
 import org.opendatadiscovery.oddplatform.dto.attributes.LinkedUrlAttribute;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
-import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityStatisticsPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataQualityTestSeverityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
-import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.opendatadiscovery.oddplatform.utils.Page;
 import org.springframework.stereotype.Component;
 
@@ -393,15 +390,13 @@ public class DataEntityMapperImpl implements DataEntityMapper {
     }
 
     @Override
-    public DataEntityUsageInfo mapUsageInfo(final DataEntityStatisticsPojo pojo,
+    public DataEntityUsageInfo mapUsageInfo(final DataEntityStatisticsDto statistics,
                                             final Long filledEntitiesCount) {
-        final Map<Integer, Map<Integer, Long>> classesAndTypesCount = pojo.getDataEntityClassesTypesCount() != null
-            ? JSONSerDeUtils.deserializeJson(pojo.getDataEntityClassesTypesCount().data(), new TypeReference<>() {})
-            : new HashMap<>();
+        final Map<Integer, Map<Integer, Long>> classesAndTypesCount = statistics.classesTypesCount();
 
         return new DataEntityUsageInfo()
-            .totalCount(pojo.getTotalCount())
-            .unfilledCount(pojo.getTotalCount() - filledEntitiesCount)
+            .totalCount(statistics.totalCount())
+            .unfilledCount(statistics.totalCount() - filledEntitiesCount)
             .dataEntityClassesInfo(
                 Arrays.stream(DataEntityClassDto.values())
                     .filter(dto -> dto != DataEntityClassDto.DATA_QUALITY_TEST_RUN
@@ -11,20 +11,30 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetField;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldDiffState;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.api.contract.model.PageInfo;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.opendatadiscovery.oddplatform.utils.Page;
 
 @Mapper(config = MapperConfig.class, uses = {LabelMapper.class, MetadataFieldValueMapper.class, TermMapper.class})
 public interface DatasetFieldApiMapper {
 
     @Mapping(source = "datasetFieldPojo", target = ".")
     @Mapping(source = "datasetFieldPojo.type", target = "type", qualifiedByName = "deserializeType")
-    @Mapping(source = "datasetFieldPojo.stats", target = "stats", qualifiedByName = "deserializeStats")
+    @Mapping(target = "stats", ignore = true)
     DataSetField mapDto(final DatasetFieldDto datasetFieldDto);
 
+    default DataSetFieldList mapDtoPage(final Page<DatasetFieldDto> page) {
+        return new DataSetFieldList()
+            .items(page.getData().stream().map(this::mapDto).toList())
+            .pageInfo(new PageInfo().total(page.getTotal()).hasNext(page.isHasNext()));
+    }
+
     @Mapping(target = "id", ignore = true)
     DatasetFieldPojo copyWithoutId(final DatasetFieldPojo pojo);
 
@@ -49,6 +59,17 @@ public interface DatasetFieldApiMapper {
         return JSONSerDeUtils.deserializeJson(type.data(), DataSetFieldType.class);
     }
 
+    /**
+     * Decodes binary statistics of the field, or JSON ones if the field has been saved without binary statistics.
+     */
+    @Named("mapStats")
+    default DataSetFieldStat mapStats(final DatasetFieldPojo pojo) {
+        if (pojo.getStatsBinary() != null) {
+            return DatasetFieldStatsCodec.decode(pojo.getStatsBinary());
+        }
+        return pojo.getStats() != null ? deserializeStats(pojo.getStats()) : null;
+    }
+
     @Named("deserializeStats")
     default DataSetFieldStat deserializeStats(final JSONB stats) {
         return JSONSerDeUtils.deserializeJson(stats.data(), DataSetFieldStat.class);
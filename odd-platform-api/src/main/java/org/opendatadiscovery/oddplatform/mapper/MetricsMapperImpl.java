@@ -1,10 +1,13 @@
 package org.opendatadiscovery.oddplatform.mapper;
 
 import java.math.BigDecimal;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,12 +21,15 @@ import org.opendatadiscovery.oddplatform.api.contract.model.CounterValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.GaugeValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.HistogramValue;
 import org.opendatadiscovery.oddplatform.api.contract.model.Metric;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatchFamily;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricLabel;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricPoint;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricType;
 import org.opendatadiscovery.oddplatform.api.contract.model.Quantile;
 import org.opendatadiscovery.oddplatform.api.contract.model.SummaryValue;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricBatchPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesValueType;
@@ -273,4 +279,75 @@ public class MetricsMapperImpl implements MetricsMapper {
             .sorted()
             .toList();
     }
+
+    @Override
+    public MetricBatch mapToBatch(final List<MetricBatchPointDto> points,
+                                  final List<MetricLabelValueDto> labelValues) {
+        final Map<Integer, MetricLabelValueDto> labelValuesById = labelValues.stream()
+            .collect(Collectors.toMap(dto -> dto.labelValue().getId(), Function.identity()));
+        final Map<String, Integer> oddrnIndexes = new LinkedHashMap<>();
+        final Map<Integer, MetricFamilyPojo> families = new LinkedHashMap<>();
+        final Map<Integer, Integer> familyIndexes = new HashMap<>();
+        final Map<Integer, Integer> valueTypeIndexes = new LinkedHashMap<>();
+        final Map<Integer, Integer> labelIndexes = new LinkedHashMap<>();
+
+        final List<Integer> pointOddrnIndexes = new ArrayList<>(points.size());
+        final List<Integer> pointFamilyIndexes = new ArrayList<>(points.size());
+        final List<Integer> pointValueTypeIndexes = new ArrayList<>(points.size());
+        final List<Long> timestamps = new ArrayList<>(points.size());
+        final List<Double> values = new ArrayList<>(points.size());
+        final List<Integer> labelOffsets = new ArrayList<>(points.size() + 1);
+        final List<Integer> pointLabelIndexes = new ArrayList<>();
+        labelOffsets.add(0);
+        for (final MetricBatchPointDto dto : points) {
+            pointOddrnIndexes.add(oddrnIndexes.computeIfAbsent(dto.oddrn(), k -> oddrnIndexes.size()));
+            families.putIfAbsent(dto.family().getId(), dto.family());
+            pointFamilyIndexes.add(familyIndexes.computeIfAbsent(dto.family().getId(), k -> familyIndexes.size()));
+            pointValueTypeIndexes.add(
+                valueTypeIndexes.computeIfAbsent(dto.valueType(), k -> valueTypeIndexes.size()));
+            timestamps.add(dto.point().getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli());
+            values.add(dto.point().getValue());
+            if (dto.point().getLabelValuesIds() != null) {
+                for (final Integer labelValueId : dto.point().getLabelValuesIds()) {
+                    if (labelValuesById.containsKey(labelValueId)) {
+                        pointLabelIndexes.add(labelIndexes.computeIfAbsent(labelValueId, k -> labelIndexes.size()));
+                    }
+                }
+            }
+            labelOffsets.add(pointLabelIndexes.size());
+        }
+
+        return new MetricBatch()
+            .oddrns(new ArrayList<>(oddrnIndexes.keySet()))
+            .metricFamilies(families.values().stream().map(this::mapBatchFamily).toList())
+            .valueTypes(valueTypeIndexes.keySet().stream().map(this::mapSeriesValueType).toList())
+            .labels(labelIndexes.keySet().stream()
+                .map(labelValuesById::get)
+                .map(dto -> new MetricLabel().name(dto.label().getName()).value(dto.labelValue().getValue()))
+                .toList())
+            .oddrnIndexes(pointOddrnIndexes)
+            .metricFamilyIndexes(pointFamilyIndexes)
+            .valueTypeIndexes(pointValueTypeIndexes)
+            .timestamps(timestamps)
+            .values(values)
+            .labelOffsets(labelOffsets)
+            .labelIndexes(pointLabelIndexes);
+    }
+
+    private MetricBatchFamily mapBatchFamily(final MetricFamilyPojo family) {
+        return new MetricBatchFamily()
+            .id(family.getId())
+            .name(family.getName())
+            .type(MetricType.valueOf(family.getType()))
+            .unit(family.getUnit())
+            .description(family.getDescription());
+    }
+
+    private String mapSeriesValueType(final Integer code) {
+        return Arrays.stream(MetricSeriesValueType.values())
+            .filter(type -> type.getCode() == code)
+            .findFirst()
+            .map(MetricSeriesValueType::name)
+            .orElseThrow(() -> new IllegalStateException("Unknown metric series value type %s".formatted(code)));
+    }
 }
@@ -18,6 +18,7 @@ import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetadataExtens
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
 import org.opendatadiscovery.oddplatform.mapper.MapperConfig;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 
 import static java.util.Collections.emptyList;
@@ -36,6 +37,7 @@ public interface DatasetFieldIngestionMapper {
     @Mapping(target = "isSortKey", defaultValue = "false")
     @Mapping(target = "fieldOrder", expression = "java(0)")
     @Mapping(target = "externalDescription", source = "description")
+    @Mapping(target = "statsBinary", source = "stats", qualifiedByName = "encodeStats")
     DatasetFieldPojo mapFieldToPojo(final DataSetField field);
 
     default List<String> mapLabels(final List<Tag> labels) {
@@ -54,6 +56,11 @@ public interface DatasetFieldIngestionMapper {
         return serializeIntoJSONB(stat);
     }
 
+    @Named("encodeStats")
+    default byte[] encodeStats(final DataSetFieldStat stat) {
+        return DatasetFieldStatsCodec.encode(stat);
+    }
+
     default JSONB serializeIntoJSONB(final Object object) {
         return JSONB.jsonb(JSONSerDeUtils.serializeJson(object));
     }
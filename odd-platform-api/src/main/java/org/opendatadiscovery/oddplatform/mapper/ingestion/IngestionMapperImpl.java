@@ -36,6 +36,7 @@ import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransforme
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataTransformerRun;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.service.OddrnCache;
 import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.opendatadiscovery.oddplatform.utils.Pair;
@@ -70,6 +71,7 @@ import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestio
 import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DataQualityTestIngestionDto;
 import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DataSetIngestionDto;
 import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DataTransformerIngestionDto;
+import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DatasetFieldIngestionDto;
 
 @Component
 @RequiredArgsConstructor
@@ -77,6 +79,7 @@ import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestio
 public class IngestionMapperImpl implements IngestionMapper {
     private final DatasetFieldIngestionMapper datasetFieldIngestionMapper;
     private final DatasetVersionHashCalculator datasetVersionHashCalculator;
+    private final OddrnCache oddrnCache;
 
     private static final List<Pair<Predicate<DataEntity>, DataEntityClassDto>> ENTITY_CLASS_DISCRIMINATOR = List.of(
         Pair.of(de -> de.getDataset() != null, DATA_SET),
@@ -97,7 +100,7 @@ public class IngestionMapperImpl implements IngestionMapper {
 
         DataEntityIngestionDto.DataEntityIngestionDtoBuilder builder = DataEntityIngestionDto.builder()
             .name(dataEntity.getName())
-            .oddrn(dataEntity.getOddrn())
+            .oddrn(oddrnCache.intern(dataEntity.getOddrn()))
             .externalDescription(dataEntity.getDescription())
             .dataSourceId(dataSourceId)
             .createdAt(dataEntity.getCreatedAt())
@@ -197,8 +200,8 @@ public class IngestionMapperImpl implements IngestionMapper {
                                         final String oddrn) {
         return IngestionTaskRun.builder()
             .taskRunName(name)
-            .oddrn(oddrn)
-            .taskOddrn(transformerRun.getTransformerOddrn())
+            .oddrn(oddrnCache.intern(oddrn))
+            .taskOddrn(oddrnCache.intern(transformerRun.getTransformerOddrn()))
             .startTime(transformerRun.getStartTime())
             .endTime(transformerRun.getEndTime())
             .status(IngestionTaskRun.IngestionTaskRunStatus.valueOf(transformerRun.getStatus().name()))
@@ -212,8 +215,8 @@ public class IngestionMapperImpl implements IngestionMapper {
                                         final String oddrn) {
         return IngestionTaskRun.builder()
             .taskRunName(name)
-            .oddrn(oddrn)
-            .taskOddrn(dataQualityTestRun.getDataQualityTestOddrn())
+            .oddrn(oddrnCache.intern(oddrn))
+            .taskOddrn(oddrnCache.intern(dataQualityTestRun.getDataQualityTestOddrn()))
             .startTime(dataQualityTestRun.getStartTime())
             .endTime(dataQualityTestRun.getEndTime())
             .status(IngestionTaskRun.IngestionTaskRunStatus.valueOf(dataQualityTestRun.getStatus().name()))
@@ -234,11 +237,21 @@ public class IngestionMapperImpl implements IngestionMapper {
                 """, dataEntity.getOddrn());
         }
 
-        final String structureHash = datasetVersionHashCalculator.calculateStructureHash(dataset.getFieldList());
+        final List<DatasetFieldIngestionDto> fields = datasetFieldIngestionMapper.mapFields(dataset.getFieldList());
+        if (fields != null) {
+            for (int i = 0; i < fields.size(); i++) {
+                fields.get(i).field()
+                    .setStructureHash(datasetVersionHashCalculator.calculateFieldHash(dataset.getFieldList().get(i)));
+            }
+            fields.forEach(f -> f.field()
+                .setIngestionFingerprint(datasetVersionHashCalculator.calculateIngestionFingerprint(f)));
+        }
+        final String structureHash = datasetVersionHashCalculator.calculateStructureHashFromPojos(
+            ListUtils.emptyIfNull(fields).stream().map(DatasetFieldIngestionDto::field).toList());
 
         return new DataSetIngestionDto(
-            dataset.getParentOddrn(),
-            datasetFieldIngestionMapper.mapFields(dataset.getFieldList()),
+            oddrnCache.intern(dataset.getParentOddrn()),
+            fields,
             structureHash,
             dataset.getRowsNumber()
         );
@@ -246,32 +259,36 @@ public class IngestionMapperImpl implements IngestionMapper {
 
     private DataTransformerIngestionDto createDataTransformerIngestionDto(final DataTransformer dataTransformer) {
         return new DataTransformerIngestionDto(
-            ListUtils.emptyIfNull(dataTransformer.getInputs()),
-            ListUtils.emptyIfNull(dataTransformer.getOutputs())
+            internOddrns(dataTransformer.getInputs()),
+            internOddrns(dataTransformer.getOutputs())
         );
     }
 
     private DataConsumerIngestionDto createDataConsumerIngestionDto(final DataConsumer dataConsumer) {
-        return new DataConsumerIngestionDto(ListUtils.emptyIfNull(dataConsumer.getInputs()));
+        return new DataConsumerIngestionDto(internOddrns(dataConsumer.getInputs()));
     }
 
     private DataQualityTestIngestionDto createDataQualityTestIngestionDto(final DataQualityTest dataQualityTest) {
-        return new DataQualityTestIngestionDto(ListUtils.emptyIfNull(dataQualityTest.getDatasetList()));
+        return new DataQualityTestIngestionDto(internOddrns(dataQualityTest.getDatasetList()));
     }
 
     private DataEntityGroupDto createDataEntityGroupDto(final DataEntityGroup dataEntityGroup) {
         return new DataEntityGroupDto(
-            ListUtils.emptyIfNull(dataEntityGroup.getEntitiesList()),
-            dataEntityGroup.getGroupOddrn()
+            internOddrns(dataEntityGroup.getEntitiesList()),
+            oddrnCache.intern(dataEntityGroup.getGroupOddrn())
         );
     }
 
     private DataInputIngestionDto createDataInput(final DataInput dataInput) {
         return new DataInputIngestionDto(
-            ListUtils.emptyIfNull(dataInput.getOutputs())
+            internOddrns(dataInput.getOutputs())
         );
     }
 
+    private List<String> internOddrns(final List<String> oddrns) {
+        return oddrnCache.intern(ListUtils.emptyIfNull(oddrns));
+    }
+
     private Set<DataEntityClassDto> defineEntityClasses(final DataEntity dataEntity) {
         return ENTITY_CLASS_DISCRIMINATOR.stream()
             .map(disc -> disc.getLeft().test(dataEntity) ? disc.getRight() : null)
@@ -148,19 +148,21 @@ public class AlertNotificationMessageTranslator implements NotificationMessageTr
 
         final Field<Integer> startDepth = val(1).as(field("depth", Integer.class));
         final Field<Integer> depthField = field("%s.depth".formatted(cteName.toString()), Integer.class);
-        final Field<String> childOddrnField = field("%s.child_oddrn".formatted(cteName.toString()), String.class);
+        final Field<Long> childIdField = field("%s.child_id".formatted(cteName.toString()), Long.class);
 
         final CommonTableExpression<Record> cte = cteName.as(dslContext
             .select(LINEAGE.fields())
             .select(startDepth)
             .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.eq(rootDataEntityOddrn))
+            .where(LINEAGE.PARENT_ID.eq(dslContext.select(DATA_ENTITY.ID)
+                .from(DATA_ENTITY)
+                .where(DATA_ENTITY.ODDRN.eq(rootDataEntityOddrn))))
             .unionAll(
                 dslContext
                     .select(LINEAGE.fields())
                     .select(depthField.add(1))
                     .from(LINEAGE)
-                    .join(cteName).on(LINEAGE.PARENT_ODDRN.eq(childOddrnField))
+                    .join(cteName).on(LINEAGE.PARENT_ID.eq(childIdField))
                     .where(depthField.lessThan(downstreamEntitiesDepth + 1))
             ));
 
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.partition.manager;
 
+import java.util.List;
 import lombok.Getter;
 import org.opendatadiscovery.oddplatform.model.Tables;
 import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
@@ -15,6 +16,10 @@ public class ActivityTablePartitionManager extends AbstractPartitionManager impl
     @Getter
     private final String tableName = Tables.ACTIVITY.getName();
 
+    @Getter
+    private final List<String> tableNameExclusions = List.of(Tables.ACTIVITY_HOURLY_ROLLUP.getName(),
+        Tables.ACTIVITY_DAILY_ROLLUP.getName());
+
     public ActivityTablePartitionManager(final PartitionService partitionService) {
         super(partitionService);
     }
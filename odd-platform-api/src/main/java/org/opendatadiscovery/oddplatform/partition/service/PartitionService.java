@@ -16,6 +16,8 @@ public interface PartitionService {
                            final LocalDate beginDate,
                            final LocalDate endDate) throws SQLException;
 
+    LocalDate getFirstPartitionDate(final String tableName);
+
     LocalDate getLastPartitionDate(final String tableName);
 
     List<String> getEmptyPastPartitions(final Connection connection,
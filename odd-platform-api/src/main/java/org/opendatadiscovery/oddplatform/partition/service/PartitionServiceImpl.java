@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.apache.commons.collections4.CollectionUtils;
@@ -32,7 +33,7 @@ public class PartitionServiceImpl implements PartitionService {
             """);
 
         if (toExclude) {
-            sqlBuilder.append(" AND table_name NOT IN (?)");
+            sqlBuilder.append(" AND table_name NOT IN (%s)".formatted(placeholders(tableNameExclusions)));
         }
 
         sqlBuilder.append(" ORDER BY table_name DESC LIMIT 1");
@@ -41,7 +42,9 @@ public class PartitionServiceImpl implements PartitionService {
             statement.setString(1, DEFAULT_SCHEMA);
             statement.setString(2, tableName + "_%");
             if (toExclude) {
-                statement.setString(3, String.join(",", tableNameExclusions));
+                for (int i = 0; i < tableNameExclusions.size(); i++) {
+                    statement.setString(i + 3, tableNameExclusions.get(i));
+                }
             }
             try (final ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
@@ -69,14 +72,13 @@ public class PartitionServiceImpl implements PartitionService {
     }
 
     @Override
-    public LocalDate getLastPartitionDate(final String tableName) {
-        final String[] tableNameParts = tableName.split("_");
-        if (tableNameParts.length != 3) {
-            throw new IllegalArgumentException("Cannot parse table name: %s".formatted(tableName));
-        }
+    public LocalDate getFirstPartitionDate(final String tableName) {
+        return LocalDate.parse(getPartitionNameParts(tableName)[1], PARTITION_PART_FORMATTER);
+    }
 
-        final String lastPartitionDateString = tableNameParts[tableNameParts.length - 1];
-        return LocalDate.parse(lastPartitionDateString, PARTITION_PART_FORMATTER);
+    @Override
+    public LocalDate getLastPartitionDate(final String tableName) {
+        return LocalDate.parse(getPartitionNameParts(tableName)[2], PARTITION_PART_FORMATTER);
     }
 
     @Override
@@ -92,14 +94,16 @@ public class PartitionServiceImpl implements PartitionService {
             """);
 
         if (toExclude) {
-            sqlBuilder.append(" AND table_name NOT IN (?)");
+            sqlBuilder.append(" AND table_name NOT IN (%s)".formatted(placeholders(tableNameExclusions)));
         }
 
         try (final PreparedStatement statement = connection.prepareStatement(sqlBuilder.toString())) {
             statement.setString(1, DEFAULT_SCHEMA);
             statement.setString(2, tableName + "_%");
             if (toExclude) {
-                statement.setString(3, String.join(",", tableNameExclusions));
+                for (int i = 0; i < tableNameExclusions.size(); i++) {
+                    statement.setString(i + 3, tableNameExclusions.get(i));
+                }
             }
 
             try (final ResultSet resultSet = statement.executeQuery()) {
@@ -141,6 +145,18 @@ public class PartitionServiceImpl implements PartitionService {
         }
     }
 
+    private String placeholders(final List<String> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    private String[] getPartitionNameParts(final String tableName) {
+        final String[] tableNameParts = tableName.split("_");
+        if (tableNameParts.length != 3) {
+            throw new IllegalArgumentException("Cannot parse table name: %s".formatted(tableName));
+        }
+        return tableNameParts;
+    }
+
     private String getPartitionName(final String tableName, final LocalDate beginDate, final LocalDate endDate) {
         return String.format("%s_%s_%s", tableName, PARTITION_PART_FORMATTER.format(beginDate),
             PARTITION_PART_FORMATTER.format(endDate));
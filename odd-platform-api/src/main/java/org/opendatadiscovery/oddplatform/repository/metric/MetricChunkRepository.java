@@ -0,0 +1,21 @@
+package org.opendatadiscovery.oddplatform.repository.metric;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesChunkDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import reactor.core.publisher.Flux;
+
+public interface MetricChunkRepository {
+    /**
+     * Inserts the given empty chunks where no chunk exists yet and returns all of them locked for update,
+     * so that concurrent writers of the same chunk merge their points one after another.
+     */
+    Flux<MetricChunkPojo> createAndLockChunks(final List<MetricChunkPojo> emptyChunks);
+
+    Flux<MetricChunkPojo> createOrUpdateChunks(final List<MetricChunkPojo> chunks);
+
+    Flux<MetricSeriesChunkDto> getChunksByEntityOddrn(final String oddrn,
+                                                      final LocalDateTime from,
+                                                      final LocalDateTime to);
+}
@@ -0,0 +1,103 @@
+package org.opendatadiscovery.oddplatform.repository.metric;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.InsertSetStep;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesChunkDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.MetricChunkRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.jooq.impl.DSL.excluded;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_CHUNK;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_SERIES;
+
+@Repository
+@RequiredArgsConstructor
+public class MetricChunkRepositoryImpl implements MetricChunkRepository {
+    private static final Comparator<MetricChunkPojo> CHUNK_KEY_ORDER = Comparator
+        .comparing(MetricChunkPojo::getSeriesId)
+        .thenComparing(MetricChunkPojo::getWindowStart)
+        .thenComparing(MetricChunkPojo::getLabelValuesIds, Arrays::compare);
+
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Flux<MetricChunkPojo> createAndLockChunks(final List<MetricChunkPojo> emptyChunks) {
+        // Sorted so that concurrent transactions acquire chunk locks in the same order
+        final List<MetricChunkRecord> records = emptyChunks.stream()
+            .sorted(CHUNK_KEY_ORDER)
+            .map(pojo -> jooqReactiveOperations.newRecord(METRIC_CHUNK, pojo))
+            .toList();
+        final Mono<Void> insertMissing = jooqReactiveOperations.executeInPartition(records, rs -> {
+            InsertSetStep<MetricChunkRecord> insertStep = DSL.insertInto(METRIC_CHUNK);
+            for (int i = 0; i < rs.size() - 1; i++) {
+                insertStep = insertStep.set(rs.get(i)).newRecord();
+            }
+            return jooqReactiveOperations.mono(insertStep.set(rs.get(rs.size() - 1)).onConflictDoNothing());
+        });
+        return insertMissing.thenMany(jooqReactiveOperations.executeInPartitionReturning(records, keys -> {
+            final Condition condition = keys.stream()
+                .map(k -> METRIC_CHUNK.SERIES_ID.eq(k.getSeriesId())
+                    .and(METRIC_CHUNK.LABEL_VALUES_IDS.eq(k.getLabelValuesIds()))
+                    .and(METRIC_CHUNK.WINDOW_START.eq(k.getWindowStart())))
+                .reduce(Condition::or)
+                .orElseThrow(() -> new RuntimeException("Can't build select condition for metric chunks"));
+            return jooqReactiveOperations.flux(DSL.selectFrom(METRIC_CHUNK)
+                .where(condition)
+                .orderBy(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.WINDOW_START, METRIC_CHUNK.LABEL_VALUES_IDS)
+                .forUpdate());
+        })).map(r -> r.into(MetricChunkPojo.class));
+    }
+
+    @Override
+    public Flux<MetricChunkPojo> createOrUpdateChunks(final List<MetricChunkPojo> chunks) {
+        final List<MetricChunkRecord> records = chunks.stream()
+            .map(pojo -> jooqReactiveOperations.newRecord(METRIC_CHUNK, pojo))
+            .toList();
+        return jooqReactiveOperations.executeInPartitionReturning(records, rs -> {
+            InsertSetStep<MetricChunkRecord> insertStep = DSL.insertInto(METRIC_CHUNK);
+            for (int i = 0; i < rs.size() - 1; i++) {
+                insertStep = insertStep.set(rs.get(i)).newRecord();
+            }
+            return jooqReactiveOperations.flux(insertStep.set(rs.get(rs.size() - 1))
+                .onConflict(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.LABEL_VALUES_IDS, METRIC_CHUNK.WINDOW_START)
+                .doUpdate()
+                .set(METRIC_CHUNK.FIRST_TIMESTAMP, excluded(METRIC_CHUNK.FIRST_TIMESTAMP))
+                .set(METRIC_CHUNK.LAST_TIMESTAMP, excluded(METRIC_CHUNK.LAST_TIMESTAMP))
+                .set(METRIC_CHUNK.POINTS_COUNT, excluded(METRIC_CHUNK.POINTS_COUNT))
+                .set(METRIC_CHUNK.DATA, excluded(METRIC_CHUNK.DATA))
+                .returning(METRIC_CHUNK.fields()));
+        }).map(r -> r.into(MetricChunkPojo.class));
+    }
+
+    @Override
+    public Flux<MetricSeriesChunkDto> getChunksByEntityOddrn(final String oddrn,
+                                                             final LocalDateTime from,
+                                                             final LocalDateTime to) {
+        final var query = DSL.select(METRIC_SERIES.fields())
+            .select(METRIC_CHUNK.fields())
+            .from(METRIC_CHUNK)
+            .join(METRIC_SERIES).on(METRIC_SERIES.ID.eq(METRIC_CHUNK.SERIES_ID))
+            .join(METRIC_ENTITY).on(METRIC_ENTITY.ID.eq(METRIC_SERIES.METRIC_ENTITY_ID))
+            .where(METRIC_ENTITY.ENTITY_ODDRN.eq(oddrn))
+            .and(METRIC_CHUNK.LAST_TIMESTAMP.greaterOrEqual(from))
+            .and(METRIC_CHUNK.FIRST_TIMESTAMP.lessThan(to))
+            .orderBy(METRIC_CHUNK.SERIES_ID, METRIC_CHUNK.WINDOW_START);
+        return jooqReactiveOperations.flux(query)
+            .map(r -> new MetricSeriesChunkDto(
+                r.into(METRIC_SERIES).into(MetricSeriesPojo.class),
+                r.into(METRIC_CHUNK).into(MetricChunkPojo.class)
+            ));
+    }
+}
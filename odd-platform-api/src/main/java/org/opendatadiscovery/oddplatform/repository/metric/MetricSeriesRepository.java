@@ -1,6 +1,8 @@
 package org.opendatadiscovery.oddplatform.repository.metric;
 
+import java.util.Collection;
 import java.util.List;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricBatchPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
 import reactor.core.publisher.Flux;
@@ -9,4 +11,7 @@ public interface MetricSeriesRepository {
     Flux<MetricSeriesPojo> createOrUpdateMetricSeries(final List<MetricSeriesPojo> seriesPojos);
 
     Flux<MetricSeriesDto> getSeriesAndPointsByEntityOddrn(final String oddrn);
+
+    Flux<MetricBatchPointDto> getPointsByEntityOddrns(final Collection<String> oddrns,
+                                                      final Collection<String> metricFamilyNames);
 }
@@ -1,14 +1,19 @@
 package org.opendatadiscovery.oddplatform.repository.metric;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.jooq.Condition;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricBatchPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.model.Keys;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.MetricSeriesRecord;
@@ -20,6 +25,7 @@ import reactor.core.publisher.Flux;
 import static org.jooq.impl.DSL.excluded;
 import static org.jooq.impl.DSL.jsonArrayAgg;
 import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_FAMILY;
 import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_POINT;
 import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_SERIES;
 
@@ -62,6 +68,34 @@ public class MetricSeriesRepositoryImpl implements MetricSeriesRepository {
             .map(this::mapSeriesDto);
     }
 
+    @Override
+    public Flux<MetricBatchPointDto> getPointsByEntityOddrns(final Collection<String> oddrns,
+                                                             final Collection<String> metricFamilyNames) {
+        if (CollectionUtils.isEmpty(oddrns)) {
+            return Flux.empty();
+        }
+        Condition condition = METRIC_ENTITY.ENTITY_ODDRN.in(oddrns);
+        if (CollectionUtils.isNotEmpty(metricFamilyNames)) {
+            condition = condition.and(METRIC_FAMILY.NAME.in(metricFamilyNames));
+        }
+        final var query = DSL.select(METRIC_ENTITY.ENTITY_ODDRN, METRIC_SERIES.VALUE_TYPE)
+            .select(METRIC_FAMILY.fields())
+            .select(METRIC_POINT.fields())
+            .from(METRIC_ENTITY)
+            .join(METRIC_SERIES).on(METRIC_SERIES.METRIC_ENTITY_ID.eq(METRIC_ENTITY.ID))
+            .join(METRIC_FAMILY).on(METRIC_FAMILY.ID.eq(METRIC_SERIES.METRIC_FAMILY_ID))
+            .join(METRIC_POINT).on(METRIC_POINT.SERIES_ID.eq(METRIC_SERIES.ID))
+            .where(condition)
+            .orderBy(METRIC_ENTITY.ENTITY_ODDRN, METRIC_FAMILY.ID, METRIC_SERIES.ID);
+        return jooqReactiveOperations.flux(query)
+            .map(r -> new MetricBatchPointDto(
+                r.get(METRIC_ENTITY.ENTITY_ODDRN),
+                r.into(METRIC_FAMILY).into(MetricFamilyPojo.class),
+                r.get(METRIC_SERIES.VALUE_TYPE),
+                r.into(METRIC_POINT).into(MetricPointPojo.class)
+            ));
+    }
+
     private MetricSeriesDto mapSeriesDto(final Record r) {
         final Set<MetricPointPojo> points = jooqRecordHelper.extractAggRelation(r, "points", MetricPointPojo.class);
         final MetricSeriesPojo seriesPojo = r.into(METRIC_SERIES).into(MetricSeriesPojo.class);
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.dto.term.TermBaseInfoDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityDescriptionUnhandledTermPojo;
@@ -9,9 +10,9 @@ public interface DataEntityDescriptionUnhandledTermRepository {
     Flux<DataEntityDescriptionUnhandledTermPojo> createUnhandledTerms(
         final List<DataEntityDescriptionUnhandledTermPojo> unhandledTerms);
 
-    Flux<DataEntityDescriptionUnhandledTermPojo> deleteForDataEntityExceptSpecified(
-        final long dataEntityId,
-        final List<TermBaseInfoDto> termsToKeep);
+    Flux<DataEntityDescriptionUnhandledTermPojo> deleteForDataEntitiesExceptSpecified(
+        final Collection<Long> dataEntityIds,
+        final List<DataEntityDescriptionUnhandledTermPojo> termsToKeep);
 
     Flux<DataEntityDescriptionUnhandledTermPojo> deleteUnhandledTerm(final TermBaseInfoDto dto);
 }
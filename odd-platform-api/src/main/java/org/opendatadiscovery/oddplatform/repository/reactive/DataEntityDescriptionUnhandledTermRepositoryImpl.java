@@ -1,10 +1,11 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jooq.Condition;
-import org.jooq.Row2;
+import org.jooq.Row3;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.term.TermBaseInfoDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityDescriptionUnhandledTermPojo;
@@ -13,8 +14,8 @@ import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
-import static org.jooq.impl.DSL.lower;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
 import static org.opendatadiscovery.oddplatform.model.Keys.DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM_UNIQUE_KEY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM;
 
@@ -48,21 +49,26 @@ public class DataEntityDescriptionUnhandledTermRepositoryImpl implements DataEnt
     }
 
     @Override
-    public Flux<DataEntityDescriptionUnhandledTermPojo> deleteForDataEntityExceptSpecified(
-        final long dataEntityId,
-        final List<TermBaseInfoDto> termsToKeep) {
-        final List<Row2<String, String>> termRows = termsToKeep.stream()
-            .map(term -> row(lower(term.name()), lower(term.namespaceName())))
+    public Flux<DataEntityDescriptionUnhandledTermPojo> deleteForDataEntitiesExceptSpecified(
+        final Collection<Long> dataEntityIds,
+        final List<DataEntityDescriptionUnhandledTermPojo> termsToKeep) {
+        if (CollectionUtils.isEmpty(dataEntityIds)) {
+            return Flux.just();
+        }
+        final List<Row3<Long, String, String>> termRows = termsToKeep.stream()
+            .map(term -> row(val(term.getDataEntityId()), val(term.getTermName()),
+                val(term.getTermNamespaceName())))
             .toList();
         final Condition condition;
         if (CollectionUtils.isNotEmpty(termRows)) {
-            condition = row(lower(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.TERM_NAME),
-                lower(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.TERM_NAMESPACE_NAME)).notIn(termRows);
+            condition = row(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.DATA_ENTITY_ID,
+                DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.TERM_NAME,
+                DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.TERM_NAMESPACE_NAME).notIn(termRows);
         } else {
             condition = DSL.noCondition();
         }
         final var query = DSL.deleteFrom(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM)
-            .where(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.DATA_ENTITY_ID.eq(dataEntityId)).and(condition)
+            .where(DATA_ENTITY_DESCRIPTION_UNHANDLED_TERM.DATA_ENTITY_ID.in(dataEntityIds)).and(condition)
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(DataEntityDescriptionUnhandledTermPojo.class));
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.dto.term.TermBaseInfoDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldDescriptionUnhandledTermPojo;
@@ -9,9 +10,9 @@ public interface DatasetFieldDescriptionUnhandledTermRepository {
     Flux<DatasetFieldDescriptionUnhandledTermPojo> createUnhandledTerms(
         final List<DatasetFieldDescriptionUnhandledTermPojo> unhandledTerms);
 
-    Flux<DatasetFieldDescriptionUnhandledTermPojo> deleteForDatasetFieldExceptSpecified(
-        final long datasetFieldId,
-        final List<TermBaseInfoDto> termsToKeep);
+    Flux<DatasetFieldDescriptionUnhandledTermPojo> deleteForDatasetFieldsExceptSpecified(
+        final Collection<Long> datasetFieldIds,
+        final List<DatasetFieldDescriptionUnhandledTermPojo> termsToKeep);
 
     Flux<DatasetFieldDescriptionUnhandledTermPojo> deleteUnhandledTerm(final TermBaseInfoDto dto);
 }
@@ -13,6 +13,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.Field;
+import org.jooq.InsertOnDuplicateStep;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
@@ -32,6 +33,9 @@ import org.opendatadiscovery.oddplatform.utils.Pair;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static java.util.function.Function.identity;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
+
 @RequiredArgsConstructor
 @Slf4j
 public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implements ReactiveCRUDRepository<P> {
@@ -173,7 +177,17 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected Flux<R> insertManyReturning(final List<R> records) {
-        return jooqReactiveOperations.executeInPartitionReturning(records, rs -> {
+        final List<Field<?>> copyFields = getInsertCopyFields(records);
+        if (copyFields != null) {
+            return jooqReactiveOperations.copyAndMergeReturning(recordTable, copyFields, records, staging -> DSL
+                .insertInto(recordTable)
+                .columns(copyFields)
+                .select(DSL.select(staging.fields()).from(staging))
+                .returning(recordTable.fields()));
+        }
+
+        final int batchSize = jooqReactiveOperations.batchSize(records);
+        return jooqReactiveOperations.executeInPartitionReturning(records, batchSize, rs -> {
             InsertSetStep<R> insertStep = DSL.insertInto(recordTable);
 
             for (int i = 0; i < rs.size() - 1; i++) {
@@ -185,7 +199,18 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected Mono<Void> insertMany(final List<R> records, final boolean failOnDuplicateKey) {
-        return jooqReactiveOperations.executeInPartition(records, rs -> {
+        final List<Field<?>> copyFields = getInsertCopyFields(records);
+        if (copyFields != null) {
+            return jooqReactiveOperations.copyAndMerge(recordTable, copyFields, records, staging -> {
+                final InsertOnDuplicateStep<R> query = DSL.insertInto(recordTable)
+                    .columns(copyFields)
+                    .select(DSL.select(staging.fields()).from(staging));
+                return !failOnDuplicateKey ? query.onDuplicateKeyIgnore() : query;
+            }).then();
+        }
+
+        final int batchSize = jooqReactiveOperations.batchSize(records);
+        return jooqReactiveOperations.executeInPartition(records, batchSize, rs -> {
             InsertSetStep<R> insertStep = DSL.insertInto(recordTable);
 
             for (int i = 0; i < rs.size() - 1; i++) {
@@ -201,7 +226,20 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected Flux<R> updateMany(final List<R> records) {
-        return jooqReactiveOperations.executeInPartitionReturning(records, rs -> {
+        if (jooqReactiveOperations.shouldCopy(records)) {
+            final List<Field<?>> nonUpdatableFields = getNonUpdatableFields();
+            return jooqReactiveOperations.copyAndMergeReturning(recordTable, Arrays.asList(recordTable.fields()),
+                records, staging -> DSL.update(recordTable)
+                    .set(Arrays.stream(recordTable.fields())
+                        .filter(f -> !nonUpdatableFields.contains(f))
+                        .collect(Collectors.toMap(identity(), f -> staging.field(f.getName()))))
+                    .from(staging)
+                    .where(idField.eq(staging.field(idField.getName(), Long.class)))
+                    .returning());
+        }
+
+        final int batchSize = jooqReactiveOperations.batchSize(records);
+        return jooqReactiveOperations.executeInPartitionReturning(records, batchSize, rs -> {
             final Table<?> table = DSL.table(jooqReactiveOperations.newResult(recordTable, rs));
 
             final List<Field<?>> nonUpdatableFields = getNonUpdatableFields();
@@ -243,7 +281,7 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
             conditions.add(nameField.containsIgnoreCase(nameQuery));
         }
         if (CollectionUtils.isNotEmpty(ids)) {
-            conditions.add(idField.in(ids));
+            conditions.add(inArray(idField, ids));
         }
         return conditions;
     }
@@ -253,7 +291,7 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
     }
 
     protected List<Condition> idCondition(final Collection<Long> ids) {
-        return List.of(idField.in(ids));
+        return List.of(inArray(idField, ids));
     }
 
     protected SelectConditionStep<R> baseSelectManyQuery(final String query, final List<Long> ids) {
@@ -297,4 +335,23 @@ public abstract class ReactiveAbstractCRUDRepository<R extends Record, P> implem
                                                 final int limit) {
         return jooqQueryHelper.paginate(baseSelect, orderByFields, offset, limit);
     }
+
+    /**
+     * Returns the fields to COPY for a large batch of inserted records or null if the batch should be inserted
+     * with multi-row statements. COPY is used only if all the records have the same set of changed fields,
+     * so that columns which weren't set keep their default values.
+     */
+    private List<Field<?>> getInsertCopyFields(final List<R> records) {
+        if (!jooqReactiveOperations.shouldCopy(records)) {
+            return null;
+        }
+
+        final R first = records.get(0);
+        final List<Field<?>> fields = Arrays.stream(recordTable.fields())
+            .filter(first::changed)
+            .collect(Collectors.toList());
+        final boolean sameChangedFields = records.stream().allMatch(r -> Arrays.stream(recordTable.fields())
+            .allMatch(f -> r.changed(f) == first.changed(f)));
+        return sameChangedFields ? fields : null;
+    }
 }
@@ -5,19 +5,30 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.DatePart;
 import org.jooq.Field;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Select;
 import org.jooq.SelectJoinStep;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.dto.activity.ActivityCountInterval;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityDto;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.activity.ActivityRollupGranularity;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.ActivityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
@@ -29,9 +40,12 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static org.jooq.impl.DSL.excluded;
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.trunc;
 import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_DAILY_ROLLUP;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_HOURLY_ROLLUP;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
@@ -43,6 +57,8 @@ import static org.opendatadiscovery.oddplatform.model.Tables.USER_OWNER_MAPPING;
 @Repository
 @RequiredArgsConstructor
 public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepository {
+    private static final String ACTIVITY_COUNT_FIELD = "activity_count";
+
     private final JooqReactiveOperations jooqReactiveOperations;
     private final JooqRecordHelper jooqRecordHelper;
 
@@ -50,7 +66,8 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
     public Mono<ActivityPojo> saveReturning(final ActivityPojo pojo) {
         final ActivityRecord record = jooqReactiveOperations.newRecord(ACTIVITY, pojo);
         return jooqReactiveOperations.mono(DSL.insertInto(ACTIVITY).set(record).returning())
-            .map(r -> r.into(ACTIVITY).into(ActivityPojo.class));
+            .map(r -> r.into(ACTIVITY).into(ActivityPojo.class))
+            .flatMap(activity -> incrementRollups(List.of(activity)).thenReturn(activity));
     }
 
     @Override
@@ -67,7 +84,7 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
             }
 
             return jooqReactiveOperations.mono(insertStep.set(rs.get(rs.size() - 1)));
-        });
+        }).then(incrementRollups(pojos));
     }
 
     @Override
@@ -150,14 +167,8 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
                                               final List<Long> ownerIds,
                                               final List<Long> userIds,
                                               final ActivityEventTypeDto eventType) {
-        final var countQuery = DSL.selectCount()
-            .from(ACTIVITY)
-            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(ACTIVITY.DATA_ENTITY_ID))
-            .leftJoin(USER_OWNER_MAPPING).on(USER_OWNER_MAPPING.OIDC_USERNAME.eq(ACTIVITY.CREATED_BY));
-        addJoins(countQuery, datasourceId, namespaceId, tagIds, ownerIds);
-        final List<Condition> conditions =
-            getCommonConditions(beginDate, endDate, datasourceId, namespaceId, tagIds, ownerIds, userIds, eventType);
-        return getActivityCount(countQuery, conditions);
+        return getActivityCount(beginDate, endDate, datasourceId, namespaceId, tagIds, ownerIds, userIds, eventType,
+            List.of());
     }
 
     @Override
@@ -169,14 +180,8 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
                                                   final List<Long> userIds,
                                                   final ActivityEventTypeDto eventType,
                                                   final Long currentOwnerId) {
-        final var countQuery = DSL.selectCount()
-            .from(ACTIVITY)
-            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(ACTIVITY.DATA_ENTITY_ID))
-            .leftJoin(USER_OWNER_MAPPING).on(USER_OWNER_MAPPING.OIDC_USERNAME.eq(ACTIVITY.CREATED_BY));
-        addJoins(countQuery, datasourceId, namespaceId, tagIds, List.of(currentOwnerId));
-        final List<Condition> conditions = getCommonConditions(beginDate, endDate, datasourceId, namespaceId, tagIds,
-            List.of(currentOwnerId), userIds, eventType);
-        return getActivityCount(countQuery, conditions);
+        return getActivityCount(beginDate, endDate, datasourceId, namespaceId, tagIds, List.of(currentOwnerId),
+            userIds, eventType, List.of());
     }
 
     @Override
@@ -188,15 +193,8 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
                                                   final List<Long> userIds,
                                                   final ActivityEventTypeDto eventType,
                                                   final List<String> oddrns) {
-        final var countQuery = DSL.selectCount()
-            .from(ACTIVITY)
-            .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(ACTIVITY.DATA_ENTITY_ID))
-            .leftJoin(USER_OWNER_MAPPING).on(USER_OWNER_MAPPING.OIDC_USERNAME.eq(ACTIVITY.CREATED_BY));
-        addJoins(countQuery, datasourceId, namespaceId, tagIds, List.of());
-        final List<Condition> conditions = getCommonConditions(beginDate, endDate, datasourceId, namespaceId, tagIds,
-            List.of(), userIds, eventType);
-        conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
-        return getActivityCount(countQuery, conditions);
+        return getActivityCount(beginDate, endDate, datasourceId, namespaceId, tagIds, List.of(), userIds, eventType,
+            List.of(DATA_ENTITY.ODDRN.in(oddrns)));
     }
 
     private SelectJoinStep<?> buildBaseQuery(final Long datasourceId, final Long namespaceId,
@@ -249,6 +247,16 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
         if (eventType != null) {
             conditions.add(ACTIVITY.EVENT_TYPE.eq(eventType.name()));
         }
+        conditions.addAll(getFilterConditions(datasourceId, namespaceId, tagIds, ownerIds, userIds));
+        return conditions;
+    }
+
+    private List<Condition> getFilterConditions(final Long datasourceId,
+                                                final Long namespaceId,
+                                                final List<Long> tagIds,
+                                                final List<Long> ownerIds,
+                                                final List<Long> userIds) {
+        final List<Condition> conditions = new ArrayList<>();
         if (datasourceId != null) {
             conditions.add(DATA_SOURCE.ID.eq(datasourceId));
         }
@@ -285,11 +293,100 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
             .map(this::mapDto);
     }
 
-    private Mono<Long> getActivityCount(final SelectJoinStep<?> baseQuery,
-                                        final List<Condition> conditions) {
-        final var whereStep = baseQuery.where(conditions);
-        return jooqReactiveOperations.mono(whereStep)
-            .map(r -> r.into(Long.class));
+    private Mono<Long> getActivityCount(final OffsetDateTime beginDate,
+                                        final OffsetDateTime endDate,
+                                        final Long datasourceId,
+                                        final Long namespaceId,
+                                        final List<Long> tagIds,
+                                        final List<Long> ownerIds,
+                                        final List<Long> userIds,
+                                        final ActivityEventTypeDto eventType,
+                                        final List<Condition> additionalConditions) {
+        final List<Condition> filterConditions =
+            getFilterConditions(datasourceId, namespaceId, tagIds, ownerIds, userIds);
+        filterConditions.addAll(additionalConditions);
+
+        final Select<Record1<Long>> countsQuery = ActivityCountInterval.split(
+                DateTimeUtil.mapUTCDateTime(beginDate), DateTimeUtil.mapUTCDateTime(endDate))
+            .stream()
+            .<Select<Record1<Long>>>map(interval -> {
+                final ActivityCountSource source = ActivityCountSource.of(interval.granularity());
+                final var query = DSL.select(source.amount().as(ACTIVITY_COUNT_FIELD))
+                    .from(source.table())
+                    .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(source.dataEntityId()))
+                    .leftJoin(USER_OWNER_MAPPING).on(USER_OWNER_MAPPING.OIDC_USERNAME.eq(source.createdBy()));
+                addJoins(query, datasourceId, namespaceId, tagIds, ownerIds);
+                final List<Condition> conditions = new ArrayList<>(filterConditions);
+                conditions.add(source.timestamp().greaterOrEqual(interval.from()));
+                conditions.add(source.timestamp().lessThan(interval.to()));
+                if (eventType != null) {
+                    conditions.add(source.eventType().eq(eventType.name()));
+                }
+                return query.where(conditions);
+            })
+            .reduce(Select::unionAll)
+            .orElse(null);
+        if (countsQuery == null) {
+            return Mono.just(0L);
+        }
+
+        final Table<Record1<Long>> counts = countsQuery.asTable("activity_counts");
+        final Field<Long> countField = counts.field(ACTIVITY_COUNT_FIELD, Long.class);
+        return jooqReactiveOperations.mono(DSL.select(DSL.sum(countField)).from(counts))
+            .map(r -> r.value1() != null ? r.value1().longValue() : 0L);
+    }
+
+    private Mono<Void> incrementRollups(final List<ActivityPojo> activities) {
+        if (activities.isEmpty()) {
+            return Mono.empty();
+        }
+        return incrementRollup(ACTIVITY_HOURLY_ROLLUP, ACTIVITY_HOURLY_ROLLUP.BUCKET_START,
+                ACTIVITY_HOURLY_ROLLUP.DATA_ENTITY_ID, ACTIVITY_HOURLY_ROLLUP.EVENT_TYPE,
+                ACTIVITY_HOURLY_ROLLUP.CREATED_BY, ACTIVITY_HOURLY_ROLLUP.ACTIVITY_COUNT,
+                groupByBucket(activities, ActivityRollupGranularity.HOUR))
+            .then(incrementRollup(ACTIVITY_DAILY_ROLLUP, ACTIVITY_DAILY_ROLLUP.BUCKET_START,
+                ACTIVITY_DAILY_ROLLUP.DATA_ENTITY_ID, ACTIVITY_DAILY_ROLLUP.EVENT_TYPE,
+                ACTIVITY_DAILY_ROLLUP.CREATED_BY, ACTIVITY_DAILY_ROLLUP.ACTIVITY_COUNT,
+                groupByBucket(activities, ActivityRollupGranularity.DAY)));
+    }
+
+    private <R extends Record> Mono<Void> incrementRollup(final Table<R> table,
+                                                          final Field<LocalDateTime> bucketStart,
+                                                          final Field<Long> dataEntityId,
+                                                          final Field<String> eventType,
+                                                          final Field<String> createdBy,
+                                                          final Field<Long> activityCount,
+                                                          final Map<ActivityRollupKey, Long> increments) {
+        // Concurrent writers have to lock rollup rows in the same order, otherwise they may deadlock
+        final List<Map.Entry<ActivityRollupKey, Long>> entries = increments.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(ActivityRollupKey.ORDER))
+            .toList();
+        return jooqReactiveOperations.executeInPartition(entries, partition -> {
+            var insertStep = DSL.insertInto(table, bucketStart, dataEntityId, eventType, createdBy, activityCount);
+            for (final Map.Entry<ActivityRollupKey, Long> entry : partition) {
+                final ActivityRollupKey key = entry.getKey();
+                insertStep = insertStep.values(key.bucketStart(), key.dataEntityId(), key.eventType(),
+                    key.createdBy(), entry.getValue());
+            }
+            return jooqReactiveOperations.mono(insertStep
+                .onConflict(bucketStart, dataEntityId, eventType, createdBy)
+                .doUpdate()
+                .set(activityCount, activityCount.plus(excluded(activityCount))));
+        });
+    }
+
+    private Map<ActivityRollupKey, Long> groupByBucket(final List<ActivityPojo> activities,
+                                                       final ActivityRollupGranularity granularity) {
+        return activities.stream().collect(Collectors.groupingBy(
+            activity -> new ActivityRollupKey(
+                Objects.requireNonNullElseGet(activity.getCreatedAt(), DateTimeUtil::generateNow)
+                    .truncatedTo(granularity.getUnit()),
+                activity.getDataEntityId(),
+                activity.getEventType(),
+                StringUtils.defaultString(activity.getCreatedBy())
+            ),
+            Collectors.counting()
+        ));
     }
 
     private ActivityDto mapDto(final Record r) {
@@ -298,4 +395,41 @@ public class ReactiveActivityRepositoryImpl implements ReactiveActivityRepositor
         final OwnerPojo user = jooqRecordHelper.extractRelation(r, OWNER, OwnerPojo.class);
         return new ActivityDto(activity, user, dataEntity);
     }
-}
\ No newline at end of file
+
+    private record ActivityRollupKey(LocalDateTime bucketStart, Long dataEntityId, String eventType,
+                                     String createdBy) {
+        private static final Comparator<ActivityRollupKey> ORDER = Comparator
+            .comparing(ActivityRollupKey::bucketStart)
+            .thenComparing(ActivityRollupKey::dataEntityId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ActivityRollupKey::eventType)
+            .thenComparing(ActivityRollupKey::createdBy);
+    }
+
+    private record ActivityCountSource(Table<?> table,
+                                       Field<LocalDateTime> timestamp,
+                                       Field<Long> dataEntityId,
+                                       Field<String> eventType,
+                                       Field<String> createdBy,
+                                       Field<Long> amount) {
+        private static final ActivityCountSource RAW = new ActivityCountSource(ACTIVITY, ACTIVITY.CREATED_AT,
+            ACTIVITY.DATA_ENTITY_ID, ACTIVITY.EVENT_TYPE, ACTIVITY.CREATED_BY, DSL.count().cast(SQLDataType.BIGINT));
+
+        private static final ActivityCountSource HOURLY = new ActivityCountSource(ACTIVITY_HOURLY_ROLLUP,
+            ACTIVITY_HOURLY_ROLLUP.BUCKET_START, ACTIVITY_HOURLY_ROLLUP.DATA_ENTITY_ID,
+            ACTIVITY_HOURLY_ROLLUP.EVENT_TYPE, ACTIVITY_HOURLY_ROLLUP.CREATED_BY,
+            DSL.sum(ACTIVITY_HOURLY_ROLLUP.ACTIVITY_COUNT).cast(SQLDataType.BIGINT));
+
+        private static final ActivityCountSource DAILY = new ActivityCountSource(ACTIVITY_DAILY_ROLLUP,
+            ACTIVITY_DAILY_ROLLUP.BUCKET_START, ACTIVITY_DAILY_ROLLUP.DATA_ENTITY_ID,
+            ACTIVITY_DAILY_ROLLUP.EVENT_TYPE, ACTIVITY_DAILY_ROLLUP.CREATED_BY,
+            DSL.sum(ACTIVITY_DAILY_ROLLUP.ACTIVITY_COUNT).cast(SQLDataType.BIGINT));
+
+        private static ActivityCountSource of(final ActivityRollupGranularity granularity) {
+            return switch (granularity) {
+                case RAW -> RAW;
+                case HOUR -> HOURLY;
+                case DAY -> DAILY;
+            };
+        }
+    }
+}
@@ -99,7 +99,21 @@ public interface ReactiveAlertRepository {
      */
     Mono<AlertPojo> updateAlertStatus(final long alertId, final AlertStatusEnum status, final String userName);
 
-    Mono<Void> resolveAutomatically(final List<Long> alertIds);
+    /**
+     * Gets alert and locks it until the end of the current transaction.
+     *
+     * @param alertId - alert id
+     * @return - {@link AlertPojo}
+     */
+    Mono<AlertPojo> getForUpdate(final long alertId);
+
+    /**
+     * Resolves open alerts automatically.
+     *
+     * @param alertIds - ids of alerts to resolve
+     * @return - Flux of resolved {@link AlertPojo}
+     */
+    Flux<AlertPojo> resolveAutomatically(final List<Long> alertIds);
 
     /**
      * Creates new alerts.
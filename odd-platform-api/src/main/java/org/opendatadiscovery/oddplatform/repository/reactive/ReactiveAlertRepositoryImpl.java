@@ -20,10 +20,10 @@ import org.jooq.InsertSetStep;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.Record2;
 import org.jooq.Row3;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
-import org.jooq.SelectOnConditionStep;
 import org.jooq.SelectSeekStepN;
 import org.jooq.SortOrder;
 import org.jooq.Table;
@@ -58,6 +58,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
 import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
 import static org.opendatadiscovery.oddplatform.model.Tables.USER_OWNER_MAPPING;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @RequiredArgsConstructor
@@ -102,7 +103,7 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
             .leftJoin(USER_OWNER_MAPPING).on(ALERT.STATUS_UPDATED_BY.eq(USER_OWNER_MAPPING.OIDC_USERNAME))
             .leftJoin(OWNER).on(USER_OWNER_MAPPING.OWNER_ID.eq(OWNER.ID))
             .join(ALERT_CHUNK).on(ALERT_CHUNK.ALERT_ID.eq(ALERT.ID))
-            .where(ALERT.ID.in(ids))
+            .where(inArray(ALERT.ID, ids))
             .groupBy(groupByFields);
 
         return jooqReactiveOperations.flux(query)
@@ -120,7 +121,7 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
 
         final var query = DSL.select(ALERT.fields())
             .from(ALERT)
-            .where(ALERT.DATA_ENTITY_ODDRN.in(dataEntityOddrns))
+            .where(inArray(ALERT.DATA_ENTITY_ODDRN, dataEntityOddrns))
             .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))
             // While BIS and FDT type of alerts usually are engaged in one ingestion request
             //  FDQT type more likely can be reported from various data sources.
@@ -212,15 +213,15 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
     public Mono<Page<AlertDto>> listDependentObjectsAlerts(final int page,
                                                            final int size,
                                                            final List<String> ownOddrns) {
-        final CommonTableExpression<Record1<String>> cte = getChildOddrnsLinageByOwnOddrnsCte(ownOddrns);
+        final CommonTableExpression<Record1<Long>> cte = getChildIdsLineageByOwnOddrnsCte(ownOddrns);
 
         final SelectConditionStep<Record> baseQuery = DSL.with(cte)
             .select(ALERT.fields())
             .from(ALERT)
             .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(ALERT.DATA_ENTITY_ODDRN))
             .join(cte.getName())
-            .on(field(name(cte.getName()).append(LINEAGE.PARENT_ODDRN.getUnqualifiedName()), String.class)
-                .eq(DATA_ENTITY.ODDRN))
+            .on(field(name(cte.getName()).append(LINEAGE.PARENT_ID.getUnqualifiedName()), Long.class)
+                .eq(DATA_ENTITY.ID))
             .where(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))
             .and(DATA_ENTITY.ODDRN.notIn(ownOddrns));
 
@@ -274,13 +275,15 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
 
     @Override
     public Mono<Long> countDependentObjectsAlerts(final List<String> ownOddrns) {
-        final CommonTableExpression<Record1<String>> cte = getChildOddrnsLinageByOwnOddrnsCte(ownOddrns);
+        final CommonTableExpression<Record1<Long>> cte = getChildIdsLineageByOwnOddrnsCte(ownOddrns);
         return jooqReactiveOperations
             .mono(DSL.with(cte)
                 .select(countDistinct(ALERT.ID))
                 .from(ALERT)
-                .join(cte.getName()).on(field(name(cte.getName()).append(LINEAGE.PARENT_ODDRN.getUnqualifiedName()))
-                    .eq(ALERT.DATA_ENTITY_ODDRN))
+                .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(ALERT.DATA_ENTITY_ODDRN))
+                .join(cte.getName())
+                .on(field(name(cte.getName()).append(LINEAGE.PARENT_ID.getUnqualifiedName()), Long.class)
+                    .eq(DATA_ENTITY.ID))
                 .where(ALERT.DATA_ENTITY_ODDRN.notIn(ownOddrns))
                 .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode())))
             .map(r -> r.component1().longValue())
@@ -300,18 +303,29 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
     }
 
     @Override
-    public Mono<Void> resolveAutomatically(final List<Long> alertIds) {
+    public Mono<AlertPojo> getForUpdate(final long alertId) {
+        final var query = DSL.selectFrom(ALERT)
+            .where(ALERT.ID.eq(alertId))
+            .forUpdate();
+
+        return jooqReactiveOperations.mono(query).map(r -> r.into(AlertPojo.class));
+    }
+
+    @Override
+    public Flux<AlertPojo> resolveAutomatically(final List<Long> alertIds) {
         if (CollectionUtils.isEmpty(alertIds)) {
-            return Mono.empty();
+            return Flux.empty();
         }
 
         final var resolveQuery = DSL.update(ALERT)
             .set(ALERT.STATUS, AlertStatusEnum.RESOLVED_AUTOMATICALLY.getCode())
             .set(ALERT.STATUS_UPDATED_AT, DateTimeUtil.generateNow())
             .set(ALERT.STATUS_UPDATED_BY, DSL.inline(null, String.class))
-            .where(ALERT.ID.in(alertIds));
+            .where(inArray(ALERT.ID, alertIds))
+            .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))
+            .returning(ALERT.fields());
 
-        return jooqReactiveOperations.mono(resolveQuery).then();
+        return jooqReactiveOperations.flux(resolveQuery).map(r -> r.into(AlertPojo.class));
     }
 
     @Override
@@ -414,35 +428,32 @@ public class ReactiveAlertRepositoryImpl implements ReactiveAlertRepository {
     }
 
     /**
-     * Gets all child oddrns for the list of oddrns. As the query works recursively
-     * it excludes parents oddrns from the query. So in the final query we have only child oddrns
+     * Gets ids of all child data entities for the list of oddrns. As the query works recursively
+     * it excludes already visited parents from the query. Edges are traversed by data entity ids,
+     * so oddrns are only compared for the starting entities.
      *
      * @param ownOddrns - parent oddrns
      * @return - Query for execution
      */
-    private CommonTableExpression<Record1<String>> getChildOddrnsLinageByOwnOddrnsCte(final List<String> ownOddrns) {
+    private CommonTableExpression<Record1<Long>> getChildIdsLineageByOwnOddrnsCte(final List<String> ownOddrns) {
         final Name cteName = name("t");
-        final Field<String[]> parentOddrnArrayField = DSL.array(LINEAGE.PARENT_ODDRN).as("parent_oddrn_array");
-
-        final SelectOnConditionStep<Record> selectLinage = DSL
-            .select(LINEAGE.asterisk())
-            .select(field("%s || %s".formatted(parentOddrnArrayField, LINEAGE.PARENT_ODDRN)))
-            .from(LINEAGE)
-            .join(cteName)
-            .on(LINEAGE.CHILD_ODDRN.eq(
-                field(cteName.append(LINEAGE.PARENT_ODDRN.getUnqualifiedName()), String.class)))
-            .and(LINEAGE.PARENT_ODDRN.notEqual(DSL.all(parentOddrnArrayField)));
-
-        final CommonTableExpression<Record> cte = cteName.as(DSL
-            .select(LINEAGE.asterisk())
-            .select(parentOddrnArrayField)
-            .from(LINEAGE)
-            .where(LINEAGE.CHILD_ODDRN.in(ownOddrns))
-            .unionAll(selectLinage));
+        final Field<Long> parentId = field(cteName.append(LINEAGE.PARENT_ID.getUnqualifiedName()), Long.class);
+        final Field<Long[]> visitedIds = field(cteName.append("visited_ids"), Long[].class);
+
+        final CommonTableExpression<Record2<Long, Long[]>> cte = cteName
+            .fields(LINEAGE.PARENT_ID.getName(), "visited_ids")
+            .as(DSL.select(LINEAGE.PARENT_ID, DSL.array(LINEAGE.PARENT_ID))
+                .from(LINEAGE)
+                .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(LINEAGE.CHILD_ID))
+                .where(DATA_ENTITY.ODDRN.in(ownOddrns))
+                .unionAll(DSL.select(LINEAGE.PARENT_ID, DSL.arrayAppend(visitedIds, LINEAGE.PARENT_ID))
+                    .from(LINEAGE)
+                    .join(cteName).on(LINEAGE.CHILD_ID.eq(parentId))
+                    .where(LINEAGE.PARENT_ID.notEqual(DSL.all(visitedIds)))));
 
         return name("t2")
             .as(DSL.withRecursive(cte)
-                .selectDistinct(field(cteName.append(LINEAGE.PARENT_ODDRN.getUnqualifiedName()), String.class))
+                .selectDistinct(parentId)
                 .from(cte.getName()));
     }
 
@@ -99,13 +99,10 @@ public interface ReactiveDataEntityRepository extends ReactiveCRUDRepository<Dat
 
     Mono<String> getHighlightedResult(final String text, final String query);
 
-    Flux<Integer> getDataSourceEntityTypeIds(final long dataSourceId);
-
-    default Mono<Map<Long, Long>> getCountByDataSources() {
-        return getCountByDataSources(List.of());
-    }
-
-    Mono<Map<Long, Long>> getCountByDataSources(final Collection<Long> dataSourceIds);
+    /**
+     * Counts data entities per data source and type. Counts all data sources if no ids are given.
+     */
+    Mono<Map<Long, Map<Integer, Long>>> getTypeCountByDataSources(final Collection<Long> dataSourceIds);
 
     Flux<DataEntityDomainInfoDto> getDataEntityDomainsInfo();
 }
\ No newline at end of file
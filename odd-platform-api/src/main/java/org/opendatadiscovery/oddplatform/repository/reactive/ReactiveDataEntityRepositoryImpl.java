@@ -12,11 +12,13 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.Field;
+import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.OrderField;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
+import org.jooq.Record3;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SortOrder;
@@ -30,7 +32,6 @@ import org.opendatadiscovery.oddplatform.dto.DataEntityTypeDto;
 import org.opendatadiscovery.oddplatform.dto.FacetStateDto;
 import org.opendatadiscovery.oddplatform.dto.FacetType;
 import org.opendatadiscovery.oddplatform.dto.OwnershipDto;
-import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
@@ -48,15 +49,16 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 import static org.jooq.impl.DSL.coalesce;
 import static org.jooq.impl.DSL.count;
 import static org.jooq.impl.DSL.countDistinct;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.jsonArrayAgg;
 import static org.jooq.impl.DSL.name;
-import static org.opendatadiscovery.oddplatform.model.Tables.ALERT;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
-import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TO_TERM;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_ENTITY_RELATIONS;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_PARENT_GROUP_RELATIONS;
@@ -68,7 +70,6 @@ import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
 import static org.opendatadiscovery.oddplatform.model.Tables.SEARCH_ENTRYPOINT;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
-import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_METADATA_VALUE_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.AGG_OWNERSHIP_FIELD;
@@ -80,12 +81,14 @@ import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQue
 import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.HAS_ALERTS_FIELD;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.DATA_ENTITY_CONDITIONS;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.RANK_FIELD_ALIAS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveDataEntityRepositoryImpl
     extends ReactiveAbstractSoftDeleteCRUDRepository<DataEntityRecord, DataEntityPojo>
     implements ReactiveDataEntityRepository {
     private static final int SUGGESTION_LIMIT = 5;
+    private static final JSONB EMPTY_JSON_ARRAY = JSONB.jsonb("[]");
     private final JooqFTSHelper jooqFTSHelper;
     private final JooqRecordHelper jooqRecordHelper;
     private final DataEntityDtoMapper dataEntityDtoMapper;
@@ -166,7 +169,7 @@ public class ReactiveDataEntityRepositoryImpl
     @Override
     public Mono<List<DataEntityDimensionsDto>> getDimensions(final Collection<String> oddrns) {
         final DataEntityCTEQueryConfig cteConfig = DataEntityCTEQueryConfig.builder()
-            .conditions(List.of(DATA_ENTITY.ODDRN.in(oddrns)))
+            .conditions(List.of(inArray(DATA_ENTITY.ODDRN, oddrns)))
             .build();
         final var query = baseDimensionsSelect(cteConfig);
         return jooqReactiveOperations.flux(query)
@@ -192,7 +195,7 @@ public class ReactiveDataEntityRepositoryImpl
         if (CollectionUtils.isEmpty(oddrns)) {
             return Flux.just();
         }
-        final List<Condition> conditions = new ArrayList<>(addSoftDeleteFilter(DATA_ENTITY.ODDRN.in(oddrns)));
+        final List<Condition> conditions = new ArrayList<>(addSoftDeleteFilter(inArray(DATA_ENTITY.ODDRN, oddrns)));
         if (!includeHollow) {
             conditions.add(DATA_ENTITY.HOLLOW.eq(false));
         }
@@ -219,7 +222,7 @@ public class ReactiveDataEntityRepositoryImpl
 
     @Override
     public Flux<DataEntityDimensionsDto> getDataEntitiesWithDataSourceAndNamespace(final Collection<String> oddrns) {
-        final List<Condition> conditions = addSoftDeleteFilter(DATA_ENTITY.ODDRN.in(oddrns));
+        final List<Condition> conditions = addSoftDeleteFilter(inArray(DATA_ENTITY.ODDRN, oddrns));
         final Select<Record> query = baseDataEntityWithDatasourceAndNamespaceSelect(conditions);
         return jooqReactiveOperations.flux(query)
             .map(r -> DataEntityDimensionsDto.dimensionsBuilder()
@@ -235,17 +238,12 @@ public class ReactiveDataEntityRepositoryImpl
             return Mono.just(List.of());
         }
         final List<Condition> conditions = getDataEntityDefaultConditions();
-        conditions.add(DATA_ENTITY.ODDRN.in(oddrns));
+        conditions.add(inArray(DATA_ENTITY.ODDRN, oddrns));
         final var query = DSL.select(DATA_ENTITY.fields())
-            .select(jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD))
-            .select(jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD))
-            .select(jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD))
+            .select(ownershipSummaryFields())
             .from(DATA_ENTITY)
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
-            .where(conditions)
-            .groupBy(DATA_ENTITY.fields());
+            .leftJoin(DATA_ENTITY_SUMMARY).on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
+            .where(conditions);
         return jooqReactiveOperations.flux(query)
             .map(r -> {
                 final DataEntityPojo dataEntityPojo = r.into(DATA_ENTITY).into(DataEntityPojo.class);
@@ -276,7 +274,7 @@ public class ReactiveDataEntityRepositoryImpl
             .select(jsonArrayAgg(field(DATA_ENTITY.asterisk().toString())).as(dataEntityFields))
             .from(GROUP_ENTITY_RELATIONS)
             .leftJoin(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN))
-            .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(groupOddrns))
+            .where(inArray(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, groupOddrns))
             .groupBy(GROUP_ENTITY_RELATIONS.GROUP_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(
             r -> r.get(GROUP_ENTITY_RELATIONS.GROUP_ODDRN),
@@ -293,24 +291,17 @@ public class ReactiveDataEntityRepositoryImpl
         final Select<Record> dataEntitySelect = cteDataEntitySelect(cteConfig);
         final Table<Record> deCte = dataEntitySelect.asTable(deCteName);
 
-        final List<Field<?>> groupByFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
+        final List<Field<?>> selectFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
             .flatMap(Arrays::stream)
             .toList();
 
-        final List<Field<?>> aggregatedFields = List.of(
-            jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
-            jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
-            jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
-            hasAlerts(deCte));
-
         final Table<?> fromTable = DSL.table(deCteName)
             .leftJoin(DATA_SOURCE)
             .on(DATA_SOURCE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.DATA_SOURCE_ID)))
             .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.NAMESPACE_ID)))
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
+            .leftJoin(DATA_ENTITY_SUMMARY)
+            .on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
             .leftJoin(GROUP_PARENT_GROUP_RELATIONS)
             .on(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ODDRN)));
 
@@ -322,11 +313,11 @@ public class ReactiveDataEntityRepositoryImpl
 
         final var query = DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
-            .select(groupByFields)
-            .select(aggregatedFields)
+            .select(selectFields)
+            .select(ownershipSummaryFields())
+            .select(hasAlerts())
             .from(fromTable)
             .where(conditions)
-            .groupBy(groupByFields)
             .orderBy(getOrderFields(cteConfig, deCte))
             .limit(size)
             .offset((page - 1) * size);
@@ -342,7 +333,7 @@ public class ReactiveDataEntityRepositoryImpl
         final var query = DSL.select(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN)
             .select(count(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN).cast(Long.class).as(childrenCountField))
             .from(GROUP_PARENT_GROUP_RELATIONS)
-            .where(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN.in(groupOddrns))
+            .where(inArray(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN, groupOddrns))
             .groupBy(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN);
         return jooqReactiveOperations.flux(query).collectMap(
             r -> r.get(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN),
@@ -444,9 +435,9 @@ public class ReactiveDataEntityRepositoryImpl
         final var select = DSL.with(deCteName)
             .asMaterialized(cteSelect)
             .select(deCte.fields())
-            .select(hasAlerts(deCte))
+            .select(hasAlerts())
             .from(deCteName)
-            .groupBy(deCte.fields())
+            .leftJoin(DATA_ENTITY_SUMMARY).on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(deCte.field(DATA_ENTITY.ID)))
             .orderBy(jooqQueryHelper.getField(deCte, RANK_FIELD_ALIAS).desc());
 
         return jooqReactiveOperations.flux(select)
@@ -462,10 +453,10 @@ public class ReactiveDataEntityRepositoryImpl
         final var select = DSL.with(deCteName)
             .as(dataEntitySelect)
             .select(deCte.fields())
-            .select(hasAlerts(deCte))
+            .select(hasAlerts())
             .from(deCteName)
-            .join(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(deCte.field(DATA_ENTITY.ID)))
-            .where(OWNERSHIP.OWNER_ID.eq(ownerId))
+            .join(DATA_ENTITY_SUMMARY).on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(deCte.field(DATA_ENTITY.ID)))
+            .where(DATA_ENTITY_SUMMARY.OWNER_IDS.contains(new Long[] {ownerId}))
             .orderBy(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID).desc())
             .limit(size != null ? DSL.val(size) : DSL.noField(Integer.class))
             .offset(page != null && size != null ? DSL.val((page - 1) * size) : DSL.noField(Integer.class));
@@ -497,34 +488,25 @@ public class ReactiveDataEntityRepositoryImpl
         final Select<Record> dataEntitySelect = cteDataEntitySelect(cteConfig);
         final Table<Record> deCte = dataEntitySelect.asTable(deCteName);
 
-        final List<Field<?>> groupByFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
+        final List<Field<?>> selectFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
             .flatMap(Arrays::stream)
             .toList();
 
-        final List<Field<?>> aggregatedFields = List.of(
-            jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
-            jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
-            jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
-            hasAlerts(deCte));
-
         final Table<?> fromTable = DSL.table(deCteName)
             .leftJoin(DATA_SOURCE)
             .on(DATA_SOURCE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.DATA_SOURCE_ID)))
             .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.NAMESPACE_ID)))
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
-            .leftJoin(DATA_ENTITY_TO_TERM)
-            .on(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)));
+            .leftJoin(DATA_ENTITY_SUMMARY)
+            .on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)));
 
         final var query = DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
-            .select(groupByFields)
-            .select(aggregatedFields)
+            .select(selectFields)
+            .select(ownershipSummaryFields())
+            .select(hasAlerts())
             .from(fromTable)
-            .where(DATA_ENTITY_TO_TERM.TERM_ID.eq(termId))
-            .groupBy(groupByFields)
+            .where(DATA_ENTITY_SUMMARY.TERM_IDS.contains(new Long[] {termId}))
             .orderBy(getOrderFields(cteConfig, deCte))
             .limit(size)
             .offset((page - 1) * size);
@@ -581,8 +563,9 @@ public class ReactiveDataEntityRepositoryImpl
         final var select = DSL.with(deCteName)
             .as(dataEntitySelect)
             .select(deCte.fields())
-            .select(hasAlerts(deCte))
+            .select(hasAlerts())
             .from(deCteName)
+            .leftJoin(DATA_ENTITY_SUMMARY).on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(deCte.field(DATA_ENTITY.ID)))
             .orderBy(getOrderFields(cteConfig, deCte));
 
         return jooqReactiveOperations.flux(select)
@@ -608,41 +591,28 @@ public class ReactiveDataEntityRepositoryImpl
 
         final List<Condition> conditions = new ArrayList<>(conditionsPair.getRight());
         if (owner != null) {
-            conditions.add(OWNER.ID.eq(owner.getId()));
+            conditions.add(DATA_ENTITY_SUMMARY.OWNER_IDS.contains(new Long[] {owner.getId()}));
         }
 
-        final List<Field<?>> groupByFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
+        final List<Field<?>> selectFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
             .flatMap(Arrays::stream)
             .toList();
 
-        final List<Field<?>> aggregatedFields = List.of(
-            jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
-            jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
-            jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
-            hasAlerts(deCte));
-
         final Table<?> fromTable = DSL.table(deCteName)
             .leftJoin(DATA_SOURCE)
             .on(DATA_SOURCE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.DATA_SOURCE_ID)))
             .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.NAMESPACE_ID)))
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
-            .leftJoin(TAG_TO_DATA_ENTITY)
-            .on(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
-            .leftJoin(DATA_ENTITY_TO_TERM)
-            .on(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(GROUP_ENTITY_RELATIONS)
-            .on(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ODDRN)));
+            .leftJoin(DATA_ENTITY_SUMMARY)
+            .on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)));
 
         final var query = DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
-            .select(groupByFields)
-            .select(aggregatedFields)
+            .select(selectFields)
+            .select(ownershipSummaryFields())
+            .select(hasAlerts())
             .from(fromTable)
             .where(conditions)
-            .groupBy(groupByFields)
             .orderBy(getOrderFields(cteConfig, deCte))
             .limit(DSL.val(size))
             .offset(DSL.val((page - 1) * size));
@@ -661,11 +631,11 @@ public class ReactiveDataEntityRepositoryImpl
         final var cteSelect = DSL.select(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN)
             .select(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.as(degOddrnField))
             .from(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(oddrns))
+            .where(inArray(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, oddrns))
             .union(DSL.select(GROUP_PARENT_GROUP_RELATIONS.PARENT_GROUP_ODDRN)
                 .select(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.as(degOddrnField))
                 .from(GROUP_PARENT_GROUP_RELATIONS)
-                .where(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN.in(oddrns)));
+                .where(inArray(GROUP_PARENT_GROUP_RELATIONS.GROUP_ODDRN, oddrns)));
 
         final Table<Record> selectTable = cteSelect.asTable(cteName);
         final Field<String> deOddrnField =
@@ -686,14 +656,12 @@ public class ReactiveDataEntityRepositoryImpl
 
     @Override
     public Mono<DataEntityDetailsDto> getDataEntitySearchFields(final long dataEntityId) {
-        final List<Field<?>> groupByFields = Stream.of(DATA_ENTITY.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
+        final List<Field<?>> groupByFields = Stream.of(DATA_ENTITY.fields(), NAMESPACE.fields(), DATA_SOURCE.fields(),
+                DATA_ENTITY_SUMMARY.fields())
             .flatMap(Arrays::stream)
             .toList();
 
         final List<Field<?>> aggregatedFields = List.of(
-            jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
-            jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
-            jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
             jsonArrayAgg(field(TAG_TO_DATA_ENTITY.asterisk().toString())).as(AGG_TAGS_RELATION_FIELD),
             jsonArrayAgg(field(TAG.asterisk().toString())).as(AGG_TAGS_FIELD),
             jsonArrayAgg(field(METADATA_FIELD.asterisk().toString())).as(AGG_METADATA_FIELD),
@@ -701,15 +669,14 @@ public class ReactiveDataEntityRepositoryImpl
         );
 
         final var query = DSL.select(groupByFields)
+            .select(ownershipSummaryFields())
             .select(aggregatedFields)
             .from(DATA_ENTITY)
             .leftJoin(DATA_SOURCE)
             .on(DATA_SOURCE.ID.eq(DATA_ENTITY.DATA_SOURCE_ID))
             .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(DATA_ENTITY.NAMESPACE_ID))
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID))
+            .leftJoin(DATA_ENTITY_SUMMARY).on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
             .leftJoin(TAG_TO_DATA_ENTITY).on(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
             .leftJoin(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
             .leftJoin(METADATA_FIELD_VALUE).on(METADATA_FIELD_VALUE.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))
@@ -731,28 +698,18 @@ public class ReactiveDataEntityRepositoryImpl
     }
 
     @Override
-    public Flux<Integer> getDataSourceEntityTypeIds(final long dataSourceId) {
-        final List<Condition> conditions = getDataEntityDefaultConditions();
-        conditions.add(DATA_ENTITY.DATA_SOURCE_ID.eq(dataSourceId));
-        final var query = DSL.selectDistinct(DATA_ENTITY.TYPE_ID)
-            .from(DATA_ENTITY)
-            .where(conditions);
-        return jooqReactiveOperations.flux(query)
-            .map(Record1::component1);
-    }
-
-    @Override
-    public Mono<Map<Long, Long>> getCountByDataSources(final Collection<Long> dataSourceIds) {
+    public Mono<Map<Long, Map<Integer, Long>>> getTypeCountByDataSources(final Collection<Long> dataSourceIds) {
         final List<Condition> conditions = getDataEntityDefaultConditions();
         if (CollectionUtils.isNotEmpty(dataSourceIds)) {
-            conditions.add(DATA_ENTITY.DATA_SOURCE_ID.in(dataSourceIds));
+            conditions.add(inArray(DATA_ENTITY.DATA_SOURCE_ID, dataSourceIds));
         }
-        final var query = DSL.select(DATA_ENTITY.DATA_SOURCE_ID, count(DATA_ENTITY.ID))
+        final var query = DSL.select(DATA_ENTITY.DATA_SOURCE_ID, DATA_ENTITY.TYPE_ID, count(DATA_ENTITY.ID))
             .from(DATA_ENTITY)
             .where(conditions)
-            .groupBy(DATA_ENTITY.DATA_SOURCE_ID);
+            .groupBy(DATA_ENTITY.DATA_SOURCE_ID, DATA_ENTITY.TYPE_ID);
         return jooqReactiveOperations.flux(query)
-            .collectMap(Record2::component1, r -> r.component2().longValue());
+            .collect(groupingBy(Record3::component1,
+                toMap(Record3::component2, r -> r.component3().longValue())));
     }
 
     @Override
@@ -802,10 +759,15 @@ public class ReactiveDataEntityRepositoryImpl
         return new DataEntityRecord().setOddrn(oddrn).setHollow(true).setExcludeFromSearch(true);
     }
 
-    private Field<Boolean> hasAlerts(final Table<Record> deCte) {
-        return field(DSL.exists(DSL.selectOne().from(ALERT)
-            .where(ALERT.DATA_ENTITY_ODDRN.eq(deCte.field(DATA_ENTITY.ODDRN)))
-            .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode())))).as(HAS_ALERTS_FIELD);
+    private List<Field<?>> ownershipSummaryFields() {
+        return List.of(
+            coalesce(DATA_ENTITY_SUMMARY.OWNERS, EMPTY_JSON_ARRAY).as(AGG_OWNER_FIELD),
+            coalesce(DATA_ENTITY_SUMMARY.TITLES, EMPTY_JSON_ARRAY).as(AGG_TITLE_FIELD),
+            coalesce(DATA_ENTITY_SUMMARY.OWNERSHIPS, EMPTY_JSON_ARRAY).as(AGG_OWNERSHIP_FIELD));
+    }
+
+    private Field<Boolean> hasAlerts() {
+        return DSL.field(coalesce(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT, 0).gt(0)).as(HAS_ALERTS_FIELD);
     }
 
     private Select<Record> baseDimensionsSelect(final DataEntityCTEQueryConfig cteConfig) {
@@ -813,31 +775,24 @@ public class ReactiveDataEntityRepositoryImpl
         final Select<Record> dataEntitySelect = cteDataEntitySelect(cteConfig);
         final Table<Record> deCte = dataEntitySelect.asTable(deCteName);
 
-        final List<Field<?>> groupByFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
+        final List<Field<?>> selectFields = Stream.of(deCte.fields(), NAMESPACE.fields(), DATA_SOURCE.fields())
             .flatMap(Arrays::stream)
             .toList();
 
-        final List<Field<?>> aggregatedFields = List.of(
-            jsonArrayAgg(field(OWNER.asterisk().toString())).as(AGG_OWNER_FIELD),
-            jsonArrayAgg(field(TITLE.asterisk().toString())).as(AGG_TITLE_FIELD),
-            jsonArrayAgg(field(OWNERSHIP.asterisk().toString())).as(AGG_OWNERSHIP_FIELD),
-            hasAlerts(deCte));
-
         final Table<?> fromTable = DSL.table(deCteName)
             .leftJoin(DATA_SOURCE)
             .on(DATA_SOURCE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.DATA_SOURCE_ID)))
             .leftJoin(NAMESPACE).on(NAMESPACE.ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.NAMESPACE_ID)))
             .or(NAMESPACE.ID.eq(DATA_SOURCE.NAMESPACE_ID))
-            .leftJoin(OWNERSHIP).on(OWNERSHIP.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)))
-            .leftJoin(OWNER).on(OWNER.ID.eq(OWNERSHIP.OWNER_ID))
-            .leftJoin(TITLE).on(TITLE.ID.eq(OWNERSHIP.TITLE_ID));
+            .leftJoin(DATA_ENTITY_SUMMARY)
+            .on(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(jooqQueryHelper.getField(deCte, DATA_ENTITY.ID)));
 
         return DSL.with(deCteName)
             .asMaterialized(dataEntitySelect)
-            .select(groupByFields)
-            .select(aggregatedFields)
+            .select(selectFields)
+            .select(ownershipSummaryFields())
+            .select(hasAlerts())
             .from(fromTable)
-            .groupBy(groupByFields)
             .orderBy(getOrderFields(cteConfig, deCte));
     }
 
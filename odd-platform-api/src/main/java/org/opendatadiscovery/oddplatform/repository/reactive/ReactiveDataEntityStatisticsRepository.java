@@ -1,12 +1,15 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
 import java.util.Map;
-import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityStatisticsPojo;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatisticsDto;
 import reactor.core.publisher.Mono;
 
 public interface ReactiveDataEntityStatisticsRepository {
-    Mono<DataEntityStatisticsPojo> getStatistics();
+    Mono<DataEntityStatisticsDto> getStatistics();
 
-    Mono<DataEntityStatisticsPojo> updateCounts(final Long newTotal,
-                                                final Map<Integer, Map<Integer, Long>> newEntityMap);
+    /**
+     * Atomically adds deltas to the total count and to the counts of data entity classes and types.
+     * Returns the number of counters changed.
+     */
+    Mono<Integer> addCounts(final long totalDelta, final Map<Integer, Map<Integer, Long>> entityDelta);
 }
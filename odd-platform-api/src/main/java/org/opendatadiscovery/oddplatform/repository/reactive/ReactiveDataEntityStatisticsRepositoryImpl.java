@@ -1,50 +1,112 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
-import org.jooq.JSONB;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep4;
+import org.jooq.Record3;
 import org.jooq.impl.DSL;
-import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityStatisticsPojo;
+import org.jooq.impl.SQLDataType;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatisticsDto;
+import org.opendatadiscovery.oddplatform.model.tables.records.DataEntityStatisticsCounterRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
-import static org.jooq.impl.DSL.field;
-import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_STATISTICS;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_STATISTICS_COUNTER;
 
+/**
+ * Keeps data entity statistics as counters split into shards. Every update increments the counters
+ * of a randomly chosen shard, so concurrent ingestions rarely wait for each other's row locks,
+ * while reads sum the counters over all shards.
+ */
 @Repository
-@RequiredArgsConstructor
 public class ReactiveDataEntityStatisticsRepositoryImpl implements ReactiveDataEntityStatisticsRepository {
+    // class 0 and type 0 don't exist, the counter keeps the total count of data entities
+    private static final int TOTAL_ID = 0;
+
     private final JooqReactiveOperations jooqReactiveOperations;
+    private final int shards;
+
+    public ReactiveDataEntityStatisticsRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
+                                                      @Value("${odd.statistics.counter-shards:16}")
+                                                      final int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Number of statistics counter shards must be positive");
+        }
+        this.jooqReactiveOperations = jooqReactiveOperations;
+        this.shards = shards;
+    }
 
     @Override
-    public Mono<DataEntityStatisticsPojo> getStatistics() {
-        return jooqReactiveOperations.mono(DSL.selectFrom(DATA_ENTITY_STATISTICS))
-            .map(r -> r.into(DataEntityStatisticsPojo.class));
+    public Mono<DataEntityStatisticsDto> getStatistics() {
+        final Field<Long> count = DSL.sum(DATA_ENTITY_STATISTICS_COUNTER.COUNT).cast(SQLDataType.BIGINT);
+        final var query = DSL.select(DATA_ENTITY_STATISTICS_COUNTER.CLASS_ID, DATA_ENTITY_STATISTICS_COUNTER.TYPE_ID,
+                count)
+            .from(DATA_ENTITY_STATISTICS_COUNTER)
+            .groupBy(DATA_ENTITY_STATISTICS_COUNTER.CLASS_ID, DATA_ENTITY_STATISTICS_COUNTER.TYPE_ID)
+            .having(DSL.sum(DATA_ENTITY_STATISTICS_COUNTER.COUNT).ne(BigDecimal.ZERO));
+
+        return jooqReactiveOperations.flux(query)
+            .collectList()
+            .map(this::toStatistics);
     }
 
     @Override
-    public Mono<DataEntityStatisticsPojo> updateCounts(final Long newTotal,
-                                                       final Map<Integer, Map<Integer, Long>> newEntityMap) {
-        final var query = DSL.update(DATA_ENTITY_STATISTICS)
-            .set(DATA_ENTITY_STATISTICS.TOTAL_COUNT, newTotal)
-            .set(DATA_ENTITY_STATISTICS.DATA_ENTITY_CLASSES_TYPES_COUNT,
-                field(jsonBuildObjectString(newEntityMap), JSONB.class))
-            .returning();
-        return jooqReactiveOperations.mono(query)
-            .map(r -> r.into(DataEntityStatisticsPojo.class));
+    public Mono<Integer> addCounts(final long totalDelta, final Map<Integer, Map<Integer, Long>> entityDelta) {
+        // counters are always changed in the same order, so concurrent updates of a shard can't deadlock
+        final Map<Integer, Map<Integer, Long>> deltas = new TreeMap<>();
+        deltas.put(TOTAL_ID, new TreeMap<>(Map.of(TOTAL_ID, totalDelta)));
+        entityDelta.forEach((classId, typesDelta) -> deltas.computeIfAbsent(classId, id -> new TreeMap<>())
+            .putAll(typesDelta));
+
+        final int shard = ThreadLocalRandom.current().nextInt(shards);
+        InsertValuesStep4<DataEntityStatisticsCounterRecord, Integer, Integer, Integer, Long> insert =
+            DSL.insertInto(DATA_ENTITY_STATISTICS_COUNTER,
+                DATA_ENTITY_STATISTICS_COUNTER.CLASS_ID,
+                DATA_ENTITY_STATISTICS_COUNTER.TYPE_ID,
+                DATA_ENTITY_STATISTICS_COUNTER.SHARD,
+                DATA_ENTITY_STATISTICS_COUNTER.COUNT);
+        boolean empty = true;
+        for (final Map.Entry<Integer, Map<Integer, Long>> classDelta : deltas.entrySet()) {
+            for (final Map.Entry<Integer, Long> typeDelta : classDelta.getValue().entrySet()) {
+                if (typeDelta.getValue() != null && typeDelta.getValue() != 0) {
+                    insert = insert.values(classDelta.getKey(), typeDelta.getKey(), shard, typeDelta.getValue());
+                    empty = false;
+                }
+            }
+        }
+
+        if (empty) {
+            return Mono.just(0);
+        }
+
+        final var query = insert
+            .onConflict(DATA_ENTITY_STATISTICS_COUNTER.CLASS_ID, DATA_ENTITY_STATISTICS_COUNTER.TYPE_ID,
+                DATA_ENTITY_STATISTICS_COUNTER.SHARD)
+            .doUpdate()
+            .set(DATA_ENTITY_STATISTICS_COUNTER.COUNT,
+                DATA_ENTITY_STATISTICS_COUNTER.COUNT.plus(DSL.excluded(DATA_ENTITY_STATISTICS_COUNTER.COUNT)));
+
+        return jooqReactiveOperations.mono(query);
     }
 
-    private String jsonBuildObjectString(final Map<Integer, Map<Integer, Long>> newEntityMap) {
-        final String classesInfo = newEntityMap.entrySet().stream()
-            .map(entry -> {
-                final String typesCount = entry.getValue().entrySet().stream()
-                    .map(e -> "%d, %d".formatted(e.getKey(), e.getValue()))
-                    .collect(Collectors.joining(","));
-                return "%d, json_build_object(%s)".formatted(entry.getKey(), typesCount);
-            })
-            .collect(Collectors.joining(","));
-        return "json_build_object(%s)::jsonb".formatted(classesInfo);
+    private DataEntityStatisticsDto toStatistics(final List<Record3<Integer, Integer, Long>> counters) {
+        long totalCount = 0;
+        final Map<Integer, Map<Integer, Long>> classesTypesCount = new HashMap<>();
+        for (final Record3<Integer, Integer, Long> counter : counters) {
+            if (counter.value1() == TOTAL_ID) {
+                totalCount = counter.value3();
+            } else {
+                classesTypesCount.computeIfAbsent(counter.value1(), id -> new HashMap<>())
+                    .put(counter.value2(), counter.value3());
+            }
+        }
+        return new DataEntityStatisticsDto(totalCount, classesTypesCount);
     }
 }
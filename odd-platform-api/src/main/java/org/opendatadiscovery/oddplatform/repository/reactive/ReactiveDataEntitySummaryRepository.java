@@ -0,0 +1,21 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.Collection;
+import java.util.Map;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDataEntitySummaryRepository {
+    Mono<Integer> refresh(final long dataEntityId);
+
+    Mono<Integer> refresh(final Collection<Long> dataEntityIds);
+
+    Mono<Integer> refreshByOwner(final long ownerId);
+
+    /**
+     * Adds deltas to the open alerts counters of data entities.
+     *
+     * @param deltas - data entity oddrn to the change of its open alerts amount
+     * @return - amount of updated counters
+     */
+    Mono<Integer> addOpenAlerts(final Map<String, Integer> deltas);
+}
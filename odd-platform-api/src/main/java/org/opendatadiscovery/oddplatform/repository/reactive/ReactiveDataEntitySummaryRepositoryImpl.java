@@ -0,0 +1,153 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record2;
+import org.jooq.Row2;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static java.util.Collections.singletonList;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.jsonbArrayAgg;
+import static org.opendatadiscovery.oddplatform.model.Tables.ALERT;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TO_TERM;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNER;
+import static org.opendatadiscovery.oddplatform.model.Tables.OWNERSHIP;
+import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
+
+/**
+ * Maintains data_entity_summary, which keeps ownership, tag, term and alert information of data entities
+ * pre-aggregated, so listing queries don't have to join and group it for every request.
+ * Rows are recomputed as a whole for affected data entities by the code changing the underlying relations,
+ * except for the open alerts count, which is a counter maintained by alert changes.
+ * A data entity without a row is treated as one without owners, tags, terms and open alerts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveDataEntitySummaryRepositoryImpl implements ReactiveDataEntitySummaryRepository {
+    private static final JSONB EMPTY_JSON_ARRAY = JSONB.jsonb("[]");
+
+    private final JooqReactiveOperations jooqReactiveOperations;
+
+    @Override
+    public Mono<Integer> refresh(final long dataEntityId) {
+        return refresh(singletonList(dataEntityId));
+    }
+
+    @Override
+    public Mono<Integer> refresh(final Collection<Long> dataEntityIds) {
+        if (dataEntityIds.isEmpty()) {
+            return Mono.just(0);
+        }
+        return upsert(inArray(DATA_ENTITY.ID, dataEntityIds));
+    }
+
+    @Override
+    public Mono<Integer> refreshByOwner(final long ownerId) {
+        return upsert(DATA_ENTITY.ID.in(DSL.select(OWNERSHIP.DATA_ENTITY_ID)
+            .from(OWNERSHIP)
+            .where(OWNERSHIP.OWNER_ID.eq(ownerId))));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<Integer> addOpenAlerts(final Map<String, Integer> deltas) {
+        final Row2<String, Integer>[] rows = deltas.entrySet().stream()
+            .filter(e -> e.getValue() != 0)
+            .map(e -> DSL.row(e.getKey(), e.getValue()))
+            .toArray(Row2[]::new);
+
+        if (rows.length == 0) {
+            return Mono.just(0);
+        }
+
+        final Table<Record2<String, Integer>> delta = DSL.values(rows).as("delta", "oddrn", "amount");
+        final Field<String> deltaOddrn = delta.field("oddrn", String.class);
+        final Field<Integer> deltaAmount = delta.field("amount", Integer.class);
+
+        final var query = DSL.insertInto(DATA_ENTITY_SUMMARY,
+                DATA_ENTITY_SUMMARY.DATA_ENTITY_ID,
+                DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)
+            .select(DSL.select(DATA_ENTITY.ID, deltaAmount)
+                .from(DATA_ENTITY)
+                .join(delta).on(DATA_ENTITY.ODDRN.eq(deltaOddrn)))
+            .onConflict(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID)
+            .doUpdate()
+            .set(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT,
+                DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT.plus(DSL.excluded(DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    private Mono<Integer> upsert(final Condition dataEntityCondition) {
+        final var select = DSL.select(
+                DATA_ENTITY.ID,
+                ownershipAgg(OWNER, OWNER.ID.eq(OWNERSHIP.OWNER_ID)),
+                ownershipAgg(TITLE, TITLE.ID.eq(OWNERSHIP.TITLE_ID)),
+                coalesce(DSL.field(DSL.select(jsonbArrayAgg(field(OWNERSHIP.asterisk().toString())))
+                    .from(OWNERSHIP)
+                    .where(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))), EMPTY_JSON_ARRAY),
+                DSL.array(DSL.selectDistinct(OWNERSHIP.OWNER_ID)
+                    .from(OWNERSHIP)
+                    .where(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))),
+                DSL.array(DSL.selectDistinct(TAG_TO_DATA_ENTITY.TAG_ID)
+                    .from(TAG_TO_DATA_ENTITY)
+                    .where(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))),
+                DSL.array(DSL.selectDistinct(DATA_ENTITY_TO_TERM.TERM_ID)
+                    .from(DATA_ENTITY_TO_TERM)
+                    .where(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))),
+                DSL.field(DSL.selectCount()
+                    .from(ALERT)
+                    .where(ALERT.DATA_ENTITY_ODDRN.eq(DATA_ENTITY.ODDRN))
+                    .and(ALERT.STATUS.eq(AlertStatusEnum.OPEN.getCode()))),
+                DSL.val(DateTimeUtil.generateNow()))
+            .from(DATA_ENTITY)
+            .where(dataEntityCondition);
+
+        final var query = DSL.insertInto(DATA_ENTITY_SUMMARY,
+                DATA_ENTITY_SUMMARY.DATA_ENTITY_ID,
+                DATA_ENTITY_SUMMARY.OWNERS,
+                DATA_ENTITY_SUMMARY.TITLES,
+                DATA_ENTITY_SUMMARY.OWNERSHIPS,
+                DATA_ENTITY_SUMMARY.OWNER_IDS,
+                DATA_ENTITY_SUMMARY.TAG_IDS,
+                DATA_ENTITY_SUMMARY.TERM_IDS,
+                DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT,
+                DATA_ENTITY_SUMMARY.UPDATED_AT)
+            .select(select)
+            .onConflict(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID)
+            .doUpdate()
+            .set(DATA_ENTITY_SUMMARY.OWNERS, DSL.excluded(DATA_ENTITY_SUMMARY.OWNERS))
+            .set(DATA_ENTITY_SUMMARY.TITLES, DSL.excluded(DATA_ENTITY_SUMMARY.TITLES))
+            .set(DATA_ENTITY_SUMMARY.OWNERSHIPS, DSL.excluded(DATA_ENTITY_SUMMARY.OWNERSHIPS))
+            .set(DATA_ENTITY_SUMMARY.OWNER_IDS, DSL.excluded(DATA_ENTITY_SUMMARY.OWNER_IDS))
+            .set(DATA_ENTITY_SUMMARY.TAG_IDS, DSL.excluded(DATA_ENTITY_SUMMARY.TAG_IDS))
+            .set(DATA_ENTITY_SUMMARY.TERM_IDS, DSL.excluded(DATA_ENTITY_SUMMARY.TERM_IDS))
+            // open alerts are counted only for a new row, afterwards the counter is kept by addOpenAlerts
+            .set(DATA_ENTITY_SUMMARY.UPDATED_AT, DSL.excluded(DATA_ENTITY_SUMMARY.UPDATED_AT));
+
+        return jooqReactiveOperations.mono(query);
+    }
+
+    private Field<JSONB> ownershipAgg(final Table<?> table, final Condition joinCondition) {
+        return coalesce(DSL.field(DSL.select(jsonbArrayAgg(field(table.asterisk().toString())))
+            .from(OWNERSHIP)
+            .join(table).on(joinCondition)
+            .where(OWNERSHIP.DATA_ENTITY_ID.eq(DATA_ENTITY.ID))), EMPTY_JSON_ARRAY);
+    }
+}
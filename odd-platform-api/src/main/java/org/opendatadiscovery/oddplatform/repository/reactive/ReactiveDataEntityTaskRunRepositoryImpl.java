@@ -34,6 +34,7 @@ import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TASK_LAST_RUN;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TASK_RUN;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @RequiredArgsConstructor
@@ -45,7 +46,7 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
     public Mono<Map<String, Boolean>> existsByOddrns(final List<String> oddrns) {
         final var selectQuery = DSL.select(DATA_ENTITY_TASK_RUN.ODDRN)
             .from(DATA_ENTITY_TASK_RUN)
-            .where(DATA_ENTITY_TASK_RUN.ODDRN.in(oddrns));
+            .where(inArray(DATA_ENTITY_TASK_RUN.ODDRN, oddrns));
 
         return jooqReactiveOperations.flux(selectQuery)
             .map(Record1::component1)
@@ -108,7 +109,7 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
 
         final var existingLastRunsQuery = DSL
             .selectFrom(DATA_ENTITY_TASK_LAST_RUN)
-            .where(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN.in(lastRunMap.keySet()));
+            .where(inArray(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN, lastRunMap.keySet()));
 
         return jooqReactiveOperations.flux(existingLastRunsQuery)
             .map(r -> r.into(DataEntityTaskLastRunPojo.class))
@@ -195,7 +196,7 @@ public class ReactiveDataEntityTaskRunRepositoryImpl implements ReactiveDataEnti
     public Mono<Map<String, DataEntityTaskRunPojo>> getLatestRunsMap(final Collection<String> dataQualityTestOddrns) {
         final var lastTaskRuns = DSL.select(DATA_ENTITY_TASK_LAST_RUN.LAST_TASK_RUN_ODDRN)
             .from(DATA_ENTITY_TASK_LAST_RUN)
-            .where(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN.in(dataQualityTestOddrns));
+            .where(inArray(DATA_ENTITY_TASK_LAST_RUN.TASK_ODDRN, dataQualityTestOddrns));
         final var query = DSL.selectFrom(DATA_ENTITY_TASK_RUN)
             .where(DATA_ENTITY_TASK_RUN.ODDRN.in(lastTaskRuns));
         return jooqReactiveOperations.flux(query)
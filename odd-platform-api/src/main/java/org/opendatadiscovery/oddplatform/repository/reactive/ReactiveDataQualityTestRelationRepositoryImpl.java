@@ -11,6 +11,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_QUALITY_TEST_RELATIONS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @RequiredArgsConstructor
@@ -42,7 +43,7 @@ public class ReactiveDataQualityTestRelationRepositoryImpl implements ReactiveDa
     public Flux<DataQualityTestRelationsPojo> getRelations(final Collection<String> dataQATestOddrns) {
         final var query = DSL
             .selectFrom(DATA_QUALITY_TEST_RELATIONS)
-            .where(DATA_QUALITY_TEST_RELATIONS.DATA_QUALITY_TEST_ODDRN.in(dataQATestOddrns));
+            .where(inArray(DATA_QUALITY_TEST_RELATIONS.DATA_QUALITY_TEST_ODDRN, dataQATestOddrns));
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(DataQualityTestRelationsPojo.class));
     }
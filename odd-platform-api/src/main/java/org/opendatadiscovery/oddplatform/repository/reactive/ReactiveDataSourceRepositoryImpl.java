@@ -30,6 +30,7 @@ import reactor.core.publisher.Mono;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
 import static org.opendatadiscovery.oddplatform.model.Tables.TOKEN;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveDataSourceRepositoryImpl
@@ -103,7 +104,7 @@ public class ReactiveDataSourceRepositoryImpl
     @Override
     public Flux<DataSourceDto> getDtosByOddrns(final List<String> oddrns) {
         final SelectConditionStep<Record> query = baseSelect()
-            .where(DATA_SOURCE.ODDRN.in(oddrns))
+            .where(inArray(DATA_SOURCE.ODDRN, oddrns))
             .and(DATA_SOURCE.DELETED_AT.isNull());
 
         return jooqReactiveOperations.flux(query).map(this::mapRecordIntoDto);
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldWithLabelsDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
@@ -14,4 +15,14 @@ public interface ReactiveDatasetFieldRepository extends ReactiveCRUDRepository<D
     Flux<DatasetFieldPojo> getLastVersionDatasetFieldsByOddrns(final List<String> oddrns);
 
     Mono<Long> getDataEntityIdByDatasetFieldId(final long datasetFieldId);
+
+    /**
+     * Sets the statistics of the dataset fields by their ids, skipping the fields whose statistics are unchanged.
+     */
+    Mono<Void> updateStatistics(final List<DatasetFieldPojo> fields);
+
+    /**
+     * Returns ids and statistics of the dataset fields, JSON statistics only for fields without binary ones.
+     */
+    Flux<DatasetFieldPojo> getStatistics(final Collection<Long> datasetFieldIds);
 }
@@ -1,13 +1,19 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jooq.Field;
+import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.Record3;
+import org.jooq.Row3;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldWithLabelsDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
@@ -30,6 +36,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL;
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL_TO_DATASET_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @Slf4j
@@ -69,7 +76,7 @@ public class ReactiveDatasetFieldRepositoryImpl
                 .from(DATASET_FIELD)
                 .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
                 .join(DATASET_VERSION).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
-                .where(DATASET_FIELD.ODDRN.in(partitionedOddrns)));
+                .where(inArray(DATASET_FIELD.ODDRN, partitionedOddrns)));
 
             final var query = DSL.with(cte)
                 .select(cte.fields())
@@ -91,6 +98,40 @@ public class ReactiveDatasetFieldRepositoryImpl
             .map(Record1::value1);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Mono<Void> updateStatistics(final List<DatasetFieldPojo> fields) {
+        return jooqReactiveOperations.executeInPartition(fields, partition -> {
+            final Row3<Long, JSONB, byte[]>[] rows = partition.stream()
+                .map(f -> DSL.row(f.getId(), f.getStats(), f.getStatsBinary()))
+                .toArray(Row3[]::new);
+
+            final Table<Record3<Long, JSONB, byte[]>> stats = DSL.values(rows).as("stats", "id", "stats", "binary");
+            final Field<Long> statsFieldId = stats.field("id", Long.class);
+            final Field<JSONB> statsValue = stats.field("stats", JSONB.class);
+            final Field<byte[]> statsBinary = stats.field("binary", byte[].class);
+
+            final var query = DSL.update(DATASET_FIELD)
+                .set(DATASET_FIELD.STATS, statsValue)
+                .set(DATASET_FIELD.STATS_BINARY, statsBinary)
+                .from(stats)
+                .where(DATASET_FIELD.ID.eq(statsFieldId))
+                .and(DATASET_FIELD.STATS.isDistinctFrom(statsValue)
+                    .or(DATASET_FIELD.STATS_BINARY.isDistinctFrom(statsBinary)));
+
+            return jooqReactiveOperations.mono(query);
+        });
+    }
+
+    @Override
+    public Flux<DatasetFieldPojo> getStatistics(final Collection<Long> datasetFieldIds) {
+        final var query = DSL.select(DATASET_FIELD.ID, DATASET_FIELD.STATS_BINARY)
+            .select(DSL.when(DATASET_FIELD.STATS_BINARY.isNull(), DATASET_FIELD.STATS).as(DATASET_FIELD.STATS))
+            .from(DATASET_FIELD)
+            .where(inArray(DATASET_FIELD.ID, datasetFieldIds));
+        return jooqReactiveOperations.flux(query).map(r -> r.into(DatasetFieldPojo.class));
+    }
+
     @Override
     public Mono<DatasetFieldWithLabelsDto> getDatasetFieldWithLabels(final long datasetFieldId) {
         final var query = DSL.select(DATASET_FIELD.fields())
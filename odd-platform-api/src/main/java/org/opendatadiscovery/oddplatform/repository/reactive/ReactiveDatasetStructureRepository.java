@@ -2,8 +2,16 @@ package org.opendatadiscovery.oddplatform.repository.reactive;
 
 import java.util.List;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetStructurePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
 import reactor.core.publisher.Mono;
 
 public interface ReactiveDatasetStructureRepository extends ReactiveCRUDRepository<DatasetStructurePojo> {
     Mono<Void> bulkCreateHeadless(final List<DatasetStructurePojo> entities);
+
+    /**
+     * Removes links between fields of the given versions and the previous versions of the same datasets,
+     * so that every field stays linked only to the latest version of a dataset containing it.
+     */
+    Mono<Void> deletePreviousVersionsStructure(final List<DatasetVersionPojo> latestVersions,
+                                               final List<DatasetStructurePojo> latestStructure);
 }
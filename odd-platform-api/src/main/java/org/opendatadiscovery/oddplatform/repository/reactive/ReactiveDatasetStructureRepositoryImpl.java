@@ -2,8 +2,13 @@ package org.opendatadiscovery.oddplatform.repository.reactive;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetStructurePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.DatasetStructureRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
@@ -12,6 +17,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_STRUCTURE;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION;
 
 @Slf4j
 @Repository
@@ -38,4 +44,31 @@ public class ReactiveDatasetStructureRepositoryImpl
 
         return insertMany(records, true);
     }
+
+    @Override
+    public Mono<Void> deletePreviousVersionsStructure(final List<DatasetVersionPojo> latestVersions,
+                                                      final List<DatasetStructurePojo> latestStructure) {
+        final Map<Long, Long[]> versionFieldIds = latestStructure.stream()
+            .collect(Collectors.groupingBy(DatasetStructurePojo::getDatasetVersionId,
+                Collectors.collectingAndThen(Collectors.toList(),
+                    l -> l.stream().map(DatasetStructurePojo::getDatasetFieldId).toArray(Long[]::new))));
+
+        final List<DatasetVersionPojo> versions = latestVersions.stream()
+            .filter(v -> v.getVersion() > 1 && versionFieldIds.containsKey(v.getId()))
+            .toList();
+
+        return jooqReactiveOperations.executeInPartition(versions, partition -> {
+            final Condition condition = partition.stream()
+                .map(v -> DATASET_VERSION.DATASET_ODDRN.eq(v.getDatasetOddrn())
+                    .and(DATASET_VERSION.VERSION.lt(v.getVersion()))
+                    .and(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DSL.any(versionFieldIds.get(v.getId())))))
+                .reduce(Condition::or)
+                .orElseThrow();
+
+            return jooqReactiveOperations.mono(DSL.deleteFrom(DATASET_STRUCTURE)
+                .using(DATASET_VERSION)
+                .where(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+                .and(condition));
+        });
+    }
 }
@@ -0,0 +1,9 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.List;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDatasetVersionDeltaRepository extends ReactiveCRUDRepository<DatasetVersionDeltaPojo> {
+    Mono<Void> bulkCreateHeadless(final List<DatasetVersionDeltaPojo> deltas);
+}
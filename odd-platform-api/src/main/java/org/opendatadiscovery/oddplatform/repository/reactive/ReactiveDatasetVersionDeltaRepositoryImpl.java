@@ -0,0 +1,31 @@
+package org.opendatadiscovery.oddplatform.repository.reactive;
+
+import java.util.List;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
+import org.opendatadiscovery.oddplatform.model.tables.records.DatasetVersionDeltaRecord;
+import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION_DELTA;
+
+@Repository
+public class ReactiveDatasetVersionDeltaRepositoryImpl
+    extends ReactiveAbstractCRUDRepository<DatasetVersionDeltaRecord, DatasetVersionDeltaPojo>
+    implements ReactiveDatasetVersionDeltaRepository {
+
+    public ReactiveDatasetVersionDeltaRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
+                                                     final JooqQueryHelper jooqQueryHelper) {
+        super(jooqReactiveOperations, jooqQueryHelper, DATASET_VERSION_DELTA, DatasetVersionDeltaPojo.class);
+    }
+
+    @Override
+    public Mono<Void> bulkCreateHeadless(final List<DatasetVersionDeltaPojo> deltas) {
+        if (deltas.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return insertMany(deltas.stream().map(this::pojoToRecord).toList(), true);
+    }
+}
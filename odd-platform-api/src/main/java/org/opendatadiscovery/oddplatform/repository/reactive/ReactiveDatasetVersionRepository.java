@@ -4,10 +4,12 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
 import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
 import org.opendatadiscovery.oddplatform.dto.dataset.DatasetVersionFields;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
+import org.opendatadiscovery.oddplatform.utils.Page;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,6 +20,16 @@ public interface ReactiveDatasetVersionRepository extends ReactiveCRUDRepository
 
     Mono<DatasetStructureDto> getLatestDatasetVersion(final long datasetId);
 
+    /**
+     * Keyset-paginated direct children of the parent field, or root fields if the parent isn't specified,
+     * of the dataset version ordered by their ids.
+     */
+    Mono<Page<DatasetFieldDto>> getDatasetVersionFieldsPage(final long datasetVersionId,
+                                                            final Long parentFieldId,
+                                                            final String nameQuery,
+                                                            final Long lastFieldId,
+                                                            final int size);
+
     Mono<List<DatasetVersionPojo>> getVersions(final String datasetOddrn);
 
     Flux<DatasetVersionPojo> getLatestVersions(final Collection<Long> datasetIds);
@@ -25,4 +37,10 @@ public interface ReactiveDatasetVersionRepository extends ReactiveCRUDRepository
     Mono<List<DatasetVersionPojo>> getPenultimateVersions(final List<DatasetVersionPojo> lastVersions);
 
     Mono<Map<Long, List<DatasetFieldPojo>>> getDatasetVersionFields(Set<Long> dataVersionPojoIds);
+
+    /**
+     * Reconstructs field ids of dataset versions from their nearest checkpoints and following deltas.
+     * Versions without stored deltas are absent in the result.
+     */
+    Mono<Map<Long, Set<Long>>> getDatasetVersionFieldIds(final Collection<Long> datasetVersionIds);
 }
@@ -3,6 +3,7 @@ package org.opendatadiscovery.oddplatform.repository.reactive;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,10 +16,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Record1;
 import org.jooq.Record2;
+import org.jooq.Record3;
 import org.jooq.SelectConditionStep;
+import org.jooq.SelectForUpdateStep;
 import org.jooq.SelectHavingStep;
+import org.jooq.SelectJoinStep;
 import org.jooq.SelectOnConditionStep;
+import org.jooq.SelectSeekStep1;
+import org.jooq.SelectSelectStep;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
 import org.opendatadiscovery.oddplatform.dto.DatasetStructureDto;
@@ -28,9 +35,13 @@ import org.opendatadiscovery.oddplatform.dto.dataset.DatasetVersionFields;
 import org.opendatadiscovery.oddplatform.dto.metadata.DatasetFieldMetadataDto;
 import org.opendatadiscovery.oddplatform.dto.term.LinkedTermDto;
 import org.opendatadiscovery.oddplatform.dto.term.TermRefDto;
+import org.opendatadiscovery.oddplatform.model.tables.DatasetField;
+import org.opendatadiscovery.oddplatform.model.tables.DatasetVersion;
+import org.opendatadiscovery.oddplatform.model.tables.DatasetVersionDelta;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldMetadataValuePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelToDatasetFieldPojo;
@@ -41,6 +52,8 @@ import org.opendatadiscovery.oddplatform.model.tables.records.DatasetVersionReco
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
 import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
 import org.opendatadiscovery.oddplatform.repository.util.JooqRecordHelper;
+import org.opendatadiscovery.oddplatform.utils.DatasetVersionDeltaUtils;
+import org.opendatadiscovery.oddplatform.utils.Page;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -59,6 +72,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_METAD
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_TO_TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_STRUCTURE;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_VERSION_DELTA;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.ENUM_VALUE;
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL;
@@ -66,6 +80,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.LABEL_TO_DATASET_FI
 import static org.opendatadiscovery.oddplatform.model.Tables.METADATA_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
 import static org.opendatadiscovery.oddplatform.model.Tables.TERM;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 import static reactor.function.TupleUtils.function;
 
 @Repository
@@ -83,6 +98,9 @@ public class ReactiveDatasetVersionRepositoryImpl
     public static final String TERM_NAMESPACES = "term_namespaces";
     public static final String TERM_RELATIONS = "term_relations";
 
+    // statistics are read separately and only when requested, so structures are neither selected nor grouped by them
+    private static final Set<Field<?>> STATS_FIELDS = Set.of(DATASET_FIELD.STATS, DATASET_FIELD.STATS_BINARY);
+
     private final JooqRecordHelper jooqRecordHelper;
 
     public ReactiveDatasetVersionRepositoryImpl(final JooqReactiveOperations jooqReactiveOperations,
@@ -94,33 +112,21 @@ public class ReactiveDatasetVersionRepositoryImpl
 
     @Override
     public Mono<DatasetStructureDto> getDatasetVersion(final long datasetVersionId) {
+        return getDatasetVersionFieldIds(List.of(datasetVersionId))
+            .flatMap(versionFieldIds -> getDatasetVersion(datasetVersionId,
+                versionFieldIds.getOrDefault(datasetVersionId, Set.of())));
+    }
+
+    private Mono<DatasetStructureDto> getDatasetVersion(final long datasetVersionId, final Set<Long> fieldIds) {
         final List<Field<?>> selectFields = Stream.of(DATASET_VERSION.fields(), DATASET_FIELD.fields())
             .flatMap(Arrays::stream)
+            .filter(f -> !STATS_FIELDS.contains(f))
             .collect(toList());
 
-        final SelectHavingStep<Record> selectHavingStep = DSL
-            .select(selectFields)
-            .select(jsonArrayAgg(field(LABEL_TO_DATASET_FIELD.asterisk().toString())).as(LABEL_RELATIONS))
-            .select(jsonArrayAgg(field(LABEL.asterisk().toString())).as(LABELS))
-            .select(jsonArrayAgg(field(DATASET_FIELD_METADATA_VALUE.asterisk().toString())).as(METADATA_VALUES))
-            .select(jsonArrayAgg(field(METADATA_FIELD.asterisk().toString())).as(METADATA))
-            .select(jsonArrayAgg(field(TERM.asterisk().toString())).as(TERMS))
-            .select(jsonArrayAgg(field(DATASET_FIELD_TO_TERM.asterisk().toString())).as(TERM_RELATIONS))
-            .select(jsonArrayAgg(field(NAMESPACE.asterisk().toString())).as(TERM_NAMESPACES))
-            .select(countDistinct(ENUM_VALUE.ID).as(ENUM_VALUE_COUNT))
+        final SelectJoinStep<Record> fromStep = selectWithFieldRelations(selectFields)
             .from(DATASET_VERSION)
-            .leftJoin(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
-            .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID))
-            .leftJoin(LABEL_TO_DATASET_FIELD).on(DATASET_FIELD.ID.eq(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID))
-            .leftJoin(LABEL).on(LABEL_TO_DATASET_FIELD.LABEL_ID.eq(LABEL.ID)).and(LABEL.DELETED_AT.isNull())
-            .leftJoin(ENUM_VALUE).on(DATASET_FIELD.ID.eq(ENUM_VALUE.DATASET_FIELD_ID)
-                .and(ENUM_VALUE.DELETED_AT.isNull()))
-            .leftJoin(DATASET_FIELD_METADATA_VALUE)
-            .on(DATASET_FIELD.ID.eq(DATASET_FIELD_METADATA_VALUE.DATASET_FIELD_ID))
-            .leftJoin(METADATA_FIELD).on(DATASET_FIELD_METADATA_VALUE.METADATA_FIELD_ID.eq(METADATA_FIELD.ID))
-            .leftJoin(DATASET_FIELD_TO_TERM).on(DATASET_FIELD.ID.eq(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID))
-            .leftJoin(TERM).on(DATASET_FIELD_TO_TERM.TERM_ID.eq(TERM.ID)).and(TERM.DELETED_AT.isNull())
-            .leftJoin(NAMESPACE).on(TERM.NAMESPACE_ID.eq(NAMESPACE.ID))
+            .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DSL.any(fieldIds.toArray(Long[]::new))));
+        final SelectHavingStep<Record> selectHavingStep = joinFieldRelations(fromStep)
             .where(DATASET_VERSION.ID.eq(datasetVersionId))
             .groupBy(selectFields);
 
@@ -140,15 +146,119 @@ public class ReactiveDatasetVersionRepositoryImpl
 
     @Override
     public Mono<List<DatasetVersionFields>> getDatasetVersionWithFields(final List<Long> datasetVersionIds) {
-        final String fieldsAlias = "fields";
-        final var query = DSL.select(DATASET_VERSION.fields())
-            .select(jsonArrayAgg(field(DATASET_FIELD.asterisk().toString())).as(fieldsAlias))
-            .from(DATASET_VERSION)
-            .leftJoin(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
-            .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID))
-            .where(DATASET_VERSION.ID.in(datasetVersionIds))
-            .groupBy(DATASET_VERSION.fields());
-        return jooqReactiveOperations.flux(query).map(r -> mapToDatasetVersionFields(r, fieldsAlias)).collectList();
+        final var versionsQuery = DSL.selectFrom(DATASET_VERSION).where(inArray(DATASET_VERSION.ID, datasetVersionIds));
+        return jooqReactiveOperations.flux(versionsQuery)
+            .map(r -> r.into(DatasetVersionPojo.class))
+            .collectList()
+            .zipWith(getDatasetVersionFields(new HashSet<>(datasetVersionIds)))
+            .map(function((versions, versionFields) -> versions.stream()
+                .map(v -> new DatasetVersionFields(v, new HashSet<>(versionFields.getOrDefault(v.getId(), List.of()))))
+                .toList()));
+    }
+
+    @Override
+    public Mono<Page<DatasetFieldDto>> getDatasetVersionFieldsPage(final long datasetVersionId,
+                                                                   final Long parentFieldId,
+                                                                   final String nameQuery,
+                                                                   final Long lastFieldId,
+                                                                   final int size) {
+        return getDatasetVersionFieldIds(List.of(datasetVersionId))
+            .map(versionFieldIds -> versionFieldIds.getOrDefault(datasetVersionId, Set.of()))
+            .flatMap(fieldIds -> fieldIds.isEmpty()
+                ? Mono.just(Page.<DatasetFieldDto>builder().data(List.of()).total(0).hasNext(false).build())
+                : getDatasetVersionFieldsPage(fieldIds.toArray(Long[]::new), parentFieldId, nameQuery, lastFieldId,
+                    size));
+    }
+
+    private Mono<Page<DatasetFieldDto>> getDatasetVersionFieldsPage(final Long[] versionFieldIds,
+                                                                    final Long parentFieldId,
+                                                                    final String nameQuery,
+                                                                    final Long lastFieldId,
+                                                                    final int size) {
+        final DatasetField versionField = DATASET_FIELD.as("version_field");
+        final List<Condition> conditions = new ArrayList<>();
+        conditions.add(DATASET_FIELD.ID.eq(DSL.any(versionFieldIds)));
+        if (parentFieldId != null) {
+            conditions.add(DATASET_FIELD.PARENT_FIELD_ODDRN.eq(DSL.select(versionField.ODDRN)
+                .from(versionField)
+                .where(versionField.ID.eq(parentFieldId))
+                .and(versionField.ID.eq(DSL.any(versionFieldIds)))));
+        } else {
+            // fields which parents are absent in the version are shown as root ones as well
+            conditions.add(DATASET_FIELD.PARENT_FIELD_ODDRN.isNull()
+                .or(DATASET_FIELD.PARENT_FIELD_ODDRN.notIn(DSL.select(versionField.ODDRN)
+                    .from(versionField)
+                    .where(versionField.ID.eq(DSL.any(versionFieldIds))))));
+        }
+        if (StringUtils.isNotEmpty(nameQuery)) {
+            conditions.add(DATASET_FIELD.NAME.containsIgnoreCase(nameQuery));
+        }
+
+        final SelectSeekStep1<Record1<Long>, Long> pageQuery = DSL.select(DATASET_FIELD.ID)
+            .from(DATASET_FIELD)
+            .where(conditions)
+            .orderBy(DATASET_FIELD.ID);
+        final SelectForUpdateStep<Record1<Long>> seekQuery = lastFieldId != null
+            ? pageQuery.seek(lastFieldId).limit(size + 1)
+            : pageQuery.limit(size + 1);
+
+        return jooqReactiveOperations.mono(DSL.selectCount().from(DATASET_FIELD).where(conditions))
+            .map(Record1::value1)
+            .zipWith(jooqReactiveOperations.flux(seekQuery).map(Record1::value1).collectList())
+            .flatMap(function((total, ids) -> {
+                final boolean hasNext = ids.size() > size;
+                final List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+                return getDatasetFields(versionFieldIds, pageIds, parentFieldId)
+                    .map(fields -> Page.<DatasetFieldDto>builder().data(fields).total(total).hasNext(hasNext).build());
+            }));
+    }
+
+    /**
+     * Fetches fields with their relations and resolves dependencies of the fields within their version
+     * without fetching the rest of the version fields.
+     */
+    private Mono<List<DatasetFieldDto>> getDatasetFields(final Long[] versionFieldIds,
+                                                         final List<Long> fieldIds,
+                                                         final Long parentFieldId) {
+        if (fieldIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        final List<Field<?>> selectFields = Arrays.stream(DATASET_FIELD.fields())
+            .filter(f -> !STATS_FIELDS.contains(f))
+            .collect(toList());
+        final var fieldsQuery = joinFieldRelations(selectWithFieldRelations(selectFields).from(DATASET_FIELD))
+            .where(inArray(DATASET_FIELD.ID, fieldIds))
+            .groupBy(selectFields)
+            .orderBy(DATASET_FIELD.ID);
+
+        final DatasetField child = DATASET_FIELD.as("child_field");
+        final DatasetField reference = DATASET_FIELD.as("reference_field");
+        final var dependenciesQuery = DSL
+            .select(DATASET_FIELD.ID, max(reference.ID), countDistinct(child.ID))
+            .from(DATASET_FIELD)
+            .leftJoin(child).on(child.PARENT_FIELD_ODDRN.eq(DATASET_FIELD.ODDRN))
+            .and(child.ID.eq(DSL.any(versionFieldIds)))
+            .leftJoin(reference).on(reference.ODDRN.eq(DATASET_FIELD.REFERENCE_ODDRN))
+            .and(reference.ID.eq(DSL.any(versionFieldIds)))
+            .where(inArray(DATASET_FIELD.ID, fieldIds))
+            .groupBy(DATASET_FIELD.ID);
+
+        return jooqReactiveOperations.flux(fieldsQuery)
+            .map(this::extractDatasetFieldDto)
+            .collectList()
+            .zipWith(jooqReactiveOperations.flux(dependenciesQuery).collectMap(Record3::value1))
+            .map(function((fields, dependencies) -> {
+                for (final DatasetFieldDto field : fields) {
+                    final Record3<Long, Long, Integer> fieldDependencies =
+                        dependencies.get(field.getDatasetFieldPojo().getId());
+                    if (parentFieldId != null) {
+                        field.setParentFieldId(parentFieldId);
+                    }
+                    field.setReferenceFieldId(fieldDependencies.value2());
+                    field.setChildrenCount(fieldDependencies.value3().longValue());
+                }
+                return fields;
+            }));
     }
 
     @Override
@@ -164,34 +274,17 @@ public class ReactiveDatasetVersionRepositoryImpl
 
         final List<Field<?>> selectFields = Stream.of(DATASET_VERSION.fields(), DATASET_FIELD.fields())
             .flatMap(Arrays::stream)
+            .filter(f -> !STATS_FIELDS.contains(f))
             .collect(toList());
 
-        final SelectHavingStep<Record> selectHavingStep = DSL
-            .select(selectFields)
-            .select(jsonArrayAgg(field(LABEL_TO_DATASET_FIELD.asterisk().toString())).as(LABEL_RELATIONS))
-            .select(jsonArrayAgg(field(LABEL.asterisk().toString())).as(LABELS))
-            .select(jsonArrayAgg(field(DATASET_FIELD_METADATA_VALUE.asterisk().toString())).as(METADATA_VALUES))
-            .select(jsonArrayAgg(field(METADATA_FIELD.asterisk().toString())).as(METADATA))
-            .select(jsonArrayAgg(field(TERM.asterisk().toString())).as(TERMS))
-            .select(jsonArrayAgg(field(DATASET_FIELD_TO_TERM.asterisk().toString())).as(TERM_RELATIONS))
-            .select(jsonArrayAgg(field(NAMESPACE.asterisk().toString())).as(TERM_NAMESPACES))
-            .select(countDistinct(ENUM_VALUE.ID).as(ENUM_VALUE_COUNT))
+        final SelectJoinStep<Record> fromStep = selectWithFieldRelations(selectFields)
             .from(subquery)
             .join(DATASET_VERSION)
             .on(DATASET_VERSION.DATASET_ODDRN.eq(subquery.field(DATASET_VERSION.DATASET_ODDRN)))
             .and(DATASET_VERSION.VERSION.eq(dsvMaxField))
             .leftJoin(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
-            .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID))
-            .leftJoin(LABEL_TO_DATASET_FIELD).on(DATASET_FIELD.ID.eq(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID))
-            .leftJoin(LABEL).on(LABEL_TO_DATASET_FIELD.LABEL_ID.eq(LABEL.ID)).and(LABEL.DELETED_AT.isNull())
-            .leftJoin(ENUM_VALUE).on(DATASET_FIELD.ID.eq(ENUM_VALUE.DATASET_FIELD_ID)
-                .and(ENUM_VALUE.DELETED_AT.isNull()))
-            .leftJoin(DATASET_FIELD_METADATA_VALUE)
-            .on(DATASET_FIELD.ID.eq(DATASET_FIELD_METADATA_VALUE.DATASET_FIELD_ID))
-            .leftJoin(METADATA_FIELD).on(DATASET_FIELD_METADATA_VALUE.METADATA_FIELD_ID.eq(METADATA_FIELD.ID))
-            .leftJoin(DATASET_FIELD_TO_TERM).on(DATASET_FIELD.ID.eq(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID))
-            .leftJoin(TERM).on(DATASET_FIELD_TO_TERM.TERM_ID.eq(TERM.ID)).and(TERM.DELETED_AT.isNull())
-            .leftJoin(NAMESPACE).on(TERM.NAMESPACE_ID.eq(NAMESPACE.ID))
+            .leftJoin(DATASET_FIELD).on(DATASET_FIELD.ID.eq(DATASET_STRUCTURE.DATASET_FIELD_ID));
+        final SelectHavingStep<Record> selectHavingStep = joinFieldRelations(fromStep)
             .groupBy(selectFields);
 
         return jooqReactiveOperations
@@ -230,7 +323,7 @@ public class ReactiveDatasetVersionRepositoryImpl
             .select(datasetOddrnField, dsvMaxField)
             .from(DATASET_VERSION)
             .join(DATA_ENTITY).on(DATA_ENTITY.ODDRN.eq(DATASET_VERSION.DATASET_ODDRN))
-            .where(DATA_ENTITY.ID.in(datasetIds))
+            .where(inArray(DATA_ENTITY.ID, datasetIds))
             .groupBy(DATASET_VERSION.DATASET_ODDRN);
         final SelectOnConditionStep<Record> conditionStep = DSL.select(DATASET_VERSION.fields())
             .from(subquery)
@@ -266,15 +359,77 @@ public class ReactiveDatasetVersionRepositoryImpl
 
     @Override
     public Mono<Map<Long, List<DatasetFieldPojo>>> getDatasetVersionFields(final Set<Long> dataVersionPojoIds) {
-        return jooqReactiveOperations.executeInPartitionReturning(new ArrayList<>(dataVersionPojoIds), versions -> {
-            final var vidToFieldsSelect = DSL.select(DATASET_STRUCTURE.DATASET_VERSION_ID)
-                .select(DATASET_FIELD.asterisk())
-                .from(DATASET_FIELD)
-                .join(DATASET_STRUCTURE).on(DATASET_STRUCTURE.DATASET_FIELD_ID.eq(DATASET_FIELD.ID))
-                .where(DATASET_STRUCTURE.DATASET_VERSION_ID.in(versions));
-            return jooqReactiveOperations.flux(vidToFieldsSelect);
-        }).collect(
-            groupingBy(r -> r.get(DATASET_STRUCTURE.DATASET_VERSION_ID), mapping(this::extractDatasetField, toList())));
+        return getDatasetVersionFieldIds(dataVersionPojoIds).flatMap(versionFieldIds -> {
+            final List<Long> fieldIds = versionFieldIds.values().stream().flatMap(Set::stream).distinct().toList();
+            return jooqReactiveOperations.executeInPartitionReturning(fieldIds, ids ->
+                    jooqReactiveOperations.flux(DSL.selectFrom(DATASET_FIELD).where(inArray(DATASET_FIELD.ID, ids))))
+                .map(r -> r.into(DatasetFieldPojo.class))
+                .collectMap(DatasetFieldPojo::getId)
+                .map(fields -> versionFieldIds.entrySet().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> e.getValue().stream().map(fields::get).filter(Objects::nonNull).toList())));
+        });
+    }
+
+    @Override
+    public Mono<Map<Long, Set<Long>>> getDatasetVersionFieldIds(final Collection<Long> datasetVersionIds) {
+        final String targetVersionId = "target_version_id";
+        return jooqReactiveOperations.executeInPartitionReturning(new ArrayList<>(datasetVersionIds), versionIds -> {
+            final DatasetVersion targetVersion = DATASET_VERSION.as("target_version");
+            final DatasetVersion checkpointVersion = DATASET_VERSION.as("checkpoint_version");
+            final DatasetVersionDelta checkpointDelta = DATASET_VERSION_DELTA.as("checkpoint_delta");
+
+            final Field<Long> nearestCheckpoint = DSL.select(max(checkpointVersion.VERSION))
+                .from(checkpointVersion)
+                .join(checkpointDelta).on(checkpointDelta.DATASET_VERSION_ID.eq(checkpointVersion.ID))
+                .where(checkpointVersion.DATASET_ODDRN.eq(targetVersion.DATASET_ODDRN))
+                .and(checkpointVersion.VERSION.le(targetVersion.VERSION))
+                .and(checkpointDelta.SNAPSHOT_FIELD_IDS.isNotNull())
+                .asField();
+
+            final var query = DSL.select(targetVersion.ID.as(targetVersionId))
+                .select(DATASET_VERSION_DELTA.fields())
+                .from(targetVersion)
+                .join(DATASET_VERSION).on(DATASET_VERSION.DATASET_ODDRN.eq(targetVersion.DATASET_ODDRN))
+                .and(DATASET_VERSION.VERSION.le(targetVersion.VERSION))
+                .and(DATASET_VERSION.VERSION.ge(nearestCheckpoint))
+                .join(DATASET_VERSION_DELTA).on(DATASET_VERSION_DELTA.DATASET_VERSION_ID.eq(DATASET_VERSION.ID))
+                .where(inArray(targetVersion.ID, versionIds))
+                .orderBy(targetVersion.ID, DATASET_VERSION.VERSION);
+            return jooqReactiveOperations.flux(query);
+        }).collect(groupingBy(
+            r -> r.get(targetVersionId, Long.class),
+            mapping(r -> r.into(DATASET_VERSION_DELTA).into(DatasetVersionDeltaPojo.class), toList())
+        )).map(versionDeltas -> versionDeltas.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            e -> DatasetVersionDeltaUtils.reconstructFieldIds(e.getValue()))));
+    }
+
+    private SelectSelectStep<Record> selectWithFieldRelations(final List<Field<?>> selectFields) {
+        return DSL
+            .select(selectFields)
+            .select(jsonArrayAgg(field(LABEL_TO_DATASET_FIELD.asterisk().toString())).as(LABEL_RELATIONS))
+            .select(jsonArrayAgg(field(LABEL.asterisk().toString())).as(LABELS))
+            .select(jsonArrayAgg(field(DATASET_FIELD_METADATA_VALUE.asterisk().toString())).as(METADATA_VALUES))
+            .select(jsonArrayAgg(field(METADATA_FIELD.asterisk().toString())).as(METADATA))
+            .select(jsonArrayAgg(field(TERM.asterisk().toString())).as(TERMS))
+            .select(jsonArrayAgg(field(DATASET_FIELD_TO_TERM.asterisk().toString())).as(TERM_RELATIONS))
+            .select(jsonArrayAgg(field(NAMESPACE.asterisk().toString())).as(TERM_NAMESPACES))
+            .select(countDistinct(ENUM_VALUE.ID).as(ENUM_VALUE_COUNT));
+    }
+
+    private SelectJoinStep<Record> joinFieldRelations(final SelectJoinStep<Record> step) {
+        return step
+            .leftJoin(LABEL_TO_DATASET_FIELD).on(DATASET_FIELD.ID.eq(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID))
+            .leftJoin(LABEL).on(LABEL_TO_DATASET_FIELD.LABEL_ID.eq(LABEL.ID)).and(LABEL.DELETED_AT.isNull())
+            .leftJoin(ENUM_VALUE).on(DATASET_FIELD.ID.eq(ENUM_VALUE.DATASET_FIELD_ID)
+                .and(ENUM_VALUE.DELETED_AT.isNull()))
+            .leftJoin(DATASET_FIELD_METADATA_VALUE)
+            .on(DATASET_FIELD.ID.eq(DATASET_FIELD_METADATA_VALUE.DATASET_FIELD_ID))
+            .leftJoin(METADATA_FIELD).on(DATASET_FIELD_METADATA_VALUE.METADATA_FIELD_ID.eq(METADATA_FIELD.ID))
+            .leftJoin(DATASET_FIELD_TO_TERM).on(DATASET_FIELD.ID.eq(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID))
+            .leftJoin(TERM).on(DATASET_FIELD_TO_TERM.TERM_ID.eq(TERM.ID)).and(TERM.DELETED_AT.isNull())
+            .leftJoin(NAMESPACE).on(TERM.NAMESPACE_ID.eq(NAMESPACE.ID));
     }
 
     private DatasetVersionPojo extractDatasetVersion(final Record datasetVersionRecord) {
@@ -299,15 +454,6 @@ public class ReactiveDatasetVersionRepositoryImpl
             .build();
     }
 
-    private DatasetVersionFields mapToDatasetVersionFields(final Record record,
-                                                           final String fieldsAlias) {
-        final DatasetVersionPojo version = jooqRecordHelper
-            .extractRelation(record, DATASET_VERSION, DatasetVersionPojo.class);
-        final Set<DatasetFieldPojo> fields = jooqRecordHelper
-            .extractAggRelation(record, fieldsAlias, DatasetFieldPojo.class);
-        return new DatasetVersionFields(version, fields);
-    }
-
     private List<LabelDto> extractLabels(final Record record) {
         final Set<LabelPojo> labels = jooqRecordHelper.extractAggRelation(record, LABELS, LabelPojo.class);
 
@@ -357,9 +503,13 @@ public class ReactiveDatasetVersionRepositoryImpl
                     .term(pojo)
                     .namespace(namespaces.get(pojo.getNamespaceId()))
                     .build();
-                final boolean isDescriptionLink = relations.getOrDefault(pojo.getId(), List.of()).stream()
-                    .anyMatch(r -> Boolean.TRUE.equals(r.getIsDescriptionLink()));
-                return new LinkedTermDto(termRefDto, isDescriptionLink);
+                final List<DatasetFieldToTermPojo> termRelations = relations.getOrDefault(pojo.getId(), List.of());
+                final boolean isDescriptionLink = termRelations.stream()
+                    .anyMatch(r -> Boolean.TRUE.equals(r.getIsDescriptionLink())
+                        && !Boolean.TRUE.equals(r.getIsAutoLink()));
+                final boolean isAutoLink = termRelations.stream()
+                    .anyMatch(r -> Boolean.TRUE.equals(r.getIsAutoLink()));
+                return new LinkedTermDto(termRefDto, isDescriptionLink, isAutoLink);
             })
             .toList();
     }
@@ -30,6 +30,7 @@ import reactor.util.function.Tuples;
 import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.ENUM_VALUE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveEnumValueRepositoryImpl
@@ -45,7 +46,7 @@ public class ReactiveEnumValueRepositoryImpl
     public Flux<EnumValueDto> getEnumState(final Collection<Long> datasetFieldIds) {
         final List<Flux<EnumValueDto>> collect = ListUtils.partition(new ArrayList<>(datasetFieldIds), 100)
             .stream()
-            .map(dsf -> fetchEnumState(addSoftDeleteFilter(DATASET_FIELD.ID.in(dsf))))
+            .map(dsf -> fetchEnumState(addSoftDeleteFilter(inArray(DATASET_FIELD.ID, dsf))))
             .toList();
 
         return Flux.merge(collect);
@@ -69,7 +70,7 @@ public class ReactiveEnumValueRepositoryImpl
     public Flux<EnumValuePojo> getEnumValuesByDatasetFieldIds(final Collection<Long> datasetFieldIds,
                                                               final EnumValueOrigin origin) {
         final List<Condition> conditions = new ArrayList<>();
-        conditions.add(ENUM_VALUE.DATASET_FIELD_ID.in(datasetFieldIds));
+        conditions.add(inArray(ENUM_VALUE.DATASET_FIELD_ID, datasetFieldIds));
         if (origin != null) {
             conditions.add(ENUM_VALUE.ORIGIN.eq(origin.getCode()));
         }
@@ -29,6 +29,7 @@ import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_ENTITY_RELATIONS;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @RequiredArgsConstructor
@@ -98,7 +99,7 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
         final List<String> entityOddrns = pojos.stream().map(GroupEntityRelationsPojo::getDataEntityOddrn).toList();
 
         final var deleteQuery = DSL.deleteFrom(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(groupOddrns))
+            .where(inArray(GROUP_ENTITY_RELATIONS.GROUP_ODDRN, groupOddrns))
             .and(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.notIn(entityOddrns));
 
         return jooqReactiveOperations.mono(deleteQuery).then();
@@ -143,7 +144,7 @@ public class ReactiveGroupEntityRelationRepositoryImpl implements ReactiveGroupE
                 GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN
             )
             .from(GROUP_ENTITY_RELATIONS)
-            .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.in(childOddrns));
+            .where(inArray(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN, childOddrns));
         return jooqReactiveOperations.flux(query)
             .collect(Collectors.groupingBy(
                 r -> r.get(GROUP_ENTITY_RELATIONS.GROUP_ODDRN),
@@ -3,11 +3,11 @@ package org.opendatadiscovery.oddplatform.repository.reactive;
 import java.util.Collection;
 import java.util.List;
 import org.apache.commons.collections4.CollectionUtils;
-import org.jooq.Condition;
 import org.jooq.DeleteResultStep;
 import org.jooq.InsertResultStep;
 import org.jooq.InsertSetStep;
 import org.jooq.Record;
+import org.jooq.Row2;
 import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SortOrder;
@@ -29,6 +29,7 @@ import reactor.core.publisher.Mono;
 
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL;
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL_TO_DATASET_FIELD;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveLabelRepositoryImpl
@@ -106,7 +107,7 @@ public class ReactiveLabelRepositoryImpl
         final SelectConditionStep<Record> query = DSL
             .select(LABEL.asterisk())
             .from(LABEL)
-            .where(addSoftDeleteFilter(LABEL.NAME.in(names)));
+            .where(addSoftDeleteFilter(inArray(LABEL.NAME, names)));
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(LabelPojo.class));
     }
@@ -121,7 +122,7 @@ public class ReactiveLabelRepositoryImpl
         var query = DSL.select(LABEL_TO_DATASET_FIELD.fields())
             .from(LABEL_TO_DATASET_FIELD)
             .join(LABEL).on(LABEL.ID.eq(LABEL_TO_DATASET_FIELD.LABEL_ID))
-            .where(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID.in(datasetFieldIds).and(LABEL.DELETED_AT.isNull()));
+            .where(inArray(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID, datasetFieldIds).and(LABEL.DELETED_AT.isNull()));
 
         if (origin != null && !origin.equals(LabelOrigin.ALL)) {
             query = query.and(LABEL_TO_DATASET_FIELD.ORIGIN.eq(origin.toString()));
@@ -135,13 +136,11 @@ public class ReactiveLabelRepositoryImpl
         if (pojos.isEmpty()) {
             return Flux.just();
         }
-        final Condition condition = pojos.stream()
-            .map(pojo -> LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID.eq(pojo.getDatasetFieldId())
-                .and(LABEL_TO_DATASET_FIELD.LABEL_ID.eq(pojo.getLabelId())))
-            .reduce(Condition::or)
-            .orElseThrow(() -> new RuntimeException("Couldn't build condition for label deletion"));
+        final List<Row2<Long, Long>> relations = pojos.stream()
+            .map(pojo -> DSL.row(pojo.getDatasetFieldId(), pojo.getLabelId()))
+            .toList();
         final var query = DSL.delete(LABEL_TO_DATASET_FIELD)
-            .where(condition)
+            .where(DSL.row(LABEL_TO_DATASET_FIELD.DATASET_FIELD_ID, LABEL_TO_DATASET_FIELD.LABEL_ID).in(relations))
             .returning();
 
         return jooqReactiveOperations.flux(query).map(r -> r.into(LabelToDatasetFieldPojo.class));
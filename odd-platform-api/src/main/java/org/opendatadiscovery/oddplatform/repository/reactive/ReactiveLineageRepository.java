@@ -12,10 +12,12 @@ import reactor.core.publisher.Mono;
 
 public interface ReactiveLineageRepository extends ReactiveCRUDRepository<LineagePojo> {
 
-    Flux<LineagePojo> batchDeleteByEstablisherOddrn(Collection<String> oddrns);
-
     Flux<LineagePojo> batchInsertLineages(final List<LineagePojo> pojos);
 
+    Flux<LineagePojo> getLineagesByEstablisherOddrnForUpdate(final Collection<String> establishers);
+
+    Flux<LineagePojo> batchDeleteLineages(final List<LineagePojo> pojos);
+
     Mono<Map<String, Long>> getTargetsCount(final Set<String> oddrns);
 
     Flux<LineagePojo> getLineageRelations(final List<String> oddrns);
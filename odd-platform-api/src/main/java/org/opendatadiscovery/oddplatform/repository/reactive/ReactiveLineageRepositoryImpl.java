@@ -4,18 +4,21 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jooq.CommonTableExpression;
-import org.jooq.Condition;
 import org.jooq.Field;
-import org.jooq.InsertValuesStep3;
 import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record2;
+import org.jooq.Record3;
+import org.jooq.Row3;
+import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.impl.DSL;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageDepth;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
+import org.opendatadiscovery.oddplatform.model.tables.DataEntity;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.LineageRecord;
 import org.opendatadiscovery.oddplatform.repository.util.JooqQueryHelper;
@@ -33,6 +36,7 @@ import static org.jooq.impl.DSL.one;
 import static org.jooq.impl.DSL.val;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.LINEAGE;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepository<LineageRecord, LineagePojo>
@@ -43,51 +47,116 @@ public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepositor
     }
 
     @Override
-    public Flux<LineagePojo> batchDeleteByEstablisherOddrn(final Collection<String> establishers) {
-        final var query = DSL.deleteFrom(LINEAGE)
-            .where(LINEAGE.ESTABLISHER_ODDRN.in(establishers));
-        return jooqReactiveOperations.flux(query.returning()).map(r -> r.into(LineagePojo.class));
+    public Mono<LineagePojo> create(final LineagePojo pojo) {
+        return batchInsertLineages(List.of(pojo)).next();
     }
 
+    @Override
+    public Flux<LineagePojo> bulkCreate(final Collection<LineagePojo> pojos) {
+        return batchInsertLineages(List.copyOf(pojos));
+    }
+
+    /**
+     * Inserts lineage edges keyed by ids of their parent and child data entities, which are always resolved by
+     * oddrns, so ids set on the pojos are ignored. Data entities missing for these oddrns are created as hollow ones.
+     */
     @Override
     public Flux<LineagePojo> batchInsertLineages(final List<LineagePojo> pojos) {
-        InsertValuesStep3<LineageRecord, String, String, String> step
-            = DSL.insertInto(LINEAGE, LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN);
+        return jooqReactiveOperations.executeInPartitionReturning(pojos, partition -> {
+            final String[] oddrns = partition.stream()
+                .flatMap(p -> Stream.of(p.getParentOddrn(), p.getChildOddrn()))
+                .distinct()
+                .toArray(String[]::new);
 
-        for (final LineagePojo p : pojos) {
-            step = step.values(p.getParentOddrn(), p.getChildOddrn(), p.getEstablisherOddrn());
-        }
-        return jooqReactiveOperations.flux(step.onDuplicateKeyIgnore().returning()).map(r -> r.into(LineagePojo.class));
+            final Table<?> oddrnsTable = DSL.unnest(oddrns).as("oddrns", "oddrn");
+            final Field<String> oddrn = oddrnsTable.field("oddrn", String.class);
+            final var hollowQuery = DSL
+                .insertInto(DATA_ENTITY, DATA_ENTITY.ODDRN, DATA_ENTITY.HOLLOW, DATA_ENTITY.EXCLUDE_FROM_SEARCH)
+                .select(DSL.select(oddrn, DSL.inline(true), DSL.inline(true))
+                    .from(oddrnsTable)
+                    // filtered beforehand, so that conflicting rows don't consume ids of the sequence
+                    .whereNotExists(DSL.selectOne().from(DATA_ENTITY).where(DATA_ENTITY.ODDRN.eq(oddrn))))
+                .onConflict(DATA_ENTITY.ODDRN)
+                .doNothing();
+
+            final List<Row3<String, String, String>> rows = partition.stream()
+                .map(p -> DSL.row(p.getParentOddrn(), p.getChildOddrn(), p.getEstablisherOddrn()))
+                .toList();
+            final Table<Record3<String, String, String>> edges = DSL.values(rows.toArray(Row3[]::new))
+                .as("edges", LINEAGE.PARENT_ODDRN.getName(), LINEAGE.CHILD_ODDRN.getName(),
+                    LINEAGE.ESTABLISHER_ODDRN.getName());
+            final DataEntity parent = DATA_ENTITY.as("parent");
+            final DataEntity child = DATA_ENTITY.as("child");
+
+            final var edgesQuery = DSL.insertInto(LINEAGE,
+                    LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN,
+                    LINEAGE.PARENT_ID, LINEAGE.CHILD_ID)
+                .select(DSL.select(edges.field(LINEAGE.PARENT_ODDRN), edges.field(LINEAGE.CHILD_ODDRN),
+                        edges.field(LINEAGE.ESTABLISHER_ODDRN), parent.ID, child.ID)
+                    .from(edges)
+                    .join(parent).on(parent.ODDRN.eq(edges.field(LINEAGE.PARENT_ODDRN)))
+                    .join(child).on(child.ODDRN.eq(edges.field(LINEAGE.CHILD_ODDRN))))
+                .onDuplicateKeyIgnore()
+                .returning();
+
+            return jooqReactiveOperations.mono(hollowQuery)
+                .thenMany(jooqReactiveOperations.flux(edgesQuery));
+        }).map(r -> r.into(LineagePojo.class));
+    }
+
+    @Override
+    public Flux<LineagePojo> getLineagesByEstablisherOddrnForUpdate(final Collection<String> establishers) {
+        final var query = DSL.select(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN)
+            .from(LINEAGE)
+            .where(inArray(LINEAGE.ESTABLISHER_ODDRN, establishers))
+            .forUpdate();
+        return jooqReactiveOperations.flux(query).map(r -> r.into(LineagePojo.class));
+    }
+
+    @Override
+    public Flux<LineagePojo> batchDeleteLineages(final List<LineagePojo> pojos) {
+        return jooqReactiveOperations.executeInPartitionReturning(pojos, partition -> {
+            final List<Row3<String, String, String>> rows = partition.stream()
+                .map(p -> DSL.row(p.getParentOddrn(), p.getChildOddrn(), p.getEstablisherOddrn()))
+                .toList();
+            final var query = DSL.deleteFrom(LINEAGE)
+                .where(DSL.row(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN, LINEAGE.ESTABLISHER_ODDRN).in(rows))
+                .returning();
+            return jooqReactiveOperations.flux(query);
+        }).map(r -> r.into(LineagePojo.class));
     }
 
     @Override
     public Mono<Map<String, Long>> getTargetsCount(final Set<String> oddrns) {
-        final var query = DSL.select(LINEAGE.PARENT_ODDRN)
+        final var query = DSL.select(DATA_ENTITY.ODDRN)
             .select(count(one()).cast(Long.class))
-            .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.in(oddrns))
-            .groupBy(LINEAGE.PARENT_ODDRN);
+            .from(DATA_ENTITY)
+            .join(LINEAGE).on(LINEAGE.PARENT_ID.eq(DATA_ENTITY.ID))
+            .where(inArray(DATA_ENTITY.ODDRN, oddrns))
+            .groupBy(DATA_ENTITY.ID);
         return jooqReactiveOperations.flux(query)
             .collectMap(r -> r.get(0, String.class), r -> r.get(1, Long.class));
     }
 
     @Override
     public Mono<Map<String, Integer>> getChildrenCount(final Set<String> oddrns) {
-        final Field<Integer> childrenCount = countDistinct(LINEAGE.CHILD_ODDRN).as("children_count");
-        final var query = DSL.select(LINEAGE.PARENT_ODDRN, childrenCount)
-            .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.in(oddrns))
-            .groupBy(LINEAGE.PARENT_ODDRN);
+        final Field<Integer> childrenCount = countDistinct(LINEAGE.CHILD_ID).as("children_count");
+        final var query = DSL.select(DATA_ENTITY.ODDRN, childrenCount)
+            .from(DATA_ENTITY)
+            .join(LINEAGE).on(LINEAGE.PARENT_ID.eq(DATA_ENTITY.ID))
+            .where(inArray(DATA_ENTITY.ODDRN, oddrns))
+            .groupBy(DATA_ENTITY.ID);
         return jooqReactiveOperations.flux(query).collectMap(Record2::value1, Record2::value2);
     }
 
     @Override
     public Mono<Map<String, Integer>> getParentCount(final Set<String> oddrns) {
-        final Field<Integer> parentsCount = countDistinct(LINEAGE.PARENT_ODDRN).as("parents_count");
-        final var query = DSL.select(LINEAGE.CHILD_ODDRN, parentsCount)
-            .from(LINEAGE)
-            .where(LINEAGE.CHILD_ODDRN.in(oddrns))
-            .groupBy(LINEAGE.CHILD_ODDRN);
+        final Field<Integer> parentsCount = countDistinct(LINEAGE.PARENT_ID).as("parents_count");
+        final var query = DSL.select(DATA_ENTITY.ODDRN, parentsCount)
+            .from(DATA_ENTITY)
+            .join(LINEAGE).on(LINEAGE.CHILD_ID.eq(DATA_ENTITY.ID))
+            .where(inArray(DATA_ENTITY.ODDRN, oddrns))
+            .groupBy(DATA_ENTITY.ID);
         return jooqReactiveOperations.flux(query).collectMap(Record2::value1, Record2::value2);
     }
 
@@ -95,8 +164,8 @@ public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepositor
     public Flux<LineagePojo> getLineageRelations(final List<String> oddrns) {
         final var query = DSL.selectDistinct(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN)
             .from(LINEAGE)
-            .where(LINEAGE.PARENT_ODDRN.in(oddrns).and(LINEAGE.CHILD_ODDRN.in(oddrns))
-                .or(LINEAGE.CHILD_ODDRN.in(oddrns).and(LINEAGE.PARENT_ODDRN.in(oddrns))));
+            .where(inArray(LINEAGE.PARENT_ODDRN, oddrns).and(inArray(LINEAGE.CHILD_ODDRN, oddrns))
+                .or(inArray(LINEAGE.CHILD_ODDRN, oddrns).and(inArray(LINEAGE.PARENT_ODDRN, oddrns))));
         return jooqReactiveOperations.flux(query).map(r -> r.into(LineagePojo.class));
     }
 
@@ -118,13 +187,10 @@ public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepositor
         if (CollectionUtils.isEmpty(rootIds)) {
             return Flux.empty();
         }
-        final Condition joinCondition = streamKind == LineageStreamKind.DOWNSTREAM
-            ? DATA_ENTITY.ODDRN.eq(LINEAGE.PARENT_ODDRN)
-            : DATA_ENTITY.ODDRN.eq(LINEAGE.CHILD_ODDRN);
+        final Field<Long> rootId = streamKind == LineageStreamKind.DOWNSTREAM ? LINEAGE.PARENT_ID : LINEAGE.CHILD_ID;
         final var query = DSL.selectDistinct(LINEAGE.PARENT_ODDRN, LINEAGE.CHILD_ODDRN)
             .from(LINEAGE)
-            .join(DATA_ENTITY).on(joinCondition)
-            .where(DATA_ENTITY.ID.in(rootIds));
+            .where(inArray(rootId, rootIds));
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(LineagePojo.class));
     }
@@ -135,18 +201,21 @@ public class ReactiveLineageRepositoryImpl extends ReactiveAbstractCRUDRepositor
         final Name cteName = name("t");
         final Field<Integer> startDepth = val(1).as(field("depth", Integer.class));
         final Field<Integer> tDepth = field("t.depth", Integer.class);
-        final Field<String> tChildOddrn = field("t.child_oddrn", String.class);
-        final Field<String> tParentOddrn = field("t.parent_oddrn", String.class);
+        final Field<Long> tChildId = field("t.child_id", Long.class);
+        final Field<Long> tParentId = field("t.parent_id", Long.class);
 
-        final Pair<TableField<LineageRecord, String>, Field<String>> conditions =
-            streamKind == LineageStreamKind.DOWNSTREAM ? Pair.of(LINEAGE.PARENT_ODDRN, tChildOddrn)
-                : Pair.of(LINEAGE.CHILD_ODDRN, tParentOddrn);
+        // edges are traversed by data entity ids, which are much cheaper to join on than oddrns
+        final Pair<TableField<LineageRecord, Long>, Field<Long>> conditions =
+            streamKind == LineageStreamKind.DOWNSTREAM ? Pair.of(LINEAGE.PARENT_ID, tChildId)
+                : Pair.of(LINEAGE.CHILD_ID, tParentId);
 
         return cteName.as(DSL
             .select(LINEAGE.asterisk())
             .select(startDepth)
             .from(LINEAGE)
-            .where(conditions.getLeft().in(oddrns))
+            .where(conditions.getLeft().in(DSL.select(DATA_ENTITY.ID)
+                .from(DATA_ENTITY)
+                .where(inArray(DATA_ENTITY.ODDRN, oddrns))))
             .unionAll(
                 DSL
                     .select(LINEAGE.asterisk())
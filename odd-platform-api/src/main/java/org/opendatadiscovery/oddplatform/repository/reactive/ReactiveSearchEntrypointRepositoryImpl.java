@@ -45,6 +45,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
 import static org.opendatadiscovery.oddplatform.model.tables.DataSource.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.tables.SearchEntrypoint.SEARCH_ENTRYPOINT;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConfig.FTS_CONFIG_DETAILS_MAP;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 @RequiredArgsConstructor
@@ -85,7 +86,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             .select(vectorFields)
             .select(DATA_ENTITY.ID.as(dataEntityIdField))
             .from(DATA_ENTITY)
-            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .where(inArray(DATA_ENTITY.ID, dataEntityIds))
             .and(DATA_ENTITY.HOLLOW.isFalse())
             .and(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isNull().or(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isFalse()));
 
@@ -114,7 +115,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             .join(DATA_ENTITY).on(DATA_ENTITY.DATA_SOURCE_ID.eq(Tables.DATA_SOURCE.ID))
             .and(DATA_ENTITY.HOLLOW.isFalse())
             .and(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isNull().or(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isFalse()))
-            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .where(inArray(DATA_ENTITY.ID, dataEntityIds))
             .and(DATA_SOURCE.DELETED_AT.isNull());
 
         final Insert<? extends Record> insertQuery = jooqFTSHelper.buildVectorUpsert(
@@ -145,7 +146,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             .join(DATA_ENTITY).on(DATA_ENTITY.DATA_SOURCE_ID.eq(Tables.DATA_SOURCE.ID))
             .and(DATA_ENTITY.HOLLOW.isFalse())
             .and(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isNull().or(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isFalse()))
-            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .where(inArray(DATA_ENTITY.ID, dataEntityIds))
             .and(NAMESPACE.DELETED_AT.isNull());
 
         final Insert<? extends Record> insertQuery = jooqFTSHelper.buildVectorUpsert(
@@ -216,12 +217,12 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
 
     @Override
     public Mono<Integer> updateStructureVectorForDataEntitiesByIds(final List<Long> dataEntityIds) {
-        return updateStructureVectorForDataEntities(DATA_ENTITY.ID.in(dataEntityIds));
+        return updateStructureVectorForDataEntities(inArray(DATA_ENTITY.ID, dataEntityIds));
     }
 
     @Override
     public Mono<Integer> updateStructureVectorForDataEntitiesByOddrns(final Collection<String> dataEntityOddrns) {
-        return updateStructureVectorForDataEntities(DATA_ENTITY.ODDRN.in(dataEntityOddrns));
+        return updateStructureVectorForDataEntities(inArray(DATA_ENTITY.ODDRN, dataEntityOddrns));
     }
 
     @Override
@@ -292,7 +293,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             .join(TAG_TO_DATA_ENTITY).on(TAG_TO_DATA_ENTITY.TAG_ID.eq(TAG.ID))
             .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID))
             .and(DATA_ENTITY.HOLLOW.isFalse())
-            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .where(inArray(DATA_ENTITY.ID, dataEntityIds))
             .and(TAG.DELETED_AT.isNull());
 
         final Insert<? extends Record> tagQuery = jooqFTSHelper.buildVectorUpsert(
@@ -547,7 +548,7 @@ public class ReactiveSearchEntrypointRepositoryImpl implements ReactiveSearchEnt
             .join(DATA_ENTITY).on(DATA_ENTITY.ID.eq(METADATA_FIELD_VALUE.DATA_ENTITY_ID))
             .and(DATA_ENTITY.HOLLOW.isFalse())
             .and(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isNull().or(DATA_ENTITY.EXCLUDE_FROM_SEARCH.isFalse()))
-            .where(DATA_ENTITY.ID.in(dataEntityIds))
+            .where(inArray(DATA_ENTITY.ID, dataEntityIds))
             .and(METADATA_FIELD.DELETED_AT.isNull());
 
         final Insert<? extends Record> datasetFieldQuery = jooqFTSHelper.buildVectorUpsert(
@@ -34,6 +34,7 @@ import static org.jooq.impl.DSL.field;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_TERM;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
 
 @Repository
 public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRepository<TagRecord, TagPojo>
@@ -78,7 +79,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
     @Override
     public Flux<TagPojo> listByNames(final Collection<String> names) {
         final var query = DSL.selectFrom(TAG)
-            .where(addSoftDeleteFilter(TAG.NAME.in(names)));
+            .where(addSoftDeleteFilter(inArray(TAG.NAME, names)));
         return jooqReactiveOperations.flux(query)
             .map(this::recordToPojo);
     }
@@ -132,7 +133,7 @@ public class ReactiveTagRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRep
         final var query = DSL.select(TAG_TO_DATA_ENTITY.fields())
             .from(TAG_TO_DATA_ENTITY)
             .join(TAG).on(TAG.ID.eq(TAG_TO_DATA_ENTITY.TAG_ID))
-            .where(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID.in(dataEntityIds).and(TAG.DELETED_AT.isNull()));
+            .where(inArray(TAG_TO_DATA_ENTITY.DATA_ENTITY_ID, dataEntityIds).and(TAG.DELETED_AT.isNull()));
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(TagToDataEntityPojo.class));
     }
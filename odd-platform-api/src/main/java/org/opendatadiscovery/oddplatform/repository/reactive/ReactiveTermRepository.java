@@ -18,6 +18,8 @@ public interface ReactiveTermRepository extends ReactiveCRUDRepository<TermPojo>
 
     Mono<Boolean> existsByNamespace(final Long namespaceId);
 
+    Flux<TermPojo> listByNamespace(final long namespaceId);
+
     Mono<TermRefDto> getByNameAndNamespace(final String namespaceName, final String name);
 
     Mono<List<TermRefDto>> getByNameAndNamespace(final List<TermBaseInfoDto> termBaseInfoDtos);
@@ -13,6 +13,7 @@ import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.Row2;
 import org.jooq.Select;
 import org.jooq.SelectOnConditionStep;
 import org.jooq.SortOrder;
@@ -44,10 +45,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static java.util.function.Function.identity;
+import static org.jooq.impl.DSL.boolOr;
 import static org.jooq.impl.DSL.countDistinct;
 import static org.jooq.impl.DSL.exists;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.jsonArrayAgg;
+import static org.jooq.impl.DSL.lower;
+import static org.jooq.impl.DSL.row;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_TO_TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TO_TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.NAMESPACE;
@@ -72,6 +76,7 @@ public class ReactiveTermRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRe
     private static final String AGG_TAGS_FIELD = "tags";
     private static final String ENTITIES_COUNT = "entities_count";
     private static final String IS_DESCRIPTION_LINK = "is_description_link";
+    private static final String IS_AUTO_LINK = "is_auto_link";
 
     private final JooqRecordHelper jooqRecordHelper;
     private final JooqFTSHelper jooqFTSHelper;
@@ -123,6 +128,13 @@ public class ReactiveTermRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRe
         return jooqReactiveOperations.mono(query).map(Record1::component1);
     }
 
+    @Override
+    public Flux<TermPojo> listByNamespace(final long namespaceId) {
+        final var query = DSL.selectFrom(TERM)
+            .where(TERM.NAMESPACE_ID.eq(namespaceId).and(TERM.DELETED_AT.isNull()));
+        return jooqReactiveOperations.flux(query).map(r -> r.into(TermPojo.class));
+    }
+
     @Override
     public Mono<TermRefDto> getByNameAndNamespace(final String namespaceName, final String name) {
         final var query = DSL
@@ -140,15 +152,14 @@ public class ReactiveTermRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRe
         if (CollectionUtils.isEmpty(termBaseInfoDtos)) {
             return Mono.just(List.of());
         }
-        final Condition condition = termBaseInfoDtos.stream()
-            .map(dto -> TERM.NAME.equalIgnoreCase(dto.name()).and(NAMESPACE.NAME.equalIgnoreCase(dto.namespaceName())))
-            .reduce(Condition::or)
-            .orElseThrow(() -> new IllegalArgumentException("Can't build condition for terms"));
+        final List<Row2<String, String>> termRows = termBaseInfoDtos.stream()
+            .map(dto -> row(lower(dto.name()), lower(dto.namespaceName())))
+            .toList();
         final var query = DSL.select(TERM.fields())
             .select(NAMESPACE.fields())
             .from(TERM)
             .join(NAMESPACE).on(NAMESPACE.ID.eq(TERM.NAMESPACE_ID))
-            .where(condition)
+            .where(row(lower(TERM.NAME), lower(NAMESPACE.NAME)).in(termRows))
             .and(TERM.DELETED_AT.isNull());
         return jooqReactiveOperations.flux(query)
             .map(this::mapRecordToRefDto)
@@ -325,31 +336,40 @@ public class ReactiveTermRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRe
 
     @Override
     public Flux<LinkedTermDto> getDataEntityTerms(final long dataEntityId) {
+        // a term may be linked several ways at once, so its links are collapsed into a single one
+        final Condition markupLink = DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isTrue()
+            .and(DATA_ENTITY_TO_TERM.IS_AUTO_LINK.isFalse());
         final var query = DSL
             .select(TERM.fields())
             .select(NAMESPACE.fields())
-            .select(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.as(IS_DESCRIPTION_LINK))
+            .select(boolOr(markupLink).as(IS_DESCRIPTION_LINK))
+            .select(boolOr(DATA_ENTITY_TO_TERM.IS_AUTO_LINK).as(IS_AUTO_LINK))
             .from(TERM)
             .join(NAMESPACE).on(NAMESPACE.ID.eq(TERM.NAMESPACE_ID))
             .join(DATA_ENTITY_TO_TERM)
             .on(DATA_ENTITY_TO_TERM.TERM_ID.eq(TERM.ID).and(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(dataEntityId)))
-            .where(TERM.DELETED_AT.isNull());
+            .where(TERM.DELETED_AT.isNull())
+            .groupBy(TERM.ID, NAMESPACE.ID);
         return jooqReactiveOperations.flux(query)
             .map(this::mapRecordToLinkedTermDto);
     }
 
     @Override
     public Flux<LinkedTermDto> getDatasetFieldTerms(final long datasetFieldId) {
+        final Condition markupLink = DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isTrue()
+            .and(DATASET_FIELD_TO_TERM.IS_AUTO_LINK.isFalse());
         final var query = DSL
             .select(TERM.fields())
             .select(NAMESPACE.fields())
-            .select(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.as(IS_DESCRIPTION_LINK))
+            .select(boolOr(markupLink).as(IS_DESCRIPTION_LINK))
+            .select(boolOr(DATASET_FIELD_TO_TERM.IS_AUTO_LINK).as(IS_AUTO_LINK))
             .from(TERM)
             .join(NAMESPACE).on(NAMESPACE.ID.eq(TERM.NAMESPACE_ID))
             .join(DATASET_FIELD_TO_TERM)
             .on(DATASET_FIELD_TO_TERM.TERM_ID.eq(TERM.ID)
                 .and(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID.eq(datasetFieldId)))
-            .where(TERM.DELETED_AT.isNull());
+            .where(TERM.DELETED_AT.isNull())
+            .groupBy(TERM.ID, NAMESPACE.ID);
         return jooqReactiveOperations.flux(query)
             .map(this::mapRecordToLinkedTermDto);
     }
@@ -358,17 +378,22 @@ public class ReactiveTermRepositoryImpl extends ReactiveAbstractSoftDeleteCRUDRe
     public Mono<Boolean> hasDescriptionRelations(final long termId) {
         final Condition dataEntityDescriptionRelations = exists(DSL.selectOne()
             .from(DATA_ENTITY_TO_TERM)
-            .where(DATA_ENTITY_TO_TERM.TERM_ID.eq(termId).and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isTrue())));
+            .where(DATA_ENTITY_TO_TERM.TERM_ID.eq(termId)
+                .and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isTrue())
+                .and(DATA_ENTITY_TO_TERM.IS_AUTO_LINK.isFalse())));
         final Condition datasetFieldDescriptionRelations = exists(DSL.selectOne()
             .from(DATASET_FIELD_TO_TERM)
-            .where(DATASET_FIELD_TO_TERM.TERM_ID.eq(termId).and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isTrue())));
+            .where(DATASET_FIELD_TO_TERM.TERM_ID.eq(termId)
+                .and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isTrue())
+                .and(DATASET_FIELD_TO_TERM.IS_AUTO_LINK.isFalse())));
         final var query = DSL.select(dataEntityDescriptionRelations.or(datasetFieldDescriptionRelations));
         return jooqReactiveOperations.mono(query).map(Record1::component1);
     }
 
     private LinkedTermDto mapRecordToLinkedTermDto(final Record record) {
         final TermRefDto termRefDto = mapRecordToRefDto(record);
-        return new LinkedTermDto(termRefDto, record.get(IS_DESCRIPTION_LINK, Boolean.class));
+        return new LinkedTermDto(termRefDto, record.get(IS_DESCRIPTION_LINK, Boolean.class),
+            record.get(IS_AUTO_LINK, Boolean.class));
     }
 
     private TermRefDto mapRecordToRefDto(final Record record) {
@@ -1,7 +1,10 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTermAutoLinkDismissalPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldTermAutoLinkDismissalPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,15 +20,44 @@ public interface TermRelationsRepository {
 
     Flux<DatasetFieldToTermPojo> deleteRelationsWithDatasetFields(final long termId);
 
-    Mono<DataEntityToTermPojo> deleteRelationWithDataEntity(final long dataEntityId, final long termId);
-
-    Flux<DataEntityToTermPojo> deleteTermDataEntityRelations(final List<DataEntityToTermPojo> relations);
+    /**
+     * Deletes the links of the data entity with the term, which are removable by users,
+     * that is manual links and auto links.
+     */
+    Flux<DataEntityToTermPojo> deleteRelationWithDataEntity(final long dataEntityId, final long termId);
 
     Mono<DatasetFieldToTermPojo> createRelationWithDatasetField(final long datasetFieldId, final long termId);
 
     Flux<DatasetFieldToTermPojo> createRelationsWithDatasetField(final List<DatasetFieldToTermPojo> relations);
 
-    Mono<DatasetFieldToTermPojo> deleteRelationWithDatasetField(final long datasetFieldId, final long termId);
+    /**
+     * Deletes the links of the dataset field with the term, which are removable by users,
+     * that is manual links and auto links.
+     */
+    Flux<DatasetFieldToTermPojo> deleteRelationWithDatasetField(final long datasetFieldId, final long termId);
+
+    /**
+     * Deletes description links of the data entities, either the ones from the description markup
+     * or the auto links, except the specified ones.
+     */
+    Flux<DataEntityToTermPojo> deleteDataEntityDescriptionLinksExcept(final Collection<Long> dataEntityIds,
+                                                                      final boolean autoLinks,
+                                                                      final List<DataEntityToTermPojo> retained);
+
+    /**
+     * Deletes description links of the dataset fields, either the ones from the description markup
+     * or the auto links, except the specified ones.
+     */
+    Flux<DatasetFieldToTermPojo> deleteDatasetFieldDescriptionLinksExcept(final Collection<Long> datasetFieldIds,
+                                                                          final boolean autoLinks,
+                                                                          final List<DatasetFieldToTermPojo> retained);
+
+    Mono<Void> dismissDataEntityAutoLink(final long dataEntityId, final long termId);
+
+    Mono<Void> dismissDatasetFieldAutoLink(final long datasetFieldId, final long termId);
+
+    Flux<DataEntityTermAutoLinkDismissalPojo> getDataEntityAutoLinkDismissals(final Collection<Long> dataEntityIds);
 
-    Flux<DatasetFieldToTermPojo> deleteTermDatasetFieldRelations(final List<DatasetFieldToTermPojo> pojos);
+    Flux<DatasetFieldTermAutoLinkDismissalPojo> getDatasetFieldAutoLinkDismissals(
+        final Collection<Long> datasetFieldIds);
 }
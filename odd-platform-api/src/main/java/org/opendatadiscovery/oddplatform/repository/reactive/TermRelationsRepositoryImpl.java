@@ -1,11 +1,14 @@
 package org.opendatadiscovery.oddplatform.repository.reactive;
 
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jooq.Condition;
 import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTermAutoLinkDismissalPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldTermAutoLinkDismissalPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
 import org.opendatadiscovery.oddplatform.model.tables.records.DataEntityToTermRecord;
 import org.opendatadiscovery.oddplatform.model.tables.records.DatasetFieldToTermRecord;
@@ -14,7 +17,9 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD_TO_TERM;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_TO_TERM;
 
 @RequiredArgsConstructor
@@ -83,29 +88,12 @@ public class TermRelationsRepositoryImpl implements TermRelationsRepository {
     }
 
     @Override
-    public Mono<DataEntityToTermPojo> deleteRelationWithDataEntity(final long dataEntityId, final long termId) {
+    public Flux<DataEntityToTermPojo> deleteRelationWithDataEntity(final long dataEntityId, final long termId) {
         final var query = DSL.deleteFrom(DATA_ENTITY_TO_TERM)
             .where(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(dataEntityId)
                 .and(DATA_ENTITY_TO_TERM.TERM_ID.eq(termId))
-                .and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isFalse()))
-            .returning();
-        return jooqReactiveOperations.mono(query)
-            .map(r -> r.into(DataEntityToTermPojo.class));
-    }
-
-    @Override
-    public Flux<DataEntityToTermPojo> deleteTermDataEntityRelations(final List<DataEntityToTermPojo> relations) {
-        if (CollectionUtils.isEmpty(relations)) {
-            return Flux.just();
-        }
-        final Condition condition = relations.stream()
-            .map(pojo -> DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.eq(pojo.getDataEntityId())
-                .and(DATA_ENTITY_TO_TERM.TERM_ID.eq(pojo.getTermId()))
-                .and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.eq(pojo.getIsDescriptionLink())))
-            .reduce(Condition::or)
-            .orElseThrow(() -> new RuntimeException("Couldn't build condition for deletion"));
-        final var query = DSL.delete(DATA_ENTITY_TO_TERM)
-            .where(condition)
+                .and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isFalse()
+                    .or(DATA_ENTITY_TO_TERM.IS_AUTO_LINK.isTrue())))
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(DataEntityToTermPojo.class));
@@ -145,31 +133,100 @@ public class TermRelationsRepositoryImpl implements TermRelationsRepository {
     }
 
     @Override
-    public Mono<DatasetFieldToTermPojo> deleteRelationWithDatasetField(final long datasetFieldId, final long termId) {
+    public Flux<DatasetFieldToTermPojo> deleteRelationWithDatasetField(final long datasetFieldId, final long termId) {
         final var query = DSL.deleteFrom(DATASET_FIELD_TO_TERM)
             .where(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID.eq(datasetFieldId)
                 .and(DATASET_FIELD_TO_TERM.TERM_ID.eq(termId))
-                .and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isFalse()))
+                .and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isFalse()
+                    .or(DATASET_FIELD_TO_TERM.IS_AUTO_LINK.isTrue())))
             .returning();
-        return jooqReactiveOperations.mono(query)
+        return jooqReactiveOperations.flux(query)
             .map(r -> r.into(DatasetFieldToTermPojo.class));
     }
 
     @Override
-    public Flux<DatasetFieldToTermPojo> deleteTermDatasetFieldRelations(final List<DatasetFieldToTermPojo> pojos) {
-        if (CollectionUtils.isEmpty(pojos)) {
+    public Flux<DataEntityToTermPojo> deleteDataEntityDescriptionLinksExcept(
+        final Collection<Long> dataEntityIds,
+        final boolean autoLinks,
+        final List<DataEntityToTermPojo> retained) {
+        if (CollectionUtils.isEmpty(dataEntityIds)) {
+            return Flux.just();
+        }
+        Condition condition = DATA_ENTITY_TO_TERM.DATA_ENTITY_ID.in(dataEntityIds)
+            .and(DATA_ENTITY_TO_TERM.IS_DESCRIPTION_LINK.isTrue())
+            .and(DATA_ENTITY_TO_TERM.IS_AUTO_LINK.eq(autoLinks));
+        if (!retained.isEmpty()) {
+            condition = condition.and(DSL.row(DATA_ENTITY_TO_TERM.DATA_ENTITY_ID, DATA_ENTITY_TO_TERM.TERM_ID)
+                .notIn(retained.stream().map(p -> DSL.row(p.getDataEntityId(), p.getTermId())).toList()));
+        }
+        final var query = DSL.deleteFrom(DATA_ENTITY_TO_TERM)
+            .where(condition)
+            .returning();
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.into(DataEntityToTermPojo.class));
+    }
+
+    @Override
+    public Flux<DatasetFieldToTermPojo> deleteDatasetFieldDescriptionLinksExcept(
+        final Collection<Long> datasetFieldIds,
+        final boolean autoLinks,
+        final List<DatasetFieldToTermPojo> retained) {
+        if (CollectionUtils.isEmpty(datasetFieldIds)) {
             return Flux.just();
         }
-        final Condition condition = pojos.stream()
-            .map(pojo -> DATASET_FIELD_TO_TERM.DATASET_FIELD_ID.eq(pojo.getDatasetFieldId())
-                .and(DATASET_FIELD_TO_TERM.TERM_ID.eq(pojo.getTermId()))
-                .and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.eq(pojo.getIsDescriptionLink())))
-            .reduce(Condition::or)
-            .orElseThrow(() -> new RuntimeException("Couldn't build condition for deletion"));
-        final var query = DSL.delete(DATASET_FIELD_TO_TERM)
+        Condition condition = DATASET_FIELD_TO_TERM.DATASET_FIELD_ID.in(datasetFieldIds)
+            .and(DATASET_FIELD_TO_TERM.IS_DESCRIPTION_LINK.isTrue())
+            .and(DATASET_FIELD_TO_TERM.IS_AUTO_LINK.eq(autoLinks));
+        if (!retained.isEmpty()) {
+            condition = condition.and(DSL.row(DATASET_FIELD_TO_TERM.DATASET_FIELD_ID, DATASET_FIELD_TO_TERM.TERM_ID)
+                .notIn(retained.stream().map(p -> DSL.row(p.getDatasetFieldId(), p.getTermId())).toList()));
+        }
+        final var query = DSL.deleteFrom(DATASET_FIELD_TO_TERM)
             .where(condition)
             .returning();
         return jooqReactiveOperations.flux(query)
             .map(r -> r.into(DatasetFieldToTermPojo.class));
     }
+
+    @Override
+    public Mono<Void> dismissDataEntityAutoLink(final long dataEntityId, final long termId) {
+        final var query = DSL.insertInto(DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL)
+            .set(DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL.DATA_ENTITY_ID, dataEntityId)
+            .set(DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL.TERM_ID, termId)
+            .onDuplicateKeyIgnore();
+        return jooqReactiveOperations.mono(query).then();
+    }
+
+    @Override
+    public Mono<Void> dismissDatasetFieldAutoLink(final long datasetFieldId, final long termId) {
+        final var query = DSL.insertInto(DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL)
+            .set(DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL.DATASET_FIELD_ID, datasetFieldId)
+            .set(DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL.TERM_ID, termId)
+            .onDuplicateKeyIgnore();
+        return jooqReactiveOperations.mono(query).then();
+    }
+
+    @Override
+    public Flux<DataEntityTermAutoLinkDismissalPojo> getDataEntityAutoLinkDismissals(
+        final Collection<Long> dataEntityIds) {
+        if (CollectionUtils.isEmpty(dataEntityIds)) {
+            return Flux.just();
+        }
+        final var query = DSL.selectFrom(DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL)
+            .where(DATA_ENTITY_TERM_AUTO_LINK_DISMISSAL.DATA_ENTITY_ID.in(dataEntityIds));
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.into(DataEntityTermAutoLinkDismissalPojo.class));
+    }
+
+    @Override
+    public Flux<DatasetFieldTermAutoLinkDismissalPojo> getDatasetFieldAutoLinkDismissals(
+        final Collection<Long> datasetFieldIds) {
+        if (CollectionUtils.isEmpty(datasetFieldIds)) {
+            return Flux.just();
+        }
+        final var query = DSL.selectFrom(DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL)
+            .where(DATASET_FIELD_TERM_AUTO_LINK_DISMISSAL.DATASET_FIELD_ID.in(datasetFieldIds));
+        return jooqReactiveOperations.flux(query)
+            .map(r -> r.into(DatasetFieldTermAutoLinkDismissalPojo.class));
+    }
 }
@@ -0,0 +1,38 @@
+package org.opendatadiscovery.oddplatform.repository.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Aspect
+@ConditionalOnProperty(name = "odd.read-replica.enabled", havingValue = "true")
+public class ReadReplicaAspect {
+    @Pointcut("@annotation(org.opendatadiscovery.oddplatform.annotation.ReadFromReplica)"
+        + " || @within(org.opendatadiscovery.oddplatform.annotation.ReadFromReplica)")
+    private void readFromReplicaMethod() {
+    }
+
+    @Pointcut("execution(reactor.core.publisher.Mono *(..))")
+    private void monoMethod() {
+    }
+
+    @Pointcut("execution(reactor.core.publisher.Flux *(..))")
+    private void fluxMethod() {
+    }
+
+    @Around("readFromReplicaMethod() && monoMethod()")
+    public Mono<?> monoOnReplica(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return ReadReplicaRouting.allowReplica((Mono<?>) joinPoint.proceed());
+    }
+
+    @Around("readFromReplicaMethod() && fluxMethod()")
+    public Flux<?> fluxOnReplica(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return ReadReplicaRouting.allowReplica((Flux<?>) joinPoint.proceed());
+    }
+}
@@ -0,0 +1,35 @@
+package org.opendatadiscovery.oddplatform.repository.routing;
+
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor context flags read by {@link ReadReplicaRoutingConnectionFactory} when a connection is acquired.
+ */
+@UtilityClass
+public class ReadReplicaRouting {
+    private static final String REPLICA_ALLOWED = ReadReplicaRouting.class.getName() + ".REPLICA_ALLOWED";
+    private static final String PRIMARY_REQUIRED = ReadReplicaRouting.class.getName() + ".PRIMARY_REQUIRED";
+
+    public static <T> Mono<T> allowReplica(final Mono<T> mono) {
+        return mono.contextWrite(ctx -> ctx.put(REPLICA_ALLOWED, true));
+    }
+
+    public static <T> Flux<T> allowReplica(final Flux<T> flux) {
+        return flux.contextWrite(ctx -> ctx.put(REPLICA_ALLOWED, true));
+    }
+
+    public static <T> Mono<T> onPrimary(final Mono<T> mono) {
+        return mono.contextWrite(ctx -> ctx.put(PRIMARY_REQUIRED, true));
+    }
+
+    public static <T> Flux<T> onPrimary(final Flux<T> flux) {
+        return flux.contextWrite(ctx -> ctx.put(PRIMARY_REQUIRED, true));
+    }
+
+    static boolean isReplicaAllowed(final ContextView ctx) {
+        return ctx.getOrDefault(REPLICA_ALLOWED, false) && !ctx.getOrDefault(PRIMARY_REQUIRED, false);
+    }
+}
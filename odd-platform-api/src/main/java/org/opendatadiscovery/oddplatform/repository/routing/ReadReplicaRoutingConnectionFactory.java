@@ -0,0 +1,99 @@
+package org.opendatadiscovery.oddplatform.repository.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Routes connections to the primary unless replica reads are allowed by {@link ReadReplicaRouting}
+ * and there is no transaction in the current context. Replicas are picked round-robin among the ones
+ * {@link ReplicationLagMonitor} considers available, falling back to the primary if none are.
+ */
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+    static final String PRIMARY = "primary";
+
+    private final Map<String, ConnectionFactory> replicas;
+    private final List<String> replicaKeys;
+    private final ReplicationLagMonitor lagMonitor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadReplicaRoutingConnectionFactory(final ConnectionFactory primary,
+                                               final Map<String, ConnectionFactory> replicas,
+                                               final ReplicationLagMonitor lagMonitor,
+                                               final MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.lagMonitor = lagMonitor;
+        this.primaryConnections = Counter.builder("odd.r2dbc.routing.connections")
+            .tag("target", PRIMARY)
+            .register(meterRegistry);
+        this.replicaConnections = Counter.builder("odd.r2dbc.routing.connections")
+            .tag("target", "replica")
+            .register(meterRegistry);
+
+        final Map<String, ConnectionFactory> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagMonitor.start();
+    }
+
+    @Override
+    public void destroy() {
+        lagMonitor.stop();
+        replicas.values().stream()
+            .filter(Disposable.class::isInstance)
+            .forEach(replica -> ((Disposable) replica).dispose());
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(ctx -> ReadReplicaRouting.isReplicaAllowed(ctx) ? outsideTransaction() : primary());
+    }
+
+    // a transaction context is already present while the transaction manager acquires its connection,
+    // so any transaction context, not only an active transaction, keeps the connection on the primary
+    private Mono<Object> outsideTransaction() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .flatMap(ignored -> primary())
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromSupplier(this::nextAvailableReplica));
+    }
+
+    private Object nextAvailableReplica() {
+        final int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            final String replica = replicaKeys.get(Math.floorMod(start + i, replicaKeys.size()));
+            if (lagMonitor.isAvailable(replica)) {
+                replicaConnections.increment();
+                return replica;
+            }
+        }
+        primaryConnections.increment();
+        return PRIMARY;
+    }
+
+    private Mono<Object> primary() {
+        return Mono.fromSupplier(() -> {
+            primaryConnections.increment();
+            return PRIMARY;
+        });
+    }
+}
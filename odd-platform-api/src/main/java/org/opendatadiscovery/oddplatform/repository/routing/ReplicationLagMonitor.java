@@ -0,0 +1,92 @@
+package org.opendatadiscovery.oddplatform.repository.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically checks how far replicas are behind the primary. A replica is available only if the last check
+ * succeeded and its lag didn't exceed the allowed one.
+ */
+@Slf4j
+public class ReplicationLagMonitor {
+    // a replica which replayed everything it received is up-to-date even if nothing was written on the primary lately
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+        END::float8""";
+
+    private final Map<String, ConnectionFactory> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private Disposable checks;
+
+    public ReplicationLagMonitor(final Map<String, ConnectionFactory> replicas,
+                                 final Duration maxLag,
+                                 final Duration checkInterval,
+                                 final MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        replicas.keySet().forEach(replica -> Gauge
+            .builder("odd.r2dbc.replica.lag", lagSeconds, lags -> lags.getOrDefault(replica, Double.NaN))
+            .tag("replica", replica)
+            .baseUnit("seconds")
+            .register(meterRegistry));
+    }
+
+    public void start() {
+        checks = Flux.interval(Duration.ZERO, checkInterval)
+            .onBackpressureDrop()
+            .concatMap(ignored -> checkAll())
+            .subscribe();
+    }
+
+    public void stop() {
+        if (checks != null) {
+            checks.dispose();
+        }
+    }
+
+    public boolean isAvailable(final String replica) {
+        final Double lag = lagSeconds.get(replica);
+        return lag != null && !lag.isNaN() && lag <= maxLag.toMillis() / 1000.0;
+    }
+
+    void recordLag(final String replica, final double lag) {
+        lagSeconds.put(replica, lag);
+    }
+
+    private Mono<Void> checkAll() {
+        return Flux.fromIterable(replicas.entrySet())
+            .flatMap(e -> queryLag(e.getValue())
+                .timeout(checkInterval)
+                .doOnNext(lag -> recordLag(e.getKey(), lag))
+                .onErrorResume(error -> {
+                    log.warn("Couldn't check replication lag of {}, routing its reads to the primary: {}",
+                        e.getKey(), error.getMessage());
+                    recordLag(e.getKey(), Double.NaN);
+                    return Mono.empty();
+                }))
+            .then();
+    }
+
+    private Mono<Double> queryLag(final ConnectionFactory replica) {
+        return Mono.usingWhen(
+            replica.create(),
+            c -> Mono.from(c.createStatement(LAG_QUERY).execute())
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Double.class)))),
+            Connection::close
+        );
+    }
+}
@@ -11,8 +11,10 @@ import org.opendatadiscovery.oddplatform.dto.FacetType;
 import org.opendatadiscovery.oddplatform.dto.SearchFilterDto;
 
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_SOURCE;
 import static org.opendatadiscovery.oddplatform.model.Tables.GROUP_ENTITY_RELATIONS;
 import static org.opendatadiscovery.oddplatform.model.Tables.LABEL;
@@ -24,6 +26,7 @@ import static org.opendatadiscovery.oddplatform.model.Tables.TAG;
 import static org.opendatadiscovery.oddplatform.model.Tables.TAG_TO_DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.model.Tables.TERM;
 import static org.opendatadiscovery.oddplatform.model.Tables.TITLE;
+import static org.opendatadiscovery.oddplatform.repository.util.DataEntityCTEQueryConfig.DATA_ENTITY_CTE_NAME;
 
 public class FTSConstants {
     public static final Field<Object> RANK_FIELD_ALIAS = field("rank", Object.class);
@@ -73,6 +76,30 @@ public class FTSConstants {
             }
         );
 
+    /**
+     * Conditions of the facets filtered after the data entity CTE in search results.
+     * Owners and tags are taken from the pre-aggregated data_entity_summary instead of joined relations.
+     */
+    public static final Map<FacetType, Function<List<SearchFilterDto>, Condition>> DATA_ENTITY_SUMMARY_CONDITIONS =
+        Map.of(
+            FacetType.NAMESPACES, filters -> NAMESPACE.ID.in(extractFilterId(filters)),
+            FacetType.OWNERS, filters -> DSL.arrayOverlap(DATA_ENTITY_SUMMARY.OWNER_IDS,
+                extractFilterId(filters).toArray(Long[]::new)),
+            FacetType.TAGS, filters -> DSL.arrayOverlap(DATA_ENTITY_SUMMARY.TAG_IDS,
+                extractFilterId(filters).toArray(Long[]::new)),
+            FacetType.GROUPS, filters -> {
+                final var groupOddrns = DSL.select(DATA_ENTITY.ODDRN)
+                    .from(DATA_ENTITY)
+                    .where(DATA_ENTITY.ID.in(extractFilterId(filters)));
+                final Field<String> cteOddrn = field(name(DATA_ENTITY_CTE_NAME, DATA_ENTITY.ODDRN.getName()),
+                    String.class);
+                return DSL.exists(DSL.selectOne()
+                    .from(GROUP_ENTITY_RELATIONS)
+                    .where(GROUP_ENTITY_RELATIONS.DATA_ENTITY_ODDRN.eq(cteOddrn))
+                    .and(GROUP_ENTITY_RELATIONS.GROUP_ODDRN.in(groupOddrns)));
+            }
+        );
+
     public static final Map<FacetType, Function<List<SearchFilterDto>, Condition>> TERM_CONDITIONS = Map.of(
         FacetType.NAMESPACES, filters -> TERM.NAMESPACE_ID.in(extractFilterId(filters)),
         FacetType.OWNERS, filters -> OWNER.ID.in(extractFilterId(filters)),
@@ -0,0 +1,21 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import lombok.experimental.UtilityClass;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+
+@UtilityClass
+public class JooqConditions {
+    /**
+     * Same as {@code field.in(values)}, but values are bound as a single array parameter ({@code = any(?)}),
+     * so the SQL text doesn't depend on the number of values and the prepared statement can be reused.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Condition inArray(final Field<T> field, final Collection<? extends T> values) {
+        final T[] array = values.toArray((T[]) Array.newInstance(field.getType(), values.size()));
+        return field.eq(DSL.any(DSL.val(array, field.getDataType().getArrayDataType())));
+    }
+}
@@ -34,6 +34,7 @@ import static org.jooq.impl.DSL.condition;
 import static org.jooq.impl.DSL.field;
 import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
 import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.DATA_ENTITY_CONDITIONS;
+import static org.opendatadiscovery.oddplatform.repository.util.FTSConstants.DATA_ENTITY_SUMMARY_CONDITIONS;
 
 @Component
 @RequiredArgsConstructor
@@ -129,7 +130,7 @@ public class JooqFTSHelper {
 
         final List<Condition> joinConditions = state.getState().entrySet().stream()
             .filter(not(cteFilters))
-            .map(e -> compileFacetCondition(e.getKey(), e.getValue(), DATA_ENTITY_CONDITIONS))
+            .map(e -> compileFacetCondition(e.getKey(), e.getValue(), DATA_ENTITY_SUMMARY_CONDITIONS))
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
 
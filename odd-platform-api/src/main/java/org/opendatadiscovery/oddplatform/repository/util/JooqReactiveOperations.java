@@ -1,86 +1,274 @@
 package org.opendatadiscovery.oddplatform.repository.util;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Collectors;
 import org.apache.commons.collections4.ListUtils;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.RowCountQuery;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
 import org.jooq.Table;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
+import org.opendatadiscovery.oddplatform.config.properties.BulkWriteProperties;
+import org.opendatadiscovery.oddplatform.repository.routing.ReadReplicaRouting;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class JooqReactiveOperations {
     private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BIND_PARAMETERS = 65_535;
+    private static final int ROW_WIDTH_SAMPLE_SIZE = 16;
+    private static final AtomicLong STAGING_TABLE_SEQUENCE = new AtomicLong();
+    private static final String METRIC_PREFIX = "odd.bulk_write.";
 
     private final DSLContext mappingDSLContext = DSL.using(SQLDialect.POSTGRES);
 
     private final DatabaseClient databaseClient;
+    private final BulkWriteProperties bulkWriteProperties;
+    private final int maxInFlightPartitions;
+    private final AtomicInteger inFlightPartitions = new AtomicInteger();
+    private final Timer partitionTimer;
+    private final DistributionSummary partitionRows;
+
+    public JooqReactiveOperations(final DatabaseClient databaseClient,
+                                  final BulkWriteProperties bulkWriteProperties,
+                                  final R2dbcProperties r2dbcProperties,
+                                  final MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.bulkWriteProperties = bulkWriteProperties;
+        // by default partitions of a single write may take up to half of the pool, so other queries don't starve
+        this.maxInFlightPartitions = bulkWriteProperties.getMaxInFlightPartitions() > 0
+            ? bulkWriteProperties.getMaxInFlightPartitions()
+            : Math.max(1, r2dbcProperties.getPool().getMaxSize() / 2);
+
+        this.partitionTimer = Timer.builder(METRIC_PREFIX + "partition.duration").register(meterRegistry);
+        this.partitionRows = DistributionSummary.builder(METRIC_PREFIX + "partition.rows").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "partitions.in_flight", inFlightPartitions, AtomicInteger::get)
+            .register(meterRegistry);
+    }
 
     public Mono<Integer> mono(final RowCountQuery query) {
-        return databaseClient.inConnection(c -> {
+        return ReadReplicaRouting.onPrimary(databaseClient.inConnection(c -> {
             DSL.using(c).attach(query);
             return Mono.from(query);
-        });
+        }));
     }
 
     public <R extends Record> Mono<R> mono(final ResultQuery<R> query) {
-        return databaseClient.inConnection(c -> {
+        final Mono<R> result = databaseClient.inConnection(c -> {
             DSL.using(c).attach(query);
             return Mono.from(query);
-        }).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
+        });
+        return (query instanceof Select ? result : ReadReplicaRouting.onPrimary(result))
+            .onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
     }
 
     public <R extends Record> Flux<R> flux(final ResultQuery<R> query) {
-        return databaseClient.inConnectionMany(c -> {
+        final Flux<R> result = databaseClient.inConnectionMany(c -> {
             DSL.using(c).attach(query);
             return Flux.from(query);
-        }).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
+        });
+        return (query instanceof Select ? result : ReadReplicaRouting.onPrimary(result))
+            .onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
     }
 
     public <T> Mono<Void> executeInPartition(final List<T> entities,
                                              final Function<List<T>, Mono<Integer>> mapper) {
+        return executeInPartition(entities, BATCH_SIZE, mapper);
+    }
+
+    public <T> Mono<Void> executeInPartition(final List<T> entities,
+                                             final int batchSize,
+                                             final Function<List<T>, Mono<Integer>> mapper) {
         if (entities.isEmpty()) {
             return Mono.empty();
         }
 
-        if (entities.size() <= BATCH_SIZE) {
-            return mapper.apply(entities).then();
+        if (entities.size() <= batchSize) {
+            return timed(entities, mapper).then();
         }
 
-        return ListUtils.partition(entities, BATCH_SIZE)
-            .stream()
-            .map(mapper)
-            .reduce((m1, m2) -> m1.zipWith(m2, Integer::sum))
-            .orElse(Mono.empty())
+        return Flux.fromIterable(ListUtils.partition(entities, batchSize))
+            .flatMap(partition -> timed(partition, mapper), maxInFlightPartitions)
             .then();
     }
 
     public <T, R extends Record> Flux<R> executeInPartitionReturning(final List<T> entities,
                                                                      final Function<List<T>, Flux<R>> mapper) {
+        return executeInPartitionReturning(entities, BATCH_SIZE, mapper);
+    }
+
+    public <T, R extends Record> Flux<R> executeInPartitionReturning(final List<T> entities,
+                                                                     final int batchSize,
+                                                                     final Function<List<T>, Flux<R>> mapper) {
         if (entities.isEmpty()) {
             return Flux.empty();
         }
 
-        if (entities.size() <= BATCH_SIZE) {
-            return mapper.apply(entities);
+        if (entities.size() <= batchSize) {
+            return timed(entities, mapper);
+        }
+
+        return Flux.fromIterable(ListUtils.partition(entities, batchSize))
+            .flatMapSequential(partition -> timed(partition, mapper), maxInFlightPartitions);
+    }
+
+    /**
+     * Returns the number of records which fit into a single multi-row statement
+     * based on the average width of a sample of records and the bind parameters limit.
+     */
+    public int batchSize(final List<? extends Record> records) {
+        if (records.isEmpty()) {
+            return bulkWriteProperties.getMaxBatchSize();
         }
 
-        return ListUtils.partition(entities, BATCH_SIZE)
-            .stream()
-            .map(mapper)
-            .reduce(Flux::concat)
-            .orElse(Flux.empty());
+        final int maxBatchSize = Math.min(bulkWriteProperties.getMaxBatchSize(),
+            MAX_BIND_PARAMETERS / Math.max(1, records.get(0).size()));
+
+        final List<? extends Record> sample = records.subList(0, Math.min(ROW_WIDTH_SAMPLE_SIZE, records.size()));
+        final long totalWidth = sample.stream()
+            .mapToLong(r -> PostgresCopyEncoder.encodeRow(r, Arrays.asList(r.fields())).length())
+            .sum();
+        final long averageWidth = Math.max(1, totalWidth / sample.size());
+
+        final long batchSize = bulkWriteProperties.getTargetBatchBytes() / averageWidth;
+        return (int) Math.min(maxBatchSize, Math.max(bulkWriteProperties.getMinBatchSize(), batchSize));
+    }
+
+    public boolean shouldCopy(final List<?> records) {
+        return records.size() >= bulkWriteProperties.getCopyThreshold();
+    }
+
+    /**
+     * Streams records into a temporary staging table via COPY and merges them with a single statement
+     * built by {@code mergeQuery} from the staging table.
+     */
+    public <R extends Record> Flux<R> copyAndMergeReturning(final Table<?> table,
+                                                            final List<Field<?>> columns,
+                                                            final List<? extends Record> records,
+                                                            final Function<Table<?>, ResultQuery<R>> mergeQuery) {
+        return inStagingTable(table, columns, records, (ctx, staging) -> {
+            final ResultQuery<R> query = mergeQuery.apply(staging);
+            ctx.attach(query);
+            return Flux.from(query);
+        });
+    }
+
+    public Mono<Integer> copyAndMerge(final Table<?> table,
+                                      final List<Field<?>> columns,
+                                      final List<? extends Record> records,
+                                      final Function<Table<?>, RowCountQuery> mergeQuery) {
+        return inStagingTable(table, columns, records, (ctx, staging) -> {
+            final RowCountQuery query = mergeQuery.apply(staging);
+            ctx.attach(query);
+            return Mono.from(query);
+        }).reduce(0, Integer::sum);
+    }
+
+    private <T> Flux<T> inStagingTable(final Table<?> table,
+                                       final List<Field<?>> columns,
+                                       final List<? extends Record> records,
+                                       final StagingTableMerge<T> merge) {
+        if (records.isEmpty()) {
+            return Flux.empty();
+        }
+
+        final Name stagingName = DSL.name("staging_%s_%d".formatted(table.getName(),
+            STAGING_TABLE_SEQUENCE.incrementAndGet()));
+        final Table<?> staging = DSL
+            .select(columns.stream().map(f -> DSL.field(DSL.name(f.getName()), f.getDataType())).toList())
+            .from(DSL.table(stagingName))
+            .asTable("s");
+        final String copySql = "COPY %s (%s) FROM STDIN".formatted(
+            mappingDSLContext.render(stagingName),
+            columns.stream().map(f -> mappingDSLContext.render(DSL.name(f.getName()))).collect(Collectors.joining(", "))
+        );
+
+        return ReadReplicaRouting.onPrimary(databaseClient.inConnectionMany(c -> {
+            final DSLContext ctx = DSL.using(c);
+            final RowCountQuery create = ctx.createTemporaryTable(stagingName)
+                .as(DSL.select(columns).from(table))
+                .withNoData();
+            final Mono<Integer> drop = Mono.from(ctx.dropTableIfExists(stagingName));
+
+            return Flux.usingWhen(
+                Mono.from(create).thenReturn(stagingName),
+                ignored -> unwrap(c).copyIn(copySql, encode(records, columns)).thenMany(merge.apply(ctx, staging)),
+                ignored -> drop,
+                (ignored, e) -> drop.onErrorResume(dropError -> Mono.empty()),
+                ignored -> drop.onErrorResume(dropError -> Mono.empty())
+            );
+        })).onErrorMap(DataAccessException.class, ExceptionUtils::translateDatabaseException);
+    }
+
+    private <T, P> Flux<P> timed(final List<T> partition,
+                                 final Function<List<T>, ? extends Publisher<P>> mapper) {
+        return Flux.defer(() -> {
+            final long start = System.nanoTime();
+            inFlightPartitions.incrementAndGet();
+            partitionRows.record(partition.size());
+            // recorded before the termination signal is propagated, so that callers see the partition completed
+            final Runnable record = () -> {
+                inFlightPartitions.decrementAndGet();
+                partitionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            };
+            return Flux.<P>from(mapper.apply(partition)).doOnTerminate(record).doOnCancel(record);
+        });
+    }
+
+    private Flux<ByteBuf> encode(final List<? extends Record> records, final List<Field<?>> columns) {
+        final int chunkSize = bulkWriteProperties.getCopyChunkBytes();
+        return Flux.generate(() -> 0, (index, sink) -> {
+            if (index >= records.size()) {
+                sink.complete();
+                return index;
+            }
+
+            final StringBuilder chunk = new StringBuilder(chunkSize);
+            int next = index;
+            while (next < records.size() && chunk.length() < chunkSize) {
+                PostgresCopyEncoder.appendRow(chunk, records.get(next++), columns);
+            }
+            sink.next(Unpooled.wrappedBuffer(chunk.toString().getBytes(StandardCharsets.UTF_8)));
+            return next;
+        });
+    }
+
+    private static PostgresqlConnection unwrap(final Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+        throw new IllegalStateException("COPY requires a PostgreSQL connection, got " + connection.getClass());
     }
 
     public <R extends Record> R newRecord(final Table<R> table,
@@ -93,4 +281,9 @@ public class JooqReactiveOperations {
         result.addAll(records);
         return result;
     }
+
+    @FunctionalInterface
+    private interface StagingTableMerge<T> {
+        Publisher<T> apply(final DSLContext ctx, final Table<?> staging);
+    }
 }
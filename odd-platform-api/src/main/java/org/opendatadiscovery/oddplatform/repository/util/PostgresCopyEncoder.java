@@ -0,0 +1,111 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.util.HexFormat;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.jooq.Converter;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.JSONB;
+import org.jooq.Record;
+
+/**
+ * Encodes records into rows of the PostgreSQL COPY text format.
+ */
+@UtilityClass
+public class PostgresCopyEncoder {
+    private static final String NULL = "\\N";
+
+    public static String encodeRow(final Record record, final List<Field<?>> fields) {
+        final StringBuilder sb = new StringBuilder();
+        appendRow(sb, record, fields);
+        return sb.toString();
+    }
+
+    public static void appendRow(final StringBuilder sb, final Record record, final List<Field<?>> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sb.append('\t');
+            }
+            appendValue(sb, toDatabaseValue(fields.get(i), record.get(fields.get(i))));
+        }
+        sb.append('\n');
+    }
+
+    static void appendValue(final StringBuilder sb, final Object value) {
+        if (value == null) {
+            sb.append(NULL);
+            return;
+        }
+        appendEscaped(sb, toText(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object toDatabaseValue(final Field<?> field, final Object value) {
+        if (value == null) {
+            return null;
+        }
+        final Converter<Object, Object> converter = (Converter<Object, Object>) field.getConverter();
+        return converter.toType().isInstance(value) ? converter.to(value) : value;
+    }
+
+    private static String toText(final Object value) {
+        if (value instanceof Boolean b) {
+            return b ? "t" : "f";
+        }
+        if (value instanceof JSONB jsonb) {
+            return jsonb.data();
+        }
+        if (value instanceof JSON json) {
+            return json.data();
+        }
+        if (value instanceof EnumType enumType) {
+            return enumType.getLiteral();
+        }
+        if (value instanceof byte[] bytes) {
+            return "\\x" + HexFormat.of().formatHex(bytes);
+        }
+        if (value instanceof Object[] array) {
+            return toArrayLiteral(array);
+        }
+        return value.toString();
+    }
+
+    private static String toArrayLiteral(final Object[] array) {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            if (array[i] == null) {
+                sb.append("NULL");
+            } else if (array[i] instanceof Number) {
+                sb.append(array[i]);
+            } else {
+                sb.append('"');
+                for (final char c : toText(array[i]).toCharArray()) {
+                    if (c == '"' || c == '\\') {
+                        sb.append('\\');
+                    }
+                    sb.append(c);
+                }
+                sb.append('"');
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void appendEscaped(final StringBuilder sb, final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
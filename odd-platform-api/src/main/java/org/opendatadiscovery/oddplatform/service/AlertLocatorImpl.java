@@ -14,6 +14,7 @@ import org.opendatadiscovery.oddplatform.dto.DataEntitySpecificAttributesDelta;
 import org.opendatadiscovery.oddplatform.dto.DatasetStructureDelta;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataConsumerAttributes;
 import org.opendatadiscovery.oddplatform.dto.attributes.DataTransformerAttributes;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertBISCandidate;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
@@ -29,9 +30,10 @@ public class AlertLocatorImpl implements AlertLocator {
 
     @Override
     public Flux<AlertBISCandidate> getAlertBISCandidates(final List<DataEntitySpecificAttributesDelta> deltas,
-                                                         final List<Long> changedDatasetIds) {
+                                                         final List<Long> changedDatasetIds,
+                                                         final IngestionContext context) {
         final Flux<AlertBISCandidate> datasetBisCandidates = datasetStructureService
-            .getLastDatasetStructureVersionDelta(changedDatasetIds)
+            .getLastDatasetStructureVersionDelta(changedDatasetIds, context)
             .flatMapMany(delta -> Flux.fromStream(
                 delta.entrySet().stream().flatMap(e -> locateInDSDelta(e.getKey(), e.getValue()))));
 
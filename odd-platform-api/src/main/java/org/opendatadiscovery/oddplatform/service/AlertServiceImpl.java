@@ -40,6 +40,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveAlertRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityLog;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
 import org.opendatadiscovery.oddplatform.service.activity.ActivityService;
@@ -55,6 +56,7 @@ import reactor.core.publisher.Mono;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.summingInt;
 import static java.util.stream.Collectors.toMap;
 import static org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto.ALERT_STATUS_UPDATED;
 import static org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto.OPEN_ALERT_RECEIVED;
@@ -69,6 +71,7 @@ public class AlertServiceImpl implements AlertService {
 
     private final ReactiveAlertRepository alertRepository;
     private final ReactiveDataEntityRepository dataEntityRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
     private final AlertMapper alertMapper;
     private final AuthIdentityProvider authIdentityProvider;
     private final ActivityService activityService;
@@ -109,15 +112,19 @@ public class AlertServiceImpl implements AlertService {
     }
 
     @Override
+    @ReactiveTransactional
     @ActivityLog(event = ALERT_STATUS_UPDATED)
     public Mono<Alert> updateStatus(@ActivityParameter(AlertStatusUpdated.ALERT_ID) final long alertId,
                                     final AlertStatus alertStatus) {
         final AlertStatusEnum status = AlertStatusEnum.valueOf(alertStatus.name());
 
-        final Mono<Alert> updateStatusMono = authIdentityProvider.getCurrentUser()
-            .flatMap(u -> alertRepository.updateAlertStatus(alertId, status, u.username()))
-            .switchIfEmpty(alertRepository.updateAlertStatus(alertId, status, null))
+        final Mono<Alert> updateStatusMono = alertRepository.getForUpdate(alertId)
             .switchIfEmpty(Mono.error(new NotFoundException("Alert", alertId)))
+            .flatMap(previous -> authIdentityProvider.getCurrentUser()
+                .flatMap(u -> alertRepository.updateAlertStatus(alertId, status, u.username()))
+                .switchIfEmpty(alertRepository.updateAlertStatus(alertId, status, null))
+                .flatMap(updated -> dataEntitySummaryRepository.addOpenAlerts(
+                    Map.of(updated.getDataEntityOddrn(), openAlerts(updated) - openAlerts(previous)))))
             .then(alertRepository.get(alertId))
             .map(alertMapper::mapAlert);
 
@@ -240,6 +247,10 @@ public class AlertServiceImpl implements AlertService {
 
     private Mono<Void> automaticallyResolveAlerts(final List<Long> alertIds) {
         return alertRepository.resolveAutomatically(alertIds)
+            .collectList()
+            // the update returns resolved alerts only, each of which was open before
+            .flatMap(resolved -> dataEntitySummaryRepository.addOpenAlerts(resolved.stream()
+                .collect(Collectors.groupingBy(AlertPojo::getDataEntityOddrn, summingInt(a -> -1)))))
             .then(alertRepository.get(alertIds))
             .flatMap(this::registerAutomaticallyResolvedAlertsActivityEvents);
     }
@@ -296,7 +307,9 @@ public class AlertServiceImpl implements AlertService {
                     (o1, o2) -> o2
                 ))
             ))
-            .flatMap(alertRepository::setLastCreatedAt);
+            .flatMap(alertRepository::setLastCreatedAt)
+            .then(dataEntitySummaryRepository.addOpenAlerts(openAlertsDelta(alerts)))
+            .then();
     }
 
     private Mono<Void> registerAlertCreatedEvents(final List<AlertChunkPojo> chunks) {
@@ -324,6 +337,15 @@ public class AlertServiceImpl implements AlertService {
         return activityService.createActivityEvents(activityCreateEvents);
     }
 
+    private Map<String, Integer> openAlertsDelta(final Collection<AlertPojo> alerts) {
+        return alerts.stream()
+            .collect(Collectors.groupingBy(AlertPojo::getDataEntityOddrn, summingInt(this::openAlerts)));
+    }
+
+    private int openAlerts(final AlertPojo alert) {
+        return alert.getStatus().equals(AlertStatusEnum.OPEN.getCode()) ? 1 : 0;
+    }
+
     private Mono<Long> checkDataEntityExistence(final long dataEntityId) {
         return dataEntityRepository.exists(dataEntityId).handle((exists, sink) -> {
             if (!exists) {
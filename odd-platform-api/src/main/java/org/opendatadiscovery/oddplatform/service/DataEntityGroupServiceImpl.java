@@ -27,6 +27,7 @@ import org.opendatadiscovery.oddplatform.mapper.DataEntityMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
@@ -63,6 +64,7 @@ public class DataEntityGroupServiceImpl implements DataEntityGroupService {
     private final TermRelationsRepository termRelationsRepository;
     private final ReactiveOwnershipRepository ownershipRepository;
     private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     private final DataEntityMapper dataEntityMapper;
 
@@ -220,7 +222,8 @@ public class DataEntityGroupServiceImpl implements DataEntityGroupService {
             tagService.deleteRelationsForDataEntity(pojo.getId()),
             ownershipRepository.deleteByDataEntityId(pojo.getId()),
             dataEntityFilledService.markEntityUnfilled(pojo.getId(), MANUALLY_CREATED)
-        ).then(reactiveDataEntityRepository.delete(pojo.getId()));
+        ).then(dataEntitySummaryRepository.refresh(pojo.getId()))
+            .then(reactiveDataEntityRepository.delete(pojo.getId()));
     }
 
     private String generateOddrn(final DataEntityPojo pojo) {
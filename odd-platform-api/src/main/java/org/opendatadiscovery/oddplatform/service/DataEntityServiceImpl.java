@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.annotation.ReadFromReplica;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityClassAndTypeDictionary;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDataEntityGroupFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityDetails;
@@ -170,6 +171,7 @@ public class DataEntityServiceImpl implements DataEntityService {
     }
 
     @Override
+    @ReadFromReplica
     public Mono<DataEntityList> findByState(final FacetStateDto state,
                                             final int page,
                                             final int size,
@@ -35,6 +35,7 @@ public class DataSourceIngestionServiceImpl implements DataSourceIngestionServic
     private final ReactiveDataSourceRepository reactiveDataSourceRepository;
     private final ReactiveCollectorRepository reactiveCollectorRepository;
     private final DataSourceIngestionMapper dataSourceIngestionMapper;
+    private final DirectoryIndex directoryIndex;
 
     @Override
     @ReactiveTransactional
@@ -65,7 +66,8 @@ public class DataSourceIngestionServiceImpl implements DataSourceIngestionServic
                         final Flux<DataSourcePojo> createdDataSources =
                             reactiveDataSourceRepository.bulkCreate(toCreate);
 
-                        return Flux.concat(updatedDataSources, createdDataSources);
+                        return Flux.concat(updatedDataSources, createdDataSources)
+                            .concatWith(directoryIndex.invalidateAfterCommit().then(Mono.empty()));
                     })
                     .map(dataSourceIngestionMapper::mapPojoToIngestionModel);
             });
@@ -34,6 +34,7 @@ public class DataSourceServiceImpl implements DataSourceService {
     private final ReactiveTokenRepository tokenRepository;
     private final NamespaceService namespaceService;
     private final ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    private final DirectoryIndex directoryIndex;
 
     @Override
     public Mono<DataSourceList> list(final Integer page, final Integer size, final String nameQuery) {
@@ -88,7 +89,8 @@ public class DataSourceServiceImpl implements DataSourceService {
         return dataEntityRepository.existsByDataSourceId(id)
             .flatMap(exists -> {
                 if (!exists) {
-                    return dataSourceRepository.delete(id).map(DataSourcePojo::getId);
+                    return dataSourceRepository.delete(id)
+                        .flatMap(pojo -> directoryIndex.invalidateAfterCommit().thenReturn(pojo.getId()));
                 }
                 return Mono.error(new CascadeDeleteException(
                     "Data source cannot be deleted: there are still data entities attached"));
@@ -110,6 +112,7 @@ public class DataSourceServiceImpl implements DataSourceService {
                                                  final NamespacePojo namespace) {
         return Mono.just(dataSourceMapper.applyToPojo(dataSourceDto.dataSource(), form, namespace))
             .flatMap(dataSourceRepository::update)
+            .flatMap(pojo -> directoryIndex.invalidateAfterCommit().thenReturn(pojo))
             .map(pojo -> new DataSourceDto(pojo, namespace, dataSourceDto.token()));
     }
 
@@ -121,6 +124,7 @@ public class DataSourceServiceImpl implements DataSourceService {
         }
         return Mono.just(dataSourceMapper.mapForm(form, namespace, token))
             .flatMap(dataSourceRepository::create)
+            .flatMap(ds -> directoryIndex.invalidateAfterCommit().thenReturn(ds))
             .map(ds -> new DataSourceDto(ds, namespace, token));
     }
 
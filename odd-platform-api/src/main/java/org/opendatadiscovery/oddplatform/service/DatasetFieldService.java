@@ -1,10 +1,16 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldDescription;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsList;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsQuery;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldDescriptionUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldLabelsUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.Label;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import reactor.core.publisher.Flux;
@@ -17,7 +23,15 @@ public interface DatasetFieldService {
     Flux<Label> updateDatasetFieldLabels(final long datasetFieldId,
                                          final DatasetFieldLabelsUpdateFormData formData);
 
-    Mono<List<DatasetFieldPojo>> createOrUpdateDatasetFields(final List<DatasetFieldPojo> fields);
+    Mono<List<DatasetFieldPojo>> createOrUpdateDatasetFields(final List<DatasetFieldPojo> fields,
+                                                             final IngestionContext context);
 
     Mono<Void> updateStatistics(final DatasetStatisticsList datasetStatisticsList);
+
+    Mono<DataSetFieldStatsList> getStatistics(final DataSetFieldStatsQuery query);
+
+    /**
+     * @return statistics by dataset field ids, fields without statistics are omitted
+     */
+    Mono<Map<Long, DataSetFieldStat>> getStatistics(final Collection<Long> datasetFieldIds);
 }
@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -11,11 +12,15 @@ import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldDescription;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStats;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsList;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStatsQuery;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldDescriptionUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.DatasetFieldLabelsUpdateFormData;
 import org.opendatadiscovery.oddplatform.api.contract.model.Label;
@@ -23,6 +28,8 @@ import org.opendatadiscovery.oddplatform.api.contract.model.LinkedTerm;
 import org.opendatadiscovery.oddplatform.dto.EnumValueOrigin;
 import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
 import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetStatistics;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
@@ -45,7 +52,9 @@ import org.opendatadiscovery.oddplatform.service.activity.ActivityParameter;
 import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
 import org.opendatadiscovery.oddplatform.service.term.TermService;
 import org.opendatadiscovery.oddplatform.utils.ActivityParameterNames.DatasetFieldInformationUpdated;
+import org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -59,6 +68,8 @@ import static org.opendatadiscovery.oddplatform.dto.DataEntityFilledField.DATASE
 @RequiredArgsConstructor
 @Slf4j
 public class DatasetFieldServiceImpl implements DatasetFieldService {
+    private static final int STATS_QUERY_MAX_FIELDS = 5000;
+
     private final ReactiveLabelService labelService;
     private final DataEntityFilledService dataEntityFilledService;
     private final TermService termService;
@@ -75,6 +86,9 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
     private final EnumValueMapper enumValueMapper;
     private final TermMapper termMapper;
 
+    @Value("${odd.statistics.ingestion-window-size:1000}")
+    private int statisticsWindowSize;
+
     @Override
     @ReactiveTransactional
     public Mono<DataSetFieldDescription> updateDescription(final long datasetFieldId,
@@ -105,14 +119,15 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
     }
 
     @Override
-    public Mono<List<DatasetFieldPojo>> createOrUpdateDatasetFields(final List<DatasetFieldPojo> fields) {
+    public Mono<List<DatasetFieldPojo>> createOrUpdateDatasetFields(final List<DatasetFieldPojo> fields,
+                                                                    final IngestionContext context) {
         if (fields.isEmpty()) {
             return Mono.just(List.of());
         }
         final List<String> oddrns = fields.stream().map(DatasetFieldPojo::getOddrn).toList();
 
-        return reactiveDatasetFieldRepository.getLastVersionDatasetFieldsByOddrns(oddrns)
-            .collect(Collectors.toMap(DatasetFieldPojo::getOddrn, identity()))
+        return context
+            .getLastVersionDatasetFields(oddrns, reactiveDatasetFieldRepository::getLastVersionDatasetFieldsByOddrns)
             .flatMap(existingFieldsMap -> {
                 final DatasetFieldIngestionDto fieldIngestionDto =
                     buildDatasetFieldIngestionDto(fields, existingFieldsMap);
@@ -124,37 +139,81 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
                     .flatMapMany(createdFields ->
                         copyRelationsForNewDatasetFields(createdFields, fieldIngestionDto.fieldsToCreate()))
                     .concatWith(reactiveDatasetFieldRepository.bulkUpdate(pojosToUpdate))
+                    .concatWith(Flux.fromIterable(fieldIngestionDto.unchangedFields()))
                     .collectList();
             });
     }
 
+    @Override
+    public Mono<DataSetFieldStatsList> getStatistics(final DataSetFieldStatsQuery query) {
+        if (CollectionUtils.isEmpty(query.getDatasetFieldIds())) {
+            return Mono.error(new BadUserRequestException("Dataset field ids must not be empty"));
+        }
+        if (query.getDatasetFieldIds().size() > STATS_QUERY_MAX_FIELDS) {
+            return Mono.error(new BadUserRequestException(
+                "Statistics can be requested for at most %d dataset fields at once", STATS_QUERY_MAX_FIELDS));
+        }
+        return getStatistics(Set.copyOf(query.getDatasetFieldIds()))
+            .map(statistics -> new DataSetFieldStatsList().items(statistics.entrySet().stream()
+                .map(e -> new DataSetFieldStats().datasetFieldId(e.getKey()).stats(e.getValue()))
+                .toList()));
+    }
+
+    @Override
+    public Mono<Map<Long, org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat>> getStatistics(
+        final Collection<Long> datasetFieldIds) {
+        if (datasetFieldIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return reactiveDatasetFieldRepository.getStatistics(datasetFieldIds)
+            .flatMap(field -> Mono.justOrEmpty(datasetFieldApiMapper.mapStats(field))
+                .map(stat -> Map.entry(field.getId(), stat)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
     @Override
     @ReactiveTransactional
     public Mono<Void> updateStatistics(final DatasetStatisticsList datasetStatisticsList) {
-        final Map<String, DataSetFieldStat> statistics = datasetStatisticsList.getItems().stream()
-            .map(DataSetStatistics::getFields)
-            .reduce(new HashMap<>(), (acc, fields) -> {
-                acc.putAll(fields);
-                return acc;
-            });
+        return Flux.fromIterable(datasetStatisticsList.getItems())
+            .buffer(statisticsWindowSize)
+            .concatMap(this::updateStatistics)
+            .then();
+    }
 
-        final Set<String> datasetOddrns = datasetStatisticsList.getItems().stream()
-            .map(DataSetStatistics::getDatasetOddrn)
-            .collect(toSet());
+    private Mono<Void> updateStatistics(final List<DataSetStatistics> window) {
+        final Map<String, DataSetFieldStat> statistics = new HashMap<>();
+        final Map<String, String> datasetOddrns = new HashMap<>();
+        for (final DataSetStatistics datasetStatistics : window) {
+            MapUtils.emptyIfNull(datasetStatistics.getFields()).forEach((fieldOddrn, stat) -> {
+                statistics.put(fieldOddrn, stat);
+                datasetOddrns.put(fieldOddrn, datasetStatistics.getDatasetOddrn());
+            });
+        }
 
         return reactiveDatasetFieldRepository
             .getLastVersionDatasetFieldsByOddrns(new ArrayList<>(statistics.keySet()))
             .collectList()
-            .flatMap(existingFields -> Mono.zipDelayError(
-                updateFieldsStatistics(statistics, existingFields),
-                updateFieldsLabels(statistics, existingFields)
-            ))
-            .then(reactiveSearchEntrypointRepository.updateStructureVectorForDataEntitiesByOddrns(datasetOddrns))
+            .flatMap(existingFields -> updateFieldsStatistics(statistics, existingFields)
+                .then(updateFieldsLabels(statistics, existingFields)))
+            .flatMap(relabeledFieldOddrns -> {
+                // statistics aren't searchable, so only the datasets with changed labels are re-vectorised
+                final Set<String> relabeledDatasetOddrns = relabeledFieldOddrns.stream()
+                    .map(datasetOddrns::get)
+                    .collect(toSet());
+                if (relabeledDatasetOddrns.isEmpty()) {
+                    return Mono.empty();
+                }
+                return reactiveSearchEntrypointRepository
+                    .updateStructureVectorForDataEntitiesByOddrns(relabeledDatasetOddrns);
+            })
             .then();
     }
 
-    private Mono<Void> updateFieldsLabels(final Map<String, DataSetFieldStat> statisticsDict,
-                                          final List<DatasetFieldPojo> existingFields) {
+    /**
+     * @return oddrns of the dataset fields whose labels have changed
+     */
+    private Mono<Set<String>> updateFieldsLabels(final Map<String, DataSetFieldStat> statisticsDict,
+                                                 final List<DatasetFieldPojo> existingFields) {
         final Set<String> labelNames = statisticsDict.values().stream()
             .flatMap(stat -> stat.getTags() != null ? stat.getTags().stream() : Stream.empty())
             .map(Tag::getName)
@@ -163,41 +222,44 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
         final Map<String, DatasetFieldPojo> datasetFieldDict = existingFields.stream()
             .collect(toMap(DatasetFieldPojo::getOddrn, identity()));
 
+        final Map<Long, String> datasetFieldOddrns = existingFields.stream()
+            .collect(toMap(DatasetFieldPojo::getId, DatasetFieldPojo::getOddrn, (first, second) -> first));
+
         return labelService
             .getOrCreateLabelsByName(labelNames)
             .collectMap(LabelPojo::getName, identity())
-            .flatMap(labels -> {
-                final Set<LabelToDatasetFieldPojo> relationsToCreate = transposeDatasetStatisticsDict(statisticsDict)
+            .flatMapMany(labels -> {
+                final Set<LabelToDatasetFieldPojo> actualRelations = transposeDatasetStatisticsDict(statisticsDict)
                     .entries().stream()
+                    .filter(e -> datasetFieldDict.containsKey(e.getValue()))
                     .map(e -> createExternalStatisticsRelation(
                         labels.get(e.getKey()).getId(),
                         datasetFieldDict.get(e.getValue()).getId()
                     ))
                     .collect(toSet());
 
-                final List<Long> datasetFieldIds = datasetFieldDict.values().stream()
-                    .map(DatasetFieldPojo::getId)
-                    .toList();
-
                 return reactiveLabelRepository
-                    .listLabelRelations(datasetFieldIds, LabelOrigin.EXTERNAL_STATISTICS)
-                    .collectList()
-                    .flatMap(existingRelations -> {
+                    .listLabelRelations(datasetFieldOddrns.keySet(), LabelOrigin.EXTERNAL_STATISTICS)
+                    .collect(toSet())
+                    .flatMapMany(existingRelations -> {
                         final List<LabelToDatasetFieldPojo> relationsToDelete = existingRelations.stream()
-                            .filter(r -> !relationsToCreate.contains(r))
+                            .filter(r -> !actualRelations.contains(r))
+                            .toList();
+                        final List<LabelToDatasetFieldPojo> relationsToCreate = actualRelations.stream()
+                            .filter(r -> !existingRelations.contains(r))
                             .toList();
 
-                        return reactiveLabelRepository
-                            .deleteRelations(relationsToDelete)
-                            .then(reactiveLabelRepository.createRelations(relationsToCreate).collectList());
+                        return reactiveLabelRepository.deleteRelations(relationsToDelete)
+                            .concatWith(reactiveLabelRepository.createRelations(relationsToCreate));
                     });
             })
-            .then();
+            .map(relation -> datasetFieldOddrns.get(relation.getDatasetFieldId()))
+            .collect(toSet());
     }
 
     private Mono<Void> updateFieldsStatistics(final Map<String, DataSetFieldStat> statisticsDict,
                                               final List<DatasetFieldPojo> existingFields) {
-        final List<DatasetFieldPojo> fieldsToUpdate = new ArrayList<>();
+        final List<DatasetFieldPojo> fieldsStatistics = new ArrayList<>();
 
         for (final DatasetFieldPojo field : existingFields) {
             final DataSetFieldStat stat = statisticsDict.get(field.getOddrn());
@@ -208,11 +270,13 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
                 continue;
             }
 
-            field.setStats(JSONB.jsonb(JSONSerDeUtils.serializeJson(stat)));
-            fieldsToUpdate.add(field);
+            fieldsStatistics.add(new DatasetFieldPojo()
+                .setId(field.getId())
+                .setStats(JSONB.jsonb(JSONSerDeUtils.serializeJson(stat)))
+                .setStatsBinary(DatasetFieldStatsCodec.encode(stat)));
         }
 
-        return reactiveDatasetFieldRepository.bulkUpdate(fieldsToUpdate).then();
+        return reactiveDatasetFieldRepository.updateStatistics(fieldsStatistics);
     }
 
     private Mono<DataEntityFilledPojo> markDataEntityByLabels(final List<String> internalLabels,
@@ -281,6 +345,7 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
             copyNew.setInternalDescription(pair.lastExistingVersion().getInternalDescription());
             if (copyNew.getStats() == null || copyNew.getStats().data().equals("{}")) {
                 copyNew.setStats(pair.lastExistingVersion().getStats());
+                copyNew.setStatsBinary(pair.lastExistingVersion().getStatsBinary());
             }
         }
         return copyNew;
@@ -341,27 +406,35 @@ public class DatasetFieldServiceImpl implements DatasetFieldService {
                                                                    final Map<String, DatasetFieldPojo> existingFields) {
         final Map<String, DatasetFieldPair> fieldsToCreate = new HashMap<>();
         final List<DatasetFieldPair> fieldsToUpdate = new ArrayList<>();
+        final List<DatasetFieldPojo> unchangedFields = new ArrayList<>();
         fieldsToIngest.forEach(fieldPojo -> {
             final DatasetFieldPojo existingField = existingFields.get(fieldPojo.getOddrn());
             if (existingField == null) {
                 fieldsToCreate.put(fieldPojo.getOddrn(), new DatasetFieldPair(null, fieldPojo));
                 return;
             }
-            final String newVersionHash =
-                datasetVersionHashCalculator.calculateStructureHashFromPojos(List.of(fieldPojo));
-            final String existingVersionHash =
-                datasetVersionHashCalculator.calculateStructureHashFromPojos(List.of(existingField));
-            if (newVersionHash.equals(existingVersionHash)) {
-                fieldsToUpdate.add(new DatasetFieldPair(existingField, fieldPojo));
-            } else {
+            final String newVersionHash = datasetVersionHashCalculator.calculateFieldHash(fieldPojo);
+            final String existingVersionHash = datasetVersionHashCalculator.calculateFieldHash(existingField);
+            if (!newVersionHash.equals(existingVersionHash)) {
                 fieldsToCreate.put(fieldPojo.getOddrn(), new DatasetFieldPair(existingField, fieldPojo));
+            } else if (isIngestedPayloadUnchanged(fieldPojo, existingField)) {
+                unchangedFields.add(existingField);
+            } else {
+                fieldsToUpdate.add(new DatasetFieldPair(existingField, fieldPojo));
             }
         });
-        return new DatasetFieldIngestionDto(fieldsToCreate, fieldsToUpdate);
+        return new DatasetFieldIngestionDto(fieldsToCreate, fieldsToUpdate, unchangedFields);
+    }
+
+    private boolean isIngestedPayloadUnchanged(final DatasetFieldPojo fieldToIngest,
+                                               final DatasetFieldPojo existingField) {
+        return fieldToIngest.getIngestionFingerprint() != null
+            && fieldToIngest.getIngestionFingerprint().equals(existingField.getIngestionFingerprint());
     }
 
     record DatasetFieldIngestionDto(Map<String, DatasetFieldPair> fieldsToCreate,
-                                    List<DatasetFieldPair> fieldsToUpdate) {
+                                    List<DatasetFieldPair> fieldsToUpdate,
+                                    List<DatasetFieldPojo> unchangedFields) {
     }
 
     record DatasetFieldPair(DatasetFieldPojo lastExistingVersion, DatasetFieldPojo versionToIngest) {
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -12,12 +13,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.opendatadiscovery.oddplatform.dto.DatasetStructureDelta;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetStructurePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetStructureRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionDeltaRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
+import org.opendatadiscovery.oddplatform.utils.DatasetVersionDeltaUtils;
 import org.opendatadiscovery.oddplatform.utils.Pair;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -27,21 +33,36 @@ import reactor.core.publisher.Mono;
 public class DatasetStructureServiceImpl implements DatasetStructureService {
     private final ReactiveDatasetVersionRepository reactiveDatasetVersionRepository;
     private final ReactiveDatasetStructureRepository reactiveDatasetStructureRepository;
+    private final ReactiveDatasetVersionDeltaRepository reactiveDatasetVersionDeltaRepository;
     private final DatasetFieldService datasetFieldService;
 
+    @Value("${datasets.structure.checkpoint-interval:20}")
+    private int checkpointInterval;
+
     @Override
     public Mono<Void> createDatasetStructure(final List<DatasetVersionPojo> versions,
-                                             final Map<String, List<DatasetFieldPojo>> fields) {
+                                             final Map<String, List<DatasetFieldPojo>> fields,
+                                             final IngestionContext context) {
         final List<DatasetFieldPojo> datasetFieldPojos = fields.values().stream()
             .flatMap(List::stream)
             .collect(Collectors.toList());
 
-        return datasetFieldService.createOrUpdateDatasetFields(datasetFieldPojos)
+        return datasetFieldService.createOrUpdateDatasetFields(datasetFieldPojos, context)
+            .doOnNext(context::putLastVersionDatasetFields)
             .map(list -> list.stream().collect(Collectors.toMap(DatasetFieldPojo::getOddrn, Function.identity())))
             .flatMap(datasetFieldPojoMap -> reactiveDatasetVersionRepository.bulkCreate(versions)
                 .collectList()
-                .map(createdVersions -> getDatasetPojoStructure(fields, datasetFieldPojoMap, createdVersions))
-                .flatMap(reactiveDatasetStructureRepository::bulkCreateHeadless));
+                .doOnNext(context::putLatestDatasetVersions)
+                .flatMap(createdVersions -> {
+                    final List<DatasetStructurePojo> structure =
+                        getDatasetPojoStructure(fields, datasetFieldPojoMap, createdVersions);
+                    return getPreviousVersionsFieldIds(createdVersions)
+                        .map(previousFieldIds -> buildDeltas(createdVersions, structure, previousFieldIds))
+                        .flatMap(reactiveDatasetVersionDeltaRepository::bulkCreateHeadless)
+                        .then(reactiveDatasetStructureRepository
+                            .deletePreviousVersionsStructure(createdVersions, structure))
+                        .then(reactiveDatasetStructureRepository.bulkCreateHeadless(structure));
+                }));
     }
 
     @Override
@@ -66,6 +87,27 @@ public class DatasetStructureServiceImpl implements DatasetStructureService {
             });
     }
 
+    @Override
+    public Mono<Map<String, DatasetStructureDelta>> getLastDatasetStructureVersionDelta(
+        final List<Long> datasetIds,
+        final IngestionContext context
+    ) {
+        if (CollectionUtils.isEmpty(datasetIds)) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        // versions of changed datasets are already known if they were changed during the same ingestion
+        final List<DatasetVersionPojo> previousVersions = context.getPreviousDatasetVersions();
+        final List<DatasetVersionPojo> latestVersions = previousVersions.stream()
+            .map(v -> context.getLatestDatasetVersion(v.getDatasetOddrn()))
+            .filter(Objects::nonNull)
+            .toList();
+        if (previousVersions.size() != datasetIds.size() || latestVersions.size() != previousVersions.size()) {
+            return getLastDatasetStructureVersionDelta(datasetIds);
+        }
+        return getLastStructureDelta(latestVersions, previousVersions);
+    }
+
     private Mono<Map<String, DatasetStructureDelta>> getLastStructureDelta(
         final List<DatasetVersionPojo> latestVersions,
         final List<DatasetVersionPojo> penultimateList) {
@@ -94,6 +136,36 @@ public class DatasetStructureServiceImpl implements DatasetStructureService {
             });
     }
 
+    private Mono<Map<String, Set<Long>>> getPreviousVersionsFieldIds(final List<DatasetVersionPojo> createdVersions) {
+        final List<DatasetVersionPojo> versionsWithPrevious = createdVersions.stream()
+            .filter(v -> v.getVersion() > 1)
+            .toList();
+        return reactiveDatasetVersionRepository.getPenultimateVersions(versionsWithPrevious)
+            .flatMap(previousVersions -> reactiveDatasetVersionRepository
+                .getDatasetVersionFieldIds(previousVersions.stream().map(DatasetVersionPojo::getId).toList())
+                .map(versionFieldIds -> previousVersions.stream()
+                    .filter(v -> versionFieldIds.containsKey(v.getId()))
+                    .collect(Collectors.toMap(DatasetVersionPojo::getDatasetOddrn,
+                        v -> versionFieldIds.get(v.getId())))));
+    }
+
+    private List<DatasetVersionDeltaPojo> buildDeltas(final List<DatasetVersionPojo> createdVersions,
+                                                      final List<DatasetStructurePojo> structure,
+                                                      final Map<String, Set<Long>> previousFieldIds) {
+        final Map<Long, Set<Long>> versionFieldIds = structure.stream()
+            .collect(Collectors.groupingBy(DatasetStructurePojo::getDatasetVersionId,
+                Collectors.mapping(DatasetStructurePojo::getDatasetFieldId, Collectors.toSet())));
+
+        return createdVersions.stream()
+            .map(v -> DatasetVersionDeltaUtils.buildDelta(
+                v.getId(),
+                previousFieldIds.get(v.getDatasetOddrn()),
+                versionFieldIds.getOrDefault(v.getId(), Set.of()),
+                DatasetVersionDeltaUtils.isCheckpoint(v.getVersion(), checkpointInterval)
+            ))
+            .toList();
+    }
+
     private List<DatasetStructurePojo> getDatasetPojoStructure(
         final Map<String, List<DatasetFieldPojo>> datasetFields,
         final Map<String, DatasetFieldPojo> datasetFieldPojoMap,
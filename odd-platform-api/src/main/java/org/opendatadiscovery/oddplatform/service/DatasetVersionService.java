@@ -1,13 +1,24 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructure;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetVersionDiffList;
 import reactor.core.publisher.Mono;
 
 public interface DatasetVersionService {
-    Mono<DataSetStructure> getDatasetVersion(final long datasetId, final long datasetVersionId);
+    Mono<DataSetStructure> getDatasetVersion(final long datasetId,
+                                             final long datasetVersionId,
+                                             final boolean includeStats);
 
-    Mono<DataSetStructure> getLatestDatasetVersion(final long datasetId);
+    Mono<DataSetStructure> getLatestDatasetVersion(final long datasetId, final boolean includeStats);
+
+    Mono<DataSetFieldList> getDatasetVersionFields(final long datasetId,
+                                                   final long datasetVersionId,
+                                                   final Long parentFieldId,
+                                                   final String query,
+                                                   final Long lastFieldId,
+                                                   final int size,
+                                                   final boolean includeStats);
 
     Mono<DataSetVersionDiffList> getDatasetVersionDiff(final long datasetId,
                                                        final long firstVersionId,
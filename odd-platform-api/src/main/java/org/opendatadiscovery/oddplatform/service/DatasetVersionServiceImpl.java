@@ -11,7 +11,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetField;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldDiffState;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetStructure;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetVersionDiff;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetVersionDiffList;
@@ -22,34 +24,74 @@ import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.mapper.DatasetFieldApiMapper;
 import org.opendatadiscovery.oddplatform.mapper.DatasetVersionMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
 import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import static reactor.function.TupleUtils.predicate;
+
 @Service
 @RequiredArgsConstructor
 public class DatasetVersionServiceImpl implements DatasetVersionService {
+    private static final int FIELDS_PAGE_MAX_SIZE = 1000;
+
     private final ReactiveDatasetVersionRepository reactiveDatasetVersionRepository;
+    private final ReactiveDataEntityRepository reactiveDataEntityRepository;
     private final DatasetVersionMapper datasetVersionMapper;
     private final DatasetFieldApiMapper datasetFieldApiMapper;
     private final DatasetVersionHashCalculator datasetVersionHashCalculator;
+    private final DatasetFieldService datasetFieldService;
 
     @Override
-    public Mono<DataSetStructure> getDatasetVersion(final long datasetId, final long datasetVersionId) {
+    public Mono<DataSetStructure> getDatasetVersion(final long datasetId,
+                                                    final long datasetVersionId,
+                                                    final boolean includeStats) {
         return reactiveDatasetVersionRepository.getDatasetVersion(datasetVersionId)
             .switchIfEmpty(Mono.error(
                 new NotFoundException("Dataset version with id %s for dataset with id %s not found"
                     .formatted(datasetVersionId, datasetId))))
-            .map(datasetVersionMapper::mapDatasetStructure);
+            .map(datasetVersionMapper::mapDatasetStructure)
+            .flatMap(structure -> includeStats
+                ? fillStatistics(structure.getFieldList()).thenReturn(structure)
+                : Mono.just(structure));
     }
 
     @Override
-    public Mono<DataSetStructure> getLatestDatasetVersion(final long datasetId) {
+    public Mono<DataSetStructure> getLatestDatasetVersion(final long datasetId, final boolean includeStats) {
         return reactiveDatasetVersionRepository.getLatestDatasetVersion(datasetId)
             .switchIfEmpty(Mono.error(
                 new NotFoundException("Can't find latest version for dataset with id %s".formatted(datasetId))))
-            .map(datasetVersionMapper::mapDatasetStructure);
+            .map(datasetVersionMapper::mapDatasetStructure)
+            .flatMap(structure -> includeStats
+                ? fillStatistics(structure.getFieldList()).thenReturn(structure)
+                : Mono.just(structure));
+    }
+
+    @Override
+    public Mono<DataSetFieldList> getDatasetVersionFields(final long datasetId,
+                                                          final long datasetVersionId,
+                                                          final Long parentFieldId,
+                                                          final String query,
+                                                          final Long lastFieldId,
+                                                          final int size,
+                                                          final boolean includeStats) {
+        if (size < 1 || size > FIELDS_PAGE_MAX_SIZE) {
+            return Mono.error(new BadUserRequestException("Page size must be between 1 and %d", FIELDS_PAGE_MAX_SIZE));
+        }
+        return reactiveDatasetVersionRepository.get(datasetVersionId)
+            .zipWith(reactiveDataEntityRepository.get(datasetId))
+            .filter(predicate((version, dataset) -> version.getDatasetOddrn().equals(dataset.getOddrn())))
+            .switchIfEmpty(Mono.error(
+                new NotFoundException("Dataset version with id %s for dataset with id %s not found"
+                    .formatted(datasetVersionId, datasetId))))
+            .flatMap(ignored -> reactiveDatasetVersionRepository
+                .getDatasetVersionFieldsPage(datasetVersionId, parentFieldId, query, lastFieldId, size))
+            .map(datasetFieldApiMapper::mapDtoPage)
+            .flatMap(fields -> includeStats
+                ? fillStatistics(fields.getItems()).thenReturn(fields)
+                : Mono.just(fields));
     }
 
     @Override
@@ -63,6 +105,13 @@ public class DatasetVersionServiceImpl implements DatasetVersionService {
             .map(versionFields -> buildDataSetVersionDiffList(versionFields, firstVersionId, secondVersionId));
     }
 
+    private Mono<Void> fillStatistics(final List<DataSetField> fields) {
+        final List<Long> fieldIds = fields.stream().map(DataSetField::getId).toList();
+        return datasetFieldService.getStatistics(fieldIds)
+            .doOnNext(statistics -> fields.forEach(field -> field.setStats(statistics.get(field.getId()))))
+            .then();
+    }
+
     private DataSetVersionDiffList buildDataSetVersionDiffList(final List<DatasetVersionFields> versionFields,
                                                                final long firstVersionId,
                                                                final long secondVersionId) {
@@ -217,10 +266,10 @@ public class DatasetVersionServiceImpl implements DatasetVersionService {
 
     private boolean fieldsAreTheSameBetweenVersions(final DatasetFieldPojo firstVersionField,
                                                     final DatasetFieldPojo secondVersionField) {
-        final String firstFieldHash =
-            datasetVersionHashCalculator.calculateStructureHashFromPojos(List.of(firstVersionField));
-        final String secondFieldHash =
-            datasetVersionHashCalculator.calculateStructureHashFromPojos(List.of(secondVersionField));
-        return firstFieldHash.equals(secondFieldHash);
+        if (firstVersionField.getId().equals(secondVersionField.getId())) {
+            return true;
+        }
+        return datasetVersionHashCalculator.calculateFieldHash(firstVersionField)
+            .equals(datasetVersionHashCalculator.calculateFieldHash(secondVersionField));
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddrn.annotation.PathField;
+import org.opendatadiscovery.oddrn.model.OddrnPath;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import static java.util.stream.Collectors.groupingBy;
+import static org.opendatadiscovery.oddplatform.utils.OddrnUtils.UNKNOWN_DATASOURCE_TYPE;
+
+/**
+ * In-memory index of the data source directory: data sources grouped by the prefix of their oddrns together with
+ * the counts of their data entities per type. Data source oddrns are parsed through {@link OddrnCache},
+ * so rebuilds don't parse them again. The index is rebuilt when data sources change. Ingestion marks the counts
+ * of its data source as stale, and only stale counts are recounted on the next read. Changes made by other instances
+ * or by other code paths are picked up when the index expires.
+ */
+@Component
+@Slf4j
+public class DirectoryIndex {
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final ReactiveDataEntityRepository dataEntityRepository;
+    private final OddrnCache oddrnCache;
+    private final long ttlNanos;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Set<Long> staleCounts = ConcurrentHashMap.newKeySet();
+    private final Mono<Snapshot> snapshot;
+
+    public DirectoryIndex(final ReactiveDataSourceRepository dataSourceRepository,
+                          final ReactiveDataEntityRepository dataEntityRepository,
+                          final OddrnCache oddrnCache,
+                          @Value("${odd.directory.cache-ttl:1m}") final Duration ttl) {
+        this.dataSourceRepository = dataSourceRepository;
+        this.dataEntityRepository = dataEntityRepository;
+        this.oddrnCache = oddrnCache;
+        this.ttlNanos = ttl.toNanos();
+        // errors aren't cached, so a failed build is retried by the next read
+        this.snapshot = Mono.defer(this::build).cacheInvalidateIf(this::isOutdated);
+    }
+
+    public Mono<Snapshot> get() {
+        return snapshot.flatMap(this::recountStale);
+    }
+
+    /**
+     * Rebuilds the index on the next read after the current transaction commits.
+     */
+    public Mono<Void> invalidateAfterCommit() {
+        return afterCommit(version::incrementAndGet);
+    }
+
+    /**
+     * Recounts data entities of the data source on the next read after the current transaction commits.
+     */
+    public Mono<Void> invalidateCountsAfterCommit(final long dataSourceId) {
+        return afterCommit(() -> staleCounts.add(dataSourceId));
+    }
+
+    private Mono<Snapshot> build() {
+        final long buildVersion = version.get();
+        final long builtAt = System.nanoTime();
+        // the whole index is counted below, so counts marked as stale until now are recounted anyway
+        staleCounts.clear();
+
+        final Mono<Map<String, List<DataSourceEntry>>> dataSources = dataSourceRepository.list()
+            .map(this::toEntry)
+            .collectList()
+            .map(entries -> entries.stream().collect(groupingBy(DataSourceEntry::prefix)));
+
+        return Mono.zip(dataSources, dataEntityRepository.getTypeCountByDataSources(List.of()))
+            .map(t -> new Snapshot(buildVersion, builtAt, t.getT1(), new ConcurrentHashMap<>(t.getT2())));
+    }
+
+    private boolean isOutdated(final Snapshot snapshot) {
+        return snapshot.version != version.get() || System.nanoTime() - snapshot.builtAt > ttlNanos;
+    }
+
+    private Mono<Snapshot> recountStale(final Snapshot snapshot) {
+        if (staleCounts.isEmpty()) {
+            return Mono.just(snapshot);
+        }
+
+        final List<Long> dataSourceIds = List.copyOf(staleCounts);
+        staleCounts.removeAll(dataSourceIds);
+        return dataEntityRepository.getTypeCountByDataSources(dataSourceIds)
+            .doOnNext(counts -> dataSourceIds.forEach(id -> snapshot.setCounts(id, counts.get(id))))
+            .doOnError(e -> staleCounts.addAll(dataSourceIds))
+            .thenReturn(snapshot);
+    }
+
+    private DataSourceEntry toEntry(final DataSourcePojo pojo) {
+        final Optional<OddrnPath> path = oddrnCache.parse(pojo.getOddrn());
+        final String prefix = path.map(OddrnPath::prefix).orElse(UNKNOWN_DATASOURCE_TYPE);
+        final String name = path.map(OddrnPath::name)
+            .map(n -> StringUtils.capitalize(n).replace("_", " "))
+            .orElse(StringUtils.capitalize(UNKNOWN_DATASOURCE_TYPE));
+        final Map<String, String> oddrnProperties = path.map(this::getOddrnPathProperties)
+            .filter(map -> !map.isEmpty())
+            .orElse(Map.of("oddrn", pojo.getOddrn()));
+        return new DataSourceEntry(pojo, prefix, name, oddrnProperties);
+    }
+
+    private Map<String, String> getOddrnPathProperties(final OddrnPath path) {
+        final Map<String, String> properties = new HashMap<>();
+        final Class<? extends OddrnPath> pathClass = path.getClass();
+        for (final Field field : pathClass.getDeclaredFields()) {
+            final PathField annotation = field.getAnnotation(PathField.class);
+            if (annotation != null) {
+                try {
+                    final Method getMethod = pathClass.getMethod("get" + StringUtils.capitalize(field.getName()));
+                    final Object value = getMethod.invoke(path);
+                    if (value != null) {
+                        properties.put(field.getName(), value.toString());
+                    }
+                } catch (Exception e) {
+                    log.error("Can't read OddrnPath property", e);
+                }
+            }
+        }
+        return properties;
+    }
+
+    private Mono<Void> afterCommit(final Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(action);
+                }
+            }))
+            .then()
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action));
+    }
+
+    /**
+     * @param prefix           prefix of the data source oddrn or {@code unknown} if the oddrn can't be parsed
+     * @param name             human-readable name of the data source type
+     * @param oddrnProperties  values of the oddrn path fields, or the oddrn itself if it can't be parsed
+     */
+    public record DataSourceEntry(DataSourcePojo dataSource,
+                                  String prefix,
+                                  String name,
+                                  Map<String, String> oddrnProperties) {
+    }
+
+    public static final class Snapshot {
+        private final long version;
+        private final long builtAt;
+        private final Map<String, List<DataSourceEntry>> dataSourcesByPrefix;
+        private final Map<Long, Map<Integer, Long>> typeCounts;
+
+        private Snapshot(final long version,
+                         final long builtAt,
+                         final Map<String, List<DataSourceEntry>> dataSourcesByPrefix,
+                         final Map<Long, Map<Integer, Long>> typeCounts) {
+            this.version = version;
+            this.builtAt = builtAt;
+            this.dataSourcesByPrefix = dataSourcesByPrefix;
+            this.typeCounts = typeCounts;
+        }
+
+        public Map<String, List<DataSourceEntry>> getDataSourcesByPrefix() {
+            return dataSourcesByPrefix;
+        }
+
+        public long getEntitiesCount(final long dataSourceId) {
+            return getTypeCounts(dataSourceId).values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long getEntitiesCount(final Collection<DataSourceEntry> entries) {
+            return entries.stream().mapToLong(e -> getEntitiesCount(e.dataSource().getId())).sum();
+        }
+
+        public Set<Integer> getEntityTypeIds(final long dataSourceId) {
+            return getTypeCounts(dataSourceId).keySet();
+        }
+
+        private Map<Integer, Long> getTypeCounts(final long dataSourceId) {
+            return typeCounts.getOrDefault(dataSourceId, Map.of());
+        }
+
+        private void setCounts(final long dataSourceId, final Map<Integer, Long> counts) {
+            if (counts == null || counts.isEmpty()) {
+                typeCounts.remove(dataSourceId);
+            } else {
+                typeCounts.put(dataSourceId, counts);
+            }
+        }
+    }
+}
@@ -2,16 +2,19 @@ package org.opendatadiscovery.oddplatform.service;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import org.opendatadiscovery.oddplatform.dto.metric.ExternalMetricLastValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.prometheus.PrometheusResponse;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.exception.PrometheusException;
 import org.opendatadiscovery.oddplatform.mapper.PrometheusMetricsMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
@@ -79,6 +82,13 @@ public class ExternalMetricReader implements MetricReader {
             }));
     }
 
+    @Override
+    public Mono<MetricBatch> getLatestMetricsBatch(final Collection<String> oddrns,
+                                                   final Collection<String> metricFamilyNames) {
+        return Mono.error(
+            new BadUserRequestException("Batch metrics query is supported only for the internal metrics storage"));
+    }
+
     private Mono<PrometheusResponse> getMetricLastValue(final String query) {
         return webClient.method(HttpMethod.POST)
             .uri(uriBuilder -> uriBuilder.path(INSTANT_QUERY_URL).build())
@@ -9,8 +9,10 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.ListValuedMap;
 import org.apache.commons.collections4.MultiMapUtils;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricFamily;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricBatchPointDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
 import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesDto;
 import org.opendatadiscovery.oddplatform.mapper.MetricsMapper;
@@ -46,6 +48,22 @@ public class InternalMetricReader implements MetricReader {
             .map(function(this::mapToMetricSet));
     }
 
+    @Override
+    public Mono<MetricBatch> getLatestMetricsBatch(final Collection<String> oddrns,
+                                                   final Collection<String> metricFamilyNames) {
+        return metricSeriesRepository.getPointsByEntityOddrns(oddrns, metricFamilyNames)
+            .collectList()
+            .flatMap(points -> {
+                final Set<Integer> labelValueIds = points.stream()
+                    .map(MetricBatchPointDto::point)
+                    .filter(p -> p.getLabelValuesIds() != null)
+                    .flatMap(p -> Arrays.stream(p.getLabelValuesIds()))
+                    .collect(Collectors.toSet());
+                return metricLabelValueRepository.getDtoByIds(labelValueIds)
+                    .map(labelValues -> metricsMapper.mapToBatch(points, labelValues));
+            });
+    }
+
     private Mono<List<MetricLabelValueDto>> getLabelValues(final Collection<MetricSeriesDto> series) {
         final Set<Integer> labelValueIds = series.stream().flatMap(s -> s.points().stream())
             .flatMap(p -> Arrays.stream(p.getLabelValuesIds()))
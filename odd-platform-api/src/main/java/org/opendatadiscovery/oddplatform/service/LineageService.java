@@ -3,9 +3,9 @@ package org.opendatadiscovery.oddplatform.service;
 import java.util.List;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityGroupLineageList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineage;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDiffDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LineageService {
@@ -15,5 +15,12 @@ public interface LineageService {
 
     Mono<DataEntityGroupLineageList> getDataEntityGroupLineage(final Long dataEntityGroupId);
 
-    Flux<LineagePojo> replaceLineagePaths(final List<LineagePojo> pojos);
+    /**
+     * Replaces lineage established by the establishers of the given relations with these relations,
+     * changing only edges which were added or removed.
+     *
+     * @param pojos - current lineage relations of establishers
+     * @return - amounts of added and removed edges
+     */
+    Mono<LineageDiffDto> replaceLineagePaths(final List<LineagePojo> pojos);
 }
@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.annotation.ReadFromReplica;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityGroupLineageList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineage;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
@@ -25,6 +26,7 @@ import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityGroupLineageDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityLineageDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.DataEntityLineageStreamDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageDepth;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDiffDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageNodeDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
@@ -57,6 +59,7 @@ public class LineageServiceImpl implements LineageService {
     private final LineageMapper lineageMapper;
 
     @Override
+    @ReadFromReplica
     public Mono<DataEntityGroupLineageList> getDataEntityGroupLineage(final Long dataEntityGroupId) {
         return groupEntityRelationRepository.getDEGEntitiesOddrns(dataEntityGroupId)
             .switchIfEmpty(Flux.error(new NotFoundException("Data entity group", dataEntityGroupId)))
@@ -85,6 +88,7 @@ public class LineageServiceImpl implements LineageService {
     }
 
     @Override
+    @ReadFromReplica
     public Mono<DataEntityLineage> getLineage(final long dataEntityId,
                                               final int lineageDepth,
                                               final List<Long> expandedEntityIds,
@@ -123,13 +127,22 @@ public class LineageServiceImpl implements LineageService {
 
     @Override
     @ReactiveTransactional
-    public Flux<LineagePojo> replaceLineagePaths(final List<LineagePojo> pojos) {
+    public Mono<LineageDiffDto> replaceLineagePaths(final List<LineagePojo> pojos) {
+        final Set<LineagePojo> relations = new HashSet<>(pojos);
         final Set<String> establishers = pojos.stream()
             .map(LineagePojo::getEstablisherOddrn)
             .collect(Collectors.toSet());
 
-        return lineageRepository.batchDeleteByEstablisherOddrn(establishers)
-            .thenMany(lineageRepository.batchInsertLineages(pojos));
+        return lineageRepository.getLineagesByEstablisherOddrnForUpdate(establishers)
+            .collect(Collectors.toSet())
+            .flatMap(existing -> {
+                final List<LineagePojo> removed = existing.stream().filter(p -> !relations.contains(p)).toList();
+                final List<LineagePojo> added = relations.stream().filter(p -> !existing.contains(p)).toList();
+
+                return lineageRepository.batchDeleteLineages(removed).count()
+                    .flatMap(removedCount -> lineageRepository.batchInsertLineages(added).count()
+                        .map(addedCount -> new LineageDiffDto(addedCount, removedCount)));
+            });
     }
 
     private DataEntityLineageStreamDto getLineageStream(
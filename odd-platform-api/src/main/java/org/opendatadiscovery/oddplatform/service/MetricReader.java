@@ -1,8 +1,13 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.util.Collection;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import reactor.core.publisher.Mono;
 
 public interface MetricReader {
     Mono<MetricSet> getLatestMetricsForOddrn(final String oddrn);
+
+    Mono<MetricBatch> getLatestMetricsBatch(final Collection<String> oddrns,
+                                            final Collection<String> metricFamilyNames);
 }
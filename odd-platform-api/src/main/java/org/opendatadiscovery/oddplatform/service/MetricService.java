@@ -1,5 +1,7 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatchQuery;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
 import reactor.core.publisher.Mono;
 
@@ -7,4 +9,6 @@ public interface MetricService {
     Mono<MetricSet> getLatestMetricsForDataEntity(final long dataEntityId);
 
     Mono<MetricSet> getLatestMetricsForDatasetField(final long datasetFieldId);
+
+    Mono<MetricBatch> getLatestMetricsBatch(final MetricBatchQuery query);
 }
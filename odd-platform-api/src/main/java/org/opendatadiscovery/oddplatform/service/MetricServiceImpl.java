@@ -1,7 +1,12 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatchQuery;
 import org.opendatadiscovery.oddplatform.api.contract.model.MetricSet;
+import org.opendatadiscovery.oddplatform.exception.BadUserRequestException;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
@@ -13,6 +18,8 @@ import reactor.core.publisher.Mono;
 @Service
 @RequiredArgsConstructor
 public class MetricServiceImpl implements MetricService {
+    private static final int BATCH_QUERY_MAX_ODDRNS = 5000;
+
     private final ReactiveDataEntityRepository dataEntityRepository;
     private final ReactiveDatasetFieldRepository datasetFieldRepository;
     private final MetricReader metricReader;
@@ -32,4 +39,17 @@ public class MetricServiceImpl implements MetricService {
             .map(DatasetFieldPojo::getOddrn)
             .flatMap(metricReader::getLatestMetricsForOddrn);
     }
+
+    @Override
+    public Mono<MetricBatch> getLatestMetricsBatch(final MetricBatchQuery query) {
+        if (CollectionUtils.isEmpty(query.getOddrns())) {
+            return Mono.error(new BadUserRequestException("Oddrns must not be empty"));
+        }
+        if (query.getOddrns().size() > BATCH_QUERY_MAX_ODDRNS) {
+            return Mono.error(new BadUserRequestException("Metrics can be requested for at most %d oddrns at once",
+                BATCH_QUERY_MAX_ODDRNS));
+        }
+        return metricReader.getLatestMetricsBatch(Set.copyOf(query.getOddrns()),
+            query.getMetricFamilies() == null ? Set.of() : Set.copyOf(query.getMetricFamilies()));
+    }
 }
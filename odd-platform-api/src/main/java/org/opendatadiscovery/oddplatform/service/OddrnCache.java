@@ -0,0 +1,56 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Interner;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddrn.Generator;
+import org.opendatadiscovery.oddrn.model.OddrnPath;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared oddrn parsing and interning. Parse results, including failures, are kept in a bounded cache, so that
+ * the same oddrn isn't matched against every oddrn path pattern again. Interned oddrns are held weakly:
+ * an oddrn stays interned only while some ingestion still refers to it.
+ */
+@Component
+@Slf4j
+public class OddrnCache {
+    private final Generator oddrnGenerator = Generator.getInstance();
+    private final Cache<String, Optional<OddrnPath>> paths;
+    private final Interner<String> interner = Interner.newWeakInterner();
+
+    public OddrnCache(@Value("${odd.oddrn.parse-cache-size:10000}") final long parseCacheSize) {
+        this.paths = Caffeine.newBuilder().maximumSize(parseCacheSize).build();
+    }
+
+    public Optional<OddrnPath> parse(final String oddrn) {
+        return paths.get(oddrn, this::doParse);
+    }
+
+    /**
+     * @return the same instance for all the equal oddrns interned while any of them is still referenced
+     */
+    public String intern(final String oddrn) {
+        if (oddrn == null) {
+            return null;
+        }
+        return interner.intern(oddrn);
+    }
+
+    public List<String> intern(final List<String> oddrns) {
+        return oddrns.stream().map(this::intern).toList();
+    }
+
+    private Optional<OddrnPath> doParse(final String oddrn) {
+        try {
+            return oddrnGenerator.parse(oddrn);
+        } catch (Exception e) {
+            log.error("Error while parsing ODDRN {}", oddrn, e);
+            return Optional.empty();
+        }
+    }
+}
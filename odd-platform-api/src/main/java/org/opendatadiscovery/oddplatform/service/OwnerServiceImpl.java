@@ -13,6 +13,7 @@ import org.opendatadiscovery.oddplatform.exception.CascadeDeleteException;
 import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.mapper.OwnerMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerToRoleRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
@@ -35,6 +36,7 @@ public class OwnerServiceImpl implements OwnerService {
     private final ReactiveTermOwnershipRepository termOwnershipRepository;
     private final ReactiveOwnershipRepository ownershipRepository;
     private final ReactiveOwnerToRoleRepository ownerToRoleRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     @Override
     public Mono<OwnerPojo> getOrCreate(final String name) {
@@ -103,7 +105,8 @@ public class OwnerServiceImpl implements OwnerService {
     private Mono<OwnerPojo> updateSearchVectors(final OwnerPojo owner) {
         return Mono.zip(
             searchEntrypointRepository.updateChangedOwnerVectors(owner.getId()),
-            termSearchEntrypointRepository.updateChangedOwnerVectors(owner.getId())
+            termSearchEntrypointRepository.updateChangedOwnerVectors(owner.getId()),
+            dataEntitySummaryRepository.refreshByOwner(owner.getId())
         ).thenReturn(owner);
     }
 
@@ -12,6 +12,7 @@ import org.opendatadiscovery.oddplatform.exception.NotFoundException;
 import org.opendatadiscovery.oddplatform.mapper.OwnershipMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
@@ -41,6 +42,7 @@ public class OwnershipServiceImpl implements OwnershipService {
     private final OwnerService ownerService;
     private final ReactiveOwnershipRepository ownershipRepository;
     private final ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
     private final DataEntityFilledService dataEntityFilledService;
     private final OwnershipMapper ownershipMapper;
 
@@ -67,6 +69,7 @@ public class OwnershipServiceImpl implements OwnershipService {
             }))
             .flatMap(function((owner, title, ownership) -> searchEntrypointRepository
                 .updateChangedOwnershipVectors(ownership.getId())
+                .then(dataEntitySummaryRepository.refresh(dataEntityId))
                 .thenReturn(new OwnershipDto(ownership, owner, title))))
             .flatMap(
                 ownershipDto -> dataEntityFilledService.markEntityFilled(dataEntityId, OWNERS).thenReturn(ownershipDto))
@@ -85,6 +88,7 @@ public class OwnershipServiceImpl implements OwnershipService {
                 }
                 return Mono.just(pojo);
             })
+            .flatMap(pojo -> dataEntitySummaryRepository.refresh(pojo.getDataEntityId()).thenReturn(pojo))
             .flatMap(pojo -> ownershipRepository.getOwnershipsByDataEntityId(pojo.getDataEntityId())
                 .collectList()
                 .flatMap(ownershipDtos -> {
@@ -112,6 +116,7 @@ public class OwnershipServiceImpl implements OwnershipService {
                 }
                 return Mono.just(ownershipPojo);
             })
+            .flatMap(ownershipPojo -> dataEntitySummaryRepository.refresh(ownershipPojo.getDataEntityId()))
             .then(ownershipRepository.get(ownershipId))
             .flatMap(dto -> searchEntrypointRepository.updateChangedOwnershipVectors(ownershipId)
                 .thenReturn(dto))
@@ -145,7 +150,10 @@ public class OwnershipServiceImpl implements OwnershipService {
                 case CREATE -> ownershipRepository.createOrUpdate(pojos);
                 case DELETE -> ownershipRepository.deleteByDataEntityAndOwner(pojos);
             })
-            .collectList();
+            .collectList()
+            .flatMap(pojos -> dataEntitySummaryRepository
+                .refresh(pojos.stream().map(OwnershipPojo::getDataEntityId).toList())
+                .thenReturn(pojos));
     }
 
     enum OwnershipPropagateAction {
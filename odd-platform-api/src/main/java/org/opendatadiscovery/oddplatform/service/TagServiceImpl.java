@@ -15,6 +15,7 @@ import org.opendatadiscovery.oddplatform.mapper.TagMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToTermPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermSearchEntrypointRepository;
@@ -34,6 +35,7 @@ public class TagServiceImpl implements TagService {
     private final TagMapper tagMapper;
     private final ReactiveSearchEntrypointRepository reactiveSearchEntrypointRepository;
     private final ReactiveTermSearchEntrypointRepository reactiveTermSearchEntrypointRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     @Override
     public Flux<Tag> bulkCreate(final List<TagFormData> tags) {
@@ -62,8 +64,11 @@ public class TagServiceImpl implements TagService {
             .switchIfEmpty(Mono.error(new NotFoundException("Tag", tagId)))
             .filter(tagDto -> !tagDto.external())
             .switchIfEmpty(Mono.error(new BadUserRequestException("Can't delete tag which has external relations")))
-            .thenMany(Flux.zip(reactiveTagRepository.deleteTermRelations(tagId),
-                reactiveTagRepository.deleteDataEntityRelations(tagId)))
+            .thenMany(reactiveTagRepository.deleteTermRelations(tagId))
+            .thenMany(reactiveTagRepository.deleteDataEntityRelations(tagId))
+            .map(TagToDataEntityPojo::getDataEntityId)
+            .collectList()
+            .flatMap(dataEntitySummaryRepository::refresh)
             .then(reactiveTagRepository.delete(tagId))
             .map(tagMapper::mapToTag)
             .flatMap(tag -> reactiveTermSearchEntrypointRepository.updateChangedTagVectors(tagId)
@@ -117,6 +122,7 @@ public class TagServiceImpl implements TagService {
                     .toList();
                 return reactiveTagRepository.deleteDataEntityRelations(pojosToDelete)
                     .thenMany(reactiveTagRepository.createDataEntityRelations(updated))
+                    .then(dataEntitySummaryRepository.refresh(dataEntityId))
                     .then(reactiveTagRepository.listDataEntityDtos(dataEntityId));
             }));
     }
@@ -7,6 +7,8 @@ import java.util.Map;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
+import org.opendatadiscovery.oddplatform.annotation.ReadFromReplica;
 import org.opendatadiscovery.oddplatform.api.contract.model.Activity;
 import org.opendatadiscovery.oddplatform.api.contract.model.ActivityCountInfo;
 import org.opendatadiscovery.oddplatform.api.contract.model.ActivityEventType;
@@ -41,6 +43,7 @@ public class ActivityServiceImpl implements ActivityService {
     private final List<ActivityHandler> handlers;
 
     @Override
+    @ReactiveTransactional
     public Mono<Void> createActivityEvent(final ActivityCreateEvent event) {
         final LocalDateTime activityCreateTime = DateTimeUtil.generateNow();
         return authIdentityProvider.getCurrentUser()
@@ -52,6 +55,7 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @ReactiveTransactional
     public Mono<Void> createActivityEvents(final List<ActivityCreateEvent> events) {
         final LocalDateTime activityCreateTime = DateTimeUtil.generateNow();
         return authIdentityProvider.getCurrentUser()
@@ -83,6 +87,7 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @ReadFromReplica
     public Flux<Activity> getActivityList(final OffsetDateTime beginDate,
                                           final OffsetDateTime endDate,
                                           final Integer size,
@@ -117,6 +122,7 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @ReadFromReplica
     public Flux<Activity> getDataEntityActivityList(final OffsetDateTime beginDate,
                                                     final OffsetDateTime endDate,
                                                     final Integer size,
@@ -136,6 +142,7 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
+    @ReadFromReplica
     public Mono<ActivityCountInfo> getActivityCounts(final OffsetDateTime beginDate,
                                                      final OffsetDateTime endDate,
                                                      final Long datasourceId,
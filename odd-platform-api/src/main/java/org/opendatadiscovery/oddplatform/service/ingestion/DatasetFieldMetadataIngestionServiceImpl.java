@@ -43,9 +43,8 @@ public class DatasetFieldMetadataIngestionServiceImpl implements DatasetFieldMet
             return Mono.empty();
         }
 
-        final Mono<Map<String, DatasetFieldPojo>> datasetFieldOddrnToPojo = datasetFieldRepository
-            .getLastVersionDatasetFieldsByOddrns(oddrns)
-            .collect(Collectors.toMap(DatasetFieldPojo::getOddrn, identity()));
+        final Mono<Map<String, DatasetFieldPojo>> datasetFieldOddrnToPojo = request.getContext()
+            .getLastVersionDatasetFields(oddrns, datasetFieldRepository::getLastVersionDatasetFieldsByOddrns);
 
         return datasetFieldOddrnToPojo.flatMap(fields -> ingestMetadataForFields(request, fields));
     }
@@ -105,6 +104,7 @@ public class DatasetFieldMetadataIngestionServiceImpl implements DatasetFieldMet
             .filter(e -> e.getDataSet() != null && CollectionUtils.isNotEmpty(e.getDataSet().fieldList()))
             .flatMap(e -> e.getDataSet().fieldList().stream())
             .map(dto -> dto.field().getOddrn())
+            .filter(oddrn -> !request.getContext().isDatasetFieldUnchanged(oddrn))
             .toList();
     }
 
@@ -114,6 +114,7 @@ public class DatasetFieldMetadataIngestionServiceImpl implements DatasetFieldMet
             .filter(e -> e.getDataSet() != null)
             .flatMap(e -> e.getDataSet().fieldList().stream())
             .filter(f -> MapUtils.isNotEmpty(f.metadata()))
+            .filter(f -> pojosMap.containsKey(f.field().getOddrn()))
             .flatMap(f -> f.metadata().entrySet().stream()
                 .filter(es -> es.getValue() != null)
                 .map(es -> {
@@ -1,80 +1,188 @@
 package org.opendatadiscovery.oddplatform.service.ingestion;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.opendatadiscovery.oddplatform.dto.ingestion.HashableDatasetField;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldEnumValue;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.springframework.stereotype.Component;
 
+import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DatasetFieldIngestionDto;
+
+/**
+ * Calculates structure hashes of dataset fields and datasets.
+ *
+ * <p>Each field is hashed separately by streaming its structural attributes into a digest.
+ * The dataset hash is a digest of its field hashes ordered by field oddrn, so two versions of a dataset
+ * can be compared either as a whole or field by field.
+ */
 @Component
 public class DatasetVersionHashCalculator {
     private static final String ALGORITHM = "SHA-256";
     private static final String EMPTY_FIELDS_HASH = "0";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+    private static final ThreadLocal<MessageDigest> DIGEST =
+        ThreadLocal.withInitial(DatasetVersionHashCalculator::createSHA256MessageDigest);
 
     public String calculateStructureHash(final List<DataSetField> fields) {
         if (CollectionUtils.isEmpty(fields)) {
             return EMPTY_FIELDS_HASH;
         }
 
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> HashableDatasetField.builder()
-                .name(f.getName())
-                .oddrn(f.getOddrn())
-                .parentFieldOddrn(f.getParentFieldOddrn())
-                .type(f.getType())
-                .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                .build())
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
-            .toList();
-
-        return calculateHash(sortedFields);
+        return combine(fields.stream()
+            .sorted(Comparator.comparing(DataSetField::getOddrn))
+            .map(this::calculateFieldHash)
+            .toList());
     }
 
     public String calculateStructureHashFromPojos(final List<DatasetFieldPojo> fields) {
         if (CollectionUtils.isEmpty(fields)) {
             return EMPTY_FIELDS_HASH;
         }
-        final List<HashableDatasetField> sortedFields = fields.stream()
-            .map(f -> {
-                final DataSetFieldType dataSetFieldType =
-                    JSONSerDeUtils.deserializeJson(f.getType().data(), DataSetFieldType.class);
-                return HashableDatasetField.builder()
-                    .name(f.getName())
-                    .oddrn(f.getOddrn())
-                    .parentFieldOddrn(f.getParentFieldOddrn())
-                    .type(dataSetFieldType)
-                    .isKey(BooleanUtils.toBoolean(f.getIsKey()))
-                    .isValue(BooleanUtils.toBoolean(f.getIsValue()))
-                    .isPrimaryKey(BooleanUtils.toBoolean(f.getIsPrimaryKey()))
-                    .build();
-            })
-            .sorted(Comparator.comparing(HashableDatasetField::getOddrn))
+
+        return combine(fields.stream()
+            .sorted(Comparator.comparing(DatasetFieldPojo::getOddrn))
+            .map(this::calculateFieldHash)
+            .toList());
+    }
+
+    public String calculateFieldHash(final DataSetField field) {
+        final DataSetFieldType type = field.getType();
+        return digestField(
+            field.getOddrn(),
+            field.getName(),
+            field.getParentFieldOddrn(),
+            type,
+            field.getIsKey(),
+            field.getIsValue(),
+            field.getIsPrimaryKey()
+        );
+    }
+
+    /**
+     * Returns the persisted hash of the field or calculates it if the field was saved without one.
+     */
+    public String calculateFieldHash(final DatasetFieldPojo field) {
+        if (field.getStructureHash() != null) {
+            return field.getStructureHash();
+        }
+
+        final DataSetFieldType type = field.getType() == null
+            ? null
+            : JSONSerDeUtils.deserializeJson(field.getType().data(), DataSetFieldType.class);
+        return digestField(
+            field.getOddrn(),
+            field.getName(),
+            field.getParentFieldOddrn(),
+            type,
+            field.getIsKey(),
+            field.getIsValue(),
+            field.getIsPrimaryKey()
+        );
+    }
+
+    /**
+     * Calculates a fingerprint of everything ingested for the field: its structure, descriptions, statistics,
+     * labels, enum values and metadata. Fields with the same fingerprint as the stored one can be skipped.
+     */
+    public String calculateIngestionFingerprint(final DatasetFieldIngestionDto dto) {
+        final DatasetFieldPojo field = dto.field();
+        final MessageDigest md = DIGEST.get();
+        md.reset();
+        update(md, calculateFieldHash(field));
+        update(md, field.getExternalDescription());
+        update(md, field.getDefaultValue());
+        update(md, field.getReferenceOddrn());
+        md.update(toByte(field.getIsSortKey()));
+        update(md, field.getStats() == null ? null : field.getStats().data());
+
+        final List<String> labels = ListUtils.emptyIfNull(dto.labels()).stream().distinct().sorted().toList();
+        updateLength(md, labels.size());
+        labels.forEach(label -> update(md, label));
+
+        final List<DataSetFieldEnumValue> enumValues = ListUtils.emptyIfNull(dto.enumValues()).stream()
+            .sorted(Comparator.comparing(DataSetFieldEnumValue::getName))
             .toList();
+        updateLength(md, enumValues.size());
+        for (final DataSetFieldEnumValue enumValue : enumValues) {
+            update(md, enumValue.getName());
+            update(md, enumValue.getDescription());
+        }
 
-        return calculateHash(sortedFields);
+        final Map<String, Object> metadata = new TreeMap<>(MapUtils.emptyIfNull(dto.metadata()));
+        updateLength(md, metadata.size());
+        metadata.forEach((key, value) -> {
+            update(md, key);
+            update(md, value == null ? null : String.valueOf(value));
+        });
+
+        return HEX_FORMAT.formatHex(md.digest());
     }
 
-    private String calculateHash(final List<HashableDatasetField> sortedFields) {
-        final MessageDigest md = createSHA256MessageDigest();
-        final StringBuilder sb = new StringBuilder();
+    private String digestField(final String oddrn,
+                               final String name,
+                               final String parentFieldOddrn,
+                               final DataSetFieldType type,
+                               final Boolean isKey,
+                               final Boolean isValue,
+                               final Boolean isPrimaryKey) {
+        final MessageDigest md = DIGEST.get();
+        md.reset();
+        update(md, oddrn);
+        update(md, name);
+        update(md, parentFieldOddrn);
+        update(md, type == null || type.getType() == null ? null : type.getType().getValue());
+        update(md, type == null ? null : type.getLogicalType());
+        md.update(toByte(type == null ? null : type.getIsNullable()));
+        md.update(toByte(isKey));
+        md.update(toByte(isValue));
+        md.update(toByte(isPrimaryKey));
+        return HEX_FORMAT.formatHex(md.digest());
+    }
 
-        for (final byte b : md.digest(JSONSerDeUtils.serializeJson(sortedFields).getBytes())) {
-            sb.append(Integer.toString((b & 0xff) + 0x100, 16).substring(1));
+    private String combine(final List<String> fieldHashes) {
+        final MessageDigest md = DIGEST.get();
+        md.reset();
+        for (final String fieldHash : fieldHashes) {
+            md.update(HEX_FORMAT.parseHex(fieldHash));
         }
+        return HEX_FORMAT.formatHex(md.digest());
+    }
+
+    private void update(final MessageDigest md, final String value) {
+        if (value == null) {
+            updateLength(md, -1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateLength(md, bytes.length);
+        md.update(bytes);
+    }
+
+    private void updateLength(final MessageDigest md, final int length) {
+        md.update((byte) (length >>> 24));
+        md.update((byte) (length >>> 16));
+        md.update((byte) (length >>> 8));
+        md.update((byte) length);
+    }
 
-        return sb.toString();
+    private byte toByte(final Boolean value) {
+        return (byte) (BooleanUtils.toBoolean(value) ? 1 : 0);
     }
 
-    private MessageDigest createSHA256MessageDigest() {
+    private static MessageDigest createSHA256MessageDigest() {
         try {
             return MessageDigest.getInstance(ALGORITHM);
         } catch (final NoSuchAlgorithmException e) {
@@ -41,12 +41,13 @@ public class EnumValuesIngestionServiceImpl implements EnumValuesIngestionServic
             .stream()
             .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
             .flatMap(entity -> entity.getDataSet().fieldList().stream())
+            .filter(field -> !request.getContext().isDatasetFieldUnchanged(field.field().getOddrn()))
             .collect(toMap(field -> field.field().getOddrn(), identity()));
 
-        final Mono<List<Long>> datasetFieldIds = datasetFieldRepository
-            .getLastVersionDatasetFieldsByOddrns(new ArrayList<>(requestState.keySet()))
-            .map(DatasetFieldPojo::getId)
-            .collectList();
+        final Mono<List<Long>> datasetFieldIds = request.getContext()
+            .getLastVersionDatasetFields(requestState.keySet(),
+                datasetFieldRepository::getLastVersionDatasetFieldsByOddrns)
+            .map(fields -> fields.values().stream().map(DatasetFieldPojo::getId).toList());
 
         return datasetFieldIds
             .flatMapMany(enumValueRepository::getEnumState)
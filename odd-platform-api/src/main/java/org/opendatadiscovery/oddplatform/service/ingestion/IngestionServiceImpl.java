@@ -36,6 +36,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
 import org.opendatadiscovery.oddplatform.service.DatasetFieldService;
+import org.opendatadiscovery.oddplatform.service.DirectoryIndex;
 import org.opendatadiscovery.oddplatform.service.ingestion.processor.IngestionProcessorChain;
 import org.opendatadiscovery.oddplatform.service.metric.OTLPMetricService;
 import org.springframework.stereotype.Service;
@@ -58,13 +59,15 @@ public class IngestionServiceImpl implements IngestionService {
     private final ReactiveDataSourceRepository dataSourceRepository;
 
     private final IngestionMapper ingestionMapper;
+    private final DirectoryIndex directoryIndex;
 
     @Override
     @ReactiveTransactional
     public Mono<Void> ingest(final DataEntityList dataEntityList) {
         return dataSourceRepository.getIdByOddrnForUpdate(dataEntityList.getDataSourceOddrn())
             .switchIfEmpty(Mono.error(() -> new NotFoundException("dataSource", dataEntityList.getDataSourceOddrn())))
-            .flatMap(dataSourceId -> persistDataEntities(dataSourceId, dataEntityList.getItems()))
+            .flatMap(dataSourceId -> directoryIndex.invalidateCountsAfterCommit(dataSourceId)
+                .then(persistDataEntities(dataSourceId, dataEntityList.getItems())))
             .flatMap(ingestionProcessorChain::processIngestionRequest)
             .flatMap(otlpMetricService::exportMetrics)
             .then();
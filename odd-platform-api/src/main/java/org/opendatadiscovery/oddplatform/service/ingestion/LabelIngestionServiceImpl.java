@@ -11,7 +11,7 @@ import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
 import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto;
-import org.opendatadiscovery.oddplatform.dto.ingestion.EnrichedDataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
@@ -36,14 +36,16 @@ public class LabelIngestionServiceImpl implements LabelIngestionService {
     @Override
     @ReactiveTransactional
     public Mono<Void> ingestExternalLabels(final IngestionRequest dataStructure) {
-        final List<EnrichedDataEntityIngestionDto> datasetEntities = dataStructure.getAllEntities().stream()
+        final IngestionContext context = dataStructure.getContext();
+        final List<DatasetFieldIngestionDto> fields = dataStructure.getAllEntities().stream()
             .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
-            .toList();
-
-        final List<String> oddrns = datasetEntities.stream()
             .map(DataEntityIngestionDto::getDataSet)
             .filter(ds -> CollectionUtils.isNotEmpty(ds.fieldList()))
             .flatMap(ds -> ds.fieldList().stream())
+            .filter(dto -> !context.isDatasetFieldUnchanged(dto.field().getOddrn()))
+            .toList();
+
+        final List<String> oddrns = fields.stream()
             .map(dto -> dto.field().getOddrn())
             .toList();
 
@@ -51,11 +53,10 @@ public class LabelIngestionServiceImpl implements LabelIngestionService {
             return Mono.empty();
         }
 
-        final Mono<Map<String, DatasetFieldPojo>> datasetFieldOddrnToPojo = datasetFieldRepository
-            .getLastVersionDatasetFieldsByOddrns(oddrns)
-            .collect(Collectors.toMap(DatasetFieldPojo::getOddrn, identity()));
+        final Mono<Map<String, DatasetFieldPojo>> datasetFieldOddrnToPojo = context
+            .getLastVersionDatasetFields(oddrns, datasetFieldRepository::getLastVersionDatasetFieldsByOddrns);
 
-        final Set<String> externalLabelNames = getLabelNames(datasetEntities);
+        final Set<String> externalLabelNames = getLabelNames(fields);
 
         return datasetFieldOddrnToPojo
             .flatMap(datasetFieldMap -> {
@@ -65,7 +66,7 @@ public class LabelIngestionServiceImpl implements LabelIngestionService {
 
                 return labelService.getOrCreateLabelsByName(externalLabelNames)
                     .collectMap(LabelPojo::getName, identity())
-                    .map(labelsMap -> getUpdatedRelations(labelsMap, datasetFieldMap, datasetEntities))
+                    .map(labelsMap -> getUpdatedRelations(labelsMap, datasetFieldMap, fields))
                     .zipWith(labelRepository.listLabelRelations(datasetFieldIds, LabelOrigin.EXTERNAL).collectList());
             })
             .flatMap((function((updated, current) -> {
@@ -81,8 +82,8 @@ public class LabelIngestionServiceImpl implements LabelIngestionService {
 
     private List<LabelToDatasetFieldPojo> getUpdatedRelations(final Map<String, LabelPojo> labelsMap,
                                                               final Map<String, DatasetFieldPojo> datasetFieldMap,
-                                                              final List<EnrichedDataEntityIngestionDto> entities) {
-        return getDatasetFieldsWithLabelsStream(entities)
+                                                              final List<DatasetFieldIngestionDto> fields) {
+        return getDatasetFieldsWithLabelsStream(fields)
             .flatMap(ds -> ds.labels()
                 .stream()
                 .map(label -> new LabelToDatasetFieldPojo()
@@ -92,19 +93,15 @@ public class LabelIngestionServiceImpl implements LabelIngestionService {
                 )).toList();
     }
 
-    private Set<String> getLabelNames(final List<EnrichedDataEntityIngestionDto> datasetEntities) {
-        return getDatasetFieldsWithLabelsStream(datasetEntities)
+    private Set<String> getLabelNames(final List<DatasetFieldIngestionDto> fields) {
+        return getDatasetFieldsWithLabelsStream(fields)
             .flatMap(field -> field.labels().stream())
             .collect(Collectors.toSet());
     }
 
     private Stream<DatasetFieldIngestionDto> getDatasetFieldsWithLabelsStream(
-        final List<EnrichedDataEntityIngestionDto> entities
+        final List<DatasetFieldIngestionDto> fields
     ) {
-        return entities.stream()
-            .map(DataEntityIngestionDto::getDataSet)
-            .filter(ds -> CollectionUtils.isNotEmpty(ds.fieldList()))
-            .flatMap(ds -> ds.fieldList().stream())
-            .filter(field -> CollectionUtils.isNotEmpty(field.labels()));
+        return fields.stream().filter(field -> CollectionUtils.isNotEmpty(field.labels()));
     }
 }
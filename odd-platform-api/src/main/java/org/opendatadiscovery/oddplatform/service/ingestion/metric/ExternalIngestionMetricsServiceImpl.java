@@ -1,26 +1,23 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.metric;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MultiMapUtils;
 import org.apache.commons.collections4.SetValuedMap;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.JSONB;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
-import org.opendatadiscovery.oddplatform.exception.PrometheusException;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.Label;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.Metric;
 import org.opendatadiscovery.oddplatform.ingestion.contract.model.MetricFamily;
@@ -32,53 +29,29 @@ import org.opendatadiscovery.oddplatform.mapper.ingestion.IngestionMetricsMapper
 import org.opendatadiscovery.oddplatform.model.tables.pojos.ExternalMetricLastValuePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
 import org.opendatadiscovery.oddplatform.proto.TimeSeries;
-import org.opendatadiscovery.oddplatform.proto.WriteRequest;
 import org.opendatadiscovery.oddplatform.repository.metric.ExternalMetricLastValueRepository;
 import org.opendatadiscovery.oddplatform.repository.metric.MetricFamilyRepository;
 import org.opendatadiscovery.oddplatform.service.ingestion.metric.extractors.external.TimeSeriesExtractor;
+import org.opendatadiscovery.oddplatform.service.ingestion.metric.remotewrite.PrometheusRemoteWriteSender;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
 import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
 import org.opendatadiscovery.oddplatform.utils.MetricUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.xerial.snappy.Snappy;
 import reactor.core.publisher.Mono;
 
 import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.utils.MetricUtils.buildMetricFamilyKey;
 
 @Service
-@Slf4j
+@RequiredArgsConstructor
 @ConditionalOnProperty(name = "metrics.storage", havingValue = "PROMETHEUS")
 public class ExternalIngestionMetricsServiceImpl implements IngestionMetricsService {
-    private static final String SNAPPY_ENCODING = "snappy";
-    private static final String REMOTE_WRITE_URL = "/api/v1/write";
-    private static final String PROTOBUF_MEDIA_TYPE = "application/x-protobuf";
-
     private final IngestionMetricsMapper ingestionMetricsMapper;
     private final MetricFamilyRepository metricFamilyRepository;
     private final ExternalMetricLastValueRepository metricLastValueRepository;
     private final List<TimeSeriesExtractor> extractors;
-    private final WebClient webClient;
-
-    public ExternalIngestionMetricsServiceImpl(@Value("${metrics.prometheus-host}") final String prometheusHost,
-                                               final IngestionMetricsMapper ingestionMetricsMapper,
-                                               final MetricFamilyRepository metricFamilyRepository,
-                                               final ExternalMetricLastValueRepository metricLastValueRepository,
-                                               final List<TimeSeriesExtractor> extractors) {
-        if (StringUtils.isEmpty(prometheusHost)) {
-            throw new IllegalStateException("Prometheus host is not defined");
-        }
-        webClient = WebClient.create(prometheusHost + REMOTE_WRITE_URL);
-        this.ingestionMetricsMapper = ingestionMetricsMapper;
-        this.metricFamilyRepository = metricFamilyRepository;
-        this.metricLastValueRepository = metricLastValueRepository;
-        this.extractors = extractors;
-    }
+    private final PrometheusRemoteWriteSender remoteWriteSender;
 
     @Override
     @ReactiveTransactional
@@ -202,26 +175,13 @@ public class ExternalIngestionMetricsServiceImpl implements IngestionMetricsServ
     private Mono<Void> saveMetricsToPrometheus(final MetricSetList metricSetList,
                                                final Map<String, MetricFamilyPojo> families,
                                                final LocalDateTime ingestedTime) {
-        final byte[] writeRequest = writeRequest(metricSetList, families, ingestedTime);
-        return webClient.post()
-            .headers(httpHeaders -> {
-                httpHeaders.set(HttpHeaders.CONTENT_ENCODING, SNAPPY_ENCODING);
-                httpHeaders.set(HttpHeaders.CONTENT_TYPE, PROTOBUF_MEDIA_TYPE);
-            })
-            .bodyValue(writeRequest)
-            .retrieve()
-            .bodyToMono(String.class)
-            .onErrorMap(e -> {
-                final String errorMessage = ((WebClientResponseException) e).getResponseBodyAsString();
-                log.error(errorMessage);
-                return new PrometheusException(e);
-            })
-            .then();
+        return Mono.fromRunnable(() -> remoteWriteSender.enqueue(extractTimeSeries(metricSetList, families,
+            ingestedTime)));
     }
 
-    private byte[] writeRequest(final MetricSetList metricSetList,
-                                final Map<String, MetricFamilyPojo> families,
-                                final LocalDateTime ingestedTime) {
+    private List<TimeSeries> extractTimeSeries(final MetricSetList metricSetList,
+                                               final Map<String, MetricFamilyPojo> families,
+                                               final LocalDateTime ingestedTime) {
         final List<TimeSeries> timeSeries = new ArrayList<>();
         for (final MetricSet item : metricSetList.getItems()) {
             final String oddrn = item.getOddrn();
@@ -237,17 +197,7 @@ public class ExternalIngestionMetricsServiceImpl implements IngestionMetricsServ
                 }
             }
         }
-        final List<TimeSeries> sortedTimeSeries = timeSeries.stream()
-            .sorted(Comparator.comparing(ts -> ts.getSamples(0).getTimestamp()))
-            .toList();
-        final WriteRequest writeRequest = WriteRequest.newBuilder()
-            .addAllTimeseries(sortedTimeSeries)
-            .build();
-        try {
-            return Snappy.compress(writeRequest.toByteArray());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return timeSeries;
     }
 
     private SetValuedMap<String, Integer> getLastValuesParameters(final MetricSetList metricSetList,
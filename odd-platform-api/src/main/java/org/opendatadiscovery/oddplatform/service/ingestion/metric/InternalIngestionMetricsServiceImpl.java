@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -50,13 +51,13 @@ import org.opendatadiscovery.oddplatform.repository.metric.MetricPointRepository
 import org.opendatadiscovery.oddplatform.repository.metric.MetricSeriesRepository;
 import org.opendatadiscovery.oddplatform.service.ingestion.metric.extractors.internal.MetricSeriesExtractor;
 import org.opendatadiscovery.oddplatform.service.ingestion.util.DateTimeUtil;
+import org.opendatadiscovery.oddplatform.service.metric.history.MetricHistoryService;
 import org.opendatadiscovery.oddplatform.utils.MetricUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuples;
 
-import static java.util.function.Function.identity;
 import static org.opendatadiscovery.oddplatform.dto.metric.SystemMetricLabel.BUCKET_UPPER_BOUND;
 import static org.opendatadiscovery.oddplatform.utils.MetricUtils.buildMetricFamilyKey;
 import static reactor.function.TupleUtils.function;
@@ -71,6 +72,8 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
     private final MetricLabelValueRepository metricLabelValueRepository;
     private final MetricSeriesRepository metricSeriesRepository;
     private final MetricPointRepository metricPointRepository;
+    private final MetricHistoryService metricHistoryService;
+    private final MetricIdentityCache metricIdentityCache;
     private final IngestionMetricsMapper ingestionMetricsMapper;
     private final List<MetricSeriesExtractor> extractors;
 
@@ -83,13 +86,27 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
         final LocalDateTime ingestedTime = DateTimeUtil.generateNow();
         final IngestionMetricsRequest request = buildIngestionMetricsRequest(metricSetList);
 
+        final Map<String, MetricEntityPojo> cachedOddrns =
+            metricIdentityCache.getEntities(request.metricRelatedOddrns());
+        final Set<String> oddrnsToRegister = request.metricRelatedOddrns().stream()
+            .filter(oddrn -> !cachedOddrns.containsKey(oddrn))
+            .collect(Collectors.toSet());
         final Mono<Map<String, MetricEntityPojo>> registeredOddrns = metricEntityRepository
-            .registerMetricEntityOddrns(request.metricRelatedOddrns())
-            .collect(Collectors.toMap(MetricEntityPojo::getEntityOddrn, identity()));
+            .registerMetricEntityOddrns(oddrnsToRegister)
+            .collectList()
+            .flatMap(registered -> metricIdentityCache.cacheEntitiesAfterCommit(registered)
+                .thenReturn(mergeWithCached(cachedOddrns, registered, MetricEntityPojo::getEntityOddrn)));
 
+        final Map<String, MetricFamilyPojo> cachedFamilies = metricIdentityCache.getFamilies(request.metricFamilies());
+        final List<MetricFamilyPojo> familiesToSave = request.metricFamilies().entrySet().stream()
+            .filter(e -> !cachedFamilies.containsKey(e.getKey()))
+            .map(Map.Entry::getValue)
+            .toList();
         final Mono<Map<String, MetricFamilyPojo>> savedMetricFamilies = metricFamilyRepository
-            .createOrUpdateMetricFamilies(request.metricFamilies().values())
-            .collect(Collectors.toMap(MetricUtils::buildMetricFamilyKey, identity()));
+            .createOrUpdateMetricFamilies(familiesToSave)
+            .collectList()
+            .flatMap(saved -> metricIdentityCache.cacheFamiliesAfterCommit(saved)
+                .thenReturn(mergeWithCached(cachedFamilies, saved, MetricUtils::buildMetricFamilyKey)));
 
         final Mono<IngestionMetricLabelsDto> metricLabelsMono = getOrCreateMetricLabels(request.labels());
         return Mono.zip(registeredOddrns, savedMetricFamilies, metricLabelsMono)
@@ -146,21 +163,39 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
         if (labels == null || labels.isEmpty()) {
             return Mono.just(new IngestionMetricLabelsDto(Map.of(), MultiMapUtils.newSetValuedHashMap()));
         }
+        final Map<String, MetricLabelPojo> cachedLabels = metricIdentityCache.getLabels(labels.keySet());
         final List<MetricLabelPojo> metricLabelPojos = labels.keySet().stream()
+            .filter(l -> !cachedLabels.containsKey(l))
             .map(l -> new MetricLabelPojo().setName(l))
             .toList();
         final Mono<Map<String, MetricLabelPojo>> savedMetricLabels = metricLabelRepository
             .getOrCreateMetricLabels(metricLabelPojos)
-            .collect(Collectors.toMap(MetricLabelPojo::getName, identity()));
+            .collectList()
+            .flatMap(saved -> metricIdentityCache.cacheLabelsAfterCommit(saved)
+                .thenReturn(mergeWithCached(cachedLabels, saved, MetricLabelPojo::getName)));
         return savedMetricLabels.flatMap(labelsMap -> {
             final List<MetricLabelValuePojo> metricLabelValuePojos = labels.entries().stream()
                 .map(e -> ingestionMetricsMapper.mapMetricLabelValue(labelsMap.get(e.getKey()).getId(), e.getValue()))
                 .toList();
-            return metricLabelValueRepository.getOrCreateMetricLabelValues(metricLabelValuePojos)
-                .collect(
-                    MultiMapUtils::<String, MetricLabelValuePojo>newSetValuedHashMap,
-                    (map, value) -> map.put(value.getValue(), value))
-                .map(valuesMap -> new IngestionMetricLabelsDto(labelsMap, valuesMap));
+            final List<MetricLabelValuePojo> cachedLabelValues = new ArrayList<>();
+            final List<MetricLabelValuePojo> labelValuesToSave = new ArrayList<>();
+            for (final MetricLabelValuePojo labelValue : metricLabelValuePojos) {
+                final MetricLabelValuePojo cached = metricIdentityCache.getLabelValue(labelValue);
+                if (cached != null) {
+                    cachedLabelValues.add(cached);
+                } else {
+                    labelValuesToSave.add(labelValue);
+                }
+            }
+            return metricLabelValueRepository.getOrCreateMetricLabelValues(labelValuesToSave)
+                .collectList()
+                .flatMap(saved -> metricIdentityCache.cacheLabelValuesAfterCommit(saved).thenReturn(saved))
+                .map(saved -> {
+                    final SetValuedMap<String, MetricLabelValuePojo> valuesMap = MultiMapUtils.newSetValuedHashMap();
+                    Stream.concat(cachedLabelValues.stream(), saved.stream())
+                        .forEach(value -> valuesMap.put(value.getValue(), value));
+                    return new IngestionMetricLabelsDto(labelsMap, valuesMap);
+                });
         });
     }
 
@@ -205,12 +240,21 @@ public class InternalIngestionMetricsServiceImpl implements IngestionMetricsServ
                             .filter(pi -> !needToDeletePoint(pi, existingPoints, systemLabelValues))
                             .toList();
                         return metricPointRepository.deletePoints(pointsToDelete)
-                            .then(metricPointRepository.createOrUpdatePoints(filteredPoints).collectList());
+                            .then(metricPointRepository.createOrUpdatePoints(filteredPoints).collectList())
+                            .then(metricHistoryService.appendPoints(pointsToIngest));
                     }));
             })
             .then();
     }
 
+    private <T> Map<String, T> mergeWithCached(final Map<String, T> cached,
+                                               final List<T> saved,
+                                               final Function<T, String> keyExtractor) {
+        final Map<String, T> result = new HashMap<>(cached);
+        saved.forEach(pojo -> result.put(keyExtractor.apply(pojo), pojo));
+        return result;
+    }
+
     private boolean needToDeletePoint(final MetricPointPojo pointPojo,
                                       final List<MetricPointPojo> pointsToIngest,
                                       final Set<Integer> systemLabelIds) {
@@ -0,0 +1,105 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelValuePojo;
+import org.opendatadiscovery.oddplatform.utils.MetricUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import static java.util.function.Function.identity;
+
+/**
+ * Bounded in-process interning cache for the dictionary-like metric rows (entities, families, labels and
+ * label values). Ids are never reused and these rows are never deleted, so a cached row stays valid
+ * as long as it has been committed. New rows are therefore put into the cache only after the ingestion
+ * transaction commits.
+ */
+@Component
+@ConditionalOnProperty(name = "metrics.storage", havingValue = "INTERNAL_POSTGRES", matchIfMissing = true)
+public class MetricIdentityCache {
+    private final Cache<String, MetricEntityPojo> entities;
+    private final Cache<String, MetricFamilyPojo> families;
+    private final Cache<String, MetricLabelPojo> labels;
+    private final Cache<LabelValueKey, MetricLabelValuePojo> labelValues;
+
+    public MetricIdentityCache(@Value("${metrics.ingestion-cache.maximum-size:100000}") final long maximumSize) {
+        this.entities = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.families = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.labels = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.labelValues = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    public Map<String, MetricEntityPojo> getEntities(final Collection<String> oddrns) {
+        return entities.getAllPresent(oddrns);
+    }
+
+    /**
+     * Returns cached families for the requested ones. A cached family without a description is treated as
+     * a miss when the requested family brings a description, so that the description still reaches the database.
+     */
+    public Map<String, MetricFamilyPojo> getFamilies(final Map<String, MetricFamilyPojo> requested) {
+        return families.getAllPresent(requested.keySet()).entrySet().stream()
+            .filter(e -> StringUtils.isNotEmpty(e.getValue().getDescription())
+                || StringUtils.isEmpty(requested.get(e.getKey()).getDescription()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    public Map<String, MetricLabelPojo> getLabels(final Collection<String> names) {
+        return labels.getAllPresent(names);
+    }
+
+    public MetricLabelValuePojo getLabelValue(final MetricLabelValuePojo requested) {
+        return labelValues.getIfPresent(LabelValueKey.of(requested));
+    }
+
+    public Mono<Void> cacheEntitiesAfterCommit(final Collection<MetricEntityPojo> pojos) {
+        return afterCommit(() -> entities.putAll(pojos.stream()
+            .collect(Collectors.toMap(MetricEntityPojo::getEntityOddrn, identity(), (a, b) -> b))));
+    }
+
+    public Mono<Void> cacheFamiliesAfterCommit(final Collection<MetricFamilyPojo> pojos) {
+        return afterCommit(() -> families.putAll(pojos.stream()
+            .collect(Collectors.toMap(MetricUtils::buildMetricFamilyKey, identity(), (a, b) -> b))));
+    }
+
+    public Mono<Void> cacheLabelsAfterCommit(final Collection<MetricLabelPojo> pojos) {
+        return afterCommit(() -> labels.putAll(pojos.stream()
+            .collect(Collectors.toMap(MetricLabelPojo::getName, identity(), (a, b) -> b))));
+    }
+
+    public Mono<Void> cacheLabelValuesAfterCommit(final Collection<MetricLabelValuePojo> pojos) {
+        return afterCommit(() -> labelValues.putAll(pojos.stream()
+            .collect(Collectors.toMap(LabelValueKey::of, identity(), (a, b) -> b))));
+    }
+
+    private Mono<Void> afterCommit(final Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(action);
+                }
+            }))
+            .then()
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action));
+    }
+
+    private record LabelValueKey(Integer labelId, String value) {
+        static LabelValueKey of(final MetricLabelValuePojo pojo) {
+            return new LabelValueKey(pojo.getMetricLabelId(), pojo.getValue());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric.remotewrite;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.config.properties.PrometheusRemoteWriteProperties;
+import org.opendatadiscovery.oddplatform.proto.TimeSeries;
+import org.opendatadiscovery.oddplatform.proto.WriteRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends time series to Prometheus remote write endpoint asynchronously.
+ *
+ * <p>Series are put into bounded per-shard queues and are sent in batches by dedicated shard threads.
+ * A batch is sent either when it reaches {@code maxSeriesPerSend} series or when {@code batchSendDeadline}
+ * has passed since its first series was taken from the queue. A series is always routed to the same shard,
+ * so samples of a single series reach Prometheus in order. Series which don't fit into a full queue
+ * and batches which couldn't be sent after all retries are dropped and counted.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "metrics.storage", havingValue = "PROMETHEUS")
+public class PrometheusRemoteWriteSender {
+    private static final String SNAPPY_ENCODING = "snappy";
+    private static final String REMOTE_WRITE_URL = "/api/v1/write";
+    private static final String PROTOBUF_MEDIA_TYPE = "application/x-protobuf";
+    private static final String REMOTE_WRITE_VERSION_HEADER = "X-Prometheus-Remote-Write-Version";
+    private static final String REMOTE_WRITE_VERSION = "0.1.0";
+    private static final String METRIC_PREFIX = "odd.metrics.remote_write.";
+    // wakes up shard threads waiting for the next series on shutdown
+    private static final TimeSeries SHUTDOWN_MARKER = TimeSeries.newBuilder().build();
+
+    private final PrometheusRemoteWriteProperties properties;
+    private final WebClient webClient;
+    private final List<Shard> shards;
+    private final Counter sentSamples;
+    private final Counter droppedOnFullQueue;
+    private final Counter droppedOnFailedSend;
+    private final Counter retries;
+
+    private volatile boolean running = true;
+
+    public PrometheusRemoteWriteSender(@Value("${metrics.prometheus-host}") final String prometheusHost,
+                                       final PrometheusRemoteWriteProperties properties,
+                                       final MeterRegistry meterRegistry) {
+        if (StringUtils.isEmpty(prometheusHost)) {
+            throw new IllegalStateException("Prometheus host is not defined");
+        }
+        if (properties.getShards() < 1 || properties.getQueueCapacity() < properties.getShards()) {
+            throw new IllegalStateException("Remote write queue capacity must be not less than shards count");
+        }
+        this.properties = properties;
+        this.webClient = WebClient.create(prometheusHost + REMOTE_WRITE_URL);
+
+        this.sentSamples = Counter.builder(METRIC_PREFIX + "samples.sent").register(meterRegistry);
+        this.droppedOnFullQueue = Counter.builder(METRIC_PREFIX + "samples.dropped")
+            .tag("reason", "queue_full")
+            .register(meterRegistry);
+        this.droppedOnFailedSend = Counter.builder(METRIC_PREFIX + "samples.dropped")
+            .tag("reason", "send_failed")
+            .register(meterRegistry);
+        this.retries = Counter.builder(METRIC_PREFIX + "retries").register(meterRegistry);
+
+        final int shardCapacity = properties.getQueueCapacity() / properties.getShards();
+        this.shards = new ArrayList<>(properties.getShards());
+        for (int i = 0; i < properties.getShards(); i++) {
+            final Shard shard = new Shard(shardCapacity);
+            final Thread thread = new Thread(shard, "prometheus-remote-write-shard-" + i);
+            thread.setDaemon(true);
+            shard.thread = thread;
+            shards.add(shard);
+        }
+        Gauge.builder(METRIC_PREFIX + "queue.size", this, PrometheusRemoteWriteSender::queueSize)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queue.capacity", () -> shardCapacity * shards.size())
+            .register(meterRegistry);
+        shards.forEach(shard -> shard.thread.start());
+    }
+
+    /**
+     * Puts time series into the send queues without blocking.
+     *
+     * @return number of series which didn't fit into the queues and were dropped
+     */
+    public int enqueue(final Collection<TimeSeries> timeSeries) {
+        int dropped = 0;
+        for (final TimeSeries series : timeSeries) {
+            final Shard shard = shards.get(Math.floorMod(series.getLabelsList().hashCode(), shards.size()));
+            if (!running || !shard.queue.offer(series)) {
+                droppedOnFullQueue.increment(series.getSamplesCount());
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Remote write queue is full, dropped {} of {} time series", dropped, timeSeries.size());
+        }
+        return dropped;
+    }
+
+    public int queueSize() {
+        return shards.stream().mapToInt(shard -> shard.queue.size()).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        shards.forEach(shard -> shard.queue.offer(SHUTDOWN_MARKER));
+        final long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        for (final Shard shard : shards) {
+            try {
+                shard.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        shards.forEach(shard -> shard.thread.interrupt());
+    }
+
+    private void sendWithRetries(final List<TimeSeries> batch, final RemoteWriteBuffer buffer) {
+        final int samples = batch.stream().mapToInt(TimeSeries::getSamplesCount).sum();
+        batch.sort(Comparator.comparingLong(ts -> ts.getSamples(0).getTimestamp()));
+        final ByteBuffer body;
+        try {
+            body = buffer.encode(WriteRequest.newBuilder().addAllTimeseries(batch).build());
+        } catch (final Exception e) {
+            log.error("Couldn't encode remote write request", e);
+            droppedOnFailedSend.increment(samples);
+            return;
+        }
+
+        long backoff = properties.getMinBackoff().toMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                send(body);
+                sentSamples.increment(samples);
+                return;
+            } catch (final Exception e) {
+                if (!isRetryable(e) || attempt >= properties.getMaxRetries()) {
+                    log.error("Couldn't send {} samples to Prometheus after {} attempts: {}",
+                        samples, attempt + 1, errorMessage(e));
+                    droppedOnFailedSend.increment(samples);
+                    return;
+                }
+                log.debug("Remote write attempt {} failed, retrying in {} ms: {}", attempt + 1, backoff,
+                    errorMessage(e));
+                retries.increment();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    droppedOnFailedSend.increment(samples);
+                    return;
+                }
+                backoff = Math.min(backoff * 2, properties.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    private void send(final ByteBuffer body) {
+        webClient.post()
+            .headers(httpHeaders -> {
+                httpHeaders.set(HttpHeaders.CONTENT_ENCODING, SNAPPY_ENCODING);
+                httpHeaders.set(HttpHeaders.CONTENT_TYPE, PROTOBUF_MEDIA_TYPE);
+                httpHeaders.set(REMOTE_WRITE_VERSION_HEADER, REMOTE_WRITE_VERSION);
+            })
+            .body(BodyInserters.fromDataBuffers(
+                Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(body.duplicate()))))
+            .retrieve()
+            .toBodilessEntity()
+            .block(properties.getSendTimeout());
+    }
+
+    private boolean isRetryable(final Exception e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                || responseException.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    private String errorMessage(final Exception e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode() + " " + responseException.getResponseBodyAsString();
+        }
+        return e.getMessage();
+    }
+
+    private class Shard implements Runnable {
+        private final BlockingQueue<TimeSeries> queue;
+        private final RemoteWriteBuffer buffer = new RemoteWriteBuffer();
+        private Thread thread;
+
+        Shard(final int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void run() {
+            final int maxBatchSize = properties.getMaxSeriesPerSend();
+            final long batchDeadline = properties.getBatchSendDeadline().toNanos();
+            final List<TimeSeries> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    final TimeSeries first = queue.poll(batchDeadline, TimeUnit.NANOSECONDS);
+                    if (first == null || first == SHUTDOWN_MARKER) {
+                        continue;
+                    }
+                    batch.add(first);
+                    final long sendAt = System.nanoTime() + batchDeadline;
+                    while (batch.size() < maxBatchSize && running) {
+                        if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                            continue;
+                        }
+                        final TimeSeries next = queue.poll(sendAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (next == null || next == SHUTDOWN_MARKER) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    if (!running) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        batch.removeIf(series -> series == SHUTDOWN_MARKER);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedOnFailedSend.increment(batch.stream().mapToInt(TimeSeries::getSamplesCount).sum());
+                    return;
+                }
+                sendWithRetries(batch, buffer);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric.remotewrite;
+
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.opendatadiscovery.oddplatform.proto.WriteRequest;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Reusable serialization and compression buffers of a single remote write shard.
+ * Buffers only grow, so after warming up a shard encodes requests without allocating new arrays.
+ * Not thread-safe, each shard owns its own instance.
+ */
+class RemoteWriteBuffer {
+    private byte[] raw = new byte[0];
+    private byte[] compressed = new byte[0];
+
+    ByteBuffer encode(final WriteRequest writeRequest) throws IOException {
+        final int size = writeRequest.getSerializedSize();
+        if (raw.length < size) {
+            raw = new byte[size];
+        }
+        final CodedOutputStream outputStream = CodedOutputStream.newInstance(raw, 0, size);
+        writeRequest.writeTo(outputStream);
+        outputStream.checkNoSpaceLeft();
+
+        final int maxCompressedLength = Snappy.maxCompressedLength(size);
+        if (compressed.length < maxCompressedLength) {
+            compressed = new byte[maxCompressedLength];
+        }
+        final int compressedLength = Snappy.compress(raw, 0, size, compressed, 0);
+        return ByteBuffer.wrap(compressed, 0, compressedLength).asReadOnlyBuffer();
+    }
+}
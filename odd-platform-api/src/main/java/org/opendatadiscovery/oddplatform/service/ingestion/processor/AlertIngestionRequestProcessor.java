@@ -57,7 +57,8 @@ public class AlertIngestionRequestProcessor implements IngestionRequestProcessor
                     stateSnapshotKey.dqtToDataset()
                 ))))
             .flatMapMany(function((alertActionResolver, dqtToDatasets) -> alertLocator
-                .getAlertBISCandidates(request.getSpecificAttributesDeltas(), request.getChangedDatasetIds())
+                .getAlertBISCandidates(request.getSpecificAttributesDeltas(), request.getChangedDatasetIds(),
+                    request.getContext())
                 .collectList()
                 .flatMapMany(candidates -> Flux.fromStream(alertActionResolver.resolveActions(candidates)))
                 .mergeWith(actionsForIngestionTaskRuns(alertActionResolver, request.getTaskRuns(), dqtToDatasets))))
@@ -11,10 +11,12 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
 import org.opendatadiscovery.oddplatform.dto.ingestion.EnrichedDataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import org.opendatadiscovery.oddplatform.mapper.DatasetVersionMapper;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
 import org.opendatadiscovery.oddplatform.service.DatasetStructureService;
 import org.opendatadiscovery.oddplatform.service.ingestion.DatasetFieldMetadataIngestionService;
@@ -39,10 +41,12 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
     private final EnumValuesIngestionService enumValuesIngestionService;
     private final DatasetVersionMapper datasetVersionMapper;
     private final DatasetVersionHashCalculator datasetVersionHashCalculator;
+    private final ReactiveDatasetFieldRepository datasetFieldRepository;
 
     @Override
     public Mono<Void> process(final IngestionRequest request) {
-        return ingestNewDatasetStructure(request)
+        return resolveUnchangedDatasetFields(request)
+            .then(ingestNewDatasetStructure(request))
             .then(ingestExistingDatasetStructure(request))
             .then(labelIngestionService.ingestExternalLabels(request))
             .then(datasetFieldMetadataIngestionService.ingestMetadata(request))
@@ -57,6 +61,29 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
             .anyMatch(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET));
     }
 
+    private Mono<Void> resolveUnchangedDatasetFields(final IngestionRequest request) {
+        final List<DatasetFieldPojo> fields = request.getExistingEntities().stream()
+            .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
+            .flatMap(e -> e.getDataSet().fieldList().stream())
+            .map(DatasetFieldIngestionDto::field)
+            .toList();
+
+        if (fields.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<String> oddrns = fields.stream().map(DatasetFieldPojo::getOddrn).toList();
+        return request.getContext()
+            .getLastVersionDatasetFields(oddrns, datasetFieldRepository::getLastVersionDatasetFieldsByOddrns)
+            .doOnNext(existingFields -> request.getContext().markDatasetFieldsUnchanged(fields.stream()
+                .filter(f -> f.getIngestionFingerprint() != null)
+                .filter(f -> existingFields.containsKey(f.getOddrn())
+                    && f.getIngestionFingerprint().equals(existingFields.get(f.getOddrn()).getIngestionFingerprint()))
+                .map(DatasetFieldPojo::getOddrn)
+                .toList()))
+            .then();
+    }
+
     private Mono<Void> ingestNewDatasetStructure(final IngestionRequest request) {
         final Map<Long, EnrichedDataEntityIngestionDto> datasetDict = request.getNewEntities().stream()
             .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
@@ -77,7 +104,7 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
                 dto -> dto.getDataSet().fieldList().stream().map(DatasetFieldIngestionDto::field).toList()
             ));
 
-        return datasetStructureService.createDatasetStructure(versions, datasetFields);
+        return datasetStructureService.createDatasetStructure(versions, datasetFields, request.getContext());
     }
 
     private Mono<Void> ingestExistingDatasetStructure(final IngestionRequest request) {
@@ -104,8 +131,9 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
             .getLatestVersions(datasetIds)
             .collectList()
             .flatMap(this::recalculateHashIfEmpty)
-            .map(fetchedVersions -> extractVersionsToCreate(datasetDict, fetchedVersions))
-            .flatMap(datasetVersions -> datasetStructureService.createDatasetStructure(datasetVersions, datasetFields));
+            .map(fetchedVersions -> extractVersionsToCreate(datasetDict, fetchedVersions, request.getContext()))
+            .flatMap(datasetVersions -> datasetStructureService
+                .createDatasetStructure(datasetVersions, datasetFields, request.getContext()));
     }
 
     private Mono<List<DatasetVersionPojo>> recalculateHashIfEmpty(final List<DatasetVersionPojo> lastVersions) {
@@ -135,7 +163,8 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
 
     private List<DatasetVersionPojo> extractVersionsToCreate(
         final Map<String, EnrichedDataEntityIngestionDto> datasetDict,
-        final List<DatasetVersionPojo> fetchedVersions) {
+        final List<DatasetVersionPojo> fetchedVersions,
+        final IngestionContext context) {
         final List<DatasetVersionPojo> versionsToCreate = new ArrayList<>();
 
         for (final DatasetVersionPojo fetchedVersion : fetchedVersions) {
@@ -148,6 +177,7 @@ public class DatasetStructureIngestionRequestProcessor implements IngestionReque
             if (fetchedVersion.getVersionHash() != null
                 && !fetchedVersion.getVersionHash().equals(dto.getDataSet().structureHash())) {
                 dto.setDatasetSchemaChanged(true);
+                context.putPreviousDatasetVersion(fetchedVersion);
                 versionsToCreate.add(incrementDatasetVersion(fetchedVersion, dto));
             }
         }
@@ -4,12 +4,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.annotation.ReactiveTransactional;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
 import org.opendatadiscovery.oddplatform.service.TagService;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import static reactor.function.TupleUtils.function;
 public class ExternalTagIngestionRequestProcessor implements IngestionRequestProcessor {
     private final TagService tagService;
     private final ReactiveTagRepository reactiveTagRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     @Override
     @ReactiveTransactional
@@ -42,10 +45,15 @@ public class ExternalTagIngestionRequestProcessor implements IngestionRequestPro
                 final List<TagToDataEntityPojo> pojosToDelete = current.stream()
                     .filter(r -> !updated.contains(r))
                     .toList();
+                final Set<Long> changedDataEntityIds = Stream.concat(
+                        pojosToDelete.stream(),
+                        updated.stream().filter(r -> !current.contains(r)))
+                    .map(TagToDataEntityPojo::getDataEntityId)
+                    .collect(Collectors.toSet());
                 return reactiveTagRepository.deleteDataEntityRelations(pojosToDelete)
-                    .then(Mono.just(updated));
+                    .thenMany(reactiveTagRepository.createDataEntityRelations(updated))
+                    .then(dataEntitySummaryRepository.refresh(changedDataEntityIds));
             }))
-            .flatMapMany(reactiveTagRepository::createDataEntityRelations)
             .then();
     }
 
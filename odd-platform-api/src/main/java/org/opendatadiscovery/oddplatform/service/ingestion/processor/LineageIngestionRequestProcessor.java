@@ -1,6 +1,8 @@
 package org.opendatadiscovery.oddplatform.service.ingestion.processor;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
 import org.opendatadiscovery.oddplatform.service.LineageService;
@@ -8,13 +10,30 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class LineageIngestionRequestProcessor implements IngestionRequestProcessor {
+    private static final String METRIC_NAME = "odd.ingestion.lineage.edges";
+
     private final LineageService lineageService;
+    private final DistributionSummary addedEdges;
+    private final DistributionSummary removedEdges;
+
+    public LineageIngestionRequestProcessor(final LineageService lineageService,
+                                            final MeterRegistry meterRegistry) {
+        this.lineageService = lineageService;
+        this.addedEdges = DistributionSummary.builder(METRIC_NAME).tag("change", "added").register(meterRegistry);
+        this.removedEdges = DistributionSummary.builder(METRIC_NAME).tag("change", "removed").register(meterRegistry);
+    }
 
     @Override
     public Mono<Void> process(final IngestionRequest request) {
-        return lineageService.replaceLineagePaths(request.getLineageRelations()).then();
+        return lineageService.replaceLineagePaths(request.getLineageRelations())
+            .doOnNext(diff -> {
+                log.debug("Lineage ingestion added {} and removed {} edges", diff.addedEdges(), diff.removedEdges());
+                addedEdges.record(diff.addedEdges());
+                removedEdges.record(diff.removedEdges());
+            })
+            .then();
     }
 
     @Override
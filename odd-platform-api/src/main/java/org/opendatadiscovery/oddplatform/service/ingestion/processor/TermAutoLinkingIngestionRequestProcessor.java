@@ -0,0 +1,145 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.processor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.TermRelationsRepository;
+import org.opendatadiscovery.oddplatform.service.term.TermNameIndex;
+import org.opendatadiscovery.oddplatform.service.term.TermNameMatcher;
+import org.opendatadiscovery.oddplatform.utils.Pair;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DatasetFieldIngestionDto;
+import static reactor.function.TupleUtils.function;
+
+/**
+ * Links data entities and dataset fields of the request with the terms of their data source namespace,
+ * which are mentioned in their descriptions. Links are replaced as a whole for the entities and fields
+ * of the request, so links to terms which are no longer mentioned are removed. Auto links which were
+ * removed by users are not created again.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "odd.terms.auto-linking.enabled", havingValue = "true")
+public class TermAutoLinkingIngestionRequestProcessor implements IngestionRequestProcessor {
+    private final ReactiveDataSourceRepository dataSourceRepository;
+    private final ReactiveDataEntityRepository dataEntityRepository;
+    private final ReactiveDatasetFieldRepository datasetFieldRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    private final TermRelationsRepository termRelationsRepository;
+    private final TermNameIndex termNameIndex;
+
+    @Override
+    public Mono<Void> process(final IngestionRequest request) {
+        final long dataSourceId = request.getAllEntities().get(0).getDataSourceId();
+
+        return dataSourceRepository.get(dataSourceId)
+            .filter(dataSource -> dataSource.getNamespaceId() != null)
+            .flatMap(dataSource -> termNameIndex.getMatcher(dataSource.getNamespaceId()))
+            .flatMap(matcher -> linkDataEntities(request, matcher).then(linkDatasetFields(request, matcher)));
+    }
+
+    @Override
+    public boolean shouldProcess(final IngestionRequest request) {
+        return !request.getAllEntities().isEmpty();
+    }
+
+    @Override
+    public IngestionProcessingPhase getPhase() {
+        return IngestionProcessingPhase.FINALIZING;
+    }
+
+    private Mono<Void> linkDataEntities(final IngestionRequest request, final TermNameMatcher matcher) {
+        final Mono<Set<Pair<Long, Long>>> dismissals = termRelationsRepository
+            .getDataEntityAutoLinkDismissals(request.getAllIds())
+            .map(d -> Pair.of(d.getDataEntityId(), d.getTermId()))
+            .collect(Collectors.toSet());
+
+        return Mono.zip(dataEntityRepository.get(request.getAllIds()).collectList(), dismissals)
+            .map(function((dataEntities, dismissed) -> dataEntities.stream()
+                .flatMap(de -> match(matcher, de.getExternalDescription(), de.getInternalDescription()).stream()
+                    .filter(termId -> !dismissed.contains(Pair.of(de.getId(), termId)))
+                    .map(termId -> autoLink(de, termId)))
+                .toList()))
+            .flatMap(links -> termRelationsRepository
+                .deleteDataEntityDescriptionLinksExcept(request.getAllIds(), true, links)
+                .concatWith(termRelationsRepository.createRelationsWithDataEntity(links))
+                .map(DataEntityToTermPojo::getDataEntityId)
+                .collect(Collectors.toSet()))
+            .flatMap(dataEntitySummaryRepository::refresh)
+            .then();
+    }
+
+    private Mono<Void> linkDatasetFields(final IngestionRequest request, final TermNameMatcher matcher) {
+        final List<String> oddrns = request.getAllEntities().stream()
+            .filter(e -> e.getEntityClasses().contains(DataEntityClassDto.DATA_SET))
+            .flatMap(e -> e.getDataSet().fieldList().stream())
+            .map(DatasetFieldIngestionDto::field)
+            .map(DatasetFieldPojo::getOddrn)
+            .toList();
+
+        if (oddrns.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return request.getContext()
+            .getLastVersionDatasetFields(oddrns, datasetFieldRepository::getLastVersionDatasetFieldsByOddrns)
+            .flatMap(fieldsByOddrn -> {
+                final Collection<DatasetFieldPojo> fields = fieldsByOddrn.values();
+                final Set<Long> fieldIds = fields.stream().map(DatasetFieldPojo::getId).collect(Collectors.toSet());
+                return termRelationsRepository.getDatasetFieldAutoLinkDismissals(fieldIds)
+                    .map(d -> Pair.of(d.getDatasetFieldId(), d.getTermId()))
+                    .collect(Collectors.toSet())
+                    .flatMap(dismissed -> {
+                        final List<DatasetFieldToTermPojo> links = fields.stream()
+                            .flatMap(f -> match(matcher, f.getExternalDescription(), f.getInternalDescription())
+                                .stream()
+                                .filter(termId -> !dismissed.contains(Pair.of(f.getId(), termId)))
+                                .map(termId -> autoLink(f, termId)))
+                            .toList();
+                        return termRelationsRepository.deleteDatasetFieldDescriptionLinksExcept(fieldIds, true, links)
+                            .thenMany(termRelationsRepository.createRelationsWithDatasetField(links))
+                            .then();
+                    });
+            });
+    }
+
+    private Set<Long> match(final TermNameMatcher matcher,
+                            final String externalDescription,
+                            final String internalDescription) {
+        return Stream.of(externalDescription, internalDescription)
+            .flatMap(description -> matcher.match(description).stream())
+            .collect(Collectors.toSet());
+    }
+
+    private DataEntityToTermPojo autoLink(final DataEntityPojo dataEntity, final long termId) {
+        return new DataEntityToTermPojo()
+            .setDataEntityId(dataEntity.getId())
+            .setTermId(termId)
+            .setIsDescriptionLink(true)
+            .setIsAutoLink(true);
+    }
+
+    private DatasetFieldToTermPojo autoLink(final DatasetFieldPojo datasetField, final long termId) {
+        return new DatasetFieldToTermPojo()
+            .setDatasetFieldId(datasetField.getId())
+            .setTermId(termId)
+            .setIsDescriptionLink(true)
+            .setIsAutoLink(true);
+    }
+}
@@ -0,0 +1,27 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+final class BitReader {
+    private final byte[] buffer;
+    private int bitPosition;
+
+    BitReader(final byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean readBit() {
+        if (bitPosition >= buffer.length * 8) {
+            throw new IllegalStateException("Metric chunk is truncated");
+        }
+        final boolean bit = ((buffer[bitPosition >>> 3] >>> (7 - (bitPosition & 7))) & 1) == 1;
+        bitPosition++;
+        return bit;
+    }
+
+    long readBits(final int bits) {
+        long value = 0;
+        for (int i = 0; i < bits; i++) {
+            value = (value << 1) | (readBit() ? 1L : 0L);
+        }
+        return value;
+    }
+}
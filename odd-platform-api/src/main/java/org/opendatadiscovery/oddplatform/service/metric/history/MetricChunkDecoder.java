@@ -0,0 +1,82 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class MetricChunkDecoder {
+    @FunctionalInterface
+    public interface MetricChunkPointConsumer {
+        void accept(final long timestamp, final double value);
+    }
+
+    public static int pointsCount(final byte[] chunk) {
+        validateHeader(chunk);
+        return ((chunk[1] & 0xFF) << 24) | ((chunk[2] & 0xFF) << 16) | ((chunk[3] & 0xFF) << 8) | (chunk[4] & 0xFF);
+    }
+
+    public static void decode(final byte[] chunk, final MetricChunkPointConsumer consumer) {
+        final int count = pointsCount(chunk);
+        if (count == 0) {
+            return;
+        }
+        final byte[] payload = new byte[chunk.length - 5];
+        System.arraycopy(chunk, 5, payload, 0, payload.length);
+        final BitReader reader = new BitReader(payload);
+
+        long timestamp = reader.readBits(64);
+        long valueBits = reader.readBits(64);
+        consumer.accept(timestamp, Double.longBitsToDouble(valueBits));
+
+        long delta = 0;
+        int leadingZeros = 0;
+        int trailingZeros = 0;
+        for (int i = 1; i < count; i++) {
+            delta += readDeltaOfDelta(reader);
+            timestamp += delta;
+
+            if (reader.readBit()) {
+                if (reader.readBit()) {
+                    leadingZeros = (int) reader.readBits(5);
+                    int significantBits = (int) reader.readBits(6);
+                    if (significantBits == 0) {
+                        significantBits = 64;
+                    }
+                    trailingZeros = 64 - leadingZeros - significantBits;
+                }
+                final long xor = reader.readBits(64 - leadingZeros - trailingZeros) << trailingZeros;
+                valueBits ^= xor;
+            }
+            consumer.accept(timestamp, Double.longBitsToDouble(valueBits));
+        }
+    }
+
+    private static long readDeltaOfDelta(final BitReader reader) {
+        if (!reader.readBit()) {
+            return 0;
+        }
+        if (!reader.readBit()) {
+            return signExtend(reader.readBits(7), 7);
+        }
+        if (!reader.readBit()) {
+            return signExtend(reader.readBits(9), 9);
+        }
+        if (!reader.readBit()) {
+            return signExtend(reader.readBits(12), 12);
+        }
+        return reader.readBits(64);
+    }
+
+    private static long signExtend(final long value, final int bits) {
+        final int shift = 64 - bits;
+        return (value << shift) >> shift;
+    }
+
+    private static void validateHeader(final byte[] chunk) {
+        if (chunk == null || chunk.length < 5) {
+            throw new IllegalArgumentException("Metric chunk header is missing");
+        }
+        if (chunk[0] != MetricChunkEncoder.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported metric chunk format version: %d".formatted(chunk[0]));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+/**
+ * Gorilla-style encoder of a single metric chunk: timestamps (epoch seconds) are stored as delta-of-deltas
+ * and values as XOR against the previous value, so regularly scraped series take a couple of bits per point.
+ */
+public final class MetricChunkEncoder {
+    static final byte FORMAT_VERSION = 1;
+
+    private final BitWriter writer;
+
+    private int count;
+    private long previousTimestamp;
+    private long previousDelta;
+    private long previousValueBits;
+    private int previousLeadingZeros = Integer.MAX_VALUE;
+    private int previousTrailingZeros;
+
+    public MetricChunkEncoder(final int expectedPoints) {
+        this.writer = new BitWriter(16 + expectedPoints * 2);
+    }
+
+    public void append(final long timestamp, final double value) {
+        if (count > 0 && timestamp <= previousTimestamp) {
+            throw new IllegalArgumentException("Metric chunk timestamps must be strictly increasing");
+        }
+        final long valueBits = Double.doubleToRawLongBits(value);
+        if (count == 0) {
+            writer.writeBits(timestamp, 64);
+            writer.writeBits(valueBits, 64);
+        } else {
+            final long delta = timestamp - previousTimestamp;
+            writeDeltaOfDelta(delta - previousDelta);
+            writeValue(valueBits);
+            previousDelta = delta;
+        }
+        previousTimestamp = timestamp;
+        previousValueBits = valueBits;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        final byte[] payload = writer.toByteArray();
+        final byte[] result = new byte[payload.length + 5];
+        result[0] = FORMAT_VERSION;
+        result[1] = (byte) (count >>> 24);
+        result[2] = (byte) (count >>> 16);
+        result[3] = (byte) (count >>> 8);
+        result[4] = (byte) count;
+        System.arraycopy(payload, 0, result, 5, payload.length);
+        return result;
+    }
+
+    private void writeDeltaOfDelta(final long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writer.writeBit(false);
+        } else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+            writer.writeBits(0b10, 2);
+            writer.writeBits(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+            writer.writeBits(0b110, 3);
+            writer.writeBits(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+            writer.writeBits(0b1110, 4);
+            writer.writeBits(deltaOfDelta, 12);
+        } else {
+            writer.writeBits(0b1111, 4);
+            writer.writeBits(deltaOfDelta, 64);
+        }
+    }
+
+    private void writeValue(final long valueBits) {
+        final long xor = valueBits ^ previousValueBits;
+        if (xor == 0) {
+            writer.writeBit(false);
+            return;
+        }
+        writer.writeBit(true);
+
+        final int leadingZeros = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        final int trailingZeros = Long.numberOfTrailingZeros(xor);
+        if (leadingZeros >= previousLeadingZeros && trailingZeros >= previousTrailingZeros) {
+            writer.writeBit(false);
+            writer.writeBits(xor >>> previousTrailingZeros, 64 - previousLeadingZeros - previousTrailingZeros);
+            return;
+        }
+
+        final int significantBits = 64 - leadingZeros - trailingZeros;
+        writer.writeBit(true);
+        writer.writeBits(leadingZeros, 5);
+        // 64 significant bits do not fit into 6 bits and are written as 0
+        writer.writeBits(significantBits == 64 ? 0 : significantBits, 6);
+        writer.writeBits(xor >>> trailingZeros, significantBits);
+        previousLeadingZeros = leadingZeros;
+        previousTrailingZeros = trailingZeros;
+    }
+}
@@ -0,0 +1,20 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricDownsampleFunction;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesHistoryDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface MetricHistoryService {
+    Mono<Void> appendPoints(final List<MetricPointPojo> points);
+
+    Flux<MetricSeriesHistoryDto> getHistory(final String oddrn,
+                                            final LocalDateTime from,
+                                            final LocalDateTime to,
+                                            final Duration step,
+                                            final MetricDownsampleFunction downsampleFunction);
+}
@@ -0,0 +1,209 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricDownsampleFunction;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesChunkDto;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesHistoryDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricSeriesPojo;
+import org.opendatadiscovery.oddplatform.repository.metric.MetricChunkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "metrics.storage", havingValue = "INTERNAL_POSTGRES", matchIfMissing = true)
+public class MetricHistoryServiceImpl implements MetricHistoryService {
+    private final MetricChunkRepository metricChunkRepository;
+
+    @Value("${metrics.history.chunk-window:2h}")
+    private Duration chunkWindow;
+
+    @Override
+    public Mono<Void> appendPoints(final List<MetricPointPojo> points) {
+        final Map<ChunkKey, List<MetricPointPojo>> pointsByChunk = points.stream()
+            .filter(p -> p.getValue() != null && p.getLabelValuesIds() != null && p.getTimestamp() != null)
+            .collect(Collectors.groupingBy(
+                p -> new ChunkKey(p.getSeriesId(), List.of(p.getLabelValuesIds()), getWindowStart(p.getTimestamp()))
+            ));
+        if (pointsByChunk.isEmpty()) {
+            return Mono.empty();
+        }
+        final List<MetricChunkPojo> emptyChunks = pointsByChunk.keySet().stream()
+            .map(ChunkKey::toEmptyPojo)
+            .toList();
+        return metricChunkRepository.createAndLockChunks(emptyChunks)
+            .collectMap(ChunkKey::of)
+            .map(existingChunks -> pointsByChunk.entrySet().stream()
+                .map(e -> mergeChunk(e.getKey(), existingChunks.get(e.getKey()), e.getValue()))
+                .toList())
+            .flatMapMany(metricChunkRepository::createOrUpdateChunks)
+            .then();
+    }
+
+    @Override
+    public Flux<MetricSeriesHistoryDto> getHistory(final String oddrn,
+                                                   final LocalDateTime from,
+                                                   final LocalDateTime to,
+                                                   final Duration step,
+                                                   final MetricDownsampleFunction downsampleFunction) {
+        final long fromEpoch = from.toEpochSecond(ZoneOffset.UTC);
+        final long toEpoch = to.toEpochSecond(ZoneOffset.UTC);
+        return metricChunkRepository.getChunksByEntityOddrn(oddrn, from, to)
+            .collect(LinkedHashMap<SeriesKey, SeriesPoints>::new, (map, dto) -> {
+                final MetricChunkPojo chunk = dto.chunk();
+                final SeriesPoints seriesPoints = map.computeIfAbsent(
+                    new SeriesKey(chunk.getSeriesId(), List.of(chunk.getLabelValuesIds())),
+                    k -> new SeriesPoints(dto.series(), chunk.getLabelValuesIds(), new TreeMap<>()));
+                MetricChunkDecoder.decode(chunk.getData(), (timestamp, value) -> {
+                    if (timestamp >= fromEpoch && timestamp < toEpoch) {
+                        seriesPoints.points().put(timestamp, value);
+                    }
+                });
+            })
+            .flatMapIterable(Map::values)
+            .filter(seriesPoints -> !seriesPoints.points().isEmpty())
+            .map(seriesPoints -> toHistory(seriesPoints, fromEpoch, step, downsampleFunction));
+    }
+
+    private MetricChunkPojo mergeChunk(final ChunkKey key,
+                                       final MetricChunkPojo existingChunk,
+                                       final List<MetricPointPojo> points) {
+        final NavigableMap<Long, Double> merged = new TreeMap<>();
+        if (existingChunk != null) {
+            MetricChunkDecoder.decode(existingChunk.getData(), merged::put);
+        }
+        points.forEach(p -> merged.put(p.getTimestamp().toEpochSecond(ZoneOffset.UTC), p.getValue()));
+
+        final MetricChunkEncoder encoder = new MetricChunkEncoder(merged.size());
+        merged.forEach(encoder::append);
+        return key.toPojo()
+            .setFirstTimestamp(LocalDateTime.ofEpochSecond(merged.firstKey(), 0, ZoneOffset.UTC))
+            .setLastTimestamp(LocalDateTime.ofEpochSecond(merged.lastKey(), 0, ZoneOffset.UTC))
+            .setPointsCount(encoder.size())
+            .setData(encoder.toByteArray());
+    }
+
+    private MetricSeriesHistoryDto toHistory(final SeriesPoints seriesPoints,
+                                             final long fromEpoch,
+                                             final Duration step,
+                                             final MetricDownsampleFunction downsampleFunction) {
+        final NavigableMap<Long, Double> points = seriesPoints.points();
+        if (step == null || step.toSeconds() <= 0) {
+            final long[] timestamps = new long[points.size()];
+            final double[] values = new double[points.size()];
+            int i = 0;
+            for (final Map.Entry<Long, Double> point : points.entrySet()) {
+                timestamps[i] = point.getKey();
+                values[i] = point.getValue();
+                i++;
+            }
+            return new MetricSeriesHistoryDto(seriesPoints.series(), seriesPoints.labelValuesIds(), timestamps, values);
+        }
+
+        final long stepSeconds = step.toSeconds();
+        final List<Long> bucketTimestamps = new ArrayList<>();
+        final List<Double> bucketValues = new ArrayList<>();
+        final BucketAccumulator accumulator = new BucketAccumulator(downsampleFunction);
+        long currentBucket = Long.MIN_VALUE;
+        for (final Map.Entry<Long, Double> point : points.entrySet()) {
+            final long bucket = fromEpoch + Math.floorDiv(point.getKey() - fromEpoch, stepSeconds) * stepSeconds;
+            if (bucket != currentBucket && accumulator.hasValues()) {
+                bucketTimestamps.add(currentBucket);
+                bucketValues.add(accumulator.getAndReset());
+            }
+            currentBucket = bucket;
+            accumulator.add(point.getValue());
+        }
+        if (accumulator.hasValues()) {
+            bucketTimestamps.add(currentBucket);
+            bucketValues.add(accumulator.getAndReset());
+        }
+        return new MetricSeriesHistoryDto(seriesPoints.series(), seriesPoints.labelValuesIds(),
+            bucketTimestamps.stream().mapToLong(Long::longValue).toArray(),
+            bucketValues.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private LocalDateTime getWindowStart(final LocalDateTime timestamp) {
+        final long windowSeconds = chunkWindow.toSeconds();
+        final long epochSeconds = timestamp.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSeconds, windowSeconds) * windowSeconds, 0,
+            ZoneOffset.UTC);
+    }
+
+    private record ChunkKey(Integer seriesId, List<Integer> labelValuesIds, LocalDateTime windowStart) {
+        private static ChunkKey of(final MetricChunkPojo pojo) {
+            return new ChunkKey(pojo.getSeriesId(), List.of(pojo.getLabelValuesIds()), pojo.getWindowStart());
+        }
+
+        private MetricChunkPojo toPojo() {
+            return new MetricChunkPojo()
+                .setSeriesId(seriesId)
+                .setLabelValuesIds(labelValuesIds.toArray(Integer[]::new))
+                .setWindowStart(windowStart);
+        }
+
+        private MetricChunkPojo toEmptyPojo() {
+            return toPojo()
+                .setFirstTimestamp(windowStart)
+                .setLastTimestamp(windowStart)
+                .setPointsCount(0)
+                .setData(new MetricChunkEncoder(0).toByteArray());
+        }
+    }
+
+    private record SeriesKey(Integer seriesId, List<Integer> labelValuesIds) {
+    }
+
+    private record SeriesPoints(MetricSeriesPojo series, Integer[] labelValuesIds, NavigableMap<Long, Double> points) {
+    }
+
+    private static final class BucketAccumulator {
+        private final MetricDownsampleFunction function;
+        private int count;
+        private double result;
+
+        private BucketAccumulator(final MetricDownsampleFunction function) {
+            this.function = function != null ? function : MetricDownsampleFunction.LAST;
+        }
+
+        private void add(final double value) {
+            if (count == 0) {
+                result = value;
+            } else {
+                result = switch (function) {
+                    case LAST -> value;
+                    case AVG -> result + value;
+                    case MIN -> Math.min(result, value);
+                    case MAX -> Math.max(result, value);
+                };
+            }
+            count++;
+        }
+
+        private boolean hasValues() {
+            return count > 0;
+        }
+
+        private double getAndReset() {
+            final double value = function == MetricDownsampleFunction.AVG ? result / count : result;
+            count = 0;
+            result = 0;
+            return value;
+        }
+    }
+}
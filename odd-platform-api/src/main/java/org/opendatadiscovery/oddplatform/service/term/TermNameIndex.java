@@ -0,0 +1,69 @@
+package org.opendatadiscovery.oddplatform.service.term;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Term name matchers compiled per namespace. Matchers are compiled on the first read and recompiled after terms
+ * change. Changes made by other instances are picked up when the matchers expire.
+ */
+@Component
+public class TermNameIndex {
+    private final ReactiveTermRepository termRepository;
+    private final long ttlNanos;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Long, Mono<CompiledMatcher>> matchers = new ConcurrentHashMap<>();
+
+    public TermNameIndex(final ReactiveTermRepository termRepository,
+                         @Value("${odd.terms.auto-linking.cache-ttl:5m}") final Duration ttl) {
+        this.termRepository = termRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Mono<TermNameMatcher> getMatcher(final long namespaceId) {
+        return matchers
+            .computeIfAbsent(namespaceId, id -> Mono.defer(() -> compile(id)).cacheInvalidateIf(this::isOutdated))
+            .map(CompiledMatcher::matcher);
+    }
+
+    /**
+     * Recompiles the matchers on the next read after the current transaction commits.
+     */
+    public Mono<Void> invalidateAfterCommit() {
+        final Runnable action = version::incrementAndGet;
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(action);
+                }
+            }))
+            .then()
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action));
+    }
+
+    private Mono<CompiledMatcher> compile(final long namespaceId) {
+        final long compileVersion = version.get();
+        final long compiledAt = System.nanoTime();
+        return termRepository.listByNamespace(namespaceId)
+            .collectList()
+            .map(terms -> new CompiledMatcher(TermNameMatcher.compile(terms), compileVersion, compiledAt));
+    }
+
+    private boolean isOutdated(final CompiledMatcher compiled) {
+        return compiled.version() != version.get() || System.nanoTime() - compiled.compiledAt() > ttlNanos;
+    }
+
+    private record CompiledMatcher(TermNameMatcher matcher, long version, long compiledAt) {
+    }
+}
@@ -0,0 +1,125 @@
+package org.opendatadiscovery.oddplatform.service.term;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
+
+/**
+ * Aho-Corasick automaton compiled from term names, which finds all the terms mentioned in a text in a single pass.
+ * Names are matched case-insensitively and only as whole words, so the term {@code order} is found in
+ * {@code "Order status"}, but neither in {@code "Orders"} nor in {@code "order_id"}.
+ */
+public final class TermNameMatcher {
+    private final Node root = new Node();
+
+    private TermNameMatcher() {
+    }
+
+    public static TermNameMatcher compile(final Collection<TermPojo> terms) {
+        final TermNameMatcher matcher = new TermNameMatcher();
+        for (final TermPojo term : terms) {
+            final String name = StringUtils.trim(term.getName());
+            if (StringUtils.isNotEmpty(name)) {
+                matcher.add(name, term.getId());
+            }
+        }
+        matcher.buildFailureLinks();
+        return matcher;
+    }
+
+    public boolean isEmpty() {
+        return root.children.isEmpty();
+    }
+
+    /**
+     * @return ids of the terms whose names are mentioned in the text
+     */
+    public Set<Long> match(final String text) {
+        if (StringUtils.isEmpty(text) || isEmpty()) {
+            return Set.of();
+        }
+
+        final Set<Long> termIds = new HashSet<>();
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = Character.toLowerCase(text.charAt(i));
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            for (Node output = node.termIds.isEmpty() ? node.output : node; output != null; output = output.output) {
+                if (isWholeWord(text, i - output.depth + 1, i + 1)) {
+                    termIds.addAll(output.termIds);
+                }
+            }
+        }
+        return termIds;
+    }
+
+    private void add(final String name, final long termId) {
+        Node node = root;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = Character.toLowerCase(name.charAt(i));
+            final int depth = node.depth + 1;
+            node = node.children.computeIfAbsent(c, k -> new Node(depth));
+        }
+        node.termIds.add(termId);
+    }
+
+    private void buildFailureLinks() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (final Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            for (final Map.Entry<Character, Node> e : node.children.entrySet()) {
+                final Node child = e.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(e.getKey())) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(e.getKey(), root);
+                child.output = child.failure.termIds.isEmpty() ? child.failure.output : child.failure;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean isWholeWord(final String text, final int start, final int end) {
+        return (start == 0 || !isWordCharacter(text.charAt(start - 1)))
+            && (end == text.length() || !isWordCharacter(text.charAt(end)));
+    }
+
+    private static boolean isWordCharacter(final char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Long> termIds = new ArrayList<>();
+        private final int depth;
+        private Node failure;
+        // the nearest node on the failure chain which completes a term name
+        private Node output;
+
+        private Node() {
+            this(0);
+        }
+
+        private Node(final int depth) {
+            this.depth = depth;
+        }
+    }
+}
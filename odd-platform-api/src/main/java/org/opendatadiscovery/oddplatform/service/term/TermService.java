@@ -1,6 +1,7 @@
 package org.opendatadiscovery.oddplatform.service.term;
 
 import java.util.List;
+import java.util.Map;
 import org.opendatadiscovery.oddplatform.api.contract.model.LinkedTerm;
 import org.opendatadiscovery.oddplatform.api.contract.model.Tag;
 import org.opendatadiscovery.oddplatform.api.contract.model.TagsFormData;
@@ -32,6 +33,13 @@ public interface TermService {
     Mono<List<LinkedTermDto>> handleDataEntityDescriptionTerms(final long dataEntityId,
                                                                final String description);
 
+    /**
+     * Links data entities with the terms mentioned in their descriptions, handling all the descriptions at once.
+     *
+     * @param descriptions internal descriptions by data entity ids
+     */
+    Mono<Void> handleDataEntitiesDescriptionTerms(final Map<Long, String> descriptions);
+
     Mono<LinkedTerm> linkTermWithDatasetField(final Long termId, final Long datasetFieldId);
 
     Mono<Void> removeTermFromDatasetField(final Long termId, final Long datasetFieldId);
@@ -39,6 +47,13 @@ public interface TermService {
     Mono<List<LinkedTermDto>> handleDatasetFieldDescriptionTerms(final long datasetFieldId,
                                                                  final String description);
 
+    /**
+     * Links dataset fields with the terms mentioned in their descriptions, handling all the descriptions at once.
+     *
+     * @param descriptions internal descriptions by dataset field ids
+     */
+    Mono<Void> handleDatasetFieldsDescriptionTerms(final Map<Long, String> descriptions);
+
     Flux<Tag> upsertTags(final Long termId, final TagsFormData tagsFormData);
 
     Mono<List<LinkedTermDto>> getDataEntityTerms(final long dataEntityId);
@@ -1,11 +1,17 @@
 package org.opendatadiscovery.oddplatform.service.term;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -36,6 +42,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.DataEntityDescriptionUnhandledTermRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.DatasetFieldDescriptionUnhandledTermRepositoryImpl;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermSearchEntrypointRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.TermRelationsRepository;
@@ -63,12 +70,14 @@ public class TermServiceImpl implements TermService {
     private final NamespaceService namespaceService;
     private final TagService tagService;
     private final DataEntityFilledService dataEntityFilledService;
+    private final TermNameIndex termNameIndex;
 
     private final ReactiveTermRepository termRepository;
     private final TermRelationsRepository termRelationsRepository;
     private final ReactiveTermSearchEntrypointRepository termSearchEntrypointRepository;
     private final DataEntityDescriptionUnhandledTermRepository dataEntityDescriptionUnhandledTermRepository;
     private final DatasetFieldDescriptionUnhandledTermRepositoryImpl datasetFieldDescriptionUnhandledTermRepository;
+    private final ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     private final TermMapper termMapper;
     private final TagMapper tagMapper;
@@ -103,7 +112,8 @@ public class TermServiceImpl implements TermService {
             })
             .then(createTermMono)
             .flatMap(this::updateSearchVectors)
-            .flatMap(term -> resolveUnhandledDescriptionMentions(term).thenReturn(term));
+            .flatMap(term -> resolveUnhandledDescriptionMentions(term).thenReturn(term))
+            .flatMap(term -> termNameIndex.invalidateAfterCommit().thenReturn(term));
     }
 
     @Override
@@ -131,7 +141,8 @@ public class TermServiceImpl implements TermService {
                     return update(termPojo);
                 })
             )
-            .flatMap(this::updateSearchVectors);
+            .flatMap(this::updateSearchVectors)
+            .flatMap(term -> termNameIndex.invalidateAfterCommit().thenReturn(term));
     }
 
     @Override
@@ -150,8 +161,12 @@ public class TermServiceImpl implements TermService {
                 }
             })
             .thenMany(termRelationsRepository.deleteRelationsWithDataEntities(id))
+            .map(DataEntityToTermPojo::getDataEntityId)
+            .collectList()
+            .flatMap(dataEntitySummaryRepository::refresh)
             .thenMany(termRelationsRepository.deleteRelationsWithDatasetFields(id))
-            .then(termRepository.delete(id).map(TermPojo::getId));
+            .then(termRepository.delete(id).map(TermPojo::getId))
+            .flatMap(termId -> termNameIndex.invalidateAfterCommit().thenReturn(termId));
     }
 
     @Override
@@ -162,8 +177,9 @@ public class TermServiceImpl implements TermService {
                                                    final Long dataEntityId) {
         return termRelationsRepository.createRelationWithDataEntity(dataEntityId, termId)
             .switchIfEmpty(Mono.error(() -> new BadUserRequestException("Term already assigned to data entity")))
+            .flatMap(relation -> dataEntitySummaryRepository.refresh(dataEntityId).thenReturn(relation))
             .flatMap(relation -> termRepository.getTermRefDto(relation.getTermId()))
-            .map(termRefDto -> new LinkedTermDto(termRefDto, false))
+            .map(termRefDto -> new LinkedTermDto(termRefDto, false, false))
             .flatMap(termRefDto -> dataEntityFilledService.markEntityFilled(dataEntityId, TERMS).thenReturn(termRefDto))
             .map(termMapper::mapToLinkedTerm);
     }
@@ -175,7 +191,18 @@ public class TermServiceImpl implements TermService {
                                                @ActivityParameter(TermAssignment.DATA_ENTITY_ID)
                                                final Long dataEntityId) {
         return termRelationsRepository.deleteRelationWithDataEntity(dataEntityId, termId)
-            .flatMap(pojo -> getDataEntityTerms(pojo.getDataEntityId()))
+            .collectList()
+            .filter(deleted -> !deleted.isEmpty())
+            .flatMap(deleted -> {
+                // otherwise the auto link would be created again with the next ingestion
+                if (deleted.stream().anyMatch(DataEntityToTermPojo::getIsAutoLink)) {
+                    return termRelationsRepository.dismissDataEntityAutoLink(dataEntityId, termId)
+                        .thenReturn(deleted);
+                }
+                return Mono.just(deleted);
+            })
+            .flatMap(deleted -> dataEntitySummaryRepository.refresh(dataEntityId).thenReturn(deleted))
+            .flatMap(deleted -> getDataEntityTerms(dataEntityId))
             .flatMap(termDtos -> {
                 if (CollectionUtils.isEmpty(termDtos)) {
                     return dataEntityFilledService.markEntityUnfilled(dataEntityId, TERMS);
@@ -191,11 +218,20 @@ public class TermServiceImpl implements TermService {
     public Mono<List<LinkedTermDto>> handleDataEntityDescriptionTerms(
         @ActivityParameter(TermAssignment.DATA_ENTITY_ID) final long dataEntityId,
         final String description) {
-        return findTermsInDescription(description)
-            .flatMap(parsedTerms -> updateDataEntityDescriptionTermsState(parsedTerms, dataEntityId))
+        return handleDataEntitiesDescriptionTerms(Collections.singletonMap(dataEntityId, description))
             .then(getDataEntityTerms(dataEntityId));
     }
 
+    @Override
+    @ReactiveTransactional
+    public Mono<Void> handleDataEntitiesDescriptionTerms(final Map<Long, String> descriptions) {
+        if (descriptions.isEmpty()) {
+            return Mono.empty();
+        }
+        return findTermsInDescriptions(descriptions)
+            .flatMap(this::updateDataEntityDescriptionTermsState);
+    }
+
     @Override
     @ReactiveTransactional
     @ActivityLog(event = ActivityEventTypeDto.DATASET_FIELD_TERM_ASSIGNMENT_UPDATED)
@@ -204,7 +240,7 @@ public class TermServiceImpl implements TermService {
                                                      final Long datasetFieldId) {
         return termRelationsRepository.createRelationWithDatasetField(datasetFieldId, termId)
             .flatMap(relation -> termRepository.getTermRefDto(relation.getTermId()))
-            .map(termRefDto -> new LinkedTermDto(termRefDto, false))
+            .map(termRefDto -> new LinkedTermDto(termRefDto, false, false))
             .flatMap(termRefDto -> dataEntityFilledService.markEntityFilledByDatasetFieldId(datasetFieldId,
                 DATASET_FIELD_TERMS).thenReturn(termRefDto))
             .map(termMapper::mapToLinkedTerm);
@@ -217,6 +253,9 @@ public class TermServiceImpl implements TermService {
                                                  @ActivityParameter(FieldTermAssignment.DATASET_FIELD_ID)
                                                  final Long datasetFieldId) {
         return termRelationsRepository.deleteRelationWithDatasetField(datasetFieldId, termId)
+            .filter(DatasetFieldToTermPojo::getIsAutoLink)
+            .next()
+            .flatMap(autoLink -> termRelationsRepository.dismissDatasetFieldAutoLink(datasetFieldId, termId))
             .then(termRepository.getDatasetFieldTerms(datasetFieldId).collectList())
             .flatMap(termDtos -> {
                 if (CollectionUtils.isEmpty(termDtos)) {
@@ -234,11 +273,20 @@ public class TermServiceImpl implements TermService {
     public Mono<List<LinkedTermDto>> handleDatasetFieldDescriptionTerms(
         @ActivityParameter(FieldTermAssignment.DATASET_FIELD_ID) final long datasetFieldId,
         final String description) {
-        return findTermsInDescription(description)
-            .flatMap(parsedTerms -> updateDatasetFieldDescriptionTermsState(parsedTerms, datasetFieldId))
+        return handleDatasetFieldsDescriptionTerms(Collections.singletonMap(datasetFieldId, description))
             .then(getDatasetFieldTerms(datasetFieldId));
     }
 
+    @Override
+    @ReactiveTransactional
+    public Mono<Void> handleDatasetFieldsDescriptionTerms(final Map<Long, String> descriptions) {
+        if (descriptions.isEmpty()) {
+            return Mono.empty();
+        }
+        return findTermsInDescriptions(descriptions)
+            .flatMap(this::updateDatasetFieldDescriptionTermsState);
+    }
+
     @Override
     @ReactiveTransactional
     public Flux<Tag> upsertTags(final Long termId, final TagsFormData tagsFormData) {
@@ -254,14 +302,12 @@ public class TermServiceImpl implements TermService {
 
     @Override
     public Mono<List<LinkedTermDto>> getDataEntityTerms(final long dataEntityId) {
-        final Flux<LinkedTermDto> dataEntityTerms = termRepository.getDataEntityTerms(dataEntityId);
-        return removeDuplicateNonDescriptionTerms(dataEntityTerms).collectList();
+        return termRepository.getDataEntityTerms(dataEntityId).collectList();
     }
 
     @Override
     public Mono<List<LinkedTermDto>> getDatasetFieldTerms(final long datasetFieldId) {
-        final Flux<LinkedTermDto> datasetFieldTerms = termRepository.getDatasetFieldTerms(datasetFieldId);
-        return removeDuplicateNonDescriptionTerms(datasetFieldTerms).collectList();
+        return termRepository.getDatasetFieldTerms(datasetFieldId).collectList();
     }
 
     private Mono<TermDetails> update(final TermPojo pojo) {
@@ -292,117 +338,129 @@ public class TermServiceImpl implements TermService {
             && existingTerm.getTerm().getName().equalsIgnoreCase(formData.getName());
     }
 
-    private Mono<DescriptionParsedTerms> findTermsInDescription(final String description) {
+    /**
+     * Parses term mentions in all the descriptions and resolves them with a single query.
+     *
+     * @param descriptions descriptions by ids of data entities or dataset fields
+     * @return found and unknown terms by the same ids
+     */
+    private Mono<Map<Long, DescriptionParsedTerms>> findTermsInDescriptions(final Map<Long, String> descriptions) {
+        final Map<Long, List<TermBaseInfoDto>> mentions = new HashMap<>();
+        descriptions.forEach((id, description) -> mentions.put(id, parseTermMentions(description)));
+
+        final List<TermBaseInfoDto> allMentions = mentions.values().stream()
+            .flatMap(List::stream)
+            .map(this::toMentionKey)
+            .distinct()
+            .toList();
+
+        return termRepository.getByNameAndNamespace(allMentions).map(foundTerms -> {
+            final Map<TermBaseInfoDto, TermPojo> termsByMention = foundTerms.stream()
+                .collect(Collectors.toMap(
+                    t -> toMentionKey(new TermBaseInfoDto(t.getNamespace().getName(), t.getTerm().getName())),
+                    TermRefDto::getTerm,
+                    (t1, t2) -> t1
+                ));
+
+            final Map<Long, DescriptionParsedTerms> parsedTerms = new HashMap<>();
+            mentions.forEach((id, entityMentions) -> {
+                final List<TermPojo> found = entityMentions.stream()
+                    .map(mention -> termsByMention.get(toMentionKey(mention)))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+                final List<TermBaseInfoDto> unknown = entityMentions.stream()
+                    .filter(mention -> !termsByMention.containsKey(toMentionKey(mention)))
+                    .toList();
+                parsedTerms.put(id, new DescriptionParsedTerms(found, unknown));
+            });
+            return parsedTerms;
+        });
+    }
+
+    private List<TermBaseInfoDto> parseTermMentions(final String description) {
         if (StringUtils.isEmpty(description)) {
-            return Mono.just(new DescriptionParsedTerms(List.of(), List.of()));
+            return List.of();
         }
         final Matcher matcher = PATTERN.matcher(description);
-        final List<TermBaseInfoDto> parsedTerms = new ArrayList<>();
+        // terms are matched case-insensitively, but the first mention keeps its case as written
+        final Map<TermBaseInfoDto, TermBaseInfoDto> mentions = new LinkedHashMap<>();
         while (matcher.find()) {
             final String namespaceName = matcher.group(1);
             final String name = matcher.group(2);
             if (StringUtils.isNotEmpty(namespaceName) && StringUtils.isNotEmpty(name)) {
-                parsedTerms.add(new TermBaseInfoDto(namespaceName, name));
+                final TermBaseInfoDto mention = new TermBaseInfoDto(namespaceName, name);
+                mentions.putIfAbsent(toMentionKey(mention), mention);
             }
         }
-        return termRepository.getByNameAndNamespace(parsedTerms)
-            .map(foundTerms -> {
-                final List<TermBaseInfoDto> unknownTerms = parsedTerms.stream()
-                    .filter(t -> isTermUnknown(foundTerms, t))
-                    .toList();
-                final List<TermPojo> termPojos = foundTerms.stream()
-                    .map(TermRefDto::getTerm)
-                    .toList();
-                return new DescriptionParsedTerms(termPojos, unknownTerms);
-            });
+        return List.copyOf(mentions.values());
+    }
+
+    private TermBaseInfoDto toMentionKey(final TermBaseInfoDto mention) {
+        return new TermBaseInfoDto(mention.namespaceName().toLowerCase(), mention.name().toLowerCase());
     }
 
-    private Mono<Void> updateDataEntityDescriptionTermsState(final DescriptionParsedTerms terms,
-                                                             final long dataEntityId) {
-        final Mono<List<LinkedTermDto>> existingDescriptionRelations = termRepository.getDataEntityTerms(dataEntityId)
-            .filter(LinkedTermDto::isDescriptionLink)
-            .collectList();
-        return existingDescriptionRelations.flatMap(existing -> {
-            final List<DataEntityToTermPojo> relationsToDelete = existing.stream()
-                .map(dto -> dto.term().getTerm())
-                .filter(pojo -> !terms.foundTerms().contains(pojo))
-                .map(pojo -> new DataEntityToTermPojo()
-                    .setDataEntityId(dataEntityId)
-                    .setTermId(pojo.getId())
-                    .setIsDescriptionLink(true))
-                .toList();
-
-            final List<DataEntityToTermPojo> relations =
-                buildDataEntityDescriptionTermRelations(terms.foundTerms(), dataEntityId);
-            final List<DataEntityDescriptionUnhandledTermPojo> unknownPojos =
-                buildDataEntityUnknownTerms(terms.unknownTerms(), dataEntityId);
-
-            return termRelationsRepository.deleteTermDataEntityRelations(relationsToDelete)
-                .thenMany(termRelationsRepository.createRelationsWithDataEntity(relations))
-                .thenMany(dataEntityDescriptionUnhandledTermRepository
-                    .deleteForDataEntityExceptSpecified(dataEntityId, terms.unknownTerms()))
-                .thenMany(dataEntityDescriptionUnhandledTermRepository.createUnhandledTerms(unknownPojos))
-                .then();
+    private Mono<Void> updateDataEntityDescriptionTermsState(final Map<Long, DescriptionParsedTerms> terms) {
+        final List<DataEntityToTermPojo> relations = new ArrayList<>();
+        final List<DataEntityDescriptionUnhandledTermPojo> unknownPojos = new ArrayList<>();
+        terms.forEach((dataEntityId, parsedTerms) -> {
+            relations.addAll(buildDataEntityDescriptionTermRelations(parsedTerms.foundTerms(), dataEntityId));
+            unknownPojos.addAll(buildDataEntityUnknownTerms(parsedTerms.unknownTerms(), dataEntityId));
         });
+
+        return termRelationsRepository.deleteDataEntityDescriptionLinksExcept(terms.keySet(), false, relations)
+            .concatWith(termRelationsRepository.createRelationsWithDataEntity(relations))
+            .map(DataEntityToTermPojo::getDataEntityId)
+            .collect(Collectors.toSet())
+            .flatMap(dataEntitySummaryRepository::refresh)
+            .thenMany(dataEntityDescriptionUnhandledTermRepository
+                .deleteForDataEntitiesExceptSpecified(terms.keySet(), unknownPojos))
+            .thenMany(dataEntityDescriptionUnhandledTermRepository.createUnhandledTerms(unknownPojos))
+            .then();
     }
 
-    private Mono<Void> updateDatasetFieldDescriptionTermsState(final DescriptionParsedTerms terms,
-                                                               final long datasetFieldId) {
-        final Mono<List<LinkedTermDto>> existingDescriptionRelations = termRepository
-            .getDatasetFieldTerms(datasetFieldId)
-            .filter(LinkedTermDto::isDescriptionLink)
-            .collectList();
-
-        return existingDescriptionRelations.flatMap(existing -> {
-            final List<DatasetFieldToTermPojo> relationsToDelete = existing.stream()
-                .map(dto -> dto.term().getTerm())
-                .filter(pojo -> !terms.foundTerms().contains(pojo))
-                .map(pojo -> new DatasetFieldToTermPojo()
-                    .setDatasetFieldId(datasetFieldId)
-                    .setTermId(pojo.getId())
-                    .setIsDescriptionLink(true))
-                .toList();
-            final List<DatasetFieldToTermPojo> relations =
-                buildDatasetFieldDescriptionTermRelations(terms.foundTerms(), datasetFieldId);
-            final List<DatasetFieldDescriptionUnhandledTermPojo> unknownPojos =
-                buildDatasetFieldUnknownTerms(terms.unknownTerms(), datasetFieldId);
-
-            return termRelationsRepository.deleteTermDatasetFieldRelations(relationsToDelete)
-                .thenMany(termRelationsRepository.createRelationsWithDatasetField(relations))
-                .thenMany(datasetFieldDescriptionUnhandledTermRepository
-                    .deleteForDatasetFieldExceptSpecified(datasetFieldId, terms.unknownTerms()))
-                .thenMany(datasetFieldDescriptionUnhandledTermRepository.createUnhandledTerms(unknownPojos))
-                .then();
+    private Mono<Void> updateDatasetFieldDescriptionTermsState(final Map<Long, DescriptionParsedTerms> terms) {
+        final List<DatasetFieldToTermPojo> relations = new ArrayList<>();
+        final List<DatasetFieldDescriptionUnhandledTermPojo> unknownPojos = new ArrayList<>();
+        terms.forEach((datasetFieldId, parsedTerms) -> {
+            relations.addAll(buildDatasetFieldDescriptionTermRelations(parsedTerms.foundTerms(), datasetFieldId));
+            unknownPojos.addAll(buildDatasetFieldUnknownTerms(parsedTerms.unknownTerms(), datasetFieldId));
         });
+
+        return termRelationsRepository.deleteDatasetFieldDescriptionLinksExcept(terms.keySet(), false, relations)
+            .thenMany(termRelationsRepository.createRelationsWithDatasetField(relations))
+            .thenMany(datasetFieldDescriptionUnhandledTermRepository
+                .deleteForDatasetFieldsExceptSpecified(terms.keySet(), unknownPojos))
+            .thenMany(datasetFieldDescriptionUnhandledTermRepository.createUnhandledTerms(unknownPojos))
+            .then();
     }
 
     private Mono<Void> resolveUnhandledDescriptionMentions(final TermDetails details) {
         final TermBaseInfoDto termBaseInfo = new TermBaseInfoDto(details.getNamespace().getName(), details.getName());
 
-        final Flux<DataEntityToTermPojo> dataEntityTerms = dataEntityDescriptionUnhandledTermRepository
+        final Mono<Integer> dataEntityTerms = dataEntityDescriptionUnhandledTermRepository
             .deleteUnhandledTerm(termBaseInfo)
             .map(term -> new DataEntityToTermPojo()
                 .setTermId(details.getId())
                 .setDataEntityId(term.getDataEntityId())
-                .setIsDescriptionLink(true))
+                .setIsDescriptionLink(true)
+                .setIsAutoLink(false))
+            .collectList()
+            .flatMapMany(termRelationsRepository::createRelationsWithDataEntity)
+            .map(DataEntityToTermPojo::getDataEntityId)
             .collectList()
-            .flatMapMany(termRelationsRepository::createRelationsWithDataEntity);
+            .flatMap(dataEntitySummaryRepository::refresh);
 
         final Flux<DatasetFieldToTermPojo> datasetFieldTerms = datasetFieldDescriptionUnhandledTermRepository
             .deleteUnhandledTerm(termBaseInfo)
             .map(term -> new DatasetFieldToTermPojo()
                 .setTermId(details.getId())
                 .setDatasetFieldId(term.getDatasetFieldId())
-                .setIsDescriptionLink(true))
+                .setIsDescriptionLink(true)
+                .setIsAutoLink(false))
             .collectList()
             .flatMapMany(termRelationsRepository::createRelationsWithDatasetField);
-        return Flux.merge(dataEntityTerms, datasetFieldTerms).then();
-    }
-
-    private Flux<LinkedTermDto> removeDuplicateNonDescriptionTerms(final Flux<LinkedTermDto> terms) {
-        return terms
-            .groupBy(dto -> dto.term().getTerm().getId())
-            .flatMap(group -> group.reduce((dto1, dto2) -> dto1.isDescriptionLink() ? dto1 : dto2));
+        return Mono.when(dataEntityTerms, datasetFieldTerms);
     }
 
     private List<DataEntityToTermPojo> buildDataEntityDescriptionTermRelations(final List<TermPojo> terms,
@@ -411,7 +469,8 @@ public class TermServiceImpl implements TermService {
             .map(t -> new DataEntityToTermPojo()
                 .setDataEntityId(dataEntityId)
                 .setTermId(t.getId())
-                .setIsDescriptionLink(true))
+                .setIsDescriptionLink(true)
+                .setIsAutoLink(false))
             .toList();
     }
 
@@ -421,7 +480,8 @@ public class TermServiceImpl implements TermService {
             .map(t -> new DatasetFieldToTermPojo()
                 .setDatasetFieldId(datasetFieldId)
                 .setTermId(t.getId())
-                .setIsDescriptionLink(true))
+                .setIsDescriptionLink(true)
+                .setIsAutoLink(false))
             .toList();
     }
 
@@ -430,8 +490,8 @@ public class TermServiceImpl implements TermService {
         return terms.stream()
             .map(t -> new DataEntityDescriptionUnhandledTermPojo()
                 .setDataEntityId(dataEntityId)
-                .setTermName(t.name().toLowerCase())
-                .setTermNamespaceName(t.namespaceName().toLowerCase())
+                .setTermName(t.name())
+                .setTermNamespaceName(t.namespaceName())
                 .setCreatedAt(DateTimeUtil.generateNow()))
             .toList();
     }
@@ -442,15 +502,9 @@ public class TermServiceImpl implements TermService {
         return terms.stream()
             .map(t -> new DatasetFieldDescriptionUnhandledTermPojo()
                 .setDatasetFieldId(datasetFieldId)
-                .setTermName(t.name().toLowerCase())
-                .setTermNamespaceName(t.namespaceName().toLowerCase())
+                .setTermName(t.name())
+                .setTermNamespaceName(t.namespaceName())
                 .setCreatedAt(DateTimeUtil.generateNow()))
             .toList();
     }
-
-    private boolean isTermUnknown(final List<TermRefDto> existingTerms,
-                                  final TermBaseInfoDto term) {
-        return existingTerms.stream().noneMatch(t -> t.getTerm().getName().equalsIgnoreCase(term.name())
-            && t.getNamespace().getName().equalsIgnoreCase(term.namespaceName()));
-    }
 }
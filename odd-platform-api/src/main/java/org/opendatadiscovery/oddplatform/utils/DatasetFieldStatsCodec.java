@@ -0,0 +1,269 @@
+package org.opendatadiscovery.oddplatform.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.opendatadiscovery.oddplatform.api.contract.model.BinaryFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.BooleanFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.ComplexFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.DateTimeFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.IntegerFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.NumberFieldStat;
+import org.opendatadiscovery.oddplatform.api.contract.model.StringFieldStat;
+
+import static org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec.ValueType.DATETIME;
+import static org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec.ValueType.DECIMAL;
+import static org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec.ValueType.INT;
+import static org.opendatadiscovery.oddplatform.utils.DatasetFieldStatsCodec.ValueType.LONG;
+
+/**
+ * Compact binary encoding of dataset field statistics.
+ *
+ * <p>The first byte is the version of the encoding and the second one is a bitmask of the present statistics kinds.
+ * Statistics of each present kind follow in the bitmask order as a bitmask of their present values and the values
+ * themselves: integers as zigzag varints, decimals as a scale and unscaled bytes and date times as epoch seconds,
+ * nanoseconds and an offset. Encodings of older versions have to stay decodable, so a new layout gets a new version.
+ */
+public final class DatasetFieldStatsCodec {
+    public static final byte VERSION = 1;
+
+    private static final int COMPLEX = 0;
+    private static final int BOOLEAN = 1;
+    private static final int NUMBER = 2;
+    private static final int INTEGER = 3;
+    private static final int STRING = 4;
+    private static final int BINARY = 5;
+    private static final int DATE_TIME = 6;
+
+    private static final ValueType[] COMPLEX_SCHEMA = {LONG, LONG};
+    private static final ValueType[] BOOLEAN_SCHEMA = {LONG, LONG, LONG};
+    private static final ValueType[] NUMBER_SCHEMA = {DECIMAL, DECIMAL, DECIMAL, DECIMAL, LONG, LONG};
+    private static final ValueType[] INTEGER_SCHEMA = {LONG, LONG, LONG, LONG, LONG, LONG};
+    private static final ValueType[] LENGTH_SCHEMA = {INT, DECIMAL, LONG, LONG};
+    private static final ValueType[] DATE_TIME_SCHEMA = {DATETIME, DATETIME, DATETIME, DATETIME, LONG, LONG};
+
+    private DatasetFieldStatsCodec() {
+    }
+
+    public static byte[] encode(
+        final org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat stat) {
+        if (stat == null) {
+            return null;
+        }
+
+        final var complex = stat.getComplexStats();
+        final var bool = stat.getBooleanStats();
+        final var number = stat.getNumberStats();
+        final var integer = stat.getIntegerStats();
+        final var string = stat.getStringStats();
+        final var binary = stat.getBinaryStats();
+        final var dateTime = stat.getDatetimeStats();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(VERSION);
+        out.write(mask(complex, bool, number, integer, string, binary, dateTime));
+        if (complex != null) {
+            write(out, COMPLEX_SCHEMA, complex.getNullsCount(), complex.getUniqueCount());
+        }
+        if (bool != null) {
+            write(out, BOOLEAN_SCHEMA, bool.getTrueCount(), bool.getFalseCount(), bool.getNullsCount());
+        }
+        if (number != null) {
+            write(out, NUMBER_SCHEMA, number.getLowValue(), number.getHighValue(), number.getMeanValue(),
+                number.getMedianValue(), number.getNullsCount(), number.getUniqueCount());
+        }
+        if (integer != null) {
+            write(out, INTEGER_SCHEMA, integer.getLowValue(), integer.getHighValue(), integer.getMeanValue(),
+                integer.getMedianValue(), integer.getNullsCount(), integer.getUniqueCount());
+        }
+        if (string != null) {
+            write(out, LENGTH_SCHEMA, string.getMaxLength(), string.getAvgLength(), string.getNullsCount(),
+                string.getUniqueCount());
+        }
+        if (binary != null) {
+            write(out, LENGTH_SCHEMA, binary.getMaxLength(), binary.getAvgLength(), binary.getNullsCount(),
+                binary.getUniqueCount());
+        }
+        if (dateTime != null) {
+            write(out, DATE_TIME_SCHEMA, dateTime.getLowValue(), dateTime.getHighValue(), dateTime.getMeanValue(),
+                dateTime.getMedianValue(), dateTime.getNullsCount(), dateTime.getUniqueCount());
+        }
+        return out.toByteArray();
+    }
+
+    public static DataSetFieldStat decode(final byte[] bytes) {
+        final ByteBuffer in = ByteBuffer.wrap(bytes);
+        final byte version = in.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported dataset field statistics version: " + version);
+        }
+
+        final int kinds = in.get();
+        final DataSetFieldStat stat = new DataSetFieldStat();
+        if (has(kinds, COMPLEX)) {
+            final Object[] v = read(in, COMPLEX_SCHEMA);
+            stat.setComplexStats(new ComplexFieldStat().nullsCount((Long) v[0]).uniqueCount((Long) v[1]));
+        }
+        if (has(kinds, BOOLEAN)) {
+            final Object[] v = read(in, BOOLEAN_SCHEMA);
+            stat.setBooleanStats(new BooleanFieldStat()
+                .trueCount((Long) v[0]).falseCount((Long) v[1]).nullsCount((Long) v[2]));
+        }
+        if (has(kinds, NUMBER)) {
+            final Object[] v = read(in, NUMBER_SCHEMA);
+            stat.setNumberStats(new NumberFieldStat()
+                .lowValue((BigDecimal) v[0]).highValue((BigDecimal) v[1])
+                .meanValue((BigDecimal) v[2]).medianValue((BigDecimal) v[3])
+                .nullsCount((Long) v[4]).uniqueCount((Long) v[5]));
+        }
+        if (has(kinds, INTEGER)) {
+            final Object[] v = read(in, INTEGER_SCHEMA);
+            stat.setIntegerStats(new IntegerFieldStat()
+                .lowValue((Long) v[0]).highValue((Long) v[1])
+                .meanValue((Long) v[2]).medianValue((Long) v[3])
+                .nullsCount((Long) v[4]).uniqueCount((Long) v[5]));
+        }
+        if (has(kinds, STRING)) {
+            final Object[] v = read(in, LENGTH_SCHEMA);
+            stat.setStringStats(new StringFieldStat()
+                .maxLength((Integer) v[0]).avgLength((BigDecimal) v[1])
+                .nullsCount((Long) v[2]).uniqueCount((Long) v[3]));
+        }
+        if (has(kinds, BINARY)) {
+            final Object[] v = read(in, LENGTH_SCHEMA);
+            stat.setBinaryStats(new BinaryFieldStat()
+                .maxLength((Integer) v[0]).avgLength((BigDecimal) v[1])
+                .nullsCount((Long) v[2]).uniqueCount((Long) v[3]));
+        }
+        if (has(kinds, DATE_TIME)) {
+            final Object[] v = read(in, DATE_TIME_SCHEMA);
+            stat.setDatetimeStats(new DateTimeFieldStat()
+                .lowValue((OffsetDateTime) v[0]).highValue((OffsetDateTime) v[1])
+                .meanValue((OffsetDateTime) v[2]).medianValue((OffsetDateTime) v[3])
+                .nullsCount((Long) v[4]).uniqueCount((Long) v[5]));
+        }
+        return stat;
+    }
+
+    private static int mask(final Object... values) {
+        int mask = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean has(final int mask, final int bit) {
+        return (mask & (1 << bit)) != 0;
+    }
+
+    private static void write(final ByteArrayOutputStream out, final ValueType[] schema, final Object... values) {
+        out.write(mask(values));
+        for (int i = 0; i < schema.length; i++) {
+            if (values[i] != null) {
+                schema[i].write(out, values[i]);
+            }
+        }
+    }
+
+    private static Object[] read(final ByteBuffer in, final ValueType[] schema) {
+        final int present = in.get();
+        final Object[] values = new Object[schema.length];
+        for (int i = 0; i < schema.length; i++) {
+            if (has(present, i)) {
+                values[i] = schema[i].read(in);
+            }
+        }
+        return values;
+    }
+
+    private static void writeVarLong(final ByteArrayOutputStream out, final long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(final ByteBuffer in) {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    enum ValueType {
+        LONG {
+            @Override
+            void write(final ByteArrayOutputStream out, final Object value) {
+                writeVarLong(out, (Long) value);
+            }
+
+            @Override
+            Object read(final ByteBuffer in) {
+                return readVarLong(in);
+            }
+        },
+        INT {
+            @Override
+            void write(final ByteArrayOutputStream out, final Object value) {
+                writeVarLong(out, (Integer) value);
+            }
+
+            @Override
+            Object read(final ByteBuffer in) {
+                return (int) readVarLong(in);
+            }
+        },
+        DECIMAL {
+            @Override
+            void write(final ByteArrayOutputStream out, final Object value) {
+                final BigDecimal decimal = (BigDecimal) value;
+                final byte[] unscaled = decimal.unscaledValue().toByteArray();
+                writeVarLong(out, decimal.scale());
+                writeVarLong(out, unscaled.length);
+                out.writeBytes(unscaled);
+            }
+
+            @Override
+            Object read(final ByteBuffer in) {
+                final int scale = (int) readVarLong(in);
+                final byte[] unscaled = new byte[(int) readVarLong(in)];
+                in.get(unscaled);
+                return new BigDecimal(new BigInteger(unscaled), scale);
+            }
+        },
+        DATETIME {
+            @Override
+            void write(final ByteArrayOutputStream out, final Object value) {
+                final OffsetDateTime dateTime = (OffsetDateTime) value;
+                writeVarLong(out, dateTime.toEpochSecond());
+                writeVarLong(out, dateTime.getNano());
+                writeVarLong(out, dateTime.getOffset().getTotalSeconds());
+            }
+
+            @Override
+            Object read(final ByteBuffer in) {
+                final Instant instant = Instant.ofEpochSecond(readVarLong(in), readVarLong(in));
+                return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds((int) readVarLong(in)));
+            }
+        };
+
+        abstract void write(final ByteArrayOutputStream out, final Object value);
+
+        abstract Object read(final ByteBuffer in);
+    }
+}
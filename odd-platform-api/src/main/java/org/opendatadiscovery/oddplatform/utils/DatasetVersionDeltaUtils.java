@@ -0,0 +1,56 @@
+package org.opendatadiscovery.oddplatform.utils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
+
+@UtilityClass
+public class DatasetVersionDeltaUtils {
+    public static boolean isCheckpoint(final long version, final int checkpointInterval) {
+        return version <= 1 || (version - 1) % checkpointInterval == 0;
+    }
+
+    /**
+     * Builds a delta of a dataset version against the previous one.
+     *
+     * @param previousFieldIds field ids of the previous version or null if it is unknown
+     * @param checkpoint whether the delta should also keep a full snapshot of the version
+     */
+    public static DatasetVersionDeltaPojo buildDelta(final long datasetVersionId,
+                                                     final Set<Long> previousFieldIds,
+                                                     final Set<Long> fieldIds,
+                                                     final boolean checkpoint) {
+        final Set<Long> previous = previousFieldIds == null ? Set.of() : previousFieldIds;
+        final Long[] added = fieldIds.stream().filter(id -> !previous.contains(id)).sorted().toArray(Long[]::new);
+        final Long[] removed = previous.stream().filter(id -> !fieldIds.contains(id)).sorted().toArray(Long[]::new);
+        return new DatasetVersionDeltaPojo()
+            .setDatasetVersionId(datasetVersionId)
+            .setAddedFieldIds(added)
+            .setRemovedFieldIds(removed)
+            .setSnapshotFieldIds(checkpoint || previousFieldIds == null
+                ? fieldIds.stream().sorted().toArray(Long[]::new)
+                : null);
+    }
+
+    /**
+     * Reconstructs field ids of a dataset version from its nearest checkpoint.
+     *
+     * @param deltas deltas ordered by dataset version, starting from the checkpoint up to the requested version
+     */
+    public static Set<Long> reconstructFieldIds(final List<DatasetVersionDeltaPojo> deltas) {
+        final Set<Long> fieldIds = new HashSet<>();
+        for (final DatasetVersionDeltaPojo delta : deltas) {
+            if (delta.getSnapshotFieldIds() != null) {
+                fieldIds.clear();
+                fieldIds.addAll(Arrays.asList(delta.getSnapshotFieldIds()));
+                continue;
+            }
+            Arrays.asList(delta.getRemovedFieldIds()).forEach(fieldIds::remove);
+            fieldIds.addAll(Arrays.asList(delta.getAddedFieldIds()));
+        }
+        return fieldIds;
+    }
+}
@@ -0,0 +1,37 @@
+CREATE TABLE IF NOT EXISTS activity_hourly_rollup
+(
+    bucket_start   timestamp    NOT NULL,
+    data_entity_id bigint       NOT NULL,
+    event_type     varchar(50)  NOT NULL,
+    created_by     varchar(512) NOT NULL DEFAULT '',
+    activity_count bigint       NOT NULL,
+
+    CONSTRAINT activity_hourly_rollup_pk PRIMARY KEY (bucket_start, data_entity_id, event_type, created_by),
+    CONSTRAINT activity_hourly_rollup_data_entity_id_fk FOREIGN KEY (data_entity_id) REFERENCES data_entity (id)
+);
+
+CREATE TABLE IF NOT EXISTS activity_daily_rollup
+(
+    bucket_start   timestamp    NOT NULL,
+    data_entity_id bigint       NOT NULL,
+    event_type     varchar(50)  NOT NULL,
+    created_by     varchar(512) NOT NULL DEFAULT '',
+    activity_count bigint       NOT NULL,
+
+    CONSTRAINT activity_daily_rollup_pk PRIMARY KEY (bucket_start, data_entity_id, event_type, created_by),
+    CONSTRAINT activity_daily_rollup_data_entity_id_fk FOREIGN KEY (data_entity_id) REFERENCES data_entity (id)
+);
+
+CREATE INDEX IF NOT EXISTS activity_hourly_rollup_data_entity_id_idx ON activity_hourly_rollup (data_entity_id);
+
+CREATE INDEX IF NOT EXISTS activity_daily_rollup_data_entity_id_idx ON activity_daily_rollup (data_entity_id);
+
+INSERT INTO activity_hourly_rollup (bucket_start, data_entity_id, event_type, created_by, activity_count)
+SELECT date_trunc('hour', created_at), data_entity_id, event_type, coalesce(created_by, ''), count(*)
+FROM activity
+GROUP BY date_trunc('hour', created_at), data_entity_id, event_type, coalesce(created_by, '');
+
+INSERT INTO activity_daily_rollup (bucket_start, data_entity_id, event_type, created_by, activity_count)
+SELECT date_trunc('day', created_at), data_entity_id, event_type, coalesce(created_by, ''), count(*)
+FROM activity
+GROUP BY date_trunc('day', created_at), data_entity_id, event_type, coalesce(created_by, '');
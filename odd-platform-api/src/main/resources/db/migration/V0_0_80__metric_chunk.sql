@@ -0,0 +1,33 @@
+CREATE TABLE IF NOT EXISTS metric_chunk
+(
+    series_id        INT                         NOT NULL,
+    label_values_ids INT[]                       NOT NULL,
+    window_start     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    first_timestamp  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_timestamp   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    points_count     INT                         NOT NULL,
+    data             BYTEA                       NOT NULL,
+
+    PRIMARY KEY (series_id, label_values_ids, window_start),
+    CHECK (label_values_ids = sort(label_values_ids)),
+    CONSTRAINT metric_chunk_metric_series_fk FOREIGN KEY (series_id) REFERENCES metric_series (id)
+);
+
+CREATE INDEX IF NOT EXISTS metric_chunk_last_timestamp_idx ON metric_chunk (last_timestamp);
+
+INSERT INTO metric_chunk (series_id, label_values_ids, window_start, first_timestamp, last_timestamp, points_count, data)
+SELECT series_id,
+       label_values_ids,
+       -- Backfilled chunks always use the default 2h window. Chunks are read by their first/last timestamps
+       -- and merged per point timestamp, so they don't have to be aligned to metrics.history.chunk-window
+       to_timestamp(floor(extract(EPOCH FROM timestamp) / 7200) * 7200) AT TIME ZONE 'UTC',
+       timestamp,
+       timestamp,
+       1,
+       -- format version, points count and the first point written as raw 64-bit epoch seconds and value bits
+       '\x0100000001'::bytea
+           || int8send(extract(EPOCH FROM timestamp)::bigint)
+           || float8send(value)
+FROM metric_point
+WHERE value IS NOT NULL
+  AND label_values_ids IS NOT NULL;
@@ -0,0 +1,57 @@
+CREATE TABLE IF NOT EXISTS dataset_version_delta
+(
+    dataset_version_id BIGINT   NOT NULL,
+    added_field_ids    BIGINT[] NOT NULL,
+    removed_field_ids  BIGINT[] NOT NULL,
+    snapshot_field_ids BIGINT[],
+
+    CONSTRAINT dataset_version_delta_pk PRIMARY KEY (dataset_version_id),
+
+    CONSTRAINT dataset_version_delta_dataset_version_id_fkey
+        FOREIGN KEY (dataset_version_id)
+            REFERENCES dataset_version (id)
+);
+
+CREATE TEMP TABLE version_fields AS
+SELECT dv.id,
+       dv.version,
+       fields.field_ids,
+       lag(fields.field_ids) OVER w AS previous_field_ids
+FROM dataset_version dv
+         CROSS JOIN LATERAL (SELECT coalesce(array_agg(ds.dataset_field_id), '{}') AS field_ids
+                             FROM dataset_structure ds
+                             WHERE ds.dataset_version_id = dv.id) fields
+WINDOW w AS (PARTITION BY dv.dataset_oddrn ORDER BY dv.version);
+
+-- the first version of each dataset and every 20th version after it (default checkpoint interval) keep a snapshot.
+-- Readers start from the nearest version having a snapshot, so the spacing doesn't have to match
+-- datasets.structure.checkpoint-interval
+INSERT INTO dataset_version_delta (dataset_version_id, added_field_ids, removed_field_ids, snapshot_field_ids)
+SELECT id,
+       CASE
+           WHEN previous_field_ids IS NULL THEN field_ids
+           ELSE ARRAY(SELECT unnest(field_ids) EXCEPT SELECT unnest(previous_field_ids))
+           END,
+       CASE
+           WHEN previous_field_ids IS NULL THEN '{}'
+           ELSE ARRAY(SELECT unnest(previous_field_ids) EXCEPT SELECT unnest(field_ids))
+           END,
+       CASE
+           WHEN previous_field_ids IS NULL OR (version - 1) % 20 = 0 THEN field_ids
+           END
+FROM version_fields;
+
+-- dataset_structure keeps only the link between a field and the latest version of a dataset containing it
+DELETE
+FROM dataset_structure
+WHERE (dataset_version_id, dataset_field_id) IN
+      (SELECT dataset_version_id, dataset_field_id
+       FROM (SELECT ds.dataset_version_id,
+                    ds.dataset_field_id,
+                    row_number() OVER (PARTITION BY dv.dataset_oddrn, ds.dataset_field_id
+                        ORDER BY dv.version DESC) AS rn
+             FROM dataset_structure ds
+                      JOIN dataset_version dv ON dv.id = ds.dataset_version_id) ranked
+       WHERE rn > 1);
+
+CREATE INDEX IF NOT EXISTS dataset_structure_dataset_field_id_idx ON dataset_structure (dataset_field_id);
@@ -0,0 +1,11 @@
+ALTER TABLE dataset_field
+    ADD COLUMN IF NOT EXISTS structure_hash VARCHAR(64);
+
+-- structure hashes are calculated in a different way now,
+-- so they're recalculated from the fields of the latest versions on the next ingestion
+UPDATE dataset_version
+SET version_hash = NULL
+WHERE (dataset_oddrn, version) IN
+      (SELECT dataset_oddrn, max(version) AS "max"
+       FROM dataset_version
+       GROUP BY dataset_oddrn);
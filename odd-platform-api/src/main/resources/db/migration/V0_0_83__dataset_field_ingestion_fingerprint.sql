@@ -0,0 +1,2 @@
+ALTER TABLE dataset_field
+    ADD COLUMN IF NOT EXISTS ingestion_fingerprint VARCHAR(64);
@@ -0,0 +1,41 @@
+CREATE TABLE IF NOT EXISTS data_entity_summary
+(
+    data_entity_id BIGINT                      NOT NULL,
+    owners         JSONB                       NOT NULL DEFAULT '[]',
+    titles         JSONB                       NOT NULL DEFAULT '[]',
+    ownerships     JSONB                       NOT NULL DEFAULT '[]',
+    owner_ids      BIGINT[]                    NOT NULL DEFAULT '{}',
+    tag_ids        BIGINT[]                    NOT NULL DEFAULT '{}',
+    term_ids       BIGINT[]                    NOT NULL DEFAULT '{}',
+    has_alerts     BOOLEAN                     NOT NULL DEFAULT FALSE,
+    updated_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT data_entity_summary_pk PRIMARY KEY (data_entity_id),
+
+    CONSTRAINT data_entity_summary_data_entity_id_fkey
+        FOREIGN KEY (data_entity_id)
+            REFERENCES data_entity (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS data_entity_summary_owner_ids_idx ON data_entity_summary USING gin (owner_ids);
+CREATE INDEX IF NOT EXISTS data_entity_summary_tag_ids_idx ON data_entity_summary USING gin (tag_ids);
+CREATE INDEX IF NOT EXISTS data_entity_summary_term_ids_idx ON data_entity_summary USING gin (term_ids);
+
+-- alert status 1 is the code of AlertStatusEnum.OPEN
+INSERT INTO data_entity_summary (data_entity_id, owners, titles, ownerships, owner_ids, tag_ids, term_ids, has_alerts)
+SELECT de.id,
+       coalesce((SELECT jsonb_agg(o.*)
+                 FROM ownership os
+                          JOIN owner o ON o.id = os.owner_id
+                 WHERE os.data_entity_id = de.id), '[]'),
+       coalesce((SELECT jsonb_agg(t.*)
+                 FROM ownership os
+                          JOIN title t ON t.id = os.title_id
+                 WHERE os.data_entity_id = de.id), '[]'),
+       coalesce((SELECT jsonb_agg(os.*) FROM ownership os WHERE os.data_entity_id = de.id), '[]'),
+       ARRAY(SELECT DISTINCT os.owner_id FROM ownership os WHERE os.data_entity_id = de.id),
+       ARRAY(SELECT DISTINCT tde.tag_id FROM tag_to_data_entity tde WHERE tde.data_entity_id = de.id),
+       ARRAY(SELECT DISTINCT dtt.term_id FROM data_entity_to_term dtt WHERE dtt.data_entity_id = de.id),
+       EXISTS(SELECT 1 FROM alert a WHERE a.data_entity_oddrn = de.oddrn AND a.status = 1)
+FROM data_entity de
+WHERE de.hollow = FALSE;
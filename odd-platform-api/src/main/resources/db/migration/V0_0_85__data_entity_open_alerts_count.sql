@@ -0,0 +1,14 @@
+ALTER TABLE data_entity_summary
+    ADD COLUMN IF NOT EXISTS open_alerts_count INTEGER NOT NULL DEFAULT 0;
+
+-- alert status 1 is the code of AlertStatusEnum.OPEN
+INSERT INTO data_entity_summary (data_entity_id, open_alerts_count)
+SELECT de.id, count(*)
+FROM alert a
+         JOIN data_entity de ON de.oddrn = a.data_entity_oddrn
+WHERE a.status = 1
+GROUP BY de.id
+ON CONFLICT (data_entity_id) DO UPDATE SET open_alerts_count = excluded.open_alerts_count;
+
+ALTER TABLE data_entity_summary
+    DROP COLUMN IF EXISTS has_alerts;
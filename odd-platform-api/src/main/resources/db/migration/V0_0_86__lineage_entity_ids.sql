@@ -0,0 +1,8 @@
+-- ids are backfilled in batches by V0_0_90 and indexed concurrently by V0_0_91, so this step takes locks only briefly
+ALTER TABLE lineage
+    ADD COLUMN IF NOT EXISTS parent_id BIGINT,
+    ADD COLUMN IF NOT EXISTS child_id  BIGINT;
+
+ALTER TABLE lineage
+    ADD CONSTRAINT lineage_parent_id_fk FOREIGN KEY (parent_id) REFERENCES data_entity (id) NOT VALID,
+    ADD CONSTRAINT lineage_child_id_fk FOREIGN KEY (child_id) REFERENCES data_entity (id) NOT VALID;
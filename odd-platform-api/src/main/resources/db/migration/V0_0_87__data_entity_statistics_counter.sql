@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS data_entity_statistics_counter
+(
+    class_id INTEGER NOT NULL,
+    type_id  INTEGER NOT NULL,
+    shard    INTEGER NOT NULL,
+    count    BIGINT  NOT NULL DEFAULT 0,
+
+    CONSTRAINT data_entity_statistics_counter_pk PRIMARY KEY (class_id, type_id, shard)
+);
+
+-- class 0 and type 0 don't exist, the row keeps the total count of data entities
+INSERT INTO data_entity_statistics_counter (class_id, type_id, shard, count)
+SELECT 0, 0, 0, s.total_count
+FROM data_entity_statistics s
+UNION ALL
+SELECT classes.key::INTEGER, types.key::INTEGER, 0, types.value::BIGINT
+FROM data_entity_statistics s,
+     jsonb_each(s.data_entity_classes_types_count) classes,
+     jsonb_each_text(classes.value) types;
+
+DROP TABLE IF EXISTS data_entity_statistics;
@@ -0,0 +1,17 @@
+ALTER TABLE data_entity_to_term
+    ADD COLUMN IF NOT EXISTS is_auto_link boolean NOT NULL DEFAULT FALSE;
+
+ALTER TABLE data_entity_to_term
+    DROP CONSTRAINT data_entity_to_term_pk;
+
+ALTER TABLE data_entity_to_term
+    ADD CONSTRAINT data_entity_to_term_pk PRIMARY KEY (data_entity_id, term_id, is_description_link, is_auto_link);
+
+ALTER TABLE dataset_field_to_term
+    ADD COLUMN IF NOT EXISTS is_auto_link boolean NOT NULL DEFAULT FALSE;
+
+ALTER TABLE dataset_field_to_term
+    DROP CONSTRAINT dataset_field_to_term_pk;
+
+ALTER TABLE dataset_field_to_term
+    ADD CONSTRAINT dataset_field_to_term_pk PRIMARY KEY (dataset_field_id, term_id, is_description_link, is_auto_link);
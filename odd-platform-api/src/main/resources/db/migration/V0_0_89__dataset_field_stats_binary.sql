@@ -0,0 +1,2 @@
+ALTER TABLE dataset_field
+    ADD COLUMN IF NOT EXISTS stats_binary bytea;
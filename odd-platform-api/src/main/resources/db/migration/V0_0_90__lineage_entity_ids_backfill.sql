@@ -0,0 +1,45 @@
+-- runs outside of a transaction, so that every batch is committed on its own and row locks are held briefly
+DO
+$$
+    DECLARE
+        updated INTEGER;
+    BEGIN
+        LOOP
+            -- data entities serve as the oddrn dictionary, so every oddrn of lineage needs one, hollow if unknown
+            INSERT INTO data_entity (oddrn, hollow, exclude_from_search)
+            SELECT b.oddrn, TRUE, TRUE
+            FROM (SELECT parent_oddrn, child_oddrn
+                  FROM lineage
+                  WHERE parent_id IS NULL
+                     OR child_id IS NULL
+                  ORDER BY parent_oddrn, child_oddrn, establisher_oddrn
+                  LIMIT 10000) l
+                     CROSS JOIN LATERAL (VALUES (l.parent_oddrn), (l.child_oddrn)) b(oddrn)
+            ON CONFLICT (oddrn) DO NOTHING;
+
+            UPDATE lineage l
+            SET parent_id = p.id,
+                child_id  = c.id
+            FROM (SELECT parent_oddrn, child_oddrn, establisher_oddrn
+                  FROM lineage
+                  WHERE parent_id IS NULL
+                     OR child_id IS NULL
+                  ORDER BY parent_oddrn, child_oddrn, establisher_oddrn
+                  LIMIT 10000) b,
+                 data_entity p,
+                 data_entity c
+            WHERE l.parent_oddrn = b.parent_oddrn
+              AND l.child_oddrn = b.child_oddrn
+              AND l.establisher_oddrn = b.establisher_oddrn
+              AND p.oddrn = b.parent_oddrn
+              AND c.oddrn = b.child_oddrn;
+
+            GET DIAGNOSTICS updated = ROW_COUNT;
+            EXIT WHEN updated = 0;
+            COMMIT;
+        END LOOP;
+    END
+$$;
+
+ALTER TABLE lineage VALIDATE CONSTRAINT lineage_parent_id_fk;
+ALTER TABLE lineage VALIDATE CONSTRAINT lineage_child_id_fk;
@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS lineage_parent_id_child_id_idx ON lineage (parent_id, child_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS lineage_child_id_parent_id_idx ON lineage (child_id, parent_id);
@@ -0,0 +1,24 @@
+-- auto links removed by users, which mustn't be created again when descriptions are re-ingested
+CREATE TABLE IF NOT EXISTS data_entity_term_auto_link_dismissal
+(
+    data_entity_id BIGINT NOT NULL,
+    term_id        BIGINT NOT NULL,
+
+    CONSTRAINT data_entity_term_auto_link_dismissal_pk PRIMARY KEY (data_entity_id, term_id),
+
+    CONSTRAINT data_entity_term_auto_link_dismissal_data_entity_id_fkey FOREIGN KEY (data_entity_id)
+        REFERENCES data_entity (id),
+    CONSTRAINT data_entity_term_auto_link_dismissal_term_id_fkey FOREIGN KEY (term_id) REFERENCES term (id)
+);
+
+CREATE TABLE IF NOT EXISTS dataset_field_term_auto_link_dismissal
+(
+    dataset_field_id BIGINT NOT NULL,
+    term_id          BIGINT NOT NULL,
+
+    CONSTRAINT dataset_field_term_auto_link_dismissal_pk PRIMARY KEY (dataset_field_id, term_id),
+
+    CONSTRAINT dataset_field_term_auto_link_dismissal_dataset_field_id_fkey FOREIGN KEY (dataset_field_id)
+        REFERENCES dataset_field (id),
+    CONSTRAINT dataset_field_term_auto_link_dismissal_term_id_fkey FOREIGN KEY (term_id) REFERENCES term (id)
+);
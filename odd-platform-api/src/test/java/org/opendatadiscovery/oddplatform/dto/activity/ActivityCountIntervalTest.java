@@ -0,0 +1,55 @@
+package org.opendatadiscovery.oddplatform.dto.activity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityCountIntervalTest {
+
+    @Test
+    void shouldCountShortRangeOverRawActivities() {
+        final LocalDateTime from = LocalDateTime.of(2023, 5, 10, 10, 15);
+        final LocalDateTime to = LocalDateTime.of(2023, 5, 10, 10, 45);
+
+        assertThat(ActivityCountInterval.split(from, to))
+            .containsExactly(new ActivityCountInterval(from, to, ActivityRollupGranularity.RAW));
+    }
+
+    @Test
+    void shouldUseHourlyRollupsWithinOneDay() {
+        final LocalDateTime from = LocalDateTime.of(2023, 5, 10, 10, 15);
+        final LocalDateTime to = LocalDateTime.of(2023, 5, 10, 14, 30);
+
+        assertThat(ActivityCountInterval.split(from, to)).containsExactly(
+            new ActivityCountInterval(from, LocalDateTime.of(2023, 5, 10, 11, 0), ActivityRollupGranularity.RAW),
+            new ActivityCountInterval(LocalDateTime.of(2023, 5, 10, 11, 0), LocalDateTime.of(2023, 5, 10, 14, 0),
+                ActivityRollupGranularity.HOUR),
+            new ActivityCountInterval(LocalDateTime.of(2023, 5, 10, 14, 0), to, ActivityRollupGranularity.RAW)
+        );
+    }
+
+    @Test
+    void shouldUseDailyRollupsForWholeDays() {
+        final LocalDateTime from = LocalDateTime.of(2023, 5, 10, 22, 0);
+        final LocalDateTime to = LocalDateTime.of(2023, 5, 13, 1, 20);
+
+        assertThat(ActivityCountInterval.split(from, to)).containsExactly(
+            new ActivityCountInterval(from, LocalDateTime.of(2023, 5, 11, 0, 0), ActivityRollupGranularity.HOUR),
+            new ActivityCountInterval(LocalDateTime.of(2023, 5, 11, 0, 0), LocalDateTime.of(2023, 5, 13, 0, 0),
+                ActivityRollupGranularity.DAY),
+            new ActivityCountInterval(LocalDateTime.of(2023, 5, 13, 0, 0), LocalDateTime.of(2023, 5, 13, 1, 0),
+                ActivityRollupGranularity.HOUR),
+            new ActivityCountInterval(LocalDateTime.of(2023, 5, 13, 1, 0), to, ActivityRollupGranularity.RAW)
+        );
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyRange() {
+        final LocalDateTime date = LocalDateTime.of(2023, 5, 10, 10, 0);
+
+        assertThat(ActivityCountInterval.split(date, date)).isEqualTo(List.of());
+        assertThat(ActivityCountInterval.split(date, date.minusDays(1))).isEqualTo(List.of());
+    }
+}
@@ -0,0 +1,46 @@
+package org.opendatadiscovery.oddplatform.dto.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestionContextTest {
+    @Test
+    void shouldLoadOnlyUnresolvedDatasetFields() {
+        final IngestionContext context = new IngestionContext();
+        final List<List<String>> requested = new ArrayList<>();
+
+        context.getLastVersionDatasetFields(List.of("a", "b"), oddrns -> {
+            requested.add(oddrns);
+            return Flux.just(new DatasetFieldPojo().setId(1L).setOddrn("a"));
+        }).block();
+
+        final Map<String, DatasetFieldPojo> fields = context.getLastVersionDatasetFields(List.of("a", "b", "c"),
+            oddrns -> {
+                requested.add(oddrns);
+                return Flux.just(new DatasetFieldPojo().setId(3L).setOddrn("c"));
+            }).block();
+
+        assertThat(requested).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(fields).containsOnlyKeys("a", "c");
+    }
+
+    @Test
+    void shouldReuseWrittenDatasetFields() {
+        final IngestionContext context = new IngestionContext();
+        context.putLastVersionDatasetFields(List.of(new DatasetFieldPojo().setId(1L).setOddrn("a")));
+
+        final Map<String, DatasetFieldPojo> fields = context.getLastVersionDatasetFields(List.of("a"),
+            oddrns -> {
+                throw new IllegalStateException("Fields must not be loaded");
+            }).block();
+
+        assertThat(fields).containsOnlyKeys("a");
+        assertThat(fields.get("a").getId()).isEqualTo(1L);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldType;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
@@ -15,6 +16,7 @@ import org.opendatadiscovery.oddplatform.dto.LabelDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
 import org.opendatadiscovery.oddplatform.utils.JSONTestUtils;
+import org.opendatadiscovery.oddplatform.utils.Page;
 
 import static org.jooq.JSONB.jsonb;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -58,6 +60,27 @@ class DatasetFieldApiMapperTest {
         assertDataField(datasetFieldDto.getDatasetFieldPojo(), actualDataSetField);
     }
 
+    @Test
+    @DisplayName("mapping a page of dataset fields")
+    void testDatasetFieldPage() {
+        final EasyRandom easyRandom = new EasyRandom();
+        final DatasetFieldPojo datasetFieldPojo = easyRandom.nextObject(DatasetFieldPojo.class);
+        datasetFieldPojo.setType(jsonb(JSONTestUtils.createJson(easyRandom.nextObject(DataSetFieldType.class))));
+        final DatasetFieldDto datasetFieldDto = DatasetFieldDto.builder()
+            .datasetFieldPojo(datasetFieldPojo)
+            .childrenCount(3L)
+            .build();
+
+        final DataSetFieldList actualList = datasetFieldApiMapper.mapDtoPage(
+            Page.<DatasetFieldDto>builder().data(List.of(datasetFieldDto)).total(10).hasNext(true).build());
+
+        assertEquals(1, actualList.getItems().size());
+        assertEquals(3L, actualList.getItems().get(0).getChildrenCount());
+        assertEquals(10L, actualList.getPageInfo().getTotal());
+        assertEquals(true, actualList.getPageInfo().getHasNext());
+        assertDataField(datasetFieldPojo, actualList.getItems().get(0));
+    }
+
     private void assertDataField(final DatasetFieldPojo expectedDatasetFieldPojo,
                                  final DataSetField actualDataSetField) {
         assertEquals(expectedDatasetFieldPojo.getId(), actualDataSetField.getId());
@@ -0,0 +1,72 @@
+package org.opendatadiscovery.oddplatform.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricBatch;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricLabel;
+import org.opendatadiscovery.oddplatform.api.contract.model.MetricType;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricBatchPointDto;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricLabelValueDto;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesValueType;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricFamilyPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricLabelValuePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsMapperTest {
+    private final MetricsMapper mapper = new MetricsMapperImpl(new DateTimeMapperImpl());
+
+    @Test
+    void shouldMapPointsToColumnarBatch() {
+        final MetricFamilyPojo nulls = new MetricFamilyPojo().setId(1).setName("nulls").setType("GAUGE").setUnit("");
+        final MetricFamilyPojo sizes = new MetricFamilyPojo().setId(2).setName("size").setType("HISTOGRAM")
+            .setUnit("bytes");
+        final MetricLabelPojo bucketLabel = new MetricLabelPojo().setId(10).setName("le");
+        final List<MetricLabelValueDto> labelValues = List.of(
+            new MetricLabelValueDto(new MetricLabelValuePojo().setId(100).setMetricLabelId(10).setValue("1.0"),
+                bucketLabel),
+            new MetricLabelValueDto(new MetricLabelValuePojo().setId(101).setMetricLabelId(10).setValue("5.0"),
+                bucketLabel)
+        );
+        final LocalDateTime timestamp = LocalDateTime.of(2023, 6, 1, 12, 0);
+        final List<MetricBatchPointDto> points = List.of(
+            point("//field/a", nulls, MetricSeriesValueType.VALUE, timestamp, 3.0),
+            point("//field/b", nulls, MetricSeriesValueType.VALUE, timestamp, 0.0),
+            point("//field/b", sizes, MetricSeriesValueType.BUCKET, timestamp, 7.0, 100),
+            point("//field/b", sizes, MetricSeriesValueType.BUCKET, timestamp, 9.0, 101)
+        );
+
+        final MetricBatch batch = mapper.mapToBatch(points, labelValues);
+
+        assertThat(batch.getOddrns()).containsExactly("//field/a", "//field/b");
+        assertThat(batch.getMetricFamilies()).extracting("name").containsExactly("nulls", "size");
+        assertThat(batch.getMetricFamilies().get(1).getType()).isEqualTo(MetricType.HISTOGRAM);
+        assertThat(batch.getValueTypes()).containsExactly("VALUE", "BUCKET");
+        assertThat(batch.getLabels()).containsExactly(
+            new MetricLabel().name("le").value("1.0"),
+            new MetricLabel().name("le").value("5.0"));
+        assertThat(batch.getOddrnIndexes()).containsExactly(0, 1, 1, 1);
+        assertThat(batch.getMetricFamilyIndexes()).containsExactly(0, 0, 1, 1);
+        assertThat(batch.getValueTypeIndexes()).containsExactly(0, 0, 1, 1);
+        assertThat(batch.getValues()).containsExactly(3.0, 0.0, 7.0, 9.0);
+        assertThat(batch.getTimestamps()).containsOnly(1_685_620_800_000L);
+        assertThat(batch.getLabelOffsets()).containsExactly(0, 0, 0, 1, 2);
+        assertThat(batch.getLabelIndexes()).containsExactly(0, 1);
+    }
+
+    private MetricBatchPointDto point(final String oddrn,
+                                      final MetricFamilyPojo family,
+                                      final MetricSeriesValueType valueType,
+                                      final LocalDateTime timestamp,
+                                      final double value,
+                                      final Integer... labelValueIds) {
+        final MetricPointPojo point = new MetricPointPojo()
+            .setTimestamp(timestamp)
+            .setValue(value)
+            .setLabelValuesIds(labelValueIds);
+        return new MetricBatchPointDto(oddrn, family, valueType.getCode(), point);
+    }
+}
@@ -0,0 +1,69 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.term.TermBaseInfoDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityDescriptionUnhandledTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.DataEntityDescriptionUnhandledTermRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Integration tests for DataEntityDescriptionUnhandledTermRepository")
+class DataEntityDescriptionUnhandledTermRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private DataEntityDescriptionUnhandledTermRepository unhandledTermRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Test
+    @DisplayName("Deletes mentions except specified ones, expecting a mention with a changed case to be replaced")
+    void deleteForDataEntitiesExceptSpecifiedTest() {
+        final long first = createDataEntity();
+        final long second = createDataEntity();
+        final String namespace = UUID.randomUUID().toString();
+        unhandledTermRepository.createUnhandledTerms(List.of(
+            mention(first, namespace, "revenue"),
+            mention(first, namespace, "Margin"),
+            mention(second, namespace, "Cost"))).blockLast();
+
+        final List<DataEntityDescriptionUnhandledTermPojo> kept = List.of(
+            mention(first, namespace, "Revenue"),
+            mention(first, namespace, "Margin"));
+        assertThat(unhandledTermRepository.deleteForDataEntitiesExceptSpecified(List.of(first, second), kept)
+            .collectList().block())
+            .extracting(DataEntityDescriptionUnhandledTermPojo::getDataEntityId,
+                DataEntityDescriptionUnhandledTermPojo::getTermName)
+            .containsExactlyInAnyOrder(tuple(first, "revenue"), tuple(second, "Cost"));
+        unhandledTermRepository.createUnhandledTerms(kept).blockLast();
+
+        assertThat(unhandledTermRepository.deleteUnhandledTerm(new TermBaseInfoDto(namespace.toUpperCase(),
+            "REVENUE")).collectList().block())
+            .extracting(DataEntityDescriptionUnhandledTermPojo::getDataEntityId,
+                DataEntityDescriptionUnhandledTermPojo::getTermName)
+            .containsExactly(tuple(first, "Revenue"));
+    }
+
+    private long createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(UUID.randomUUID().toString())
+            .setHollow(false)).block().getId();
+    }
+
+    private DataEntityDescriptionUnhandledTermPojo mention(final long dataEntityId,
+                                                           final String namespace,
+                                                           final String name) {
+        return new DataEntityDescriptionUnhandledTermPojo()
+            .setDataEntityId(dataEntityId)
+            .setTermNamespaceName(namespace)
+            .setTermName(name)
+            .setCreatedAt(LocalDateTime.now());
+    }
+}
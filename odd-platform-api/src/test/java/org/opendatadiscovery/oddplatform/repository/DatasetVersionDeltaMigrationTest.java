@@ -0,0 +1,150 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.utils.DatasetVersionDeltaUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for the dataset version delta backfill migration")
+class DatasetVersionDeltaMigrationTest extends BaseIntegrationTest {
+    private static final String MIGRATION = "db/migration/V0_0_81__dataset_version_delta.sql";
+    private static final int VERSIONS = 45;
+    private static final int FIELDS = 10;
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    @Test
+    @DisplayName("Backfills a legacy dataset history, expecting every version to be reconstructed from deltas")
+    void migratedHistoryReconstructionTest() throws Exception {
+        final String datasetOddrn = UUID.randomUUID().toString();
+        final Random random = new Random(42);
+        final List<Set<Long>> versionFieldIds = new ArrayList<>();
+
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            // The migration rewrites tables shared with other tests, so everything is rolled back afterwards
+            connection.setAutoCommit(false);
+            try {
+                try (final PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO data_entity (oddrn) VALUES (?)")) {
+                    statement.setString(1, datasetOddrn);
+                    statement.execute();
+                }
+                final List<Long> fieldIds = createFields(connection, datasetOddrn);
+                for (int version = 1; version <= VERSIONS; version++) {
+                    final Set<Long> fields = new HashSet<>();
+                    fieldIds.stream().filter(id -> random.nextInt(3) > 0).forEach(fields::add);
+                    versionFieldIds.add(fields);
+                    createLegacyVersion(connection, datasetOddrn, version, fields);
+                }
+
+                try (final Statement statement = connection.createStatement()) {
+                    statement.execute("DELETE FROM dataset_version_delta");
+                    statement.execute(new String(new ClassPathResource(MIGRATION).getInputStream().readAllBytes(),
+                        StandardCharsets.UTF_8));
+                }
+
+                final List<DatasetVersionDeltaPojo> deltas = getDeltas(connection, datasetOddrn);
+                assertThat(deltas).hasSize(VERSIONS);
+                assertThat(deltas.get(0).getSnapshotFieldIds()).isNotNull();
+                for (int i = 0; i < VERSIONS; i++) {
+                    int checkpoint = i;
+                    while (deltas.get(checkpoint).getSnapshotFieldIds() == null) {
+                        checkpoint--;
+                    }
+                    assertThat(DatasetVersionDeltaUtils.reconstructFieldIds(deltas.subList(checkpoint, i + 1)))
+                        .as("fields of version %d", i + 1)
+                        .containsExactlyInAnyOrderElementsOf(versionFieldIds.get(i));
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private List<Long> createFields(final Connection connection, final String datasetOddrn) throws Exception {
+        final List<Long> ids = new ArrayList<>();
+        try (final PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO dataset_field (name, oddrn) VALUES (?, ?) RETURNING id")) {
+            for (int i = 0; i < FIELDS; i++) {
+                statement.setString(1, "field" + i);
+                statement.setString(2, datasetOddrn + "/columns/field" + i);
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void createLegacyVersion(final Connection connection,
+                                     final String datasetOddrn,
+                                     final long version,
+                                     final Set<Long> fieldIds) throws Exception {
+        final long versionId;
+        try (final PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO dataset_version (dataset_oddrn, version, version_hash) VALUES (?, ?, ?) RETURNING id")) {
+            statement.setString(1, datasetOddrn);
+            statement.setLong(2, version);
+            statement.setString(3, UUID.randomUUID().toString());
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                versionId = resultSet.getLong(1);
+            }
+        }
+        try (final PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO dataset_structure (dataset_version_id, dataset_field_id) VALUES (?, ?)")) {
+            for (final Long fieldId : fieldIds) {
+                statement.setLong(1, versionId);
+                statement.setLong(2, fieldId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private List<DatasetVersionDeltaPojo> getDeltas(final Connection connection,
+                                                    final String datasetOddrn) throws Exception {
+        final List<DatasetVersionDeltaPojo> deltas = new ArrayList<>();
+        try (final PreparedStatement statement = connection.prepareStatement("""
+            SELECT d.* FROM dataset_version_delta d
+            JOIN dataset_version v ON v.id = d.dataset_version_id
+            WHERE v.dataset_oddrn = ?
+            ORDER BY v.version""")) {
+            statement.setString(1, datasetOddrn);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    deltas.add(new DatasetVersionDeltaPojo()
+                        .setDatasetVersionId(resultSet.getLong("dataset_version_id"))
+                        .setAddedFieldIds(toLongs(resultSet.getArray("added_field_ids")))
+                        .setRemovedFieldIds(toLongs(resultSet.getArray("removed_field_ids")))
+                        .setSnapshotFieldIds(toLongs(resultSet.getArray("snapshot_field_ids"))));
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private Long[] toLongs(final Array array) throws Exception {
+        return array == null ? null : (Long[]) array.getArray();
+    }
+}
@@ -43,35 +43,67 @@ class LineageRepositoryTest extends BaseIntegrationTest {
     @Autowired
     ReactiveDataEntityRepository dataEntityRepository;
 
-    @Test
-    void batchDeleteByEstablisherOddrnTest() {
-        final var firstEstablisherOddrnToDelete = RandomStringUtils.randomAlphabetic(5);
-        final var secondEstablisherOddrnToDelete = RandomStringUtils.randomAlphabetic(5);
-        final var establisherOddrnToKeep = RandomStringUtils.randomAlphabetic(5);
-        final var firstPojoToDelete =
-            EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(firstEstablisherOddrnToDelete);
-        final var secondPojoToDelete =
-            EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(secondEstablisherOddrnToDelete);
-        final var pojoToKeep = EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(establisherOddrnToKeep);
-        lineageRepository.bulkCreate(List.of(firstPojoToDelete, secondPojoToDelete, pojoToKeep)).blockLast();
-        lineageRepository.batchDeleteByEstablisherOddrn(
-                List.of(firstEstablisherOddrnToDelete, secondEstablisherOddrnToDelete))
-            .as(StepVerifier::create)
-            .expectNext(firstPojoToDelete)
-            .expectNext(secondPojoToDelete)
-            .verifyComplete();
-    }
-
     @Test
     void batchInsertLineagesTest() {
         final var firstPojoToInsert = EASY_RANDOM.nextObject(LineagePojo.class);
         final var secondPojoToInsert = EASY_RANDOM.nextObject(LineagePojo.class);
         final var duplicatedPojo = EASY_RANDOM.nextObject(LineagePojo.class);
         lineageRepository.create(duplicatedPojo).block();
-        lineageRepository.batchInsertLineages(List.of(firstPojoToInsert, secondPojoToInsert, duplicatedPojo))
+        final List<LineagePojo> inserted = lineageRepository
+            .batchInsertLineages(List.of(firstPojoToInsert, secondPojoToInsert, duplicatedPojo))
+            .collectList()
+            .block();
+
+        assertThat(inserted)
+            .usingRecursiveFieldByFieldElementComparatorIgnoringFields("parentId", "childId")
+            .containsExactly(firstPojoToInsert, secondPojoToInsert);
+        final Map<String, Long> ids = getDataEntityIds(inserted);
+        assertThat(inserted).allSatisfy(lineage -> {
+            assertThat(lineage.getParentId()).isEqualTo(ids.get(lineage.getParentOddrn()));
+            assertThat(lineage.getChildId()).isEqualTo(ids.get(lineage.getChildOddrn()));
+        });
+    }
+
+    @Test
+    void batchInsertLineagesResolvesIdsTest() {
+        final var parent = dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(RandomStringUtils.randomAlphabetic(10))
+            .setHollow(false)).block();
+        final var lineage = new LineagePojo()
+            .setParentOddrn(parent.getOddrn())
+            .setChildOddrn(RandomStringUtils.randomAlphabetic(10))
+            .setEstablisherOddrn(RandomStringUtils.randomAlphabetic(10))
+            .setParentId(parent.getId() + 1)
+            .setChildId(parent.getId());
+
+        final LineagePojo inserted = lineageRepository.batchInsertLineages(List.of(lineage)).blockLast();
+
+        final DataEntityPojo child = dataEntityRepository.listAllByOddrns(List.of(lineage.getChildOddrn()), true)
+            .single()
+            .block();
+        assertThat(child.getHollow()).isTrue();
+        assertThat(inserted.getParentId()).isEqualTo(parent.getId());
+        assertThat(inserted.getChildId()).isEqualTo(child.getId());
+    }
+
+    @Test
+    void batchDeleteLineagesTest() {
+        final var establisherOddrn = RandomStringUtils.randomAlphabetic(5);
+        final var pojoToDelete = EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(establisherOddrn);
+        final var pojoToKeep = EASY_RANDOM.nextObject(LineagePojo.class).setEstablisherOddrn(establisherOddrn)
+            .setParentId(null)
+            .setChildId(null);
+        lineageRepository.bulkCreate(List.of(pojoToDelete, pojoToKeep)).blockLast();
+        lineageRepository.batchDeleteLineages(List.of(pojoToDelete))
             .as(StepVerifier::create)
-            .expectNext(firstPojoToInsert)
-            .expectNext(secondPojoToInsert)
+            .assertNext(r -> assertThat(r)
+                .usingRecursiveComparison()
+                .ignoringFields("parentId", "childId")
+                .isEqualTo(pojoToDelete))
+            .verifyComplete();
+        lineageRepository.getLineagesByEstablisherOddrnForUpdate(List.of(establisherOddrn))
+            .as(StepVerifier::create)
+            .expectNext(pojoToKeep)
             .verifyComplete();
     }
 
@@ -133,20 +165,23 @@ class LineageRepositoryTest extends BaseIntegrationTest {
         final var secondRootFirstChildOddrn = "secondRootFirstChildOddrn";
 
         final var firstRootFirstChildLineage =
-            new LineagePojo(firstRootOddrn, firstRootFirstChildOddrn, RandomStringUtils.randomAlphabetic(5));
+            new LineagePojo(firstRootOddrn, firstRootFirstChildOddrn, RandomStringUtils.randomAlphabetic(5),
+                null, null);
         final var firstRootSecondChildLineage =
-            new LineagePojo(firstRootOddrn, firstRootSecondChildOddrn, RandomStringUtils.randomAlphabetic(5));
+            new LineagePojo(firstRootOddrn, firstRootSecondChildOddrn, RandomStringUtils.randomAlphabetic(5),
+                null, null);
         final var firstRootFirstChildFirstChildLineage =
             new LineagePojo(firstRootFirstChildOddrn, firstRootFirstChildFirstChildOddrn,
-                RandomStringUtils.randomAlphabetic(5));
+                RandomStringUtils.randomAlphabetic(5), null, null);
         final var firstRootFirstChildSecondChildLineage =
             new LineagePojo(firstRootFirstChildOddrn, firstRootFirstChildSecondChildOddrn,
-                RandomStringUtils.randomAlphabetic(5));
+                RandomStringUtils.randomAlphabetic(5), null, null);
         final var firstRootFirstChildFirstChildFirstChildLineage =
             new LineagePojo(firstRootFirstChildFirstChildOddrn, firstRootFirstChildFirstChildFirstChildOddrn,
-                RandomStringUtils.randomAlphabetic(5));
+                RandomStringUtils.randomAlphabetic(5), null, null);
         final var secondRootFirstChildLineage =
-            new LineagePojo(secondRootOddrn, secondRootFirstChildOddrn, RandomStringUtils.randomAlphabetic(5));
+            new LineagePojo(secondRootOddrn, secondRootFirstChildOddrn, RandomStringUtils.randomAlphabetic(5),
+                null, null);
         final var randomLineage = generateLineageWithParent(RandomStringUtils.randomAlphabetic(5));
 
         lineageRepository.bulkCreate(
@@ -161,7 +196,7 @@ class LineageRepositoryTest extends BaseIntegrationTest {
                 firstRootFirstChildSecondChildLineage,
                 firstRootFirstChildFirstChildFirstChildLineage,
                 secondRootFirstChildLineage)
-            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         final var expectedDownstreamWithDepth2 = Stream.of(
@@ -170,32 +205,32 @@ class LineageRepositoryTest extends BaseIntegrationTest {
                 firstRootFirstChildFirstChildLineage,
                 firstRootFirstChildSecondChildLineage,
                 secondRootFirstChildLineage)
-            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         final var expectedDownstreamWithDepth1 = Stream.of(
                 firstRootFirstChildLineage,
                 firstRootSecondChildLineage,
                 secondRootFirstChildLineage)
-            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         final var expectedUpstreamWithDepth3 = Stream.of(
                 firstRootFirstChildFirstChildFirstChildLineage,
                 firstRootFirstChildFirstChildLineage,
                 firstRootFirstChildLineage
-            ).map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            ).map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         final var expectedUpstreamWithDepth2 = Stream.of(
                 firstRootFirstChildFirstChildFirstChildLineage,
                 firstRootFirstChildFirstChildLineage
-            ).map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            ).map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         final var expectedUpstreamWithDepth1 = Stream.of(
                 firstRootFirstChildFirstChildFirstChildLineage)
-            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null))
+            .map(l -> new LineagePojo(l.getParentOddrn(), l.getChildOddrn(), null, null, null))
             .collect(Collectors.toSet());
 
         lineageRepository.getLineageRelations(Set.of(firstRootOddrn, secondRootOddrn),
@@ -292,15 +327,24 @@ class LineageRepositoryTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    private Map<String, Long> getDataEntityIds(final List<LineagePojo> lineages) {
+        final Set<String> oddrns = lineages.stream()
+            .flatMap(l -> Stream.of(l.getParentOddrn(), l.getChildOddrn()))
+            .collect(Collectors.toSet());
+        return dataEntityRepository.listAllByOddrns(oddrns, true)
+            .collectMap(DataEntityPojo::getOddrn, DataEntityPojo::getId)
+            .block();
+    }
+
     private LineagePojo generateLineageWithParent(final String parentOddrn) {
         return new LineagePojo(parentOddrn,
             RandomStringUtils.randomAlphabetic(5),
-            RandomStringUtils.randomAlphabetic(5));
+            RandomStringUtils.randomAlphabetic(5), null, null);
     }
 
     private LineagePojo generateLineageWithChild(final String childOddrn) {
         return new LineagePojo(RandomStringUtils.randomAlphabetic(5),
             childOddrn,
-            RandomStringUtils.randomAlphabetic(5));
+            RandomStringUtils.randomAlphabetic(5), null, null);
     }
 }
\ No newline at end of file
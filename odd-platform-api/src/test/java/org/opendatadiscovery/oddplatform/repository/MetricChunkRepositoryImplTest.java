@@ -0,0 +1,86 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.metric.MetricSeriesHistoryDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.MetricPointPojo;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.metric.history.MetricHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_ENTITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_FAMILY;
+import static org.opendatadiscovery.oddplatform.model.Tables.METRIC_SERIES;
+
+@DisplayName("Integration tests for MetricChunkRepository")
+class MetricChunkRepositoryImplTest extends BaseIntegrationTest {
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2023, 6, 1, 10, 0);
+
+    @Autowired
+    private MetricHistoryService metricHistoryService;
+
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Concurrently appends points to the same new chunk, expecting none of them to be lost")
+    void concurrentAppendTest() {
+        final String oddrn = UUID.randomUUID().toString();
+        final Integer seriesId = createSeries(oddrn);
+        final TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+        final int writers = 20;
+
+        Flux.range(0, writers)
+            .flatMap(i -> metricHistoryService.appendPoints(List.of(new MetricPointPojo()
+                    .setSeriesId(seriesId)
+                    .setLabelValuesIds(new Integer[0])
+                    .setTimestamp(WINDOW_START.plusSeconds(i))
+                    .setValue((double) i)))
+                .as(transactionalOperator::transactional))
+            .blockLast();
+
+        final List<MetricSeriesHistoryDto> history = metricHistoryService
+            .getHistory(oddrn, WINDOW_START, WINDOW_START.plusHours(1), null, null)
+            .collectList()
+            .block();
+
+        assertThat(history).hasSize(1);
+        assertThat(history.get(0).timestamps()).hasSize(writers);
+        assertThat(history.get(0).values()).containsExactly(IntStream.range(0, writers).asDoubleStream().toArray());
+    }
+
+    private Integer createSeries(final String oddrn) {
+        final Integer entityId = jooqReactiveOperations.mono(DSL.insertInto(METRIC_ENTITY)
+                .set(METRIC_ENTITY.ENTITY_ODDRN, oddrn)
+                .returning(METRIC_ENTITY.ID))
+            .map(r -> r.getId())
+            .block();
+        final Integer familyId = jooqReactiveOperations.mono(DSL.insertInto(METRIC_FAMILY)
+                .set(METRIC_FAMILY.NAME, oddrn)
+                .set(METRIC_FAMILY.TYPE, "GAUGE")
+                .set(METRIC_FAMILY.UNIT, "")
+                .returning(METRIC_FAMILY.ID))
+            .map(r -> r.getId())
+            .block();
+        return jooqReactiveOperations.mono(DSL.insertInto(METRIC_SERIES)
+                .set(METRIC_SERIES.METRIC_ENTITY_ID, entityId)
+                .set(METRIC_SERIES.METRIC_FAMILY_ID, familyId)
+                .set(METRIC_SERIES.VALUE_TYPE, 0)
+                .returning(METRIC_SERIES.ID))
+            .map(r -> r.getId())
+            .block();
+    }
+}
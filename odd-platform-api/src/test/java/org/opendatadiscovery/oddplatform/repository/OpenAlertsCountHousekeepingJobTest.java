@@ -0,0 +1,101 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertTypeEnum;
+import org.opendatadiscovery.oddplatform.housekeeping.job.OpenAlertsCountHousekeepingJob;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveAlertRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertAction.AlertUniqueConstraint;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
+
+@DisplayName("Integration tests for OpenAlertsCountHousekeepingJob")
+class OpenAlertsCountHousekeepingJobTest extends BaseIntegrationTest {
+    @Autowired
+    private OpenAlertsCountHousekeepingJob openAlertsCountHousekeepingJob;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    @Autowired
+    private ReactiveAlertRepository alertRepository;
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    @Test
+    @DisplayName("Reconciles drifted counters, expecting them to match open alerts of each data entity")
+    void reconcileTest() throws Exception {
+        final DataEntityPojo undercounted = createDataEntity();
+        final DataEntityPojo overcounted = createDataEntity();
+        final DataEntityPojo resolved = createDataEntity();
+        final DataEntityPojo withoutSummary = createDataEntity();
+        final DataEntityPojo consistent = createDataEntity();
+
+        createAlert(undercounted, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        createAlert(undercounted, AlertTypeEnum.FAILED_DQ_TEST, AlertStatusEnum.OPEN);
+        createAlert(overcounted, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        createAlert(resolved, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.RESOLVED);
+        createAlert(withoutSummary, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        createAlert(consistent, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        dataEntitySummaryRepository.refresh(List.of(undercounted.getId(), overcounted.getId(), resolved.getId(),
+            consistent.getId())).block();
+        final LocalDateTime consistentUpdatedAt = getSummaryField(consistent, DATA_ENTITY_SUMMARY.UPDATED_AT);
+
+        // drift the counters the way a lost or duplicated update would
+        dataEntitySummaryRepository.addOpenAlerts(Map.of(
+            undercounted.getOddrn(), -1,
+            overcounted.getOddrn(), 4,
+            resolved.getOddrn(), 2)).block();
+
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            openAlertsCountHousekeepingJob.doHousekeeping(connection);
+        }
+
+        assertThat(getSummaryField(undercounted, DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)).isEqualTo(2);
+        assertThat(getSummaryField(overcounted, DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)).isEqualTo(1);
+        assertThat(getSummaryField(resolved, DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)).isZero();
+        assertThat(getSummaryField(withoutSummary, DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)).isEqualTo(1);
+        assertThat(getSummaryField(consistent, DATA_ENTITY_SUMMARY.OPEN_ALERTS_COUNT)).isEqualTo(1);
+        assertThat(getSummaryField(consistent, DATA_ENTITY_SUMMARY.UPDATED_AT)).isEqualTo(consistentUpdatedAt);
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(UUID.randomUUID().toString())
+            .setHollow(false)).block();
+    }
+
+    private void createAlert(final DataEntityPojo dataEntity, final AlertTypeEnum type, final AlertStatusEnum status) {
+        final AlertPojo alert = new AlertUniqueConstraint(dataEntity.getOddrn(), type.getCode(), null)
+            .toOpenAlert(LocalDateTime.now())
+            .setStatus(status.getCode());
+        alertRepository.createAlerts(List.of(alert)).blockLast();
+    }
+
+    private <T> T getSummaryField(final DataEntityPojo dataEntity, final Field<T> field) {
+        return jooqReactiveOperations.mono(DSL.select(field)
+                .from(DATA_ENTITY_SUMMARY)
+                .where(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(dataEntity.getId())))
+            .map(r -> r.value1())
+            .block();
+    }
+}
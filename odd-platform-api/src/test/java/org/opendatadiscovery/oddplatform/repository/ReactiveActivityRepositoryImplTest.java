@@ -0,0 +1,153 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.activity.ActivityEventTypeDto;
+import org.opendatadiscovery.oddplatform.housekeeping.job.ActivityEmptyPartitionsHousekeepingJob;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.ActivityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.notification.PGConnectionFactory;
+import org.opendatadiscovery.oddplatform.partition.service.PartitionService;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveActivityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_DAILY_ROLLUP;
+import static org.opendatadiscovery.oddplatform.model.Tables.ACTIVITY_HOURLY_ROLLUP;
+
+@DisplayName("Integration tests for ReactiveActivityRepository")
+class ReactiveActivityRepositoryImplTest extends BaseIntegrationTest {
+    private static final LocalDate PAST_PARTITION_BEGIN = LocalDate.of(2001, 1, 1);
+    private static final LocalDate PAST_PARTITION_END = LocalDate.of(2001, 2, 1);
+    private static final LocalDate PARTITION_BEGIN = LocalDate.of(2002, 1, 1);
+    private static final LocalDate PARTITION_END = LocalDate.of(2002, 2, 1);
+
+    @Autowired
+    private ReactiveActivityRepository activityRepository;
+
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Autowired
+    private ActivityEmptyPartitionsHousekeepingJob activityHousekeepingJob;
+
+    @Autowired
+    private PartitionService partitionService;
+
+    @Autowired
+    private PGConnectionFactory pgConnectionFactory;
+
+    private List<DataEntityPojo> dataEntities;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        createPartition(PAST_PARTITION_BEGIN, PAST_PARTITION_END);
+        createPartition(PARTITION_BEGIN, PARTITION_END);
+        dataEntities = dataEntityRepository.bulkCreate(IntStream.range(0, 3)
+                .mapToObj(i -> new DataEntityPojo().setOddrn(UUID.randomUUID().toString()))
+                .toList())
+            .collectList()
+            .block();
+    }
+
+    @Test
+    @DisplayName("Concurrently saves overlapping activities, expecting rollups to count all of them")
+    void concurrentRollupIncrementTest() {
+        final LocalDateTime now = PARTITION_END.minusDays(5).atStartOfDay();
+        final int batches = 20;
+        final int batchSize = 300;
+
+        Flux.range(0, batches)
+            .flatMap(batch -> activityRepository.save(IntStream.range(0, batchSize)
+                .mapToObj(i -> activity(dataEntities.get((batch + i) % dataEntities.size()).getId(),
+                    now.minusHours(i % 48), "user" + (i % 5)))
+                .toList()))
+            .blockLast();
+
+        final List<Long> ids = dataEntities.stream().map(DataEntityPojo::getId).toList();
+        final Long hourly = jooqReactiveOperations.mono(DSL.select(DSL.sum(ACTIVITY_HOURLY_ROLLUP.ACTIVITY_COUNT))
+                .from(ACTIVITY_HOURLY_ROLLUP)
+                .where(ACTIVITY_HOURLY_ROLLUP.DATA_ENTITY_ID.in(ids)))
+            .map(r -> r.value1().longValue())
+            .block();
+        final Long daily = jooqReactiveOperations.mono(DSL.select(DSL.sum(ACTIVITY_DAILY_ROLLUP.ACTIVITY_COUNT))
+                .from(ACTIVITY_DAILY_ROLLUP)
+                .where(ACTIVITY_DAILY_ROLLUP.DATA_ENTITY_ID.in(ids)))
+            .map(r -> r.value1().longValue())
+            .block();
+        final Integer hourlyBuckets = jooqReactiveOperations.mono(DSL.selectCount()
+                .from(ACTIVITY_HOURLY_ROLLUP)
+                .where(ACTIVITY_HOURLY_ROLLUP.DATA_ENTITY_ID.in(ids)))
+            .map(r -> r.value1())
+            .block();
+
+        assertThat(hourly).isEqualTo((long) batches * batchSize);
+        assertThat(daily).isEqualTo((long) batches * batchSize);
+        assertThat(hourlyBuckets).isPositive();
+    }
+
+    @Test
+    @DisplayName("Drops an empty past activity partition, expecting rollups of its range to be pruned")
+    void pruneRollupsWithDroppedPartitionTest() throws Exception {
+        final Long dataEntityId = dataEntities.get(0).getId();
+
+        activityRepository.save(List.of(
+            activity(dataEntityId, PAST_PARTITION_BEGIN.atTime(10, 15), "user"),
+            activity(dataEntityId, PAST_PARTITION_END.minusDays(1).atTime(23, 59), "user"),
+            activity(dataEntityId, PARTITION_BEGIN.atTime(8, 30), "user")
+        )).block();
+        jooqReactiveOperations.mono(DSL.deleteFrom(ACTIVITY)
+            .where(ACTIVITY.CREATED_AT.lessThan(PAST_PARTITION_END.atStartOfDay()))).block();
+
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            activityHousekeepingJob.doHousekeeping(connection);
+        }
+
+        assertThat(rollupBuckets(dataEntityId, true))
+            .hasSize(1)
+            .allMatch(bucket -> !bucket.isBefore(PARTITION_BEGIN.atStartOfDay()));
+        assertThat(rollupBuckets(dataEntityId, false))
+            .hasSize(1)
+            .allMatch(bucket -> !bucket.isBefore(PARTITION_BEGIN.atStartOfDay()));
+    }
+
+    private void createPartition(final LocalDate begin, final LocalDate end) throws Exception {
+        try (final Connection connection = pgConnectionFactory.getConnection()) {
+            partitionService.createPartition(connection, ACTIVITY.getName(), begin, end);
+        }
+    }
+
+    private List<LocalDateTime> rollupBuckets(final Long dataEntityId, final boolean hourly) {
+        final var query = hourly
+            ? DSL.select(ACTIVITY_HOURLY_ROLLUP.BUCKET_START).from(ACTIVITY_HOURLY_ROLLUP)
+                .where(ACTIVITY_HOURLY_ROLLUP.DATA_ENTITY_ID.eq(dataEntityId))
+            : DSL.select(ACTIVITY_DAILY_ROLLUP.BUCKET_START).from(ACTIVITY_DAILY_ROLLUP)
+                .where(ACTIVITY_DAILY_ROLLUP.DATA_ENTITY_ID.eq(dataEntityId));
+        return jooqReactiveOperations.flux(query).map(r -> r.value1()).collectList().block();
+    }
+
+    private ActivityPojo activity(final Long dataEntityId, final LocalDateTime createdAt, final String createdBy) {
+        return new ActivityPojo()
+            .setDataEntityId(dataEntityId)
+            .setEventType(ActivityEventTypeDto.DESCRIPTION_UPDATED.name())
+            .setIsSystemEvent(false)
+            .setCreatedAt(createdAt)
+            .setCreatedBy(createdBy);
+    }
+}
@@ -0,0 +1,91 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertDto;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertTypeEnum;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveAlertRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertAction.AlertUniqueConstraint;
+import org.opendatadiscovery.oddplatform.utils.Page;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for ReactiveAlertRepository")
+class ReactiveAlertRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveAlertRepository alertRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveLineageRepository lineageRepository;
+
+    @Test
+    @DisplayName("Lists alerts of upstream data entities, expecting the whole cyclic lineage to be traversed once")
+    void listDependentObjectsAlertsTest() {
+        final DataEntityPojo own = createDataEntity();
+        final DataEntityPojo parent = createDataEntity();
+        final DataEntityPojo grandparent = createDataEntity();
+        final DataEntityPojo unrelated = createDataEntity();
+        lineageRepository.bulkCreate(List.of(
+            lineage(parent, own),
+            lineage(grandparent, parent),
+            // closes the cycle, so the traversal must stop at already visited entities
+            lineage(own, grandparent),
+            lineage(own, unrelated))).blockLast();
+
+        createAlert(own, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        createAlert(unrelated, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        createAlert(parent, AlertTypeEnum.FAILED_DQ_TEST, AlertStatusEnum.RESOLVED);
+        final AlertPojo parentAlert = createAlert(parent, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+        final AlertPojo grandparentAlert = createAlert(grandparent, AlertTypeEnum.FAILED_JOB, AlertStatusEnum.OPEN);
+
+        final Page<AlertDto> page = alertRepository.listDependentObjectsAlerts(1, 10, List.of(own.getOddrn()))
+            .block();
+
+        assertThat(page.getTotal()).isEqualTo(2);
+        assertThat(page.getData())
+            .extracting(dto -> dto.getAlert().getId())
+            .containsExactlyInAnyOrder(parentAlert.getId(), grandparentAlert.getId());
+        assertThat(alertRepository.countDependentObjectsAlerts(List.of(own.getOddrn())).block()).isEqualTo(2);
+        assertThat(alertRepository.countDependentObjectsAlerts(List.of(unrelated.getOddrn())).block()).isEqualTo(3);
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(UUID.randomUUID().toString())
+            .setHollow(false)).block();
+    }
+
+    private LineagePojo lineage(final DataEntityPojo parent, final DataEntityPojo child) {
+        return new LineagePojo()
+            .setParentOddrn(parent.getOddrn())
+            .setChildOddrn(child.getOddrn())
+            .setEstablisherOddrn(child.getOddrn());
+    }
+
+    private AlertPojo createAlert(final DataEntityPojo dataEntity,
+                                  final AlertTypeEnum type,
+                                  final AlertStatusEnum status) {
+        final AlertPojo alert = new AlertUniqueConstraint(dataEntity.getOddrn(), type.getCode(), null)
+            .toOpenAlert(LocalDateTime.now())
+            .setStatus(status.getCode());
+        final AlertPojo created = alertRepository.createAlerts(List.of(alert)).blockLast();
+        // alerts are listed along with their chunks, so each one needs at least one
+        alertRepository.createChunks(List.of(new AlertChunkPojo()
+            .setAlertId(created.getId())
+            .setCreatedAt(created.getLastCreatedAt()))).block();
+        return created;
+    }
+}
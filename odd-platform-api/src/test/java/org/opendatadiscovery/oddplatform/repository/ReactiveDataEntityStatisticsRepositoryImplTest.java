@@ -0,0 +1,52 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.DataEntityStatisticsDto;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityStatisticsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for ReactiveDataEntityStatisticsRepository")
+class ReactiveDataEntityStatisticsRepositoryImplTest extends BaseIntegrationTest {
+    private static final int CLASS_ID = 1;
+    private static final int TABLE_TYPE_ID = 1;
+    private static final int VIEW_TYPE_ID = 11;
+
+    @Autowired
+    private ReactiveDataEntityStatisticsRepository dataEntityStatisticsRepository;
+
+    @Test
+    @DisplayName("Concurrently adds counts, expecting statistics to sum all of them")
+    void addCountsTest() {
+        final DataEntityStatisticsDto before = dataEntityStatisticsRepository.getStatistics().block();
+        final int updates = 50;
+
+        Flux.range(0, updates)
+            .flatMap(i -> dataEntityStatisticsRepository.addCounts(2,
+                Map.of(CLASS_ID, Map.of(TABLE_TYPE_ID, 3L, VIEW_TYPE_ID, -1L))))
+            .blockLast();
+
+        final DataEntityStatisticsDto after = dataEntityStatisticsRepository.getStatistics().block();
+        assertThat(after.totalCount() - before.totalCount()).isEqualTo(2L * updates);
+        assertThat(count(after, TABLE_TYPE_ID) - count(before, TABLE_TYPE_ID)).isEqualTo(3L * updates);
+        assertThat(count(after, VIEW_TYPE_ID) - count(before, VIEW_TYPE_ID)).isEqualTo(-1L * updates);
+    }
+
+    @Test
+    @DisplayName("Adds zero deltas, expecting no counters to be changed")
+    void addZeroCountsTest() {
+        final Integer changed = dataEntityStatisticsRepository.addCounts(0, Map.of(CLASS_ID, Map.of(TABLE_TYPE_ID, 0L)))
+            .block();
+
+        assertThat(changed).isZero();
+    }
+
+    private long count(final DataEntityStatisticsDto statistics, final int typeId) {
+        return statistics.classesTypesCount().getOrDefault(CLASS_ID, Map.of()).getOrDefault(typeId, 0L);
+    }
+}
@@ -0,0 +1,165 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.DataEntityDto;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertTypeEnum;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntitySummaryPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TagToDataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveAlertRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnerRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTagRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTitleRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
+import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertAction.AlertUniqueConstraint;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY_SUMMARY;
+
+@DisplayName("Integration tests for ReactiveDataEntitySummaryRepository")
+class ReactiveDataEntitySummaryRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveOwnerRepository ownerRepository;
+    @Autowired
+    private ReactiveTitleRepository titleRepository;
+    @Autowired
+    private ReactiveOwnershipRepository ownershipRepository;
+    @Autowired
+    private ReactiveTagRepository tagRepository;
+    @Autowired
+    private ReactiveAlertRepository alertRepository;
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
+
+    @Test
+    @DisplayName("Refreshes summaries, expecting owners, tags and open alerts to be aggregated")
+    void refreshTest() {
+        final DataEntityPojo dataEntity = createDataEntity();
+        final OwnerPojo owner = createOwner();
+        final TitlePojo title = titleRepository.create(new TitlePojo().setName(UUID.randomUUID().toString())).block();
+        ownershipRepository.create(new OwnershipPojo()
+            .setDataEntityId(dataEntity.getId())
+            .setOwnerId(owner.getId())
+            .setTitleId(title.getId())).block();
+        final TagPojo tag = tagRepository.create(new TagPojo()
+            .setName(UUID.randomUUID().toString())
+            .setImportant(false)).block();
+        tagRepository.createDataEntityRelations(List.of(new TagToDataEntityPojo()
+            .setDataEntityId(dataEntity.getId())
+            .setTagId(tag.getId()))).blockLast();
+        createOpenAlert(dataEntity.getOddrn(), AlertTypeEnum.FAILED_JOB);
+        createOpenAlert(dataEntity.getOddrn(), AlertTypeEnum.FAILED_DQ_TEST);
+
+        assertThat(dataEntityRepository.listByOwner(owner.getId()).collectList().block()).isEmpty();
+
+        assertThat(dataEntitySummaryRepository.refresh(dataEntity.getId()).block()).isEqualTo(1);
+
+        final DataEntitySummaryPojo summary = getSummary(dataEntity.getId());
+        assertThat(summary.getOwnerIds()).containsExactly(owner.getId());
+        assertThat(summary.getTagIds()).containsExactly(tag.getId());
+        assertThat(summary.getTermIds()).isEmpty();
+        assertThat(summary.getOwners().data()).contains(owner.getName());
+        assertThat(summary.getTitles().data()).contains(title.getName());
+        assertThat(summary.getOpenAlertsCount()).isEqualTo(2);
+        assertThat(dataEntityRepository.listByOwner(owner.getId()).collectList().block())
+            .singleElement()
+            .satisfies(dto -> {
+                assertThat(dto.getDataEntity().getId()).isEqualTo(dataEntity.getId());
+                assertThat(dto.isHasAlerts()).isTrue();
+            });
+    }
+
+    @Test
+    @DisplayName("Renames an owner, expecting summaries of its data entities to be refreshed by owner")
+    void refreshByOwnerTest() {
+        final List<DataEntityPojo> dataEntities = List.of(createDataEntity(), createDataEntity());
+        final DataEntityPojo notOwned = createDataEntity();
+        final OwnerPojo owner = createOwner();
+        ownershipRepository.createOrUpdate(dataEntities.stream()
+            .map(de -> new OwnershipPojo().setDataEntityId(de.getId()).setOwnerId(owner.getId()))
+            .toList()).blockLast();
+        dataEntitySummaryRepository.refresh(List.of(dataEntities.get(0).getId(), dataEntities.get(1).getId(),
+            notOwned.getId())).block();
+        final LocalDateTime notOwnedUpdatedAt = getSummary(notOwned.getId()).getUpdatedAt();
+
+        final String newName = UUID.randomUUID().toString();
+        ownerRepository.update(new OwnerPojo(owner).setName(newName)).block();
+
+        assertThat(dataEntitySummaryRepository.refreshByOwner(owner.getId()).block()).isEqualTo(2);
+        assertThat(dataEntities).allSatisfy(de -> assertThat(getSummary(de.getId()).getOwners().data())
+            .contains(newName)
+            .doesNotContain(owner.getName()));
+        assertThat(getSummary(notOwned.getId()).getUpdatedAt()).isEqualTo(notOwnedUpdatedAt);
+    }
+
+    @Test
+    @DisplayName("Applies open alerts deltas, expecting counters and alert flags to follow them")
+    void addOpenAlertsTest() {
+        final DataEntityPojo refreshed = createDataEntity();
+        final DataEntityPojo withoutSummary = createDataEntity();
+        final OwnerPojo owner = createOwner();
+        ownershipRepository.createOrUpdate(List.of(
+            new OwnershipPojo().setDataEntityId(refreshed.getId()).setOwnerId(owner.getId()),
+            new OwnershipPojo().setDataEntityId(withoutSummary.getId()).setOwnerId(owner.getId()))).blockLast();
+        dataEntitySummaryRepository.refresh(refreshed.getId()).block();
+
+        final Integer affected = dataEntitySummaryRepository.addOpenAlerts(Map.of(
+            refreshed.getOddrn(), 3,
+            withoutSummary.getOddrn(), 1,
+            UUID.randomUUID().toString(), 1)).block();
+
+        assertThat(affected).isEqualTo(2);
+        assertThat(getSummary(refreshed.getId()).getOpenAlertsCount()).isEqualTo(3);
+        assertThat(getSummary(withoutSummary.getId()).getOpenAlertsCount()).isEqualTo(1);
+        assertThat(getSummary(refreshed.getId()).getOwnerIds()).containsExactly(owner.getId());
+
+        dataEntitySummaryRepository.addOpenAlerts(Map.of(refreshed.getOddrn(), -3, withoutSummary.getOddrn(), 0))
+            .block();
+
+        assertThat(getSummary(refreshed.getId()).getOpenAlertsCount()).isZero();
+        assertThat(dataEntityRepository.listByOwner(owner.getId()).collectList().block())
+            .extracting(DataEntityDto::isHasAlerts)
+            .containsExactly(false);
+    }
+
+    private DataEntityPojo createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(UUID.randomUUID().toString())
+            .setHollow(false)).block();
+    }
+
+    private OwnerPojo createOwner() {
+        return ownerRepository.create(new OwnerPojo().setName(UUID.randomUUID().toString())).block();
+    }
+
+    private void createOpenAlert(final String dataEntityOddrn, final AlertTypeEnum type) {
+        alertRepository.createAlerts(List.of(new AlertUniqueConstraint(dataEntityOddrn, type.getCode(), null)
+            .toOpenAlert(LocalDateTime.now()))).blockLast();
+    }
+
+    private DataEntitySummaryPojo getSummary(final long dataEntityId) {
+        return jooqReactiveOperations.mono(DSL.selectFrom(DATA_ENTITY_SUMMARY)
+                .where(DATA_ENTITY_SUMMARY.DATA_ENTITY_ID.eq(dataEntityId)))
+            .map(r -> r.into(DataEntitySummaryPojo.class))
+            .block();
+    }
+}
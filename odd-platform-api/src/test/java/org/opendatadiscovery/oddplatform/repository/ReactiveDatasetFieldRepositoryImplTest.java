@@ -1,10 +1,12 @@
 package org.opendatadiscovery.oddplatform.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.jooq.JSONB;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
@@ -14,6 +16,7 @@ import org.opendatadiscovery.oddplatform.dto.DatasetFieldWithLabelsDto;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.util.JooqReactiveOperations;
 import org.opendatadiscovery.oddplatform.utils.JSONTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import reactor.test.StepVerifier;
@@ -23,11 +26,14 @@ import static org.jeasy.random.FieldPredicates.ofType;
 import static org.jooq.JSONB.jsonb;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATASET_FIELD;
 
 class ReactiveDatasetFieldRepositoryImplTest extends BaseIntegrationTest {
 
     @Autowired
     private ReactiveDatasetFieldRepository reactiveDatasetFieldRepository;
+    @Autowired
+    private JooqReactiveOperations jooqReactiveOperations;
     private static final EasyRandom EASY_RANDOM;
 
     static {
@@ -75,6 +81,54 @@ class ReactiveDatasetFieldRepositoryImplTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Updates statistics of several fields, expecting rows with unchanged statistics not to be touched")
+    void testUpdateStatistics() {
+        final List<DatasetFieldPojo> fields = reactiveDatasetFieldRepository.bulkCreate(List.of(
+            createDatasetFieldWithoutStats(), createDatasetFieldWithoutStats(), createDatasetFieldWithoutStats()))
+            .collectList().block();
+        final DatasetFieldPojo unchanged = fields.get(0);
+        final DatasetFieldPojo changed = fields.get(1);
+        final DatasetFieldPojo binaryChanged = fields.get(2);
+
+        reactiveDatasetFieldRepository.updateStatistics(List.of(
+            stats(unchanged, "{\"nulls_count\": 1}", new byte[] {1}),
+            stats(changed, "{\"nulls_count\": 2}", new byte[] {2}),
+            stats(binaryChanged, "{\"nulls_count\": 3}", new byte[] {3}))).block();
+        final Map<Long, String> rowVersions = getRowVersions(fields);
+
+        reactiveDatasetFieldRepository.updateStatistics(List.of(
+            stats(unchanged, "{\"nulls_count\": 1}", new byte[] {1}),
+            stats(changed, "{\"nulls_count\": 20}", new byte[] {20}),
+            stats(binaryChanged, "{\"nulls_count\": 3}", new byte[] {30}))).block();
+
+        final Map<Long, String> updatedRowVersions = getRowVersions(fields);
+        assertThat(updatedRowVersions.get(unchanged.getId())).isEqualTo(rowVersions.get(unchanged.getId()));
+        assertThat(updatedRowVersions.get(changed.getId())).isNotEqualTo(rowVersions.get(changed.getId()));
+        assertThat(updatedRowVersions.get(binaryChanged.getId()))
+            .isNotEqualTo(rowVersions.get(binaryChanged.getId()));
+
+        final Map<Long, byte[]> binaryStats = reactiveDatasetFieldRepository
+            .getStatistics(List.of(changed.getId(), binaryChanged.getId()))
+            .collectMap(DatasetFieldPojo::getId, DatasetFieldPojo::getStatsBinary)
+            .block();
+        assertThat(binaryStats.get(changed.getId())).containsExactly(20);
+        assertThat(binaryStats.get(binaryChanged.getId())).containsExactly(30);
+    }
+
+    @Test
+    @DisplayName("Updates statistics of a missing field and of no fields, expecting nothing to fail")
+    void testUpdateStatisticsOfMissingFields() {
+        final DatasetFieldPojo missing = new DatasetFieldPojo().setId(-1L);
+
+        reactiveDatasetFieldRepository.updateStatistics(List.of(stats(missing, "{}", new byte[] {1})))
+            .as(StepVerifier::create)
+            .verifyComplete();
+        reactiveDatasetFieldRepository.updateStatistics(List.of())
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
     private void assertDataField(final DatasetFieldPojo expectedDatasetFieldPojo,
                                  final DatasetFieldPojo actualDataSetField) {
         assertEquals(expectedDatasetFieldPojo.getId(), actualDataSetField.getId());
@@ -96,4 +150,28 @@ class ReactiveDatasetFieldRepositoryImplTest extends BaseIntegrationTest {
         final LabelPojo labelPojo = EASY_RANDOM.nextObject(LabelPojo.class);
         return new DatasetFieldWithLabelsDto(datasetFieldPojo, Set.of(labelPojo));
     }
-}
\ No newline at end of file
+
+    private DatasetFieldPojo createDatasetFieldWithoutStats() {
+        final DatasetFieldPojo pojo = EASY_RANDOM.nextObject(DatasetFieldPojo.class);
+        return pojo.setStats(null).setStatsBinary(null);
+    }
+
+    private DatasetFieldPojo stats(final DatasetFieldPojo field, final String stats, final byte[] binary) {
+        return new DatasetFieldPojo()
+            .setId(field.getId())
+            .setStats(jsonb(stats))
+            .setStatsBinary(binary);
+    }
+
+    /**
+     * @return row versions by field ids, which change with every update of a row, even a no-op one
+     */
+    private Map<Long, String> getRowVersions(final List<DatasetFieldPojo> fields) {
+        final var query = DSL.select(DATASET_FIELD.ID, DSL.field("xmin::text", String.class))
+            .from(DATASET_FIELD)
+            .where(DATASET_FIELD.ID.in(fields.stream().map(DatasetFieldPojo::getId).toList()));
+        return jooqReactiveOperations.flux(query)
+            .collectMap(r -> r.value1(), r -> r.value2())
+            .block();
+    }
+}
@@ -1,10 +1,13 @@
 package org.opendatadiscovery.oddplatform.repository;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.jeasy.random.EasyRandom;
@@ -17,6 +20,7 @@ import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldStat;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldType;
 import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
 import org.opendatadiscovery.oddplatform.dto.LabelDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionContext;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
@@ -25,6 +29,7 @@ import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityR
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
 import org.opendatadiscovery.oddplatform.service.DatasetStructureService;
 import org.opendatadiscovery.oddplatform.utils.JSONTestUtils;
+import org.opendatadiscovery.oddplatform.utils.Page;
 import org.springframework.beans.factory.annotation.Autowired;
 import reactor.test.StepVerifier;
 
@@ -223,7 +228,7 @@ class ReactiveDatasetVersionRepositoryImplTest extends BaseIntegrationTest {
         final List<DatasetVersionPojo> versions = List.of(datasetVersionPojo);
 
         //create dataset structure
-        datasetStructureService.createDatasetStructure(versions, datasetFields).block();
+        datasetStructureService.createDatasetStructure(versions, datasetFields, new IngestionContext()).block();
 
         final Set<Long> datasetPojoIds =
             versions.stream().map(DatasetVersionPojo::getId).collect(Collectors.toSet());
@@ -244,6 +249,168 @@ class ReactiveDatasetVersionRepositoryImplTest extends BaseIntegrationTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Test get a page of root and child fields of a DatasetVersion from database")
+    void testGetDatasetVersionFieldsPage() {
+        final DataEntityPojo dataEntityPojo = dataEntityRepository
+            .bulkCreate(List.of(new DataEntityPojo().setOddrn(UUID.randomUUID().toString())))
+            .collectList()
+            .block()
+            .get(0);
+
+        final DatasetFieldPojo customer = createVersionField("customer", null);
+        final DatasetFieldPojo customerId = createVersionField("id", customer);
+        final DatasetFieldPojo customerName = createVersionField("name", customer);
+        final DatasetFieldPojo order = createVersionField("order", null).setReferenceOddrn(customerId.getOddrn());
+        // the parent of the field isn't a part of the version, so the field is listed among the root ones
+        final DatasetFieldPojo orphan = createVersionField("customer_orphan", null)
+            .setParentFieldOddrn(UUID.randomUUID().toString());
+        final DatasetVersionPojo version = createVersion(dataEntityPojo,
+            List.of(customer, customerId, customerName, order, orphan));
+        final Map<String, Long> ids = getVersionFieldIds(version);
+
+        final Page<DatasetFieldDto> rootFields = reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), null, null, null, 10).block();
+        assertThat(rootFields.getTotal()).isEqualTo(3);
+        assertThat(rootFields.isHasNext()).isFalse();
+        assertThat(rootFields.getData())
+            .extracting(dto -> dto.getDatasetFieldPojo().getName())
+            .containsExactlyElementsOf(sortedById(ids, customer, order, orphan));
+        final Map<String, DatasetFieldDto> rootFieldsByName = rootFields.getData().stream()
+            .collect(Collectors.toMap(dto -> dto.getDatasetFieldPojo().getName(), Function.identity()));
+        assertThat(rootFieldsByName.get("customer").getChildrenCount()).isEqualTo(2);
+        assertThat(rootFieldsByName.get("order").getChildrenCount()).isZero();
+        assertThat(rootFieldsByName.get("order").getReferenceFieldId()).isEqualTo(ids.get(customerId.getOddrn()));
+        assertThat(rootFieldsByName.get("customer_orphan").getParentFieldId()).isNull();
+
+        final Page<DatasetFieldDto> childFields = reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), ids.get(customer.getOddrn()), null, null, 10).block();
+        assertThat(childFields.getTotal()).isEqualTo(2);
+        assertThat(childFields.getData())
+            .extracting(dto -> dto.getDatasetFieldPojo().getName())
+            .containsExactlyElementsOf(sortedById(ids, customerId, customerName));
+        assertThat(childFields.getData())
+            .allSatisfy(dto -> {
+                assertThat(dto.getParentFieldId()).isEqualTo(ids.get(customer.getOddrn()));
+                assertThat(dto.getChildrenCount()).isZero();
+            });
+    }
+
+    @Test
+    @DisplayName("Test get DatasetVersion fields filtered by name and paged by the last field id from database")
+    void testGetDatasetVersionFieldsPageFilteredAndPaged() {
+        final DataEntityPojo dataEntityPojo = dataEntityRepository
+            .bulkCreate(List.of(new DataEntityPojo().setOddrn(UUID.randomUUID().toString())))
+            .collectList()
+            .block()
+            .get(0);
+
+        final DatasetFieldPojo customer = createVersionField("Customer", null);
+        final DatasetFieldPojo customerName = createVersionField("customer_name", customer);
+        final List<DatasetFieldPojo> rootFields = List.of(customer, createVersionField("order", null),
+            createVersionField("order_line", null), createVersionField("payment", null));
+        final List<DatasetFieldPojo> fields = new ArrayList<>(rootFields);
+        fields.add(customerName);
+        final DatasetVersionPojo version = createVersion(dataEntityPojo, fields);
+        final Map<String, Long> ids = getVersionFieldIds(version);
+        final List<String> rootNames = sortedById(ids, rootFields.toArray(DatasetFieldPojo[]::new));
+
+        // the filter applies to the requested level only, so the child field isn't found among the root ones
+        final Page<DatasetFieldPojo> filtered = toPojoPage(reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), null, "CUSTOMER", null, 10).block());
+        assertThat(filtered.getTotal()).isEqualTo(1);
+        assertThat(filtered.getData()).extracting(DatasetFieldPojo::getName).containsExactly("Customer");
+        assertThat(reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), ids.get(customer.getOddrn()), "name", null, 10)
+            .block()
+            .getTotal())
+            .isEqualTo(1);
+
+        final Page<DatasetFieldPojo> firstPage = toPojoPage(reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), null, null, null, 2).block());
+        assertThat(firstPage.getTotal()).isEqualTo(4);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getData()).extracting(DatasetFieldPojo::getName)
+            .containsExactlyElementsOf(rootNames.subList(0, 2));
+
+        final Long lastFieldId = firstPage.getData().get(1).getId();
+        final Page<DatasetFieldPojo> secondPage = toPojoPage(reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), null, null, lastFieldId, 2).block());
+        assertThat(secondPage.getTotal()).isEqualTo(4);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getData()).extracting(DatasetFieldPojo::getName)
+            .containsExactlyElementsOf(rootNames.subList(2, 4));
+
+        final Page<DatasetFieldPojo> filteredPage = toPojoPage(reactiveDatasetVersionRepository
+            .getDatasetVersionFieldsPage(version.getId(), null, "order", lastFieldId, 2).block());
+        assertThat(filteredPage.getTotal()).isEqualTo(2);
+        assertThat(filteredPage.getData()).extracting(DatasetFieldPojo::getName)
+            .containsExactlyElementsOf(rootNames.subList(2, 4).stream().filter(n -> n.startsWith("order")).toList());
+    }
+
+    @Test
+    @DisplayName("Test get fields page of an unknown DatasetVersion or parent field, expecting an empty page")
+    void testGetDatasetVersionFieldsPageNotFound() {
+        final DataEntityPojo dataEntityPojo = dataEntityRepository
+            .bulkCreate(List.of(new DataEntityPojo().setOddrn(UUID.randomUUID().toString())))
+            .collectList()
+            .block()
+            .get(0);
+        final DatasetVersionPojo version = createVersion(dataEntityPojo, List.of(createVersionField("id", null)));
+
+        assertThat(reactiveDatasetVersionRepository.getDatasetVersionFieldsPage(-1L, null, null, null, 10).block())
+            .satisfies(page -> {
+                assertThat(page.getTotal()).isZero();
+                assertThat(page.getData()).isEmpty();
+                assertThat(page.isHasNext()).isFalse();
+            });
+        assertThat(reactiveDatasetVersionRepository.getDatasetVersionFieldsPage(version.getId(), -1L, null, null, 10)
+            .block()
+            .getTotal())
+            .isZero();
+    }
+
+    private DatasetFieldPojo createVersionField(final String name, final DatasetFieldPojo parent) {
+        final DatasetFieldPojo pojo = EASY_RANDOM.nextObject(DatasetFieldPojo.class);
+        return pojo
+            .setName(name)
+            .setOddrn(UUID.randomUUID().toString())
+            .setParentFieldOddrn(parent != null ? parent.getOddrn() : null)
+            .setReferenceOddrn(null)
+            .setType(jsonb(JSONTestUtils.createJson(EASY_RANDOM.nextObject(DataSetFieldType.class))))
+            .setStats(null);
+    }
+
+    private DatasetVersionPojo createVersion(final DataEntityPojo dataEntityPojo,
+                                             final List<DatasetFieldPojo> fields) {
+        final DatasetVersionPojo datasetVersionPojo = EASY_RANDOM.nextObject(DatasetVersionPojo.class);
+        datasetVersionPojo.setDatasetOddrn(dataEntityPojo.getOddrn());
+        datasetVersionPojo.setVersion(1L);
+        datasetStructureService.createDatasetStructure(List.of(datasetVersionPojo),
+            Map.of(dataEntityPojo.getOddrn(), fields), new IngestionContext()).block();
+        return datasetVersionPojo;
+    }
+
+    private Map<String, Long> getVersionFieldIds(final DatasetVersionPojo version) {
+        return reactiveDatasetVersionRepository.getDatasetVersionFields(Set.of(version.getId()))
+            .block()
+            .get(version.getId())
+            .stream()
+            .collect(Collectors.toMap(DatasetFieldPojo::getOddrn, DatasetFieldPojo::getId));
+    }
+
+    private List<String> sortedById(final Map<String, Long> ids, final DatasetFieldPojo... fields) {
+        return Arrays.stream(fields)
+            .sorted(Comparator.comparing(f -> ids.get(f.getOddrn())))
+            .map(DatasetFieldPojo::getName)
+            .toList();
+    }
+
+    private Page<DatasetFieldPojo> toPojoPage(final Page<DatasetFieldDto> page) {
+        return new Page<>(page.getData().stream().map(DatasetFieldDto::getDatasetFieldPojo).toList(),
+            page.getTotal(), page.isHasNext());
+    }
+
     private DatasetFieldDto createDatasetFieldDto() {
         final DatasetFieldPojo datasetFieldPojo = EASY_RANDOM.nextObject(DatasetFieldPojo.class);
         final DataSetFieldStat dataSetFieldStat = EASY_RANDOM.nextObject(DataSetFieldStat.class);
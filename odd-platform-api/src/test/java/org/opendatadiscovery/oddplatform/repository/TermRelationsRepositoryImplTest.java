@@ -0,0 +1,253 @@
+package org.opendatadiscovery.oddplatform.repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.term.LinkedTermDto;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTermAutoLinkDismissalPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveNamespaceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.TermRelationsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Integration tests for TermRelationsRepository")
+class TermRelationsRepositoryImplTest extends BaseIntegrationTest {
+    @Autowired
+    private TermRelationsRepository termRelationsRepository;
+    @Autowired
+    private ReactiveTermRepository termRepository;
+    @Autowired
+    private ReactiveNamespaceRepository namespaceRepository;
+    @Autowired
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Autowired
+    private ReactiveDatasetFieldRepository datasetFieldRepository;
+
+    @Test
+    @DisplayName("Links a term to a data entity several ways, expecting the links to be listed as a single one")
+    void getDataEntityTermsTest() {
+        final long dataEntityId = createDataEntity();
+        final List<TermPojo> terms = createTerms(4);
+        termRelationsRepository.createRelationsWithDataEntity(List.of(
+            link(dataEntityId, terms.get(0), false, false),
+            link(dataEntityId, terms.get(0), true, false),
+            link(dataEntityId, terms.get(0), true, true),
+            link(dataEntityId, terms.get(1), true, false),
+            link(dataEntityId, terms.get(1), true, true),
+            link(dataEntityId, terms.get(2), true, true),
+            link(dataEntityId, terms.get(3), false, false))).blockLast();
+
+        assertThat(termRepository.getDataEntityTerms(dataEntityId).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isDescriptionLink,
+                LinkedTermDto::isAutoLink)
+            .containsExactlyInAnyOrder(
+                tuple(terms.get(0).getId(), true, true),
+                tuple(terms.get(1).getId(), true, true),
+                tuple(terms.get(2).getId(), false, true),
+                tuple(terms.get(3).getId(), false, false));
+    }
+
+    @Test
+    @DisplayName("Removes a term from a data entity, expecting manual and auto links to be deleted")
+    void deleteRelationWithDataEntityTest() {
+        final long dataEntityId = createDataEntity();
+        final List<TermPojo> terms = createTerms(2);
+        termRelationsRepository.createRelationsWithDataEntity(List.of(
+            link(dataEntityId, terms.get(0), false, false),
+            link(dataEntityId, terms.get(0), true, true),
+            link(dataEntityId, terms.get(1), true, false),
+            link(dataEntityId, terms.get(1), true, true))).blockLast();
+
+        assertThat(termRelationsRepository.deleteRelationWithDataEntity(dataEntityId, terms.get(0).getId())
+            .collectList().block())
+            .extracting(DataEntityToTermPojo::getIsDescriptionLink, DataEntityToTermPojo::getIsAutoLink)
+            .containsExactlyInAnyOrder(tuple(false, false), tuple(true, true));
+        assertThat(termRelationsRepository.deleteRelationWithDataEntity(dataEntityId, terms.get(1).getId())
+            .collectList().block())
+            .extracting(DataEntityToTermPojo::getIsAutoLink)
+            .containsExactly(true);
+
+        assertThat(termRepository.getDataEntityTerms(dataEntityId).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isDescriptionLink,
+                LinkedTermDto::isAutoLink)
+            .containsExactly(tuple(terms.get(1).getId(), true, false));
+    }
+
+    @Test
+    @DisplayName("Removes an auto linked term from a dataset field, expecting the markup link to be kept")
+    void deleteRelationWithDatasetFieldTest() {
+        final long datasetFieldId = createDatasetField();
+        final TermPojo term = createTerms(1).get(0);
+        termRelationsRepository.createRelationsWithDatasetField(List.of(
+            fieldLink(datasetFieldId, term, true, false),
+            fieldLink(datasetFieldId, term, true, true))).blockLast();
+
+        assertThat(termRelationsRepository.deleteRelationWithDatasetField(datasetFieldId, term.getId())
+            .collectList().block())
+            .extracting(DatasetFieldToTermPojo::getIsAutoLink)
+            .containsExactly(true);
+        assertThat(termRepository.getDatasetFieldTerms(datasetFieldId).collectList().block())
+            .extracting(LinkedTermDto::isDescriptionLink, LinkedTermDto::isAutoLink)
+            .containsExactly(tuple(true, false));
+    }
+
+    @Test
+    @DisplayName("Dismisses auto links twice, expecting each dismissal to be stored once")
+    void dismissAutoLinkTest() {
+        final long dataEntityId = createDataEntity();
+        final long otherDataEntityId = createDataEntity();
+        final long datasetFieldId = createDatasetField();
+        final TermPojo term = createTerms(1).get(0);
+
+        termRelationsRepository.dismissDataEntityAutoLink(dataEntityId, term.getId()).block();
+        termRelationsRepository.dismissDataEntityAutoLink(dataEntityId, term.getId()).block();
+        termRelationsRepository.dismissDatasetFieldAutoLink(datasetFieldId, term.getId()).block();
+
+        assertThat(termRelationsRepository.getDataEntityAutoLinkDismissals(List.of(dataEntityId, otherDataEntityId))
+            .collectList().block())
+            .containsExactly(new DataEntityTermAutoLinkDismissalPojo()
+                .setDataEntityId(dataEntityId)
+                .setTermId(term.getId()));
+        assertThat(termRelationsRepository.getDatasetFieldAutoLinkDismissals(List.of(datasetFieldId))
+            .collectList().block())
+            .hasSize(1);
+        assertThat(termRelationsRepository.getDataEntityAutoLinkDismissals(List.of()).collectList().block())
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deletes description links of several data entities except retained ones, leaving others intact")
+    void deleteDataEntityDescriptionLinksExceptTest() {
+        final long first = createDataEntity();
+        final long second = createDataEntity();
+        final long notHandled = createDataEntity();
+        final List<TermPojo> terms = createTerms(3);
+        termRelationsRepository.createRelationsWithDataEntity(List.of(
+            link(first, terms.get(0), true, false),
+            link(first, terms.get(1), true, false),
+            link(first, terms.get(1), true, true),
+            link(first, terms.get(2), false, false),
+            link(second, terms.get(0), true, false),
+            link(second, terms.get(2), true, true),
+            link(notHandled, terms.get(0), true, false))).blockLast();
+
+        assertThat(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(List.of(first, second), false,
+            List.of(link(first, terms.get(0), true, false), link(second, terms.get(1), true, false)))
+            .collectList().block())
+            .extracting(DataEntityToTermPojo::getDataEntityId, DataEntityToTermPojo::getTermId)
+            .containsExactlyInAnyOrder(
+                tuple(first, terms.get(1).getId()),
+                tuple(second, terms.get(0).getId()));
+
+        assertThat(termRepository.getDataEntityTerms(first).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isDescriptionLink,
+                LinkedTermDto::isAutoLink)
+            .containsExactlyInAnyOrder(
+                tuple(terms.get(0).getId(), true, false),
+                tuple(terms.get(1).getId(), false, true),
+                tuple(terms.get(2).getId(), false, false));
+        assertThat(termRepository.getDataEntityTerms(second).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isAutoLink)
+            .containsExactly(tuple(terms.get(2).getId(), true));
+        assertThat(termRepository.getDataEntityTerms(notHandled).collectList().block()).hasSize(1);
+
+        assertThat(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(List.of(first, second), true,
+            List.of()).collectList().block())
+            .extracting(DataEntityToTermPojo::getDataEntityId, DataEntityToTermPojo::getTermId)
+            .containsExactlyInAnyOrder(
+                tuple(first, terms.get(1).getId()),
+                tuple(second, terms.get(2).getId()));
+        assertThat(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(List.of(), false, List.of())
+            .collectList().block())
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deletes description links of several dataset fields except retained ones, leaving others intact")
+    void deleteDatasetFieldDescriptionLinksExceptTest() {
+        final long first = createDatasetField();
+        final long second = createDatasetField();
+        final List<TermPojo> terms = createTerms(2);
+        termRelationsRepository.createRelationsWithDatasetField(List.of(
+            fieldLink(first, terms.get(0), true, false),
+            fieldLink(first, terms.get(1), true, false),
+            fieldLink(first, terms.get(1), true, true),
+            fieldLink(second, terms.get(0), true, false),
+            fieldLink(second, terms.get(1), false, false))).blockLast();
+
+        assertThat(termRelationsRepository.deleteDatasetFieldDescriptionLinksExcept(List.of(first, second), false,
+            List.of(fieldLink(first, terms.get(0), true, false))).collectList().block())
+            .extracting(DatasetFieldToTermPojo::getDatasetFieldId, DatasetFieldToTermPojo::getTermId)
+            .containsExactlyInAnyOrder(
+                tuple(first, terms.get(1).getId()),
+                tuple(second, terms.get(0).getId()));
+
+        assertThat(termRepository.getDatasetFieldTerms(first).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isDescriptionLink,
+                LinkedTermDto::isAutoLink)
+            .containsExactlyInAnyOrder(
+                tuple(terms.get(0).getId(), true, false),
+                tuple(terms.get(1).getId(), false, true));
+        assertThat(termRepository.getDatasetFieldTerms(second).collectList().block())
+            .extracting(dto -> dto.term().getTerm().getId(), LinkedTermDto::isDescriptionLink)
+            .containsExactly(tuple(terms.get(1).getId(), false));
+    }
+
+    private long createDataEntity() {
+        return dataEntityRepository.create(new DataEntityPojo()
+            .setOddrn(UUID.randomUUID().toString())
+            .setHollow(false)).block().getId();
+    }
+
+    private long createDatasetField() {
+        return datasetFieldRepository.create(new DatasetFieldPojo()
+            .setName(UUID.randomUUID().toString())
+            .setOddrn(UUID.randomUUID().toString())).block().getId();
+    }
+
+    private List<TermPojo> createTerms(final int count) {
+        final NamespacePojo namespace = namespaceRepository.createByName(UUID.randomUUID().toString()).block();
+        return termRepository.bulkCreate(IntStream.range(0, count)
+            .mapToObj(i -> new TermPojo()
+                .setName(UUID.randomUUID().toString())
+                .setDefinition("definition")
+                .setNamespaceId(namespace.getId()))
+            .toList()).collectList().block();
+    }
+
+    private DataEntityToTermPojo link(final long dataEntityId,
+                                      final TermPojo term,
+                                      final boolean descriptionLink,
+                                      final boolean autoLink) {
+        return new DataEntityToTermPojo()
+            .setDataEntityId(dataEntityId)
+            .setTermId(term.getId())
+            .setIsDescriptionLink(descriptionLink)
+            .setIsAutoLink(autoLink);
+    }
+
+    private DatasetFieldToTermPojo fieldLink(final long datasetFieldId,
+                                             final TermPojo term,
+                                             final boolean descriptionLink,
+                                             final boolean autoLink) {
+        return new DatasetFieldToTermPojo()
+            .setDatasetFieldId(datasetFieldId)
+            .setTermId(term.getId())
+            .setIsDescriptionLink(descriptionLink)
+            .setIsAutoLink(autoLink);
+    }
+}
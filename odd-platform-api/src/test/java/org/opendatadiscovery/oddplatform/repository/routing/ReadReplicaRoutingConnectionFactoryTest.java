@@ -0,0 +1,105 @@
+package org.opendatadiscovery.oddplatform.repository.routing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingConnectionFactoryTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+    private final ReplicationLagMonitor lagMonitor = mock(ReplicationLagMonitor.class);
+    private ReadReplicaRoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        final Map<String, ConnectionFactory> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", factory(firstReplicaConnection));
+        replicas.put("replica-1", factory(secondReplicaConnection));
+        routing = new ReadReplicaRoutingConnectionFactory(factory(primaryConnection), replicas, lagMonitor,
+            meterRegistry);
+        routing.afterPropertiesSet();
+        when(lagMonitor.isAvailable("replica-0")).thenReturn(true);
+        when(lagMonitor.isAvailable("replica-1")).thenReturn(true);
+    }
+
+    @Test
+    void shouldUsePrimaryUnlessReplicaIsAllowed() {
+        assertThat(connection().block()).isSameAs(primaryConnection);
+        assertThat(ReadReplicaRouting.allowReplica(connection()).block()).isIn(firstReplicaConnection,
+            secondReplicaConnection);
+        assertThat(ReadReplicaRouting.allowReplica(ReadReplicaRouting.onPrimary(connection())).block())
+            .isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldUsePrimaryWithinTransaction() {
+        final Mono<Connection> connection = ReadReplicaRouting.allowReplica(connection()
+            .contextWrite(TransactionContextManager.createTransactionContext()));
+
+        assertThat(connection.block()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldBalanceReadsBetweenAvailableReplicas() {
+        final List<Connection> connections = ReadReplicaRouting
+            .allowReplica(Flux.range(0, 4).concatMap(i -> connection()))
+            .collectList()
+            .block();
+
+        assertThat(connections).containsExactly(firstReplicaConnection, secondReplicaConnection,
+            firstReplicaConnection, secondReplicaConnection);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryIfReplicasAreUnavailable() {
+        when(lagMonitor.isAvailable("replica-0")).thenReturn(false);
+
+        assertThat(ReadReplicaRouting.allowReplica(Flux.range(0, 4).concatMap(i -> connection())).collectList()
+            .block()).containsOnly(secondReplicaConnection);
+
+        when(lagMonitor.isAvailable("replica-1")).thenReturn(false);
+
+        assertThat(ReadReplicaRouting.allowReplica(connection()).block()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldConsiderReplicaAvailableOnlyWithinMaxLag() {
+        final ReplicationLagMonitor monitor = new ReplicationLagMonitor(Map.of("replica-0", factory(null)),
+            Duration.ofSeconds(5), Duration.ofSeconds(5), meterRegistry);
+
+        assertThat(monitor.isAvailable("replica-0")).isFalse();
+        monitor.recordLag("replica-0", 4.5);
+        assertThat(monitor.isAvailable("replica-0")).isTrue();
+        monitor.recordLag("replica-0", 5.5);
+        assertThat(monitor.isAvailable("replica-0")).isFalse();
+        monitor.recordLag("replica-0", Double.NaN);
+        assertThat(monitor.isAvailable("replica-0")).isFalse();
+    }
+
+    private Mono<Connection> connection() {
+        return Mono.from(routing.create());
+    }
+
+    private static ConnectionFactory factory(final Connection connection) {
+        final ConnectionFactory factory = mock(ConnectionFactory.class);
+        doReturn(Mono.justOrEmpty(connection)).when(factory).create();
+        return factory;
+    }
+}
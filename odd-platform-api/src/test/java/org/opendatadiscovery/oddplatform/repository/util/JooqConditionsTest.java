@@ -0,0 +1,38 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.model.Tables.DATA_ENTITY;
+import static org.opendatadiscovery.oddplatform.repository.util.JooqConditions.inArray;
+
+class JooqConditionsTest {
+    private final DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+
+    @Test
+    void shouldRenderSameSqlForAnyNumberOfValues() {
+        final Query single = DSL.selectFrom(DATA_ENTITY).where(inArray(DATA_ENTITY.ID, List.of(1L)));
+        final Query many = DSL.selectFrom(DATA_ENTITY).where(inArray(DATA_ENTITY.ID, List.of(1L, 2L, 3L)));
+        final Query empty = DSL.selectFrom(DATA_ENTITY).where(inArray(DATA_ENTITY.ID, List.of()));
+
+        assertThat(dslContext.render(many))
+            .isEqualTo(dslContext.render(single))
+            .isEqualTo(dslContext.render(empty))
+            .contains("= any (cast(? as bigint[]))");
+        assertThat(dslContext.extractBindValues(many)).hasSize(1);
+        assertThat((Long[]) dslContext.extractBindValues(many).get(0)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldBindTypedArray() {
+        final Query query = DSL.selectFrom(DATA_ENTITY).where(inArray(DATA_ENTITY.ODDRN, List.of("//a", "//b")));
+
+        assertThat(dslContext.render(query)).contains("= any (cast(? as varchar[]))");
+        assertThat(dslContext.extractBindValues(query).get(0)).isInstanceOf(String[].class);
+    }
+}
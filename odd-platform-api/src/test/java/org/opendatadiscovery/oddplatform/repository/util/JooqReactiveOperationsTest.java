@@ -0,0 +1,92 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.BulkWriteProperties;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JooqReactiveOperationsTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldBoundPartitionsInFlight() {
+        final BulkWriteProperties properties = new BulkWriteProperties();
+        properties.setMaxInFlightPartitions(3);
+        final JooqReactiveOperations operations = operations(properties);
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> entities = IntStream.range(0, 100).boxed().toList();
+
+        operations.executeInPartition(entities, 10, partition -> Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(20)).map(ignored -> {
+                inFlight.decrementAndGet();
+                return partition.size();
+            });
+        })).block();
+
+        assertThat(maxInFlight.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("odd.bulk_write.partition.duration").timer().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("odd.bulk_write.partition.rows").summary().totalAmount()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldDeriveInFlightPartitionsFromPoolSize() {
+        final R2dbcProperties r2dbcProperties = new R2dbcProperties();
+        r2dbcProperties.getPool().setMaxSize(8);
+        final JooqReactiveOperations operations =
+            new JooqReactiveOperations(null, new BulkWriteProperties(), r2dbcProperties, meterRegistry);
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        operations.executeInPartitionReturning(IntStream.range(0, 100).boxed().toList(), 1,
+                partition -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(5)).map(ignored -> {
+                        inFlight.decrementAndGet();
+                        return record(partition.get(0));
+                    });
+                }).flux())
+            .collectList()
+            .doOnNext(records -> assertThat(records).extracting(r -> r.get(0, Integer.class))
+                .containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList()))
+            .block();
+
+        assertThat(maxInFlight.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitBatchSizeByBindParameters() {
+        final Field<?>[] fields = IntStream.range(0, 100)
+            .mapToObj(i -> DSL.field("f" + i, SQLDataType.INTEGER))
+            .toArray(Field[]::new);
+        final Record record = DSL.using(SQLDialect.POSTGRES).newRecord(fields);
+
+        assertThat(operations(new BulkWriteProperties()).batchSize(List.of(record))).isEqualTo(655);
+    }
+
+    private JooqReactiveOperations operations(final BulkWriteProperties properties) {
+        return new JooqReactiveOperations(null, properties, new R2dbcProperties(), meterRegistry);
+    }
+
+    private Record record(final int value) {
+        final Field<Integer> field = DSL.field("value", SQLDataType.INTEGER);
+        final Record record = DSL.using(SQLDialect.POSTGRES).newRecord(field);
+        record.set(field, value);
+        return record;
+    }
+}
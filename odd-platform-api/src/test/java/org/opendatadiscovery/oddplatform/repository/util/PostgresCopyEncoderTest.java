@@ -0,0 +1,60 @@
+package org.opendatadiscovery.oddplatform.repository.util;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresCopyEncoderTest {
+    private static final Field<Long> ID = DSL.field("id", SQLDataType.BIGINT);
+    private static final Field<String> NAME = DSL.field("name", SQLDataType.VARCHAR);
+    private static final Field<Boolean> FLAG = DSL.field("flag", SQLDataType.BOOLEAN);
+    private static final Field<JSONB> DATA = DSL.field("data", SQLDataType.JSONB);
+    private static final Field<LocalDateTime> CREATED_AT = DSL.field("created_at", SQLDataType.LOCALDATETIME);
+    private static final Field<String[]> TAGS = DSL.field("tags", SQLDataType.VARCHAR.getArrayDataType());
+    private static final List<Field<?>> FIELDS = List.of(ID, NAME, FLAG, DATA, CREATED_AT, TAGS);
+
+    @Test
+    void shouldEncodeValues() {
+        final Record record = record(1L, "name", true, JSONB.jsonb("{\"a\": 1}"),
+            LocalDateTime.of(2023, 1, 2, 3, 4, 5), new String[] {"a", "b c"});
+
+        assertThat(PostgresCopyEncoder.encodeRow(record, FIELDS))
+            .isEqualTo("1\tname\tt\t{\"a\": 1}\t2023-01-02T03:04:05\t{\"a\",\"b c\"}\n");
+    }
+
+    @Test
+    void shouldEncodeNulls() {
+        final Record record = record(null, null, null, null, null, new String[] {null});
+
+        assertThat(PostgresCopyEncoder.encodeRow(record, FIELDS)).isEqualTo("\\N\t\\N\t\\N\t\\N\t\\N\t{NULL}\n");
+    }
+
+    @Test
+    void shouldEscapeSpecialCharacters() {
+        final Record record = record(1L, "a\tb\nc\\d\re", false, JSONB.jsonb("{\"a\": \"\\n\"}"), null,
+            new String[] {"q\"uote", "back\\slash"});
+
+        assertThat(PostgresCopyEncoder.encodeRow(record, FIELDS))
+            .isEqualTo("1\ta\\tb\\nc\\\\d\\re\tf\t{\"a\": \"\\\\n\"}\t\\N\t{\"q\\\\\"uote\",\"back\\\\\\\\slash\"}\n");
+    }
+
+    private Record record(final Long id, final String name, final Boolean flag, final JSONB data,
+                          final LocalDateTime createdAt, final String[] tags) {
+        final Record record = DSL.using(SQLDialect.POSTGRES).newRecord(ID, NAME, FLAG, DATA, CREATED_AT, TAGS);
+        record.set(ID, id);
+        record.set(NAME, name);
+        record.set(FLAG, flag);
+        record.set(DATA, data);
+        record.set(CREATED_AT, createdAt);
+        record.set(TAGS, tags);
+        return record;
+    }
+}
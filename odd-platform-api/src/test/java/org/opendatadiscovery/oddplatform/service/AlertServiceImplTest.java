@@ -0,0 +1,163 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.api.contract.model.Alert;
+import org.opendatadiscovery.oddplatform.api.contract.model.AlertStatus;
+import org.opendatadiscovery.oddplatform.auth.AuthIdentityProvider;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertDto;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertStatusEnum;
+import org.opendatadiscovery.oddplatform.dto.alert.AlertTypeEnum;
+import org.opendatadiscovery.oddplatform.mapper.AlertMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertChunkPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.AlertPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveAlertRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.service.activity.ActivityService;
+import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertAction;
+import org.opendatadiscovery.oddplatform.service.ingestion.alert.AlertAction.AlertUniqueConstraint;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Alert service unit tests")
+class AlertServiceImplTest {
+    private static final long ALERT_ID = 1L;
+    private static final String FIRST_ODDRN = "//postgresql/host/db/tables/first";
+    private static final String SECOND_ODDRN = "//postgresql/host/db/tables/second";
+
+    private AlertService alertService;
+
+    @Mock
+    private ReactiveAlertRepository alertRepository;
+    @Mock
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Mock
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    @Mock
+    private AlertMapper alertMapper;
+    @Mock
+    private AuthIdentityProvider authIdentityProvider;
+    @Mock
+    private ActivityService activityService;
+
+    @BeforeEach
+    void setUp() {
+        alertService = new AlertServiceImpl(alertRepository, dataEntityRepository, dataEntitySummaryRepository,
+            alertMapper, authIdentityProvider, activityService);
+    }
+
+    @Test
+    @DisplayName("Resolves an open alert, expecting the open alerts counter to be decremented")
+    void resolveOpenAlertTest() {
+        mockStatusUpdate(AlertStatusEnum.OPEN, AlertStatusEnum.RESOLVED);
+
+        alertService.updateStatus(ALERT_ID, AlertStatus.RESOLVED)
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(dataEntitySummaryRepository).addOpenAlerts(Map.of(FIRST_ODDRN, -1));
+    }
+
+    @Test
+    @DisplayName("Reopens a resolved alert, expecting the open alerts counter to be incremented")
+    void reopenResolvedAlertTest() {
+        mockStatusUpdate(AlertStatusEnum.RESOLVED, AlertStatusEnum.OPEN);
+        when(alertRepository.openAlertWithTheSameTypeExistsForDataEntity(ALERT_ID)).thenReturn(Mono.just(false));
+
+        alertService.updateStatus(ALERT_ID, AlertStatus.OPEN)
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(dataEntitySummaryRepository).addOpenAlerts(Map.of(FIRST_ODDRN, 1));
+    }
+
+    @Test
+    @DisplayName("Resolves an already resolved alert, expecting the open alerts counter to be unchanged")
+    void resolveResolvedAlertTest() {
+        mockStatusUpdate(AlertStatusEnum.RESOLVED_AUTOMATICALLY, AlertStatusEnum.RESOLVED);
+
+        alertService.updateStatus(ALERT_ID, AlertStatus.RESOLVED)
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(dataEntitySummaryRepository).addOpenAlerts(Map.of(FIRST_ODDRN, 0));
+    }
+
+    @Test
+    @DisplayName("Applies alert actions, expecting counters to follow created and actually resolved alerts")
+    void applyAlertActionsTest() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<AlertPojo> newAlerts = List.of(
+            new AlertUniqueConstraint(FIRST_ODDRN, AlertTypeEnum.FAILED_JOB.getCode(), null).toOpenAlert(now),
+            new AlertUniqueConstraint(FIRST_ODDRN, AlertTypeEnum.FAILED_DQ_TEST.getCode(), null).toOpenAlert(now),
+            new AlertUniqueConstraint(SECOND_ODDRN, AlertTypeEnum.FAILED_JOB.getCode(), null).toOpenAlert(now)
+        );
+        final List<AlertAction> actions = new ArrayList<>(newAlerts.stream()
+            .<AlertAction>map(alert -> new AlertAction.CreateAlertAction(alert,
+                Map.of(AlertUniqueConstraint.fromAlert(alert), List.of(new AlertChunkPojo().setCreatedAt(now)))))
+            .toList());
+        actions.add(new AlertAction.ResolveAutomaticallyAlertAction(10L));
+        actions.add(new AlertAction.ResolveAutomaticallyAlertAction(11L));
+
+        long id = 100L;
+        final List<AlertPojo> createdAlerts = new ArrayList<>();
+        for (final AlertPojo alert : newAlerts) {
+            createdAlerts.add(new AlertPojo(alert).setId(id++));
+        }
+        when(alertRepository.createAlerts(newAlerts)).thenReturn(Flux.fromIterable(createdAlerts));
+        when(alertRepository.createChunks(anyList())).thenReturn(Mono.empty());
+        when(alertRepository.get(anyList())).thenReturn(Mono.just(List.of()));
+        when(alertRepository.setLastCreatedAt(anyMap())).thenReturn(Mono.empty());
+        // alert 11 has already been resolved, so only alert 10 is returned by the update
+        when(alertRepository.resolveAutomatically(List.of(10L, 11L))).thenReturn(Flux.just(new AlertPojo()
+            .setId(10L)
+            .setDataEntityOddrn(SECOND_ODDRN)
+            .setType(AlertTypeEnum.FAILED_JOB.getCode())
+            .setStatus(AlertStatusEnum.RESOLVED_AUTOMATICALLY.getCode())));
+        when(activityService.createActivityEvents(anyList())).thenReturn(Mono.empty());
+        when(dataEntitySummaryRepository.addOpenAlerts(anyMap())).thenReturn(Mono.just(1));
+
+        alertService.applyAlertActions(actions)
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        verify(dataEntitySummaryRepository).addOpenAlerts(Map.of(FIRST_ODDRN, 2, SECOND_ODDRN, 1));
+        verify(dataEntitySummaryRepository).addOpenAlerts(Map.of(SECOND_ODDRN, -1));
+    }
+
+    private void mockStatusUpdate(final AlertStatusEnum previous, final AlertStatusEnum updated) {
+        final AlertPojo alert = new AlertPojo()
+            .setId(ALERT_ID)
+            .setDataEntityOddrn(FIRST_ODDRN)
+            .setType(AlertTypeEnum.FAILED_JOB.getCode());
+        when(alertRepository.getForUpdate(ALERT_ID))
+            .thenReturn(Mono.just(new AlertPojo(alert).setStatus(previous.getCode())));
+        when(authIdentityProvider.getCurrentUser()).thenReturn(Mono.empty());
+        when(alertRepository.updateAlertStatus(ALERT_ID, updated, null))
+            .thenReturn(Mono.just(new AlertPojo(alert).setStatus(updated.getCode())));
+        when(dataEntitySummaryRepository.addOpenAlerts(anyMap())).thenReturn(Mono.just(1));
+        final AlertDto dto = new AlertDto(alert, List.of(), null, null);
+        when(alertRepository.get(ALERT_ID)).thenReturn(Mono.just(dto));
+        when(alertMapper.mapAlert(any(AlertDto.class))).thenReturn(new Alert().id(ALERT_ID));
+    }
+}
@@ -1,5 +1,6 @@
 package org.opendatadiscovery.oddplatform.service;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TokenPojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveCollectorRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -46,14 +48,20 @@ public class DataSourceIngestionServiceTest {
     @Mock
     private ReactiveCollectorRepository reactiveCollectorRepository;
 
+    @Mock
+    private ReactiveDataEntityRepository reactiveDataEntityRepository;
+
     private final DataSourceIngestionMapper dataSourceIngestionMapper = new DataSourceIngestionMapperImpl();
 
     private final long collectorId = 1L;
 
     @BeforeEach
     void setUp() {
+        final DirectoryIndex directoryIndex =
+            new DirectoryIndex(reactiveDataSourceRepository, reactiveDataEntityRepository, new OddrnCache(100),
+                Duration.ofMinutes(1));
         dataSourceIngestionService = new DataSourceIngestionServiceImpl(reactiveDataSourceRepository,
-            reactiveCollectorRepository, dataSourceIngestionMapper);
+            reactiveCollectorRepository, dataSourceIngestionMapper, directoryIndex);
     }
 
     @Test
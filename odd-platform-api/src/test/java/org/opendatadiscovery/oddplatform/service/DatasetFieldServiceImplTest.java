@@ -0,0 +1,202 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.dto.LabelOrigin;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetStatistics;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DatasetStatisticsList;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.StringFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.Tag;
+import org.opendatadiscovery.oddplatform.mapper.DatasetFieldApiMapper;
+import org.opendatadiscovery.oddplatform.mapper.EnumValueMapper;
+import org.opendatadiscovery.oddplatform.mapper.LabelMapper;
+import org.opendatadiscovery.oddplatform.mapper.TermMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LabelToDatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveEnumValueRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLabelRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.opendatadiscovery.oddplatform.service.term.TermService;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetFieldServiceImplTest {
+    private DatasetFieldServiceImpl datasetFieldService;
+
+    @Mock
+    private ReactiveLabelService labelService;
+    @Mock
+    private DataEntityFilledService dataEntityFilledService;
+    @Mock
+    private TermService termService;
+    @Mock
+    private DatasetFieldInternalInformationService datasetFieldInternalInformationService;
+    @Mock
+    private DatasetVersionHashCalculator datasetVersionHashCalculator;
+    @Mock
+    private ReactiveDatasetFieldRepository datasetFieldRepository;
+    @Mock
+    private ReactiveLabelRepository labelRepository;
+    @Mock
+    private ReactiveSearchEntrypointRepository searchEntrypointRepository;
+    @Mock
+    private ReactiveEnumValueRepository enumValueRepository;
+    @Mock
+    private DatasetFieldApiMapper datasetFieldApiMapper;
+    @Mock
+    private LabelMapper labelMapper;
+    @Mock
+    private EnumValueMapper enumValueMapper;
+    @Mock
+    private TermMapper termMapper;
+
+    @Captor
+    private ArgumentCaptor<List<String>> oddrnsCaptor;
+    @Captor
+    private ArgumentCaptor<List<DatasetFieldPojo>> statisticsCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<LabelToDatasetFieldPojo>> deletedRelationsCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<LabelToDatasetFieldPojo>> createdRelationsCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<String>> datasetOddrnsCaptor;
+
+    private final Map<String, DatasetFieldPojo> existingFields = Map.of(
+        "field1", new DatasetFieldPojo().setId(1L).setOddrn("field1"),
+        "field2", new DatasetFieldPojo().setId(2L).setOddrn("field2"),
+        "field3", new DatasetFieldPojo().setId(3L).setOddrn("field3"),
+        "field4", new DatasetFieldPojo().setId(4L).setOddrn("field4"));
+    private final Map<String, LabelPojo> labels = Map.of(
+        "pii", new LabelPojo().setId(100L).setName("pii"),
+        "finance", new LabelPojo().setId(101L).setName("finance"));
+
+    @BeforeEach
+    void setUp() {
+        datasetFieldService = new DatasetFieldServiceImpl(labelService, dataEntityFilledService, termService,
+            datasetFieldInternalInformationService, datasetVersionHashCalculator, datasetFieldRepository,
+            labelRepository, searchEntrypointRepository, enumValueRepository, datasetFieldApiMapper, labelMapper,
+            enumValueMapper, termMapper);
+        ReflectionTestUtils.setField(datasetFieldService, "statisticsWindowSize", 2);
+    }
+
+    @Test
+    @DisplayName("Ingests statistics in windows, expecting only changed labels to be written and re-vectorised")
+    void updateStatisticsTest() {
+        final List<LabelToDatasetFieldPojo> existingRelations = List.of(
+            relation("pii", 1L),
+            relation("finance", 2L),
+            relation("pii", 4L));
+        when(datasetFieldRepository.getLastVersionDatasetFieldsByOddrns(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<String>>getArgument(0))
+                .filter(existingFields::containsKey)
+                .map(existingFields::get));
+        when(datasetFieldRepository.updateStatistics(anyList())).thenReturn(Mono.empty());
+        when(labelService.getOrCreateLabelsByName(anySet()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<Set<String>>getArgument(0)).map(labels::get));
+        when(labelRepository.listLabelRelations(anyCollection(), eq(LabelOrigin.EXTERNAL_STATISTICS)))
+            .thenAnswer(invocation -> Flux.fromIterable(existingRelations)
+                .filter(r -> invocation.<Collection<Long>>getArgument(0).contains(r.getDatasetFieldId())));
+        when(labelRepository.deleteRelations(anyCollection()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+        when(labelRepository.createRelations(anyCollection()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+        when(searchEntrypointRepository.updateStructureVectorForDataEntitiesByOddrns(anyCollection()))
+            .thenReturn(Mono.just(2));
+
+        datasetFieldService.updateStatistics(new DatasetStatisticsList().items(List.of(
+            // the first window: the finance label moves from the second field to the third one
+            statistics("dataset1", Map.of("field1", stat("pii"), "field2", stat())),
+            statistics("dataset2", Map.of("field3", stat("finance"))),
+            // the second window: labels are the same, and statistics of a missing field are skipped
+            statistics("dataset3", Map.of("field4", stat("pii"), "missing", stat("pii")))))).block();
+
+        verify(datasetFieldRepository, times(2)).getLastVersionDatasetFieldsByOddrns(oddrnsCaptor.capture());
+        assertThat(oddrnsCaptor.getAllValues().get(0)).containsExactlyInAnyOrder("field1", "field2", "field3");
+        assertThat(oddrnsCaptor.getAllValues().get(1)).containsExactlyInAnyOrder("field4", "missing");
+
+        verify(datasetFieldRepository, times(2)).updateStatistics(statisticsCaptor.capture());
+        assertThat(statisticsCaptor.getAllValues().get(0))
+            .extracting(DatasetFieldPojo::getId)
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(statisticsCaptor.getAllValues().get(1))
+            .singleElement()
+            .satisfies(field -> {
+                assertThat(field.getId()).isEqualTo(4L);
+                assertThat(field.getStats().data()).contains("string_stats");
+                assertThat(field.getStatsBinary()).isNotEmpty();
+            });
+
+        verify(labelRepository, times(2)).deleteRelations(deletedRelationsCaptor.capture());
+        verify(labelRepository, times(2)).createRelations(createdRelationsCaptor.capture());
+        assertThat(deletedRelationsCaptor.getAllValues().get(0)).containsExactly(relation("finance", 2L));
+        assertThat(createdRelationsCaptor.getAllValues().get(0)).containsExactly(relation("finance", 3L));
+        assertThat(deletedRelationsCaptor.getAllValues().get(1)).isEmpty();
+        assertThat(createdRelationsCaptor.getAllValues().get(1)).isEmpty();
+
+        verify(searchEntrypointRepository).updateStructureVectorForDataEntitiesByOddrns(datasetOddrnsCaptor.capture());
+        assertThat(datasetOddrnsCaptor.getValue()).containsExactlyInAnyOrder("dataset1", "dataset2");
+    }
+
+    @Test
+    @DisplayName("Ingests statistics without label changes, expecting no datasets to be re-vectorised")
+    void updateStatisticsWithoutLabelChangesTest() {
+        when(datasetFieldRepository.getLastVersionDatasetFieldsByOddrns(anyList()))
+            .thenReturn(Flux.just(existingFields.get("field1")));
+        when(datasetFieldRepository.updateStatistics(anyList())).thenReturn(Mono.empty());
+        when(labelService.getOrCreateLabelsByName(anySet())).thenReturn(Flux.empty());
+        when(labelRepository.listLabelRelations(anyCollection(), eq(LabelOrigin.EXTERNAL_STATISTICS)))
+            .thenReturn(Flux.empty());
+        when(labelRepository.deleteRelations(anyCollection())).thenReturn(Flux.empty());
+        when(labelRepository.createRelations(anyCollection())).thenReturn(Flux.empty());
+
+        datasetFieldService.updateStatistics(new DatasetStatisticsList().items(List.of(
+            statistics("dataset1", Map.of("field1", stat()))))).block();
+
+        verify(datasetFieldRepository).updateStatistics(anyList());
+        verify(searchEntrypointRepository, never()).updateStructureVectorForDataEntitiesByOddrns(anyCollection());
+    }
+
+    private DataSetStatistics statistics(final String datasetOddrn, final Map<String, DataSetFieldStat> fields) {
+        return new DataSetStatistics().datasetOddrn(datasetOddrn).fields(fields);
+    }
+
+    private DataSetFieldStat stat(final String... tags) {
+        return new DataSetFieldStat()
+            .stringStats(new StringFieldStat().maxLength(10).nullsCount(1L))
+            .tags(Arrays.stream(tags).map(tag -> new Tag().name(tag)).toList());
+    }
+
+    private LabelToDatasetFieldPojo relation(final String label, final long datasetFieldId) {
+        return new LabelToDatasetFieldPojo()
+            .setLabelId(labels.get(label).getId())
+            .setDatasetFieldId(datasetFieldId)
+            .setOrigin(LabelOrigin.EXTERNAL_STATISTICS.toString());
+    }
+}
@@ -0,0 +1,89 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.api.contract.model.DataSetFieldList;
+import org.opendatadiscovery.oddplatform.dto.DatasetFieldDto;
+import org.opendatadiscovery.oddplatform.exception.NotFoundException;
+import org.opendatadiscovery.oddplatform.mapper.DatasetFieldApiMapper;
+import org.opendatadiscovery.oddplatform.mapper.DatasetVersionMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetVersionRepository;
+import org.opendatadiscovery.oddplatform.service.ingestion.DatasetVersionHashCalculator;
+import org.opendatadiscovery.oddplatform.utils.Page;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetVersionServiceImplTest {
+    private static final long DATASET_ID = 1L;
+    private static final long VERSION_ID = 10L;
+
+    private DatasetVersionService datasetVersionService;
+
+    @Mock
+    private ReactiveDatasetVersionRepository datasetVersionRepository;
+    @Mock
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Mock
+    private DatasetVersionMapper datasetVersionMapper;
+    @Mock
+    private DatasetFieldApiMapper datasetFieldApiMapper;
+    @Mock
+    private DatasetVersionHashCalculator datasetVersionHashCalculator;
+    @Mock
+    private DatasetFieldService datasetFieldService;
+
+    @BeforeEach
+    void setUp() {
+        datasetVersionService = new DatasetVersionServiceImpl(datasetVersionRepository, dataEntityRepository,
+            datasetVersionMapper, datasetFieldApiMapper, datasetVersionHashCalculator, datasetFieldService);
+    }
+
+    @Test
+    @DisplayName("Gets fields of a version of the requested dataset, expecting the page to be mapped")
+    void getDatasetVersionFieldsTest() {
+        final Page<DatasetFieldDto> page = Page.<DatasetFieldDto>builder().data(List.of()).total(0).build();
+        final DataSetFieldList fields = new DataSetFieldList().items(List.of());
+        when(datasetVersionRepository.get(VERSION_ID))
+            .thenReturn(Mono.just(new DatasetVersionPojo().setId(VERSION_ID).setDatasetOddrn("dataset")));
+        when(dataEntityRepository.get(DATASET_ID))
+            .thenReturn(Mono.just(new DataEntityPojo().setId(DATASET_ID).setOddrn("dataset")));
+        when(datasetVersionRepository.getDatasetVersionFieldsPage(VERSION_ID, null, null, null, 10))
+            .thenReturn(Mono.just(page));
+        when(datasetFieldApiMapper.mapDtoPage(page)).thenReturn(fields);
+
+        datasetVersionService.getDatasetVersionFields(DATASET_ID, VERSION_ID, null, null, null, 10, false)
+            .as(StepVerifier::create)
+            .expectNext(fields)
+            .verifyComplete();
+        verifyNoInteractions(datasetFieldService);
+    }
+
+    @Test
+    @DisplayName("Gets fields of a version of another dataset, expecting the version not to be found")
+    void getDatasetVersionFieldsOfAnotherDatasetTest() {
+        when(datasetVersionRepository.get(VERSION_ID))
+            .thenReturn(Mono.just(new DatasetVersionPojo().setId(VERSION_ID).setDatasetOddrn("another_dataset")));
+        when(dataEntityRepository.get(DATASET_ID))
+            .thenReturn(Mono.just(new DataEntityPojo().setId(DATASET_ID).setOddrn("dataset")));
+
+        datasetVersionService.getDatasetVersionFields(DATASET_ID, VERSION_ID, null, null, null, 10, false)
+            .as(StepVerifier::create)
+            .verifyError(NotFoundException.class);
+        verify(datasetVersionRepository).get(VERSION_ID);
+        verifyNoMoreInteractions(datasetVersionRepository);
+    }
+}
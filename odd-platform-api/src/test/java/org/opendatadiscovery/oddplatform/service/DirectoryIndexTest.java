@@ -0,0 +1,108 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryIndexTest {
+    private static final DataSourcePojo FIRST_POSTGRES =
+        new DataSourcePojo().setId(1L).setOddrn("//postgresql/host/1.2.3.4/databases/first");
+    private static final DataSourcePojo SECOND_POSTGRES =
+        new DataSourcePojo().setId(2L).setOddrn("//postgresql/host/1.2.3.4/databases/second");
+    private static final DataSourcePojo UNKNOWN = new DataSourcePojo().setId(3L).setOddrn("//unknown/odd");
+
+    @Mock
+    private ReactiveDataSourceRepository dataSourceRepository;
+
+    @Mock
+    private ReactiveDataEntityRepository dataEntityRepository;
+
+    private DirectoryIndex directoryIndex;
+
+    @BeforeEach
+    void setUp() {
+        directoryIndex = new DirectoryIndex(dataSourceRepository, dataEntityRepository, new OddrnCache(100),
+            Duration.ofMinutes(1));
+        when(dataSourceRepository.list()).thenReturn(Flux.just(FIRST_POSTGRES, SECOND_POSTGRES, UNKNOWN));
+        when(dataEntityRepository.getTypeCountByDataSources(List.of())).thenReturn(Mono.just(Map.of(
+            1L, Map.of(1, 5L, 11, 2L),
+            3L, Map.of(5, 1L)
+        )));
+    }
+
+    @Test
+    @DisplayName("Builds the index once, grouping data sources by oddrn prefix")
+    void buildsIndexOnce() {
+        directoryIndex.get()
+            .as(StepVerifier::create)
+            .assertNext(index -> {
+                assertThat(index.getDataSourcesByPrefix()).containsOnlyKeys("//postgresql", "other");
+                assertThat(index.getDataSourcesByPrefix().get("//postgresql"))
+                    .allSatisfy(entry -> assertThat(entry.name()).isEqualTo("Postgresql"))
+                    .extracting(DirectoryIndex.DataSourceEntry::dataSource)
+                    .containsExactly(FIRST_POSTGRES, SECOND_POSTGRES);
+                assertThat(index.getDataSourcesByPrefix().get("//postgresql").get(0).oddrnProperties())
+                    .containsEntry("host", "1.2.3.4")
+                    .containsEntry("database", "first");
+                assertThat(index.getEntitiesCount(index.getDataSourcesByPrefix().get("//postgresql"))).isEqualTo(7);
+                assertThat(index.getEntitiesCount(2L)).isZero();
+                assertThat(index.getEntityTypeIds(1L)).containsExactlyInAnyOrder(1, 11);
+            })
+            .verifyComplete();
+
+        directoryIndex.get().as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+        verify(dataSourceRepository, times(1)).list();
+        verify(dataEntityRepository, times(1)).getTypeCountByDataSources(List.of());
+    }
+
+    @Test
+    @DisplayName("Recounts only data sources with stale counts")
+    void recountsStaleDataSources() {
+        when(dataEntityRepository.getTypeCountByDataSources(List.of(2L)))
+            .thenReturn(Mono.just(Map.of(2L, Map.of(1, 4L))));
+
+        directoryIndex.get().block();
+        directoryIndex.invalidateCountsAfterCommit(2L).block();
+
+        directoryIndex.get()
+            .as(StepVerifier::create)
+            .assertNext(index -> {
+                assertThat(index.getEntitiesCount(1L)).isEqualTo(7);
+                assertThat(index.getEntitiesCount(2L)).isEqualTo(4);
+            })
+            .verifyComplete();
+
+        verify(dataSourceRepository, times(1)).list();
+        verify(dataEntityRepository, times(1)).getTypeCountByDataSources(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Rebuilds the index after data sources change")
+    void rebuildsInvalidatedIndex() {
+        directoryIndex.get().block();
+        directoryIndex.invalidateAfterCommit().block();
+        directoryIndex.get().block();
+
+        verify(dataSourceRepository, times(2)).list();
+        verify(dataEntityRepository, times(2)).getTypeCountByDataSources(List.of());
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineageEdge;
 import org.opendatadiscovery.oddplatform.api.contract.model.DataEntityLineageNode;
 import org.opendatadiscovery.oddplatform.dto.DataEntityDimensionsDto;
+import org.opendatadiscovery.oddplatform.dto.lineage.LineageDiffDto;
 import org.opendatadiscovery.oddplatform.dto.lineage.LineageStreamKind;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityMapperImpl;
 import org.opendatadiscovery.oddplatform.mapper.DataEntityRunMapperImpl;
@@ -120,8 +121,9 @@ class LineageServiceTest {
             .setEntityClassIds(new Integer[] {1});
         final var firstChildEntity = new DataEntityPojo().setId(2L).setOddrn(firstChildEntityOddrn);
         final var secondChildEntity = new DataEntityPojo().setId(3L).setOddrn(secondChildEntityOddrn);
-        final var rootToFirstEntityLineage = new LineagePojo(rootEntityOddrn, firstChildEntityOddrn, null);
-        final var rootToSecondEntityLineage = new LineagePojo(rootEntityOddrn, secondChildEntityOddrn, null);
+        final var rootToFirstEntityLineage = new LineagePojo(rootEntityOddrn, firstChildEntityOddrn, null, null, null);
+        final var rootToSecondEntityLineage =
+            new LineagePojo(rootEntityOddrn, secondChildEntityOddrn, null, null, null);
         final var dto = DataEntityDimensionsDto.dimensionsBuilder()
             .dataEntity(rootEntity).build();
 
@@ -154,4 +156,23 @@ class LineageServiceTest {
             )
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void replaceLineagePathsTest() {
+        final var keptLineage = new LineagePojo("parent", "kept", "establisher", null, null);
+        final var removedLineage = new LineagePojo("parent", "removed", "establisher", null, null);
+        final var addedLineage = new LineagePojo("parent", "added", "establisher", null, null);
+
+        when(lineageRepository.getLineagesByEstablisherOddrnForUpdate(eq(Set.of("establisher"))))
+            .thenReturn(Flux.just(keptLineage, removedLineage));
+        when(lineageRepository.batchDeleteLineages(eq(List.of(removedLineage))))
+            .thenReturn(Flux.just(removedLineage));
+        when(lineageRepository.batchInsertLineages(eq(List.of(addedLineage))))
+            .thenReturn(Flux.just(addedLineage));
+
+        lineageService.replaceLineagePaths(List.of(keptLineage, addedLineage))
+            .as(StepVerifier::create)
+            .expectNext(new LineageDiffDto(1, 1))
+            .verifyComplete();
+    }
+}
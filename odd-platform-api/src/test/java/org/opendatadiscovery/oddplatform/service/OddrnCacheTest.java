@@ -0,0 +1,54 @@
+package org.opendatadiscovery.oddplatform.service;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddrn.model.OddrnPath;
+import org.opendatadiscovery.oddrn.model.PostgreSqlPath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OddrnCacheTest {
+    private static final String ODDRN = "//postgresql/host/localhost/databases/postgres";
+
+    private final OddrnCache oddrnCache = new OddrnCache(100);
+
+    @Test
+    @DisplayName("Parses an oddrn once and returns the cached path afterwards")
+    void parsesOnce() {
+        final OddrnPath path = oddrnCache.parse(ODDRN).orElseThrow();
+
+        assertThat(path).isInstanceOf(PostgreSqlPath.class);
+        assertThat(oddrnCache.parse(new String(ODDRN))).containsSame(path);
+    }
+
+    @Test
+    @DisplayName("Returns an empty path for an oddrn which can't be parsed")
+    void parsesUnknownOddrn() {
+        assertThat(oddrnCache.parse("//unknown/oddrn")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Interns equal oddrns into the same instance")
+    void interns() {
+        final String first = oddrnCache.intern(new String(ODDRN));
+        final String second = new String(ODDRN);
+
+        assertThat(oddrnCache.intern(second)).isSameAs(first);
+        assertThat(oddrnCache.intern(List.of(second, new String(ODDRN))))
+            .allSatisfy(oddrn -> assertThat(oddrn).isSameAs(first));
+        assertThat(oddrnCache.intern((String) null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Interns equal oddrns from concurrent threads into the same instance")
+    void internsConcurrently() {
+        final List<String> interned = IntStream.range(0, 1000)
+            .parallel()
+            .mapToObj(i -> oddrnCache.intern(new String(ODDRN)))
+            .toList();
+
+        assertThat(interned).allSatisfy(oddrn -> assertThat(oddrn).isSameAs(interned.get(0)));
+    }
+}
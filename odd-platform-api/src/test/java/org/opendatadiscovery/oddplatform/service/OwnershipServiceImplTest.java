@@ -20,6 +20,7 @@ import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnerPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.OwnershipPojo;
 import org.opendatadiscovery.oddplatform.model.tables.pojos.TitlePojo;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveGroupEntityRelationRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveOwnershipRepository;
 import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveSearchEntrypointRepository;
@@ -64,11 +65,14 @@ class OwnershipServiceImplTest {
     private ReactiveDataEntityRepository dataEntityRepository;
     @Mock
     private ReactiveGroupEntityRelationRepository groupEntityRelationRepository;
+    @Mock
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
 
     @BeforeEach
     void setUp() {
         ownershipService = new OwnershipServiceImpl(dataEntityRepository, groupEntityRelationRepository, titleService,
-            ownerService, ownershipRepository, searchEntrypointRepository, dataEntityFilledService, ownershipMapper);
+            ownerService, ownershipRepository, searchEntrypointRepository, dataEntitySummaryRepository,
+            dataEntityFilledService, ownershipMapper);
     }
 
     @Test
@@ -92,6 +96,7 @@ class OwnershipServiceImplTest {
         when(titleService.getOrCreate(anyString())).thenReturn(Mono.just(title));
         when(ownershipRepository.create(any(OwnershipPojo.class))).thenReturn(Mono.just(ownershipPojo));
         when(searchEntrypointRepository.updateChangedOwnershipVectors(anyLong())).thenReturn(Mono.just(1));
+        when(dataEntitySummaryRepository.refresh(anyLong())).thenReturn(Mono.just(1));
         when(ownershipMapper.mapDto(any(OwnershipDto.class))).thenReturn(ownership);
         when(dataEntityFilledService.markEntityFilled(anyLong(), any()))
             .thenReturn(Mono.just(new DataEntityFilledPojo()));
@@ -113,6 +118,7 @@ class OwnershipServiceImplTest {
         verify(ownershipRepository, times(1)).create(any(OwnershipPojo.class));
         verify(searchEntrypointRepository, times(1))
             .updateChangedOwnershipVectors(testOwnershipId);
+        verify(dataEntitySummaryRepository, only()).refresh(1L);
         verify(ownershipMapper, only()).mapDto(any(OwnershipDto.class));
     }
 
@@ -129,6 +135,7 @@ class OwnershipServiceImplTest {
         ownershipUpdateFormData.setTitleName(testTitleName);
         final OwnershipPojo testOwnershipPojo = new OwnershipPojo();
         testOwnershipPojo.setId(testOwnershipId);
+        testOwnershipPojo.setDataEntityId(1L);
         final OwnerPojo owner = createTestOwner(testOwnerId, testOwnerName);
         final TitlePojo title = createTestTitle(testTitleId, testTitleName);
         final Ownership ownership = createTestOwnership(testOwnershipId, owner, title);
@@ -139,6 +146,7 @@ class OwnershipServiceImplTest {
         when(titleService.getOrCreate(any(String.class))).thenReturn(Mono.just(titlePojo));
         when(ownershipRepository.updateTitle(testOwnershipId, testTitleId)).thenReturn(Mono.just(testOwnershipPojo));
         when(searchEntrypointRepository.updateChangedOwnershipVectors(anyLong())).thenReturn(Mono.just(1));
+        when(dataEntitySummaryRepository.refresh(anyLong())).thenReturn(Mono.just(1));
         when(ownershipMapper.mapDto(any(OwnershipDto.class))).thenReturn(ownership);
 
         final Mono<Ownership> actualOwnershipMono = ownershipService.update(testOwnershipId, ownershipUpdateFormData);
@@ -157,6 +165,7 @@ class OwnershipServiceImplTest {
         verify(ownershipRepository, times(2)).get(testOwnershipId);
         verify(searchEntrypointRepository, times(1))
             .updateChangedOwnershipVectors(testOwnershipId);
+        verify(dataEntitySummaryRepository, only()).refresh(1L);
         verify(ownershipMapper, only()).mapDto(any(OwnershipDto.class));
         verify(titleService, only()).getOrCreate(any(String.class));
     }
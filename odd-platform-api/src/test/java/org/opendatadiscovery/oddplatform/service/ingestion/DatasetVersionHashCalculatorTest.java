@@ -0,0 +1,100 @@
+package org.opendatadiscovery.oddplatform.service.ingestion;
+
+import java.util.List;
+import java.util.Map;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetField;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldEnumValue;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldType;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.utils.JSONSerDeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DatasetFieldIngestionDto;
+
+class DatasetVersionHashCalculatorTest {
+    private final DatasetVersionHashCalculator calculator = new DatasetVersionHashCalculator();
+
+    @Test
+    void shouldCalculateSameHashForIngestedAndPersistedFields() {
+        final List<DataSetField> fields = List.of(field("//field/b", "INTEGER"), field("//field/a", "STRING"));
+        final List<DatasetFieldPojo> pojos = fields.stream().map(this::toPojo).toList();
+
+        assertThat(calculator.calculateFieldHash(pojos.get(0))).isEqualTo(calculator.calculateFieldHash(fields.get(0)));
+        assertThat(calculator.calculateStructureHashFromPojos(pojos))
+            .isEqualTo(calculator.calculateStructureHash(fields))
+            .isEqualTo(calculator.calculateStructureHash(List.of(fields.get(1), fields.get(0))));
+    }
+
+    @Test
+    void shouldChangeHashWhenFieldTypeChanges() {
+        final DataSetField field = field("//field/a", "STRING");
+        final DataSetField changedField = field("//field/a", "STRING").type(type("INTEGER"));
+
+        assertThat(calculator.calculateFieldHash(field)).isNotEqualTo(calculator.calculateFieldHash(changedField));
+        assertThat(calculator.calculateStructureHash(List.of(field)))
+            .isNotEqualTo(calculator.calculateStructureHash(List.of(changedField)));
+    }
+
+    @Test
+    void shouldUsePersistedFieldHash() {
+        final DatasetFieldPojo pojo = toPojo(field("//field/a", "STRING")).setStructureHash("ab");
+
+        assertThat(calculator.calculateFieldHash(pojo)).isEqualTo("ab");
+    }
+
+    @Test
+    void shouldChangeFingerprintWhenIngestedPayloadChanges() {
+        final DatasetFieldPojo pojo = toPojo(field("//field/a", "STRING"));
+        final DataSetFieldEnumValue enumValue = new DataSetFieldEnumValue().name("A").description("a");
+        final String fingerprint = calculator.calculateIngestionFingerprint(
+            new DatasetFieldIngestionDto(pojo, List.of("l2", "l1"), List.of(enumValue), Map.of("key", 1)));
+
+        assertThat(calculator.calculateIngestionFingerprint(
+            new DatasetFieldIngestionDto(pojo, List.of("l1", "l2"), List.of(enumValue), Map.of("key", 1))))
+            .isEqualTo(fingerprint);
+        assertThat(calculator.calculateIngestionFingerprint(
+            new DatasetFieldIngestionDto(pojo, List.of("l1"), List.of(enumValue), Map.of("key", 1))))
+            .isNotEqualTo(fingerprint);
+        assertThat(calculator.calculateIngestionFingerprint(
+            new DatasetFieldIngestionDto(pojo, List.of("l1", "l2"), List.of(), Map.of("key", 1))))
+            .isNotEqualTo(fingerprint);
+        assertThat(calculator.calculateIngestionFingerprint(
+            new DatasetFieldIngestionDto(pojo, List.of("l1", "l2"), List.of(enumValue), Map.of("key", 2))))
+            .isNotEqualTo(fingerprint);
+        assertThat(calculator.calculateIngestionFingerprint(new DatasetFieldIngestionDto(
+            toPojo(field("//field/a", "STRING")).setExternalDescription("description"),
+            List.of("l1", "l2"), List.of(enumValue), Map.of("key", 1))))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void shouldReturnStubHashForEmptyStructure() {
+        assertThat(calculator.calculateStructureHash(List.of())).isEqualTo("0");
+        assertThat(calculator.calculateStructureHashFromPojos(List.of())).isEqualTo("0");
+    }
+
+    private DataSetField field(final String oddrn, final String logicalType) {
+        return new DataSetField()
+            .oddrn(oddrn)
+            .name(oddrn.substring(oddrn.lastIndexOf('/') + 1))
+            .type(type(logicalType))
+            .isPrimaryKey(true);
+    }
+
+    private DataSetFieldType type(final String logicalType) {
+        return new DataSetFieldType()
+            .type(DataSetFieldType.TypeEnum.fromValue("TYPE_" + logicalType))
+            .logicalType(logicalType)
+            .isNullable(false);
+    }
+
+    private DatasetFieldPojo toPojo(final DataSetField field) {
+        return new DatasetFieldPojo()
+            .setOddrn(field.getOddrn())
+            .setName(field.getName())
+            .setType(JSONB.jsonb(JSONSerDeUtils.serializeJson(field.getType())))
+            .setIsPrimaryKey(field.getIsPrimaryKey());
+    }
+}
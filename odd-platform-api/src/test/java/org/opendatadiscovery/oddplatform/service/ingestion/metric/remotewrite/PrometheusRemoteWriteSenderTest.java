@@ -0,0 +1,161 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.metric.remotewrite;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.config.properties.PrometheusRemoteWriteProperties;
+import org.opendatadiscovery.oddplatform.proto.Label;
+import org.opendatadiscovery.oddplatform.proto.Sample;
+import org.opendatadiscovery.oddplatform.proto.TimeSeries;
+import org.opendatadiscovery.oddplatform.proto.WriteRequest;
+import org.xerial.snappy.Snappy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrometheusRemoteWriteSenderTest {
+    private final Queue<WriteRequest> receivedRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failuresToReply = new AtomicInteger();
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+    private final CountDownLatch receiverReleased = new CountDownLatch(1);
+    private volatile boolean holdRequests;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer receiver;
+    private PrometheusRemoteWriteSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        receiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        receiver.createContext("/api/v1/write", exchange -> {
+            final byte[] body = exchange.getRequestBody().readAllBytes();
+            requestReceived.countDown();
+            if (holdRequests) {
+                awaitQuietly(receiverReleased);
+            }
+            if (failuresToReply.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                receivedRequests.add(WriteRequest.parseFrom(Snappy.uncompress(body)));
+                exchange.sendResponseHeaders(204, -1);
+            }
+            exchange.close();
+        });
+        receiver.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiverReleased.countDown();
+        if (sender != null) {
+            sender.shutdown();
+        }
+        receiver.stop(0);
+    }
+
+    @Test
+    void shouldBatchSeriesBySize() {
+        sender = createSender(1000, 10, Duration.ofSeconds(30));
+
+        sender.enqueue(series(25));
+
+        awaitSentSamples(20);
+        assertThat(receivedRequests).hasSize(2)
+            .allSatisfy(request -> assertThat(request.getTimeseriesCount()).isEqualTo(10));
+    }
+
+    @Test
+    void shouldSendIncompleteBatchAfterDeadline() {
+        sender = createSender(1000, 100, Duration.ofMillis(100));
+
+        sender.enqueue(series(7));
+
+        awaitSentSamples(7);
+        assertThat(receivedRequests.stream().mapToInt(WriteRequest::getTimeseriesCount).sum()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRetryOnServerError() {
+        failuresToReply.set(2);
+        sender = createSender(1000, 100, Duration.ofMillis(50));
+
+        sender.enqueue(series(3));
+
+        awaitSentSamples(3);
+        assertThat(receivedRequests).hasSize(1);
+        assertThat(meterRegistry.counter("odd.metrics.remote_write.retries").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropSeriesWhenQueueIsFull() {
+        holdRequests = true;
+        sender = createSender(10, 1, Duration.ofSeconds(30));
+        sender.enqueue(series(1));
+        // the only shard is now blocked on sending, so nothing is taken out of the queue
+        awaitQuietly(requestReceived);
+
+        final int dropped = sender.enqueue(series(15));
+
+        assertThat(dropped).isEqualTo(5);
+        assertThat(sender.queueSize()).isEqualTo(10);
+        assertThat(meterRegistry.counter("odd.metrics.remote_write.samples.dropped", "reason", "queue_full").count())
+            .isEqualTo(5);
+    }
+
+    private PrometheusRemoteWriteSender createSender(final int queueCapacity,
+                                                     final int maxSeriesPerSend,
+                                                     final Duration batchSendDeadline) {
+        final PrometheusRemoteWriteProperties properties = new PrometheusRemoteWriteProperties();
+        properties.setShards(1);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setMaxSeriesPerSend(maxSeriesPerSend);
+        properties.setBatchSendDeadline(batchSendDeadline);
+        properties.setMinBackoff(Duration.ofMillis(10));
+        properties.setSendTimeout(Duration.ofSeconds(5));
+        return new PrometheusRemoteWriteSender("http://localhost:" + receiver.getAddress().getPort(),
+            properties, meterRegistry);
+    }
+
+    private List<TimeSeries> series(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> TimeSeries.newBuilder()
+                .addLabels(Label.newBuilder().setName("__name__").setValue("metric_" + i))
+                .addSamples(Sample.newBuilder().setTimestamp(1_685_000_000_000L + i).setValue(i))
+                .build())
+            .toList();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitSentSamples(final int expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.counter("odd.metrics.remote_write.samples.sent").count() < expected
+            && System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(meterRegistry.counter("odd.metrics.remote_write.samples.sent").count()).isEqualTo(expected);
+    }
+}
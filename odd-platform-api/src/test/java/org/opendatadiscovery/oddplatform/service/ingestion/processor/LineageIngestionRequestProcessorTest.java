@@ -0,0 +1,102 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.processor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.BaseIntegrationTest;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.LineagePojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveLineageRepository;
+import org.opendatadiscovery.oddplatform.service.LineageService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for LineageIngestionRequestProcessor")
+class LineageIngestionRequestProcessorTest extends BaseIntegrationTest {
+    private static final String METRIC_NAME = "odd.ingestion.lineage.edges";
+
+    @Autowired
+    private LineageService lineageService;
+    @Autowired
+    private ReactiveLineageRepository lineageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LineageIngestionRequestProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        processor = new LineageIngestionRequestProcessor(lineageService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Re-ingests lineage of an establisher, expecting only changed edges to be written and recorded")
+    void replaceLineageTest() {
+        final String establisher = RandomStringUtils.randomAlphabetic(10);
+        final String otherEstablisher = RandomStringUtils.randomAlphabetic(10);
+        final LineagePojo kept = lineage(establisher);
+        final LineagePojo removed = lineage(establisher);
+        final LineagePojo otherRemoved = lineage(establisher);
+        final LineagePojo added = lineage(establisher);
+        final LineagePojo foreign = lineage(otherEstablisher);
+
+        processor.process(request(List.of(kept, removed, otherRemoved))).block();
+        processor.process(request(List.of(foreign))).block();
+
+        assertThat(summary("added").count()).isEqualTo(2);
+        assertThat(summary("added").totalAmount()).isEqualTo(4);
+        assertThat(summary("removed").totalAmount()).isZero();
+
+        processor.process(request(List.of(kept, added))).block();
+
+        assertThat(summary("added").count()).isEqualTo(3);
+        assertThat(summary("added").totalAmount()).isEqualTo(5);
+        assertThat(summary("removed").count()).isEqualTo(3);
+        assertThat(summary("removed").totalAmount()).isEqualTo(2);
+        assertThat(summary("removed").max()).isEqualTo(2);
+
+        assertThat(lineageRepository.getLineagesByEstablisherOddrnForUpdate(List.of(establisher, otherEstablisher))
+            .collectList()
+            .block())
+            .containsExactlyInAnyOrder(kept, added, foreign);
+    }
+
+    @Test
+    @DisplayName("Re-ingests unchanged lineage, expecting no edges to be recorded as added or removed")
+    void unchangedLineageTest() {
+        final String establisher = RandomStringUtils.randomAlphabetic(10);
+        final List<LineagePojo> lineage = List.of(lineage(establisher), lineage(establisher));
+
+        processor.process(request(lineage)).block();
+        processor.process(request(lineage)).block();
+
+        assertThat(summary("added").count()).isEqualTo(2);
+        assertThat(summary("added").totalAmount()).isEqualTo(2);
+        assertThat(summary("added").max()).isEqualTo(2);
+        assertThat(summary("removed").totalAmount()).isZero();
+    }
+
+    private DistributionSummary summary(final String change) {
+        return meterRegistry.get(METRIC_NAME).tag("change", change).summary();
+    }
+
+    private IngestionRequest request(final List<LineagePojo> lineage) {
+        return IngestionRequest.builder()
+            .newEntities(List.of())
+            .existingEntities(List.of())
+            .lineageRelations(lineage)
+            .build();
+    }
+
+    private LineagePojo lineage(final String establisher) {
+        return new LineagePojo()
+            .setParentOddrn(RandomStringUtils.randomAlphabetic(10))
+            .setChildOddrn(RandomStringUtils.randomAlphabetic(10))
+            .setEstablisherOddrn(establisher);
+    }
+}
@@ -0,0 +1,240 @@
+package org.opendatadiscovery.oddplatform.service.ingestion.processor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.dto.DataEntityClassDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DataSetIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.DataEntityIngestionDto.DatasetFieldIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.EnrichedDataEntityIngestionDto;
+import org.opendatadiscovery.oddplatform.dto.ingestion.IngestionRequest;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityTermAutoLinkDismissalPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataSourcePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntityRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataSourceRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDatasetFieldRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.TermRelationsRepository;
+import org.opendatadiscovery.oddplatform.service.term.TermNameIndex;
+import org.opendatadiscovery.oddplatform.service.term.TermNameMatcher;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Term auto linking ingestion processor unit tests")
+class TermAutoLinkingIngestionRequestProcessorTest {
+    private static final long DATA_SOURCE_ID = 1L;
+    private static final long NAMESPACE_ID = 2L;
+    private static final long ORDER_TERM_ID = 10L;
+    private static final long STATUS_TERM_ID = 11L;
+    private static final long DATA_ENTITY_ID = 100L;
+    private static final long OTHER_DATA_ENTITY_ID = 101L;
+    private static final long FIELD_ID = 200L;
+    private static final String FIELD_ODDRN = "//postgresql/host/db/tables/orders/columns/status";
+
+    private TermAutoLinkingIngestionRequestProcessor processor;
+
+    @Mock
+    private ReactiveDataSourceRepository dataSourceRepository;
+    @Mock
+    private ReactiveDataEntityRepository dataEntityRepository;
+    @Mock
+    private ReactiveDatasetFieldRepository datasetFieldRepository;
+    @Mock
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    @Mock
+    private TermRelationsRepository termRelationsRepository;
+    @Mock
+    private TermNameIndex termNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        processor = new TermAutoLinkingIngestionRequestProcessor(dataSourceRepository, dataEntityRepository,
+            datasetFieldRepository, dataEntitySummaryRepository, termRelationsRepository, termNameIndex);
+    }
+
+    @Test
+    @DisplayName("Doesn't register the processor unless auto linking is enabled")
+    void disabledTest() {
+        final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withBean(ReactiveDataSourceRepository.class, () -> mock(ReactiveDataSourceRepository.class))
+            .withBean(ReactiveDataEntityRepository.class, () -> mock(ReactiveDataEntityRepository.class))
+            .withBean(ReactiveDatasetFieldRepository.class, () -> mock(ReactiveDatasetFieldRepository.class))
+            .withBean(ReactiveDataEntitySummaryRepository.class, () -> mock(ReactiveDataEntitySummaryRepository.class))
+            .withBean(TermRelationsRepository.class, () -> mock(TermRelationsRepository.class))
+            .withBean(TermNameIndex.class, () -> mock(TermNameIndex.class))
+            .withUserConfiguration(TermAutoLinkingIngestionRequestProcessor.class);
+
+        runner.run(context -> assertThat(context).doesNotHaveBean(TermAutoLinkingIngestionRequestProcessor.class));
+        runner.withPropertyValues("odd.terms.auto-linking.enabled=false")
+            .run(context -> assertThat(context).doesNotHaveBean(TermAutoLinkingIngestionRequestProcessor.class));
+        runner.withPropertyValues("odd.terms.auto-linking.enabled=true")
+            .run(context -> assertThat(context).hasSingleBean(TermAutoLinkingIngestionRequestProcessor.class));
+    }
+
+    @Test
+    @DisplayName("Matches no terms, expecting no auto links to be created")
+    void noMatchesTest() {
+        mockMatcher();
+        mockDataEntities(new DataEntityPojo().setId(DATA_ENTITY_ID).setExternalDescription("Nothing to link"));
+        mockDeletions(List.of());
+        when(dataEntitySummaryRepository.refresh(anyCollection())).thenReturn(Mono.just(0));
+
+        processor.process(request(List.of(DATA_ENTITY_ID), null))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        verify(termRelationsRepository).deleteDataEntityDescriptionLinksExcept(List.of(DATA_ENTITY_ID), true,
+            List.of());
+        verify(termRelationsRepository).createRelationsWithDataEntity(List.of());
+        verify(dataEntitySummaryRepository).refresh(Set.of());
+    }
+
+    @Test
+    @DisplayName("Links mentioned terms with data entities and dataset fields, skipping dismissed auto links")
+    void matchesTest() {
+        mockMatcher();
+        mockDataEntities(
+            new DataEntityPojo().setId(DATA_ENTITY_ID)
+                .setExternalDescription("Orders of the shop")
+                .setInternalDescription("Each order has a STATUS"),
+            new DataEntityPojo().setId(OTHER_DATA_ENTITY_ID).setExternalDescription("Order and status"));
+        when(termRelationsRepository.getDataEntityAutoLinkDismissals(List.of(DATA_ENTITY_ID, OTHER_DATA_ENTITY_ID)))
+            .thenReturn(Flux.just(new DataEntityTermAutoLinkDismissalPojo()
+                .setDataEntityId(OTHER_DATA_ENTITY_ID)
+                .setTermId(STATUS_TERM_ID)));
+        when(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(anyList(), eq(true), anyList()))
+            .thenReturn(Flux.empty());
+        when(termRelationsRepository.createRelationsWithDataEntity(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<DataEntityToTermPojo>>getArgument(0)));
+        when(dataEntitySummaryRepository.refresh(anyCollection())).thenReturn(Mono.just(2));
+
+        final DatasetFieldPojo field = new DatasetFieldPojo()
+            .setId(FIELD_ID)
+            .setOddrn(FIELD_ODDRN)
+            .setExternalDescription("Status of the order");
+        when(datasetFieldRepository.getLastVersionDatasetFieldsByOddrns(List.of(FIELD_ODDRN)))
+            .thenReturn(Flux.just(field));
+        when(termRelationsRepository.getDatasetFieldAutoLinkDismissals(Set.of(FIELD_ID))).thenReturn(Flux.empty());
+        when(termRelationsRepository.deleteDatasetFieldDescriptionLinksExcept(any(), eq(true), anyList()))
+            .thenReturn(Flux.empty());
+        when(termRelationsRepository.createRelationsWithDatasetField(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<DatasetFieldToTermPojo>>getArgument(0)));
+
+        processor.process(request(List.of(DATA_ENTITY_ID, OTHER_DATA_ENTITY_ID), field))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        final List<DataEntityToTermPojo> dataEntityLinks = List.of(
+            autoLink(DATA_ENTITY_ID, ORDER_TERM_ID),
+            autoLink(DATA_ENTITY_ID, STATUS_TERM_ID),
+            autoLink(OTHER_DATA_ENTITY_ID, ORDER_TERM_ID));
+        verify(termRelationsRepository).createRelationsWithDataEntity(argThat(
+            links -> links.size() == dataEntityLinks.size() && links.containsAll(dataEntityLinks)));
+        verify(dataEntitySummaryRepository).refresh(Set.of(DATA_ENTITY_ID, OTHER_DATA_ENTITY_ID));
+
+        final List<DatasetFieldToTermPojo> fieldLinks = List.of(
+            fieldAutoLink(ORDER_TERM_ID),
+            fieldAutoLink(STATUS_TERM_ID));
+        verify(termRelationsRepository).deleteDatasetFieldDescriptionLinksExcept(eq(Set.of(FIELD_ID)), eq(true),
+            argThat(links -> links.size() == 2 && links.containsAll(fieldLinks)));
+    }
+
+    @Test
+    @DisplayName("Re-ingests a description without a former mention, expecting its auto link to be removed")
+    void staleLinksTest() {
+        mockMatcher();
+        mockDataEntities(new DataEntityPojo().setId(DATA_ENTITY_ID).setExternalDescription("Order of the shop"));
+        mockDeletions(List.of(autoLink(DATA_ENTITY_ID, STATUS_TERM_ID)));
+        when(dataEntitySummaryRepository.refresh(anyCollection())).thenReturn(Mono.just(1));
+
+        processor.process(request(List.of(DATA_ENTITY_ID), null))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        verify(termRelationsRepository).deleteDataEntityDescriptionLinksExcept(List.of(DATA_ENTITY_ID), true,
+            List.of(autoLink(DATA_ENTITY_ID, ORDER_TERM_ID)));
+        verify(dataEntitySummaryRepository).refresh(Set.of(DATA_ENTITY_ID));
+    }
+
+    private void mockMatcher() {
+        when(dataSourceRepository.get(DATA_SOURCE_ID))
+            .thenReturn(Mono.just(new DataSourcePojo().setId(DATA_SOURCE_ID).setNamespaceId(NAMESPACE_ID)));
+        when(termNameIndex.getMatcher(NAMESPACE_ID)).thenReturn(Mono.just(TermNameMatcher.compile(List.of(
+            new TermPojo().setId(ORDER_TERM_ID).setName("order"),
+            new TermPojo().setId(STATUS_TERM_ID).setName("status")))));
+    }
+
+    private void mockDataEntities(final DataEntityPojo... dataEntities) {
+        final List<Long> ids = Arrays.stream(dataEntities).map(DataEntityPojo::getId).toList();
+        when(dataEntityRepository.get(ids)).thenReturn(Flux.just(dataEntities));
+    }
+
+    private void mockDeletions(final List<DataEntityToTermPojo> deleted) {
+        when(termRelationsRepository.getDataEntityAutoLinkDismissals(anyList())).thenReturn(Flux.empty());
+        when(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(anyList(), eq(true), anyList()))
+            .thenReturn(Flux.fromIterable(deleted));
+        when(termRelationsRepository.createRelationsWithDataEntity(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<DataEntityToTermPojo>>getArgument(0)));
+    }
+
+    private IngestionRequest request(final List<Long> dataEntityIds, final DatasetFieldPojo field) {
+        final List<EnrichedDataEntityIngestionDto> entities = dataEntityIds.stream()
+            .map(id -> {
+                final DataEntityIngestionDto dto = DataEntityIngestionDto.builder()
+                    .oddrn("//postgresql/host/db/tables/" + id)
+                    .dataSourceId(DATA_SOURCE_ID)
+                    .entityClasses(Set.of(DataEntityClassDto.DATA_SET))
+                    .dataSet(new DataSetIngestionDto(null, field != null && id == DATA_ENTITY_ID
+                        ? List.of(new DatasetFieldIngestionDto(field, List.of(), List.of(), null))
+                        : List.of(), null, null))
+                    .build();
+                return new EnrichedDataEntityIngestionDto(id, dto);
+            })
+            .toList();
+        return IngestionRequest.builder()
+            .newEntities(List.of())
+            .existingEntities(entities)
+            .build();
+    }
+
+    private DataEntityToTermPojo autoLink(final long dataEntityId, final long termId) {
+        return new DataEntityToTermPojo()
+            .setDataEntityId(dataEntityId)
+            .setTermId(termId)
+            .setIsDescriptionLink(true)
+            .setIsAutoLink(true);
+    }
+
+    private DatasetFieldToTermPojo fieldAutoLink(final long termId) {
+        return new DatasetFieldToTermPojo()
+            .setDatasetFieldId(FIELD_ID)
+            .setTermId(termId)
+            .setIsDescriptionLink(true)
+            .setIsAutoLink(true);
+    }
+}
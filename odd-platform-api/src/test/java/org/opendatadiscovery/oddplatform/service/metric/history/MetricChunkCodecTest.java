@@ -0,0 +1,93 @@
+package org.opendatadiscovery.oddplatform.service.metric.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricChunkCodecTest {
+
+    @Test
+    void shouldDecodeRegularSeries() {
+        final long[] timestamps = new long[120];
+        final double[] values = new double[120];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1_685_000_000L + i * 60L;
+            values[i] = 42.0;
+        }
+
+        final byte[] chunk = encode(timestamps, values);
+
+        assertDecoded(chunk, timestamps, values);
+        // constant values and a fixed scrape interval should take about two bits per point
+        assertThat(chunk.length).isLessThan(64);
+    }
+
+    @Test
+    void shouldDecodeIrregularSeries() {
+        final Random random = new Random(17);
+        final long[] timestamps = new long[500];
+        final double[] values = new double[500];
+        long timestamp = 1_685_000_000L;
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamp += 1 + random.nextInt(i % 7 == 0 ? 100_000 : 90);
+            timestamps[i] = timestamp;
+            values[i] = switch (i % 5) {
+                case 0 -> random.nextDouble() * 1e6;
+                case 1 -> -random.nextInt(1000);
+                case 2 -> values[i - 1];
+                case 3 -> Double.NaN;
+                default -> i % 2 == 0 ? Double.POSITIVE_INFINITY : Double.MIN_VALUE;
+            };
+        }
+
+        assertDecoded(encode(timestamps, values), timestamps, values);
+    }
+
+    @Test
+    void shouldDecodeSinglePoint() {
+        final long[] timestamps = {1_685_000_000L};
+        final double[] values = {-0.5};
+
+        final byte[] chunk = encode(timestamps, values);
+
+        assertThat(MetricChunkDecoder.pointsCount(chunk)).isEqualTo(1);
+        assertDecoded(chunk, timestamps, values);
+    }
+
+    @Test
+    void shouldRejectUnorderedTimestamps() {
+        final MetricChunkEncoder encoder = new MetricChunkEncoder(2);
+        encoder.append(100, 1.0);
+
+        assertThatThrownBy(() -> encoder.append(100, 2.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] encode(final long[] timestamps, final double[] values) {
+        final MetricChunkEncoder encoder = new MetricChunkEncoder(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            encoder.append(timestamps[i], values[i]);
+        }
+        return encoder.toByteArray();
+    }
+
+    private void assertDecoded(final byte[] chunk, final long[] timestamps, final double[] values) {
+        final List<Long> decodedTimestamps = new ArrayList<>();
+        final List<Double> decodedValues = new ArrayList<>();
+        MetricChunkDecoder.decode(chunk, (timestamp, value) -> {
+            decodedTimestamps.add(timestamp);
+            decodedValues.add(value);
+        });
+
+        assertThat(decodedTimestamps).containsExactly(Arrays.stream(timestamps).boxed().toArray(Long[]::new));
+        assertThat(decodedValues).hasSize(values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(Double.doubleToRawLongBits(decodedValues.get(i)))
+                .isEqualTo(Double.doubleToRawLongBits(values[i]));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.opendatadiscovery.oddplatform.service.term;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TermNameMatcherTest {
+    private final TermNameMatcher matcher = TermNameMatcher.compile(List.of(
+        new TermPojo().setId(1L).setName("Order"),
+        new TermPojo().setId(2L).setName("order status"),
+        new TermPojo().setId(3L).setName("status"),
+        new TermPojo().setId(4L).setName("customer lifetime value"),
+        new TermPojo().setId(5L).setName("life")
+    ));
+
+    @Test
+    @DisplayName("Finds overlapping term names case-insensitively")
+    void matchesOverlappingNames() {
+        assertThat(matcher.match("Current ORDER STATUS of the customer"))
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(matcher.match("Customer Lifetime Value, in USD")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Finds term names only as whole words")
+    void matchesWholeWords() {
+        assertThat(matcher.match("Orders with statuses")).isEmpty();
+        assertThat(matcher.match("life-cycle of the order_status")).containsExactly(5L);
+        assertThat(matcher.match("(order)")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Matches nothing in empty texts and with no terms")
+    void matchesNothing() {
+        assertThat(matcher.match(null)).isEmpty();
+        assertThat(matcher.match("")).isEmpty();
+        assertThat(TermNameMatcher.compile(List.of()).match("order status")).isEmpty();
+    }
+}
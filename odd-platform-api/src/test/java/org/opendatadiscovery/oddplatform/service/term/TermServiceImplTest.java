@@ -0,0 +1,206 @@
+package org.opendatadiscovery.oddplatform.service.term;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendatadiscovery.oddplatform.dto.term.TermBaseInfoDto;
+import org.opendatadiscovery.oddplatform.dto.term.TermRefDto;
+import org.opendatadiscovery.oddplatform.mapper.TagMapper;
+import org.opendatadiscovery.oddplatform.mapper.TermMapper;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityDescriptionUnhandledTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DataEntityToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldDescriptionUnhandledTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetFieldToTermPojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.NamespacePojo;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.TermPojo;
+import org.opendatadiscovery.oddplatform.repository.reactive.DataEntityDescriptionUnhandledTermRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.DatasetFieldDescriptionUnhandledTermRepositoryImpl;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveDataEntitySummaryRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.ReactiveTermSearchEntrypointRepository;
+import org.opendatadiscovery.oddplatform.repository.reactive.TermRelationsRepository;
+import org.opendatadiscovery.oddplatform.service.DataEntityFilledService;
+import org.opendatadiscovery.oddplatform.service.NamespaceService;
+import org.opendatadiscovery.oddplatform.service.TagService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TermServiceImplTest {
+    private TermServiceImpl termService;
+
+    @Mock
+    private NamespaceService namespaceService;
+    @Mock
+    private TagService tagService;
+    @Mock
+    private DataEntityFilledService dataEntityFilledService;
+    @Mock
+    private TermNameIndex termNameIndex;
+    @Mock
+    private ReactiveTermRepository termRepository;
+    @Mock
+    private TermRelationsRepository termRelationsRepository;
+    @Mock
+    private ReactiveTermSearchEntrypointRepository termSearchEntrypointRepository;
+    @Mock
+    private DataEntityDescriptionUnhandledTermRepository dataEntityDescriptionUnhandledTermRepository;
+    @Mock
+    private DatasetFieldDescriptionUnhandledTermRepositoryImpl datasetFieldDescriptionUnhandledTermRepository;
+    @Mock
+    private ReactiveDataEntitySummaryRepository dataEntitySummaryRepository;
+    @Mock
+    private TermMapper termMapper;
+    @Mock
+    private TagMapper tagMapper;
+
+    @Captor
+    private ArgumentCaptor<List<TermBaseInfoDto>> mentionsCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<Long>> idsCaptor;
+    @Captor
+    private ArgumentCaptor<List<DataEntityToTermPojo>> dataEntityRelationsCaptor;
+    @Captor
+    private ArgumentCaptor<List<DataEntityDescriptionUnhandledTermPojo>> dataEntityUnknownTermsCaptor;
+    @Captor
+    private ArgumentCaptor<List<DatasetFieldToTermPojo>> datasetFieldRelationsCaptor;
+    @Captor
+    private ArgumentCaptor<List<DatasetFieldDescriptionUnhandledTermPojo>> datasetFieldUnknownTermsCaptor;
+
+    private final NamespacePojo namespace = new NamespacePojo().setId(1L).setName("Sales");
+    private final TermPojo revenue = new TermPojo().setId(10L).setName("Revenue").setNamespaceId(1L);
+    private final TermPojo margin = new TermPojo().setId(11L).setName("Margin").setNamespaceId(1L);
+
+    @BeforeEach
+    void setUp() {
+        termService = new TermServiceImpl(namespaceService, tagService, dataEntityFilledService, termNameIndex,
+            termRepository, termRelationsRepository, termSearchEntrypointRepository,
+            dataEntityDescriptionUnhandledTermRepository, datasetFieldDescriptionUnhandledTermRepository,
+            dataEntitySummaryRepository, termMapper, tagMapper);
+    }
+
+    @Test
+    @DisplayName("Handles descriptions of several data entities with a single lookup of all mentioned terms")
+    void handleDataEntitiesDescriptionTermsTest() {
+        when(termRepository.getByNameAndNamespace(anyList()))
+            .thenReturn(Mono.just(List.of(termRef(revenue), termRef(margin))));
+        // the third data entity lost its only mention, the fourth one had none
+        when(termRelationsRepository.deleteDataEntityDescriptionLinksExcept(anyCollection(), eq(false), anyList()))
+            .thenReturn(Flux.just(new DataEntityToTermPojo().setDataEntityId(3L).setTermId(revenue.getId())));
+        when(termRelationsRepository.createRelationsWithDataEntity(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<DataEntityToTermPojo>>getArgument(0)));
+        when(dataEntitySummaryRepository.refresh(anyCollection())).thenReturn(Mono.just(3));
+        when(dataEntityDescriptionUnhandledTermRepository.deleteForDataEntitiesExceptSpecified(anyCollection(),
+            anyList())).thenReturn(Flux.empty());
+        when(dataEntityDescriptionUnhandledTermRepository.createUnhandledTerms(anyList())).thenReturn(Flux.empty());
+
+        termService.handleDataEntitiesDescriptionTerms(Map.of(
+            1L, "[[sales:revenue]] is not [[Sales:Revenue]] and [[Finance:Cost]] nor [[finance:cost]]",
+            2L, "[[SALES:REVENUE]] over [[Sales:Margin]], see [[Sales:Profit]]",
+            3L, "No mentions anymore",
+            4L, "")).block();
+
+        verify(termRepository).getByNameAndNamespace(mentionsCaptor.capture());
+        assertThat(mentionsCaptor.getValue())
+            .containsExactlyInAnyOrder(
+                new TermBaseInfoDto("sales", "revenue"),
+                new TermBaseInfoDto("finance", "cost"),
+                new TermBaseInfoDto("sales", "margin"),
+                new TermBaseInfoDto("sales", "profit"));
+
+        verify(termRelationsRepository).deleteDataEntityDescriptionLinksExcept(idsCaptor.capture(), eq(false),
+            dataEntityRelationsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(dataEntityRelationsCaptor.getValue())
+            .extracting(DataEntityToTermPojo::getDataEntityId, DataEntityToTermPojo::getTermId,
+                DataEntityToTermPojo::getIsDescriptionLink, DataEntityToTermPojo::getIsAutoLink)
+            .containsExactlyInAnyOrder(
+                tuple(1L, revenue.getId(), true, false),
+                tuple(2L, revenue.getId(), true, false),
+                tuple(2L, margin.getId(), true, false));
+
+        verify(dataEntitySummaryRepository).refresh(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        verify(dataEntityDescriptionUnhandledTermRepository).createUnhandledTerms(
+            dataEntityUnknownTermsCaptor.capture());
+        assertThat(dataEntityUnknownTermsCaptor.getValue())
+            .extracting(DataEntityDescriptionUnhandledTermPojo::getDataEntityId,
+                DataEntityDescriptionUnhandledTermPojo::getTermNamespaceName,
+                DataEntityDescriptionUnhandledTermPojo::getTermName)
+            .containsExactlyInAnyOrder(
+                tuple(1L, "Finance", "Cost"),
+                tuple(2L, "Sales", "Profit"));
+        verify(dataEntityDescriptionUnhandledTermRepository).deleteForDataEntitiesExceptSpecified(
+            idsCaptor.capture(), eq(dataEntityUnknownTermsCaptor.getValue()));
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Handles descriptions of several dataset fields, keeping the case of unknown mentions")
+    void handleDatasetFieldsDescriptionTermsTest() {
+        when(termRepository.getByNameAndNamespace(anyList())).thenReturn(Mono.just(List.of(termRef(margin))));
+        when(termRelationsRepository.deleteDatasetFieldDescriptionLinksExcept(anyCollection(), eq(false), anyList()))
+            .thenReturn(Flux.empty());
+        when(termRelationsRepository.createRelationsWithDatasetField(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<DatasetFieldToTermPojo>>getArgument(0)));
+        when(datasetFieldDescriptionUnhandledTermRepository.deleteForDatasetFieldsExceptSpecified(anyCollection(),
+            anyList())).thenReturn(Flux.empty());
+        when(datasetFieldDescriptionUnhandledTermRepository.createUnhandledTerms(anyList()))
+            .thenReturn(Flux.empty());
+
+        termService.handleDatasetFieldsDescriptionTerms(Map.of(
+            5L, "[[sales:margin]] and [[Sales:GrossMargin]]",
+            6L, "[[Sales:Margin]]")).block();
+
+        verify(termRelationsRepository).deleteDatasetFieldDescriptionLinksExcept(idsCaptor.capture(), eq(false),
+            datasetFieldRelationsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(5L, 6L);
+        assertThat(datasetFieldRelationsCaptor.getValue())
+            .extracting(DatasetFieldToTermPojo::getDatasetFieldId, DatasetFieldToTermPojo::getTermId,
+                DatasetFieldToTermPojo::getIsDescriptionLink, DatasetFieldToTermPojo::getIsAutoLink)
+            .containsExactlyInAnyOrder(
+                tuple(5L, margin.getId(), true, false),
+                tuple(6L, margin.getId(), true, false));
+
+        verify(datasetFieldDescriptionUnhandledTermRepository).createUnhandledTerms(
+            datasetFieldUnknownTermsCaptor.capture());
+        assertThat(datasetFieldUnknownTermsCaptor.getValue())
+            .extracting(DatasetFieldDescriptionUnhandledTermPojo::getDatasetFieldId,
+                DatasetFieldDescriptionUnhandledTermPojo::getTermNamespaceName,
+                DatasetFieldDescriptionUnhandledTermPojo::getTermName)
+            .containsExactly(tuple(5L, "Sales", "GrossMargin"));
+        verifyNoInteractions(dataEntitySummaryRepository);
+    }
+
+    @Test
+    @DisplayName("Handles no descriptions, expecting no repository calls")
+    void handleEmptyDescriptionsTest() {
+        termService.handleDataEntitiesDescriptionTerms(Map.of()).block();
+        termService.handleDatasetFieldsDescriptionTerms(Map.of()).block();
+
+        verifyNoInteractions(termRepository, termRelationsRepository, dataEntitySummaryRepository,
+            dataEntityDescriptionUnhandledTermRepository, datasetFieldDescriptionUnhandledTermRepository);
+    }
+
+    private TermRefDto termRef(final TermPojo term) {
+        return TermRefDto.builder().term(term).namespace(namespace).build();
+    }
+}
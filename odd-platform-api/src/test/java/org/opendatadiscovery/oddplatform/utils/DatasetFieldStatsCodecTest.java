@@ -0,0 +1,72 @@
+package org.opendatadiscovery.oddplatform.utils;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.BinaryFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.BooleanFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.ComplexFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DataSetFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.DateTimeFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.IntegerFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.NumberFieldStat;
+import org.opendatadiscovery.oddplatform.ingestion.contract.model.StringFieldStat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatasetFieldStatsCodecTest {
+    @Test
+    void shouldRoundTripAllStatistics() {
+        final OffsetDateTime low = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        final OffsetDateTime high = OffsetDateTime.of(2023, 5, 17, 13, 45, 12, 123_456_789, ZoneOffset.ofHours(-7));
+        final DataSetFieldStat stat = new DataSetFieldStat()
+            .complexStats(new ComplexFieldStat().nullsCount(0L).uniqueCount(Long.MAX_VALUE))
+            .booleanStats(new BooleanFieldStat().trueCount(10L).falseCount(5L).nullsCount(null))
+            .numberStats(new NumberFieldStat().lowValue(new BigDecimal("-12345678901234567890.5"))
+                .highValue(new BigDecimal("1E+10")).meanValue(BigDecimal.ZERO).nullsCount(3L).uniqueCount(7L))
+            .integerStats(new IntegerFieldStat().lowValue(Long.MIN_VALUE).highValue(-1L).meanValue(0L)
+                .medianValue(300L).nullsCount(1L).uniqueCount(2L))
+            .stringStats(new StringFieldStat().maxLength(255).avgLength(new BigDecimal("12.75"))
+                .nullsCount(0L).uniqueCount(42L))
+            .binaryStats(new BinaryFieldStat().maxLength(0).nullsCount(9L))
+            .datetimeStats(new DateTimeFieldStat().lowValue(low).highValue(high).nullsCount(0L).uniqueCount(2L));
+
+        final var decoded = DatasetFieldStatsCodec.decode(DatasetFieldStatsCodec.encode(stat));
+
+        assertThat(decoded.getComplexStats().getUniqueCount()).isEqualTo(Long.MAX_VALUE);
+        assertThat(decoded.getBooleanStats().getTrueCount()).isEqualTo(10L);
+        assertThat(decoded.getBooleanStats().getNullsCount()).isNull();
+        assertThat(decoded.getNumberStats().getLowValue()).isEqualTo(new BigDecimal("-12345678901234567890.5"));
+        assertThat(decoded.getNumberStats().getHighValue()).isEqualTo(new BigDecimal("1E+10"));
+        assertThat(decoded.getNumberStats().getMedianValue()).isNull();
+        assertThat(decoded.getIntegerStats().getLowValue()).isEqualTo(Long.MIN_VALUE);
+        assertThat(decoded.getIntegerStats().getHighValue()).isEqualTo(-1L);
+        assertThat(decoded.getStringStats().getMaxLength()).isEqualTo(255);
+        assertThat(decoded.getStringStats().getAvgLength()).isEqualTo(new BigDecimal("12.75"));
+        assertThat(decoded.getBinaryStats().getMaxLength()).isZero();
+        assertThat(decoded.getBinaryStats().getAvgLength()).isNull();
+        assertThat(decoded.getDatetimeStats().getLowValue()).isEqualTo(low);
+        assertThat(decoded.getDatetimeStats().getHighValue()).isEqualTo(high);
+        assertThat(decoded.getDatetimeStats().getMeanValue()).isNull();
+    }
+
+    @Test
+    void shouldOmitAbsentStatistics() {
+        final byte[] encoded = DatasetFieldStatsCodec.encode(new DataSetFieldStat()
+            .integerStats(new IntegerFieldStat().nullsCount(1L)));
+
+        assertThat(encoded).hasSize(4);
+        final var decoded = DatasetFieldStatsCodec.decode(encoded);
+        assertThat(decoded.getIntegerStats().getNullsCount()).isEqualTo(1L);
+        assertThat(decoded.getStringStats()).isNull();
+        assertThat(DatasetFieldStatsCodec.encode(null)).isNull();
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() {
+        assertThatThrownBy(() -> DatasetFieldStatsCodec.decode(new byte[] {2, 0}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package org.opendatadiscovery.oddplatform.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opendatadiscovery.oddplatform.model.tables.pojos.DatasetVersionDeltaPojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetVersionDeltaUtilsTest {
+    @Test
+    void shouldDetectCheckpoints() {
+        assertThat(DatasetVersionDeltaUtils.isCheckpoint(1, 20)).isTrue();
+        assertThat(DatasetVersionDeltaUtils.isCheckpoint(2, 20)).isFalse();
+        assertThat(DatasetVersionDeltaUtils.isCheckpoint(20, 20)).isFalse();
+        assertThat(DatasetVersionDeltaUtils.isCheckpoint(21, 20)).isTrue();
+        assertThat(DatasetVersionDeltaUtils.isCheckpoint(5, 1)).isTrue();
+    }
+
+    @Test
+    void shouldBuildDeltaAgainstPreviousVersion() {
+        final DatasetVersionDeltaPojo delta = DatasetVersionDeltaUtils.buildDelta(10L, Set.of(1L, 2L, 3L),
+            Set.of(2L, 3L, 4L, 5L), false);
+
+        assertThat(delta.getDatasetVersionId()).isEqualTo(10L);
+        assertThat(delta.getAddedFieldIds()).containsExactly(4L, 5L);
+        assertThat(delta.getRemovedFieldIds()).containsExactly(1L);
+        assertThat(delta.getSnapshotFieldIds()).isNull();
+    }
+
+    @Test
+    void shouldKeepSnapshotWhenPreviousVersionIsUnknown() {
+        final DatasetVersionDeltaPojo delta = DatasetVersionDeltaUtils.buildDelta(10L, null, Set.of(2L, 1L), false);
+
+        assertThat(delta.getAddedFieldIds()).containsExactly(1L, 2L);
+        assertThat(delta.getRemovedFieldIds()).isEmpty();
+        assertThat(delta.getSnapshotFieldIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldReconstructFieldsFromNearestCheckpoint() {
+        final List<Set<Long>> versions = List.of(
+            Set.of(1L, 2L, 3L),
+            Set.of(1L, 2L, 3L, 4L),
+            Set.of(2L, 3L, 4L),
+            Set.of(2L, 3L, 4L, 1L),
+            Set.of(5L),
+            Set.of(5L, 6L)
+        );
+        final List<DatasetVersionDeltaPojo> deltas = new ArrayList<>();
+        for (int i = 0; i < versions.size(); i++) {
+            final Set<Long> previous = i == 0 ? null : versions.get(i - 1);
+            deltas.add(DatasetVersionDeltaUtils.buildDelta(i + 1, previous, versions.get(i),
+                DatasetVersionDeltaUtils.isCheckpoint(i + 1, 3)));
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(DatasetVersionDeltaUtils.reconstructFieldIds(deltas.subList(0, i + 1)))
+                .containsExactlyInAnyOrderElementsOf(versions.get(i));
+        }
+        // version 4 is a checkpoint, so deltas before it aren't needed
+        assertThat(DatasetVersionDeltaUtils.reconstructFieldIds(deltas.subList(3, 6)))
+            .containsExactlyInAnyOrder(5L, 6L);
+    }
+}